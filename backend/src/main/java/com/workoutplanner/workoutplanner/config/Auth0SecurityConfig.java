@@ -21,10 +21,11 @@ import org.springframework.web.cors.CorsConfigurationSource;
 /**
  * Auth0 OAuth2 + JWT Security Configuration.
  *
- * Uses Spring Boot's auto-configured JwtDecoder with:
+ * Uses the JwtDecoder from {@link JwtDecoderConfig} with:
  * - Issuer validation (spring.security.oauth2.resourceserver.jwt.issuer-uri)
  * - Audience validation (spring.security.oauth2.resourceserver.jwt.audiences)
- * - RS256 signature verification via Auth0's JWKS endpoint
+ * - RS256 signature verification via Auth0's JWKS endpoint (pre-fetched, refreshed in the background)
+ * - Caching of verified tokens until they expire
  *
  * @see <a href="https://docs.spring.io/spring-security/reference/servlet/oauth2/resource-server/jwt.html">Spring Security JWT</a>
  * @see <a href="https://auth0.com/docs/quickstart/backend/java-spring-security5">Auth0 Spring Security</a>
@@ -53,8 +54,8 @@ public class Auth0SecurityConfig {
     /**
      * Security filter chain with JWT authentication.
      *
-     * JWT decoding and validation (issuer + audience) is auto-configured by Spring Boot
-     * based on application.properties settings.
+     * JWT decoding and validation (issuer + audience) is provided by the JwtDecoder bean
+     * from {@link JwtDecoderConfig}.
      */
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -81,6 +82,8 @@ public class Auth0SecurityConfig {
                     .hasAnyAuthority("read:exercises", "write:exercises", "delete:exercises")
                 .requestMatchers("/api/v1/workout-exercises/**")
                     .hasAnyAuthority("read:workouts", "write:workouts", "delete:workouts")
+                .requestMatchers("/api/v1/analytics/**").hasAuthority("read:workouts")
+                .requestMatchers("/api/v1/graphql").hasAuthority("read:workouts")
                 .requestMatchers("/api/v1/users/**").authenticated()
 
                 .anyRequest().denyAll()
@@ -128,7 +131,7 @@ public class Auth0SecurityConfig {
                     .policy(CrossOriginResourcePolicyHeaderWriter.CrossOriginResourcePolicy.SAME_ORIGIN));
             })
 
-            // Uses Spring Boot auto-configured JwtDecoder with audience validation
+            // Uses the caching JwtDecoder from JwtDecoderConfig
             .oauth2ResourceServer(oauth2 -> oauth2
                 .jwt(jwt -> jwt.jwtAuthenticationConverter(auth0JwtAuthenticationConverter))
             );
@@ -0,0 +1,74 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import com.workoutplanner.workoutplanner.service.bulkhead.BulkheadInterceptor;
+import com.workoutplanner.workoutplanner.service.bulkhead.PartitionBulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registers the request bulkheads, one per {@link BulkheadPartition}, configured with
+ * {@code app.bulkhead.<partition>.max-concurrent}, {@code .max-queue} and {@code .max-wait}.
+ *
+ * A request holds at most one database connection (open session in view), so each partition's
+ * {@code max-concurrent} is also its share of the connection pool. Startup fails if the partitions
+ * plus {@code app.bulkhead.background-connections} (schedulers, imports, outbox) do not fit into
+ * the Hikari pool, since a partition could otherwise wait for connections held by another one.
+ * GraphQL requests, which only query, share the {@code reads} partition.
+ * Disabled with {@code app.bulkhead.enabled=false} (test profile).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkheadConfig.class);
+
+    /**
+     * Runs after the cost-weighted rate limit, so requests over budget never wait in a partition queue.
+     */
+    private static final int INTERCEPTOR_ORDER = 1;
+
+    private final BulkheadInterceptor interceptor;
+
+    public BulkheadConfig(Environment environment,
+                          MeterRegistry meterRegistry,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+                          @Value("${app.bulkhead.background-connections:5}") int backgroundConnections,
+                          @Value("${spring.graphql.http.path:/graphql}") String graphQlPath) {
+        List<PartitionBulkhead> bulkheads = new ArrayList<>();
+        int reservedConnections = backgroundConnections;
+        for (BulkheadPartition partition : BulkheadPartition.values()) {
+            String prefix = "app.bulkhead." + partition.getKey();
+            int maxConcurrent = environment.getRequiredProperty(prefix + ".max-concurrent", Integer.class);
+            bulkheads.add(new PartitionBulkhead(partition, maxConcurrent,
+                    environment.getRequiredProperty(prefix + ".max-queue", Integer.class),
+                    environment.getRequiredProperty(prefix + ".max-wait", Duration.class)));
+            reservedConnections += maxConcurrent;
+        }
+        if (reservedConnections > maximumPoolSize) {
+            throw new IllegalStateException("Bulkhead partitions and background work reserve " + reservedConnections
+                    + " database connections but spring.datasource.hikari.maximum-pool-size is " + maximumPoolSize);
+        }
+        logger.info("Bulkheads configured. reservedConnections={}, poolSize={}", reservedConnections, maximumPoolSize);
+        this.interceptor = new BulkheadInterceptor(bulkheads, Map.of(graphQlPath, BulkheadPartition.READS),
+                meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).order(INTERCEPTOR_ORDER);
+    }
+}
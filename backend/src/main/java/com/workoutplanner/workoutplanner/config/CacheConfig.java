@@ -1,6 +1,7 @@
 package com.workoutplanner.workoutplanner.config;
 
 import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.workoutplanner.workoutplanner.service.TrainingAnalyticsService;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +20,7 @@ import java.util.concurrent.TimeUnit;
  * Provides caches for:
  * - rate-limit-buckets: Token buckets for Bucket4j rate limiting (1 hour TTL)
  * - auth0Users: Auth0 user principal caching (5 min TTL)
+ * - trainingAnalytics: Per-user analytics results (5 min TTL, versioned keys, see TrainingAnalyticsService)
  */
 @Configuration
 @EnableCaching
@@ -35,6 +37,9 @@ public class CacheConfig {
         // Auth0 users cache (5 min TTL for quick profile updates)
         createCacheIfNotExists(cacheManager, "auth0Users", 5, TimeUnit.MINUTES);
 
+        // Training analytics cache (5 min TTL bounds staleness across instances)
+        createCacheIfNotExists(cacheManager, TrainingAnalyticsService.CACHE_NAME, 5, TimeUnit.MINUTES);
+
         return cacheManager;
     }
 
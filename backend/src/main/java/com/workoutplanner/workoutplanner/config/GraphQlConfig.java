@@ -0,0 +1,54 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.webmvc.GraphQlHttpHandler;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Limits on GraphQL queries, checked before any field is resolved.
+ *
+ * <ul>
+ *   <li>{@code app.graphql.max-depth} - deepest allowed nesting of fields; each nested association
+ *       is one more batch of queries. Introspection queries, the deepest legitimate ones, need 13.</li>
+ *   <li>{@code app.graphql.max-complexity} - maximum number of selected fields, counting every
+ *       field once regardless of how many results it is resolved for.</li>
+ * </ul>
+ * Rejected queries return an error without touching the database.
+ *
+ * Responses are written with their own JSON converter: the REST mapper omits null fields, but a
+ * GraphQL response must keep every selected field, so {@code {"data":{"workout":null}}} stays as is.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(
+            @Value("${app.graphql.max-depth:13}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${app.graphql.max-complexity:200}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity);
+    }
+
+    /**
+     * Replaces Spring Boot's handler, which writes through the MVC converters.
+     *
+     * @param builder Spring Boot's prototype builder, carrying the spring.jackson.* settings and modules
+     */
+    @Bean
+    public GraphQlHttpHandler graphQlHttpHandler(WebGraphQlHandler webGraphQlHandler,
+                                                 Jackson2ObjectMapperBuilder builder) {
+        return new GraphQlHttpHandler(webGraphQlHandler, new MappingJackson2HttpMessageConverter(
+                builder.serializationInclusion(JsonInclude.Include.ALWAYS).build()));
+    }
+}
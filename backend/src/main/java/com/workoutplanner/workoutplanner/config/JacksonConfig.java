@@ -0,0 +1,52 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Jackson tuning for request and response bodies, on top of the {@code spring.jackson.*} properties
+ * (null fields omitted, ISO-8601 dates).
+ *
+ * Spring Boot registers every {@link Module} bean with the auto-configured ObjectMapper.
+ *
+ * Besides JSON, every endpoint reads and writes CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) when the client asks for them with {@code Content-Type} and
+ * {@code Accept}. The binary converters share the JSON mapper's configuration and replace Spring's
+ * defaults in place, after the JSON converter, so JSON stays the default for clients that accept
+ * any media type.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Blackbird replaces reflective getter, setter and constructor calls with accessors generated
+     * through {@code LambdaMetafactory}, which the JIT can inline.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * @param builder Spring Boot's prototype builder, carrying the spring.jackson.* settings and modules
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * @param builder Spring Boot's prototype builder, carrying the spring.jackson.* settings and modules
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
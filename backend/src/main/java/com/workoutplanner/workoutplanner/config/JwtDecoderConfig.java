@@ -0,0 +1,121 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.workoutplanner.workoutplanner.security.CachingJwtDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JwtDecoder for Auth0 access tokens, replacing Spring Boot's auto-configured one.
+ *
+ * - RS256 signatures verified against Auth0's JWKS. Keys are fetched at startup and refreshed in
+ *   the background ahead of expiry, so no request waits on the JWKS endpoint; a short JWKS outage
+ *   is ridden out with the last known keys.
+ * - Issuer, audience and timestamp validation as before.
+ * - Verified tokens are cached until their expiry (see {@link CachingJwtDecoder}).
+ */
+@Configuration
+@Profile("!test & !dev")
+public class JwtDecoderConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtDecoderConfig.class);
+
+    @Bean
+    public JWKSource<SecurityContext> auth0JwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri:}") String jwkSetUri,
+            @Value("${app.security.jwks.cache-ttl:1h}") Duration cacheTtl,
+            @Value("${app.security.jwks.refresh-ahead:5m}") Duration refreshAhead,
+            @Value("${app.security.jwks.outage-tolerance:4h}") Duration outageTolerance) throws MalformedURLException {
+        String location = jwkSetUri.isBlank() ? defaultJwkSetUri(issuerUri) : jwkSetUri;
+        return buildJwkSource(location, cacheTtl, refreshAhead, outageTolerance);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            JWKSource<SecurityContext> auth0JwkSource,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+            @Value("${spring.security.oauth2.resourceserver.jwt.audiences}") List<String> audiences,
+            @Value("${app.security.jwt-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.security.jwt-cache.max-ttl:1h}") Duration maxTtl,
+            MeterRegistry meterRegistry) {
+        return new CachingJwtDecoder(buildDecoder(auth0JwkSource, issuerUri, audiences), maximumSize, maxTtl,
+                meterRegistry);
+    }
+
+    /**
+     * Pre-fetches the signing keys so the first authenticated request does not pay for the JWKS fetch.
+     * A failure is logged only; keys are then fetched on demand.
+     */
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> jwksPrefetcher(JWKSource<SecurityContext> auth0JwkSource) {
+        return event -> {
+            try {
+                logger.info("JWKS pre-fetched: keys={}", prefetch(auth0JwkSource));
+            } catch (Exception e) {
+                logger.warn("JWKS pre-fetch failed, keys will be fetched on first use: {}", e.getMessage());
+            }
+        };
+    }
+
+    static String defaultJwkSetUri(String issuerUri) {
+        return (issuerUri.endsWith("/") ? issuerUri : issuerUri + "/") + ".well-known/jwks.json";
+    }
+
+    static JWKSource<SecurityContext> buildJwkSource(String jwkSetUri, Duration cacheTtl, Duration refreshAhead,
+                                                     Duration outageTolerance) throws MalformedURLException {
+        return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(cacheTtl.toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                .refreshAheadCache(refreshAhead.toMillis(), true)
+                .outageTolerant(outageTolerance.toMillis())
+                .retrying(true)
+                .build();
+    }
+
+    static JwtDecoder buildDecoder(JWKSource<SecurityContext> jwkSource, String issuerUri,
+                                   Collection<String> audiences) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are validated by Spring's validators below
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        OAuth2TokenValidator<Jwt> audienceValidator = new JwtClaimValidator<Collection<String>>(JwtClaimNames.AUD,
+                aud -> aud != null && aud.stream().anyMatch(audiences::contains));
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefaultWithIssuer(issuerUri), audienceValidator));
+        return decoder;
+    }
+
+    static int prefetch(JWKSource<SecurityContext> jwkSource) throws Exception {
+        return jwkSource.get(new JWKSelector(new JWKMatcher.Builder().build()), null).size();
+    }
+}
@@ -0,0 +1,43 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.workoutplanner.workoutplanner.security.PermissionMethodSecurityExpressionHandler;
+import com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership;
+import com.workoutplanner.workoutplanner.security.WorkoutOwnershipAuthorizationManager;
+import com.workoutplanner.workoutplanner.service.ResourceSecurityService;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+
+/**
+ * Method security setup shared by all security profiles.
+ *
+ * {@code hasAuthority(...)} in {@code @PreAuthorize} is answered from the precomputed permission
+ * bitset of the authentication token (see {@link PermissionMethodSecurityExpressionHandler}), and
+ * {@link RequiresWorkoutOwnership} methods are guarded by {@link WorkoutOwnershipAuthorizationManager}
+ * instead of SpEL.
+ */
+@Configuration
+public class MethodSecurityConfig {
+
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        return new PermissionMethodSecurityExpressionHandler();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor workoutOwnershipAuthorizationAdvisor(ObjectProvider<ResourceSecurityService> resourceSecurityService) {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                new AnnotationMatchingPointcut(null, RequiresWorkoutOwnership.class, true),
+                new WorkoutOwnershipAuthorizationManager(resourceSecurityService::getObject));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
+    }
+}
@@ -0,0 +1,44 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
+import com.workoutplanner.workoutplanner.service.observability.OperationMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+
+import java.time.Duration;
+
+/**
+ * Service-level timers for {@link Instrumented} beans and methods.
+ *
+ * The advisor runs right after the method security interceptors, so an operation's time includes
+ * its transaction (and the flush at commit) but not the {@code @PreAuthorize} checks, which are
+ * timed on their own as the authorization layer.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor instrumentedOperationAdvisor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.observability.operation.slo:5ms,10ms,25ms,50ms,100ms,250ms,500ms,1s}") Duration[] slo,
+            @Value("${app.observability.operation.percentiles:0.5,0.95,0.99}") double[] percentiles,
+            @Value("${app.observability.operation.slow-threshold:500ms}") Duration slowThreshold) {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Instrumented.class, true))
+                .union(new AnnotationMatchingPointcut(null, Instrumented.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut,
+                new OperationMetricsInterceptor(meterRegistry::getObject, slo, percentiles, slowThreshold));
+        advisor.setOrder(AuthorizationInterceptorsOrder.LAST.getOrder() + 1);
+        return advisor;
+    }
+}
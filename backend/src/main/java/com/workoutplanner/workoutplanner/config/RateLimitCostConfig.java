@@ -0,0 +1,54 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.workoutplanner.workoutplanner.service.RateLimitSecurityService;
+import com.workoutplanner.workoutplanner.service.ratelimit.AdaptiveConcurrencyLimiter;
+import com.workoutplanner.workoutplanner.service.ratelimit.CostWeightedRateLimitInterceptor;
+import com.workoutplanner.workoutplanner.service.ratelimit.RateLimitCost;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Registers cost-weighted rate limiting and adaptive load shedding for {@link RateLimitCost} endpoints
+ * and for GraphQL requests, which cost {@code app.rate-limit.cost.graphql} each.
+ * Disabled with {@code app.rate-limiting.enabled=false} (test profile).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limiting.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitCostConfig implements WebMvcConfigurer {
+
+    private final CostWeightedRateLimitInterceptor interceptor;
+
+    public RateLimitCostConfig(
+            RateLimitSecurityService securityService,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.cost.capacity:600}") long capacity,
+            @Value("${app.rate-limit.cost.refill-period:1m}") Duration refillPeriod,
+            @Value("${app.rate-limit.cost.maximum-size:100000}") long maximumSize,
+            @Value("${app.rate-limit.cost.graphql:10}") int graphQlCost,
+            @Value("${spring.graphql.http.path:/graphql}") String graphQlPath,
+            @Value("${app.rate-limit.adaptive.initial-limit:20}") int initialLimit,
+            @Value("${app.rate-limit.adaptive.min-limit:4}") int minLimit,
+            @Value("${app.rate-limit.adaptive.max-limit:200}") int maxLimit,
+            @Value("${app.rate-limit.adaptive.smoothing:0.2}") double smoothing,
+            @Value("${app.rate-limit.adaptive.tolerance:1.5}") double tolerance,
+            @Value("${app.rate-limit.adaptive.long-window:600}") int longWindow) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindow);
+        this.interceptor = new CostWeightedRateLimitInterceptor(
+                securityService, limiter, Map.of(graphQlPath, graphQlCost), capacity, refillPeriod, maximumSize,
+                meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor);
+    }
+}
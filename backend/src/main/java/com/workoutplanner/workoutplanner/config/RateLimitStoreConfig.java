@@ -0,0 +1,63 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.giffing.bucket4j.spring.boot.starter.config.cache.SyncCacheResolver;
+import com.workoutplanner.workoutplanner.entity.RateLimitBucket;
+import com.workoutplanner.workoutplanner.repository.RateLimitBucketRepository;
+import com.workoutplanner.workoutplanner.service.ratelimit.NearCachedBucketResolver;
+import com.workoutplanner.workoutplanner.service.ratelimit.RateLimitBucketRetention;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.postgresql.PostgreSQLSelectForUpdateBasedProxyManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Selects where the rate-limit buckets of application-ratelimit.yml live.
+ *
+ * <ul>
+ *   <li>{@code app.rate-limit.store=local} (default) - the starter's JCache resolver over the
+ *       Caffeine {@code rate-limit-buckets} cache; each instance enforces the limits on its own, so
+ *       N instances allow N times the configured rate.</li>
+ *   <li>{@code app.rate-limit.store=postgres} - buckets shared by all instances in the
+ *       {@code rate_limit_buckets} table, behind a {@link NearCachedBucketResolver} that keeps
+ *       database round trips off the hot path. Buckets unused for {@code app.rate-limit.retention}
+ *       are deleted by {@link RateLimitBucketRetention}.</li>
+ * </ul>
+ * Defining a {@link SyncCacheResolver} bean replaces the starter's resolver.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "postgres")
+public class RateLimitStoreConfig {
+
+    @Bean
+    public RateLimitBucketRetention rateLimitBucketRetention(
+            RateLimitBucketRepository rateLimitBucketRepository,
+            @Value("${app.rate-limit.retention:1d}") Duration retention) {
+        return new RateLimitBucketRetention(rateLimitBucketRepository, retention);
+    }
+
+    @Bean
+    public SyncCacheResolver sharedBucketCacheResolver(
+            DataSource dataSource,
+            RateLimitBucketRetention rateLimitBucketRetention,
+            MeterRegistry meterRegistry,
+            @Value("${app.rate-limit.near-cache.local-share:0.1}") double localShare,
+            @Value("${app.rate-limit.near-cache.max-unsynchronized-delay:1s}") Duration maxUnsynchronizedDelay,
+            @Value("${app.rate-limit.near-cache.maximum-size:100000}") long maximumSize,
+            @Value("${app.rate-limit.near-cache.idle-timeout:1h}") Duration idleTimeout) {
+        SQLProxyConfiguration<String> configuration = SQLProxyConfiguration.builder()
+                .withPrimaryKeyMapper(PrimaryKeyMapper.STRING)
+                .withTableSettings(BucketTableSettings.customSettings(
+                        RateLimitBucket.TABLE_NAME, RateLimitBucket.ID_COLUMN, RateLimitBucket.STATE_COLUMN))
+                .build(dataSource);
+        return new NearCachedBucketResolver(new PostgreSQLSelectForUpdateBasedProxyManager<>(configuration),
+                rateLimitBucketRetention, localShare, maxUnsynchronizedDelay, maximumSize, idleTimeout, meterRegistry);
+    }
+}
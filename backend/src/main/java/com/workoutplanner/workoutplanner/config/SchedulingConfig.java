@@ -0,0 +1,12 @@
+package com.workoutplanner.workoutplanner.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. training rollup reconciliation).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
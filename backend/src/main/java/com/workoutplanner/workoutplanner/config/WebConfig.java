@@ -1,5 +1,9 @@
 package com.workoutplanner.workoutplanner.config;
 
+import com.workoutplanner.workoutplanner.service.profiling.FlightRecorderService;
+import com.workoutplanner.workoutplanner.service.querymetrics.RequestQueryMetrics;
+import com.workoutplanner.workoutplanner.service.querymetrics.RequestQueryStatistics;
+import com.workoutplanner.workoutplanner.util.CorrelationIds;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +11,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,7 +26,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Web configuration for CORS and request tracing (MDC).
@@ -35,7 +39,7 @@ public class WebConfig {
     @Value("${app.cors.allowed-methods:GET,POST,PUT,PATCH,DELETE,OPTIONS}")
     private String allowedMethods;
 
-    @Value("${app.cors.allowed-headers:Content-Type,Authorization,X-Requested-With}")
+    @Value("${app.cors.allowed-headers:Content-Type,Authorization,X-Requested-With,X-Request-Id}")
     private String allowedHeaders;
 
     @Value("${app.cors.allow-credentials:true}")
@@ -62,6 +66,7 @@ public class WebConfig {
 
         config.setAllowedMethods(Arrays.asList(allowedMethods.split(",")));
         config.setAllowedHeaders(Arrays.asList(allowedHeaders.split(",")));
+        config.setExposedHeaders(List.of(CorrelationIds.HEADER));
         config.setAllowCredentials(allowCredentials);
         config.setMaxAge(maxAge);
 
@@ -72,7 +77,13 @@ public class WebConfig {
 
     /**
      * MDC logging filter for request tracing.
-     * Adds correlationId and apiVersion to all log entries within a request.
+     * Adds correlationId and apiVersion to all log entries within a request, collects the
+     * request's SQL statistics for {@link RequestQueryMetrics} and reports its duration to
+     * {@link FlightRecorderService} for SLO breach dumps.
+     *
+     * The correlationId is taken from an acceptable incoming {@code X-Request-Id} header, so a
+     * caller's id carries through, or else generated by {@link CorrelationIds#next()}. It is
+     * echoed in the {@code X-Request-Id} response header.
      */
     @Component
     @Order(-100)
@@ -80,25 +91,51 @@ public class WebConfig {
 
         private static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
 
+        private final RequestQueryMetrics queryMetrics;
+        private final FlightRecorderService flightRecorder;
+
+        /**
+         * @param queryMetrics   per-request SQL statistics; absent when query metrics are disabled
+         * @param flightRecorder flight recordings; absent when profiling is disabled
+         */
+        public LoggingFilter(ObjectProvider<RequestQueryMetrics> queryMetrics,
+                             ObjectProvider<FlightRecorderService> flightRecorder) {
+            this.queryMetrics = queryMetrics.getIfAvailable();
+            this.flightRecorder = flightRecorder.getIfAvailable();
+        }
+
         @Override
         protected void doFilterInternal(@NonNull HttpServletRequest request,
                                         @NonNull HttpServletResponse response,
                                         @NonNull FilterChain filterChain) throws ServletException, IOException {
+            RequestQueryStatistics.Scope queryScope = queryMetrics != null ? RequestQueryStatistics.open() : null;
+            long start = System.nanoTime();
             try {
-                MDC.put("correlationId", UUID.randomUUID().toString());
+                String correlationId = request.getHeader(CorrelationIds.HEADER);
+                if (!CorrelationIds.isAcceptable(correlationId)) {
+                    correlationId = CorrelationIds.next();
+                }
+                MDC.put("correlationId", correlationId);
+                response.setHeader(CorrelationIds.HEADER, correlationId);
 
                 String uri = request.getRequestURI();
-                if (uri != null && uri.startsWith("/api/")) {
-                    String[] parts = uri.split("/");
-                    if (parts.length > 2 && parts[2].startsWith("v")) {
-                        MDC.put("apiVersion", parts[2]);
-                    }
+                String apiVersion = CorrelationIds.apiVersion(uri);
+                if (apiVersion != null) {
+                    MDC.put("apiVersion", apiVersion);
                 }
 
                 log.debug("Request: {} {}", request.getMethod(), uri);
                 filterChain.doFilter(request, response);
             } finally {
                 log.debug("Response: {} {} -> {}", request.getMethod(), request.getRequestURI(), response.getStatus());
+                if (queryScope != null) {
+                    queryScope.close();
+                    queryMetrics.record(request, queryScope.statistics());
+                }
+                if (flightRecorder != null) {
+                    flightRecorder.onRequestCompleted(request.getMethod() + " " + request.getRequestURI(),
+                            System.nanoTime() - start);
+                }
                 MDC.clear();
             }
         }
@@ -0,0 +1,129 @@
+package com.workoutplanner.workoutplanner.controller;
+
+import com.workoutplanner.workoutplanner.dto.response.CardioPaceTrendResponse;
+import com.workoutplanner.workoutplanner.dto.response.OneRepMaxTrendResponse;
+import com.workoutplanner.workoutplanner.dto.response.PersonalRecordResponse;
+import com.workoutplanner.workoutplanner.dto.response.TonnageResponse;
+import com.workoutplanner.workoutplanner.enums.AnalyticsPeriod;
+import com.workoutplanner.workoutplanner.service.TrainingAnalyticsService;
+import com.workoutplanner.workoutplanner.service.ratelimit.RateLimitCost;
+import com.workoutplanner.workoutplanner.util.ApiVersionConstants;
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import com.workoutplanner.workoutplanner.service.bulkhead.Bulkhead;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Controller for the current user's training analytics.
+ *
+ * Responses carry an ETag derived from the user's analytics data version; clients revalidating
+ * with If-None-Match get a 304 without any database work until their sets change.
+ */
+@RestController
+@RequestMapping(ApiVersionConstants.V1_BASE_PATH + "/analytics")
+@Bulkhead(BulkheadPartition.ANALYTICS)
+@Tag(name = "Analytics", description = "Training volume, personal records and progress trends")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final TrainingAnalyticsService trainingAnalyticsService;
+
+    public AnalyticsController(TrainingAnalyticsService trainingAnalyticsService) {
+        this.trainingAnalyticsService = trainingAnalyticsService;
+    }
+
+    @Operation(summary = "Get tonnage per muscle group", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Tonnage retrieved")
+    @ApiResponse(responseCode = "304", description = "Not modified")
+    @GetMapping("/tonnage")
+    @RateLimitCost(20)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public ResponseEntity<List<TonnageResponse>> getTonnage(
+            @Parameter(description = "Bucket size", example = "WEEK")
+            @RequestParam(defaultValue = "WEEK") AnalyticsPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        logger.debug("Getting tonnage. period={}, from={}, to={}", period, start, end);
+        return conditional(webRequest, () -> trainingAnalyticsService.getMyTonnage(period, start, end));
+    }
+
+    @Operation(summary = "Get personal records", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Personal records retrieved")
+    @ApiResponse(responseCode = "304", description = "Not modified")
+    @GetMapping("/personal-records")
+    @RateLimitCost(20)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public ResponseEntity<List<PersonalRecordResponse>> getPersonalRecords(WebRequest webRequest) {
+        logger.debug("Getting personal records");
+        return conditional(webRequest, trainingAnalyticsService::getMyPersonalRecords);
+    }
+
+    @Operation(summary = "Get estimated one-rep max trend", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Trend retrieved")
+    @ApiResponse(responseCode = "304", description = "Not modified")
+    @GetMapping("/exercises/{exerciseId}/one-rep-max")
+    @RateLimitCost(10)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public ResponseEntity<List<OneRepMaxTrendResponse>> getOneRepMaxTrend(
+            @Parameter(description = "Exercise ID", example = "1")
+            @PathVariable Long exerciseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        logger.debug("Getting one-rep max trend. exerciseId={}, from={}, to={}", exerciseId, start, end);
+        return conditional(webRequest, () -> trainingAnalyticsService.getMyOneRepMaxTrend(exerciseId, start, end));
+    }
+
+    @Operation(summary = "Get cardio pace trend", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Trend retrieved")
+    @ApiResponse(responseCode = "304", description = "Not modified")
+    @GetMapping("/cardio/pace")
+    @RateLimitCost(10)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public ResponseEntity<List<CardioPaceTrendResponse>> getCardioPaceTrend(
+            @Parameter(description = "Restrict to one cardio exercise", example = "3")
+            @RequestParam(required = false) Long exerciseId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest webRequest) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        logger.debug("Getting cardio pace trend. exerciseId={}, from={}, to={}", exerciseId, start, end);
+        return conditional(webRequest, () -> trainingAnalyticsService.getMyCardioPaceTrend(exerciseId, start, end));
+    }
+
+    private <T> ResponseEntity<T> conditional(WebRequest webRequest, Supplier<T> body) {
+        String etag = "W/\"" + trainingAnalyticsService.getMyDataVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).eTag(etag).body(body.get());
+    }
+}
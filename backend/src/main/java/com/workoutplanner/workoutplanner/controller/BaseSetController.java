@@ -2,6 +2,9 @@ package com.workoutplanner.workoutplanner.controller;
 
 import com.workoutplanner.workoutplanner.dto.response.SetResponse;
 import com.workoutplanner.workoutplanner.service.SetServiceInterface;
+import com.workoutplanner.workoutplanner.security.OwnedResource;
+import com.workoutplanner.workoutplanner.security.Permission;
+import com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,7 +16,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -39,7 +41,7 @@ public abstract class BaseSetController<T> {
     @ApiResponse(responseCode = "400", description = "Validation error", content = @Content)
     @ApiResponse(responseCode = "404", description = "Workout exercise not found", content = @Content)
     @PostMapping
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE, permissions = Permission.WRITE_WORKOUTS)
     @SuppressWarnings("java:S6856") // workoutExerciseId is bound via child controller's @RequestMapping
     public ResponseEntity<SetResponse> createSet(
             @Parameter(description = "Workout exercise ID", example = "1")
@@ -57,7 +59,7 @@ public abstract class BaseSetController<T> {
     @ApiResponse(responseCode = "200", description = "Sets retrieved")
     @ApiResponse(responseCode = "404", description = "Workout exercise not found", content = @Content)
     @GetMapping
-    @PreAuthorize("hasAuthority('read:workouts') and @resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE, permissions = Permission.READ_WORKOUTS)
     @SuppressWarnings("java:S6856") // workoutExerciseId is bound via child controller's @RequestMapping
     public ResponseEntity<List<SetResponse>> getSetsByWorkoutExercise(
             @Parameter(description = "Workout exercise ID", example = "1")
@@ -66,7 +68,7 @@ public abstract class BaseSetController<T> {
 
         List<SetResponse> responses = getService().getSetsByWorkoutExercise(workoutExerciseId);
 
-        logger.info("Retrieved {} sets for workoutExerciseId={}", responses.size(), workoutExerciseId);
+        logger.debug("Retrieved {} sets for workoutExerciseId={}", responses.size(), workoutExerciseId);
         return ResponseEntity.ok(responses);
     }
 
@@ -75,7 +77,7 @@ public abstract class BaseSetController<T> {
             content = @Content(schema = @Schema(implementation = SetResponse.class)))
     @ApiResponse(responseCode = "404", description = "Set not found", content = @Content)
     @GetMapping("/{setId}")
-    @PreAuthorize("hasAuthority('read:workouts') and @resourceSecurityService.canAccessSet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.SET, permissions = Permission.READ_WORKOUTS)
     public ResponseEntity<SetResponse> getSetById(
             @Parameter(description = "Set ID", example = "1")
             @PathVariable Long setId) {
@@ -83,7 +85,7 @@ public abstract class BaseSetController<T> {
 
         SetResponse response = getService().getSetById(setId);
 
-        logger.info("Retrieved setId={}", setId);
+        logger.debug("Retrieved setId={}", setId);
         return ResponseEntity.ok(response);
     }
 
@@ -93,7 +95,7 @@ public abstract class BaseSetController<T> {
     @ApiResponse(responseCode = "400", description = "Validation error", content = @Content)
     @ApiResponse(responseCode = "404", description = "Set not found", content = @Content)
     @PutMapping("/{setId}")
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canAccessSet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.SET, permissions = Permission.WRITE_WORKOUTS)
     public ResponseEntity<SetResponse> updateSet(
             @Parameter(description = "Set ID", example = "1")
             @PathVariable Long setId,
@@ -110,7 +112,7 @@ public abstract class BaseSetController<T> {
     @ApiResponse(responseCode = "204", description = "Set deleted")
     @ApiResponse(responseCode = "404", description = "Set not found", content = @Content)
     @DeleteMapping("/{setId}")
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canAccessSet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.SET, permissions = Permission.WRITE_WORKOUTS)
     public ResponseEntity<Void> deleteSet(
             @Parameter(description = "Set ID", example = "1")
             @PathVariable Long setId) {
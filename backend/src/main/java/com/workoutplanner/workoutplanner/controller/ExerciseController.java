@@ -69,7 +69,7 @@ public class ExerciseController {
 
         PagedResponse<ExerciseResponse> response = exerciseService.getAllExercises(pageable);
 
-        logger.info("Retrieved {} exercises on page {}/{}",
+        logger.debug("Retrieved {} exercises on page {}/{}",
                 response.getContent().size(), response.getPageNumber(), response.getTotalPages());
         return ResponseEntity.ok(response);
     }
@@ -89,7 +89,7 @@ public class ExerciseController {
 
         List<ExerciseResponse> results = exerciseService.searchExercisesByName(name);
 
-        logger.info("Found {} exercises matching '{}'", results.size(), name);
+        logger.debug("Found {} exercises matching '{}'", results.size(), name);
         return ResponseEntity.ok(results);
     }
 
@@ -108,7 +108,7 @@ public class ExerciseController {
 
         List<ExerciseResponse> results = exerciseService.getExercisesByCriteria(type, targetMuscleGroup, difficultyLevel);
 
-        logger.info("Found {} exercises matching filter criteria", results.size());
+        logger.debug("Found {} exercises matching filter criteria", results.size());
         return ResponseEntity.ok(results);
     }
 }
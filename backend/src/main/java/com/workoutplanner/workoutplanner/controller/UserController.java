@@ -8,6 +8,8 @@ import com.workoutplanner.workoutplanner.dto.response.UserResponse;
 import com.workoutplanner.workoutplanner.security.SecurityContextHelper;
 import com.workoutplanner.workoutplanner.service.UserService;
 import com.workoutplanner.workoutplanner.util.ApiVersionConstants;
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import com.workoutplanner.workoutplanner.service.bulkhead.Bulkhead;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -81,7 +83,7 @@ public class UserController {
 
         UserResponse response = userService.getUserById(userId);
 
-        logger.info("Retrieved userId={}", userId);
+        logger.debug("Retrieved userId={}", userId);
         return ResponseEntity.ok(response);
     }
 
@@ -96,7 +98,7 @@ public class UserController {
 
         UserResponse response = userService.getUserById(userId);
 
-        logger.info("Profile retrieved for userId={}", userId);
+        logger.debug("Profile retrieved for userId={}", userId);
         return ResponseEntity.ok(response);
     }
 
@@ -104,6 +106,7 @@ public class UserController {
     @ApiResponse(responseCode = "200", description = "Users retrieved",
             content = @Content(schema = @Schema(implementation = PagedResponse.class)))
     @GetMapping
+    @Bulkhead(BulkheadPartition.ADMIN)
     @PreAuthorize("hasAuthority('read:users')")
     public ResponseEntity<PagedResponse<UserResponse>> getAllUsers(
             @PageableDefault(size = 20, sort = "userId", direction = Sort.Direction.ASC) Pageable pageable) {
@@ -111,7 +114,7 @@ public class UserController {
 
         PagedResponse<UserResponse> response = userService.getAllUsers(pageable);
 
-        logger.info("Retrieved {} users on page {}/{}",
+        logger.debug("Retrieved {} users on page {}/{}",
                 response.getContent().size(), response.getPageNumber(), response.getTotalPages());
         return ResponseEntity.ok(response);
     }
@@ -155,6 +158,7 @@ public class UserController {
     @ApiResponse(responseCode = "200", description = "Search completed")
     @ApiResponse(responseCode = "400", description = "Invalid search term", content = @Content)
     @GetMapping("/search")
+    @Bulkhead(BulkheadPartition.ADMIN)
     @PreAuthorize("hasAuthority('read:users')")
     public ResponseEntity<List<UserResponse>> searchUsersByFirstName(
             @RequestParam
@@ -165,7 +169,7 @@ public class UserController {
 
         List<UserResponse> results = userService.searchUsersByFirstName(firstName);
 
-        logger.info("Found {} users matching '{}'", results.size(), firstName);
+        logger.debug("Found {} users matching '{}'", results.size(), firstName);
         return ResponseEntity.ok(results);
     }
 
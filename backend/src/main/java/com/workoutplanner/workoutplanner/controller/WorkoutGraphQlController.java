@@ -0,0 +1,148 @@
+package com.workoutplanner.workoutplanner.controller;
+
+import com.workoutplanner.workoutplanner.dto.request.WorkoutFieldSelection;
+import com.workoutplanner.workoutplanner.dto.response.ExerciseResponse;
+import com.workoutplanner.workoutplanner.dto.response.SetResponse;
+import com.workoutplanner.workoutplanner.dto.response.UserResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
+import com.workoutplanner.workoutplanner.service.ExerciseService;
+import com.workoutplanner.workoutplanner.service.ResourceSecurityService;
+import com.workoutplanner.workoutplanner.service.WorkoutGraphService;
+import com.workoutplanner.workoutplanner.service.WorkoutSessionService;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Controller;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * GraphQL read API over workouts (schema in {@code graphql/schema.graphqls}).
+ *
+ * Root queries go through the same service methods as the REST endpoints, so ownership is checked
+ * once per workout there. Every association is a {@link BatchMapping}: Spring for GraphQL collects
+ * the parents of one level into a DataLoader and resolves them with one {@link WorkoutGraphService}
+ * call, which keeps the statement count of a query independent of the number of results.
+ */
+@Controller
+public class WorkoutGraphQlController {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final WorkoutSessionService workoutSessionService;
+    private final ExerciseService exerciseService;
+    private final WorkoutGraphService workoutGraphService;
+    private final ResourceSecurityService resourceSecurityService;
+
+    public WorkoutGraphQlController(WorkoutSessionService workoutSessionService,
+                                    ExerciseService exerciseService,
+                                    WorkoutGraphService workoutGraphService,
+                                    ResourceSecurityService resourceSecurityService) {
+        this.workoutSessionService = workoutSessionService;
+        this.exerciseService = exerciseService;
+        this.workoutGraphService = workoutGraphService;
+        this.resourceSecurityService = resourceSecurityService;
+    }
+
+    // ==================== QUERIES ====================
+
+    @QueryMapping
+    public WorkoutResponse workout(@Argument Long sessionId, DataFetchingFieldSelectionSet selectionSet) {
+        return workoutSessionService.getWorkoutSessionById(sessionId, selectedWorkoutFields(selectionSet));
+    }
+
+    /**
+     * One page of the current user's workouts. The page size is capped, which also bounds the
+     * number of ids each batch loader below binds into one statement.
+     */
+    @QueryMapping
+    public List<WorkoutResponse> myWorkouts(@Argument int page, @Argument int size,
+                                            DataFetchingFieldSelectionSet selectionSet) {
+        if (size > MAX_PAGE_SIZE) {
+            throw new BusinessLogicException("Page size cannot exceed " + MAX_PAGE_SIZE);
+        }
+        return workoutSessionService.getMyWorkouts(selectedWorkoutFields(selectionSet), PageRequest.of(page, size));
+    }
+
+    @QueryMapping
+    public ExerciseResponse exercise(@Argument Long exerciseId) {
+        return exerciseService.getExerciseById(exerciseId);
+    }
+
+    // ==================== ASSOCIATIONS ====================
+
+    @BatchMapping(typeName = "Workout")
+    public List<List<WorkoutExerciseResponse>> exercises(List<WorkoutResponse> workouts) {
+        Map<Long, List<WorkoutExerciseResponse>> exercises = workoutGraphService.getWorkoutExercisesBySessionIds(
+                workouts.stream().map(WorkoutResponse::getSessionId).collect(Collectors.toSet()));
+        return workouts.stream()
+                .map(workout -> exercises.getOrDefault(workout.getSessionId(), List.of()))
+                .toList();
+    }
+
+    @BatchMapping(typeName = "Workout")
+    public List<UserResponse> user(List<WorkoutResponse> workouts) {
+        Map<Long, UserResponse> users = workoutGraphService.getUsersByIds(
+                workouts.stream().map(WorkoutResponse::getUserId).collect(Collectors.toSet()));
+        return workouts.stream().map(workout -> users.get(workout.getUserId())).toList();
+    }
+
+    @BatchMapping(typeName = "WorkoutExercise")
+    public List<ExerciseResponse> exercise(List<WorkoutExerciseResponse> workoutExercises) {
+        Map<Long, ExerciseResponse> exercises = workoutGraphService.getExercisesByIds(
+                workoutExercises.stream().map(WorkoutExerciseResponse::getExerciseId).collect(Collectors.toSet()));
+        return workoutExercises.stream().map(workoutExercise -> exercises.get(workoutExercise.getExerciseId())).toList();
+    }
+
+    @BatchMapping(typeName = "WorkoutExercise")
+    public List<List<SetResponse>> sets(List<WorkoutExerciseResponse> workoutExercises) {
+        Map<Long, ExerciseType> exerciseTypes = new LinkedHashMap<>();
+        for (WorkoutExerciseResponse workoutExercise : workoutExercises) {
+            exerciseTypes.put(workoutExercise.getWorkoutExerciseId(), workoutExercise.getExerciseType());
+        }
+        Map<Long, List<SetResponse>> sets = workoutGraphService.getSetsByWorkoutExerciseIds(exerciseTypes);
+        return workoutExercises.stream()
+                .map(workoutExercise -> sets.getOrDefault(workoutExercise.getWorkoutExerciseId(), List.of()))
+                .toList();
+    }
+
+    /**
+     * The email of a user is only resolved for the user themselves and for admins; for anyone else
+     * the field is null with an error, while the rest of the user stays visible. Non-admins can
+     * only reach their own workouts, and so only their own user, so no query takes the denial path
+     * yet; the check keeps the field safe once a user is reachable some other way.
+     */
+    @SchemaMapping(typeName = "User", field = "email")
+    public String email(UserResponse user) {
+        if (!resourceSecurityService.canAccessUser(user.getUserId())) {
+            throw new AccessDeniedException("Access denied to the email of user " + user.getUserId());
+        }
+        return user.getEmail();
+    }
+
+    /**
+     * Workout fields selected by the query. {@code user} is resolved from {@code userId}, so that
+     * field is loaded whenever the user is selected.
+     */
+    private static WorkoutFieldSelection selectedWorkoutFields(DataFetchingFieldSelectionSet selectionSet) {
+        Set<String> fields = selectionSet.getImmediateFields().stream()
+                .map(SelectedField::getName)
+                .collect(Collectors.toSet());
+        if (fields.contains("user")) {
+            fields.add("userId");
+        }
+        return WorkoutFieldSelection.ofFields(fields);
+    }
+}
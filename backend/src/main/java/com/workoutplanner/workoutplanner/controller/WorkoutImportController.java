@@ -0,0 +1,80 @@
+package com.workoutplanner.workoutplanner.controller;
+
+import com.workoutplanner.workoutplanner.dto.response.ImportProgressResponse;
+import com.workoutplanner.workoutplanner.dto.response.ImportReportResponse;
+import com.workoutplanner.workoutplanner.enums.ImportFormat;
+import com.workoutplanner.workoutplanner.service.WorkoutImportService;
+import com.workoutplanner.workoutplanner.util.ApiVersionConstants;
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import com.workoutplanner.workoutplanner.service.bulkhead.Bulkhead;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Controller for bulk import of workout history.
+ *
+ * The request body is the raw file (not multipart), so the multipart size limits do not apply
+ * and the file is consumed as a stream.
+ */
+@RestController
+@RequestMapping(ApiVersionConstants.V1_BASE_PATH + "/workouts/import")
+@Tag(name = "Workout Import", description = "Bulk import of historical workouts from CSV or NDJSON")
+public class WorkoutImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkoutImportController.class);
+
+    private final WorkoutImportService workoutImportService;
+
+    public WorkoutImportController(WorkoutImportService workoutImportService) {
+        this.workoutImportService = workoutImportService;
+    }
+
+    @Operation(summary = "Import workout history",
+            description = "One row per set. Columns: sessionKey, sessionName, startedAt, completedAt, exerciseId, "
+                    + "exerciseOrder, setNumber, reps, weight, durationInSeconds, distance, distanceUnit, "
+                    + "stretchType, intensity, restTimeInSeconds, notes, completed",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the report",
+            content = @Content(schema = @Schema(implementation = ImportReportResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Unreadable file or too many rejected rows", content = @Content)
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson"})
+    @Bulkhead(BulkheadPartition.IMPORTS)
+    @PreAuthorize("hasAuthority('write:workouts')")
+    public ResponseEntity<ImportReportResponse> importWorkouts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+        logger.debug("Importing workouts. format={}", format);
+
+        ImportReportResponse report = workoutImportService.importWorkouts(body, format);
+
+        logger.info("Import completed. importId={}, rowsImported={}, rowsRejected={}",
+                report.getImportId(), report.getRowsImported(), report.getRowsRejected());
+        return ResponseEntity.ok(report);
+    }
+
+    @Operation(summary = "Get progress of my running imports", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Running imports retrieved")
+    @GetMapping("/progress")
+    @PreAuthorize("hasAuthority('write:workouts')")
+    public ResponseEntity<List<ImportProgressResponse>> getImportProgress() {
+        return ResponseEntity.ok(workoutImportService.getMyRunningImports());
+    }
+}
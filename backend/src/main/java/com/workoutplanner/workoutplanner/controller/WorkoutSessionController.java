@@ -5,12 +5,21 @@ import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutExerciseRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.WorkoutActionRequest;
+import com.workoutplanner.workoutplanner.dto.request.WorkoutFieldSelection;
 import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutLiveEventResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
 import com.workoutplanner.workoutplanner.exception.OptimisticLockConflictException;
+import com.workoutplanner.workoutplanner.service.WorkoutLiveStreamService;
 import com.workoutplanner.workoutplanner.service.WorkoutSessionService;
 import com.workoutplanner.workoutplanner.util.ApiVersionConstants;
+import com.workoutplanner.workoutplanner.security.OwnedResource;
+import com.workoutplanner.workoutplanner.security.Permission;
+import com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership;
+import com.workoutplanner.workoutplanner.service.ratelimit.RateLimitCost;
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import com.workoutplanner.workoutplanner.service.bulkhead.Bulkhead;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -25,9 +34,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -43,10 +54,16 @@ public class WorkoutSessionController {
 
     private static final Logger logger = LoggerFactory.getLogger(WorkoutSessionController.class);
 
+    private static final String FIELDS_DESCRIPTION = "Comma-separated workout fields to return (sessionId is always returned). Default: all.";
+    private static final String EXPAND_DESCRIPTION = "Comma-separated associations to return: exercises, sets (implies exercises). Empty for none.";
+
     private final WorkoutSessionService workoutSessionService;
+    private final WorkoutLiveStreamService workoutLiveStreamService;
 
-    public WorkoutSessionController(WorkoutSessionService workoutSessionService) {
+    public WorkoutSessionController(WorkoutSessionService workoutSessionService,
+                                    WorkoutLiveStreamService workoutLiveStreamService) {
         this.workoutSessionService = workoutSessionService;
+        this.workoutLiveStreamService = workoutLiveStreamService;
     }
 
     // ==================== WORKOUT SESSION ENDPOINTS ====================
@@ -67,46 +84,82 @@ public class WorkoutSessionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @Operation(summary = "Get workout by ID", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "Get workout by ID",
+            description = "Returns all fields with exercises unless narrowed by 'fields' and 'expand'.",
+            security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Workout found",
             content = @Content(schema = @Schema(implementation = WorkoutResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Unknown field or expansion", content = @Content)
     @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
     @GetMapping("/{sessionId}")
-    @PreAuthorize("hasAuthority('read:workouts') and @resourceSecurityService.canAccessWorkout(#sessionId)")
+    @RateLimitCost(5)
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.READ_WORKOUTS)
     public ResponseEntity<WorkoutResponse> getWorkoutSessionById(
             @Parameter(description = "Session ID", example = "1")
-            @PathVariable Long sessionId) {
+            @PathVariable Long sessionId,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "name,status,startedAt")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = EXPAND_DESCRIPTION + " Default: exercises.", example = "exercises")
+            @RequestParam(required = false) String expand) {
         logger.debug("Getting sessionId={}", sessionId);
-        return ResponseEntity.ok(workoutSessionService.getWorkoutSessionById(sessionId));
+        WorkoutFieldSelection selection = WorkoutFieldSelection.parse(fields, expand, WorkoutFieldSelection.EXPAND_EXERCISES);
+        return ResponseEntity.ok(workoutSessionService.getWorkoutSessionById(sessionId, selection));
     }
 
-    @Operation(summary = "Get workout with optimized loading", security = @SecurityRequirement(name = "bearerAuth"))
+    @Operation(summary = "Get workout with optimized loading",
+            description = "Returns all fields with exercises and their sets unless narrowed by 'fields' and 'expand'. "
+                    + "Sets are loaded per exercise type.",
+            security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Workout retrieved",
             content = @Content(schema = @Schema(implementation = WorkoutResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Unknown field or expansion", content = @Content)
     @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
     @GetMapping("/{sessionId}/smart")
-    @PreAuthorize("hasAuthority('read:workouts') and @resourceSecurityService.canAccessWorkout(#sessionId)")
+    @RateLimitCost(20)
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.READ_WORKOUTS)
     public ResponseEntity<WorkoutResponse> getWorkoutSessionWithSmartLoading(
             @Parameter(description = "Session ID", example = "1")
-            @PathVariable Long sessionId) {
+            @PathVariable Long sessionId,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "name,status,startedAt")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = EXPAND_DESCRIPTION + " Default: exercises,sets.", example = "exercises,sets")
+            @RequestParam(required = false) String expand) {
         logger.debug("Getting workout with smart loading. sessionId={}", sessionId);
+        WorkoutFieldSelection selection = WorkoutFieldSelection.parse(fields, expand,
+                WorkoutFieldSelection.EXPAND_EXERCISES, WorkoutFieldSelection.EXPAND_SETS);
+        return ResponseEntity.ok(workoutSessionService.getWorkoutSessionById(sessionId, selection));
+    }
 
-        WorkoutResponse response = workoutSessionService.getWorkoutSessionWithSmartLoading(sessionId);
-
-        logger.info("Retrieved sessionId={} with {} exercises", sessionId, response.getWorkoutExercises().size());
-        return ResponseEntity.ok(response);
+    @Operation(summary = "Stream live workout updates",
+            description = "Server-Sent Events for set created/updated/deleted and status changes of an active workout. "
+                    + "A 'resync' event means updates were missed and the workout should be reloaded.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "200", description = "Event stream opened",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                    schema = @Schema(implementation = WorkoutLiveEventResponse.class)))
+    @ApiResponse(responseCode = "400", description = "Workout finished or too many connections", content = @Content)
+    @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
+    @GetMapping(value = "/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.READ_WORKOUTS)
+    public SseEmitter streamWorkoutSession(
+            @Parameter(description = "Session ID", example = "1")
+            @PathVariable Long sessionId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        logger.debug("Opening live stream. sessionId={}, lastEventId={}", sessionId, lastEventId);
+        return workoutLiveStreamService.subscribe(sessionId, lastEventId);
     }
 
     @Operation(summary = "Get my workouts", security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponse(responseCode = "200", description = "Workouts retrieved")
     @GetMapping("/my")
+    @RateLimitCost(10)
     @PreAuthorize("hasAuthority('read:workouts')")
     public ResponseEntity<List<WorkoutResponse>> getMyWorkouts() {
         logger.debug("Getting workouts for current user");
 
         List<WorkoutResponse> responses = workoutSessionService.getMyWorkouts();
 
-        logger.info("Retrieved {} workouts for current user", responses.size());
+        logger.debug("Retrieved {} workouts for current user", responses.size());
         return ResponseEntity.ok(responses);
     }
 
@@ -115,6 +168,8 @@ public class WorkoutSessionController {
             content = @Content(schema = @Schema(implementation = PagedResponse.class)))
     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
     @GetMapping
+    @RateLimitCost(10)
+    @Bulkhead(BulkheadPartition.ADMIN)
     @PreAuthorize("hasAuthority('read:users')")
     public ResponseEntity<PagedResponse<WorkoutResponse>> getAllWorkoutSessions(
             @PageableDefault(size = 20, sort = "sessionId", direction = Sort.Direction.DESC) Pageable pageable) {
@@ -126,6 +181,7 @@ public class WorkoutSessionController {
     @ApiResponse(responseCode = "200", description = "Workouts retrieved")
     @ApiResponse(responseCode = "404", description = "User not found", content = @Content)
     @GetMapping("/user/{userId}")
+    @RateLimitCost(10)
     @PreAuthorize("hasAuthority('read:workouts') and (@userService.isCurrentUser(#userId) or hasAuthority('read:users'))")
     public ResponseEntity<List<WorkoutResponse>> getWorkoutSessionsByUserId(
             @Parameter(description = "User ID", example = "1")
@@ -139,7 +195,7 @@ public class WorkoutSessionController {
             content = @Content(schema = @Schema(implementation = WorkoutResponse.class)))
     @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
     @PutMapping("/{sessionId}")
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.WRITE_WORKOUTS)
     public ResponseEntity<WorkoutResponse> updateWorkoutSession(
             @PathVariable Long sessionId,
             @Valid @RequestBody UpdateWorkoutRequest request) {
@@ -155,7 +211,7 @@ public class WorkoutSessionController {
     @ApiResponse(responseCode = "204", description = "Workout deleted")
     @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
     @DeleteMapping("/{sessionId}")
-    @PreAuthorize("hasAuthority('delete:workouts') and @resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.DELETE_WORKOUTS)
     public ResponseEntity<Void> deleteWorkoutSession(@PathVariable Long sessionId) {
         logger.debug("Deleting sessionId={}", sessionId);
 
@@ -171,7 +227,8 @@ public class WorkoutSessionController {
     @ApiResponse(responseCode = "400", description = "Invalid state transition", content = @Content)
     @ApiResponse(responseCode = "409", description = "Optimistic lock conflict", content = @Content)
     @PatchMapping("/{sessionId}/status")
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RateLimitCost(1)
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.WRITE_WORKOUTS)
     public ResponseEntity<WorkoutResponse> updateWorkoutStatus(
             @Parameter(description = "Session ID", example = "1")
             @PathVariable Long sessionId,
@@ -192,7 +249,7 @@ public class WorkoutSessionController {
     @ApiResponse(responseCode = "400", description = "Validation error", content = @Content)
     @ApiResponse(responseCode = "404", description = "Workout or exercise not found", content = @Content)
     @PostMapping("/{sessionId}/exercises")
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.WRITE_WORKOUTS)
     public ResponseEntity<WorkoutExerciseResponse> addExerciseToWorkout(
             @Parameter(description = "Session ID", example = "1")
             @PathVariable Long sessionId,
@@ -209,7 +266,8 @@ public class WorkoutSessionController {
     @ApiResponse(responseCode = "200", description = "Exercises retrieved")
     @ApiResponse(responseCode = "404", description = "Workout not found", content = @Content)
     @GetMapping("/{sessionId}/exercises")
-    @PreAuthorize("hasAuthority('read:workouts') and @resourceSecurityService.canAccessWorkout(#sessionId)")
+    @RateLimitCost(5)
+    @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.READ_WORKOUTS)
     public ResponseEntity<List<WorkoutExerciseResponse>> getWorkoutExercises(
             @Parameter(description = "Session ID", example = "1")
             @PathVariable Long sessionId) {
@@ -222,7 +280,7 @@ public class WorkoutSessionController {
             content = @Content(schema = @Schema(implementation = WorkoutExerciseResponse.class)))
     @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
     @PutMapping("/exercises/{workoutExerciseId}")
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canModifyWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE, permissions = Permission.WRITE_WORKOUTS)
     public ResponseEntity<WorkoutExerciseResponse> updateWorkoutExercise(
             @Parameter(description = "Workout Exercise ID", example = "1")
             @PathVariable Long workoutExerciseId,
@@ -239,7 +297,7 @@ public class WorkoutSessionController {
     @ApiResponse(responseCode = "204", description = "Exercise removed")
     @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
     @DeleteMapping("/exercises/{workoutExerciseId}")
-    @PreAuthorize("hasAuthority('write:workouts') and @resourceSecurityService.canModifyWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE, permissions = Permission.WRITE_WORKOUTS)
     public ResponseEntity<Void> removeExerciseFromWorkout(
             @Parameter(description = "Workout Exercise ID", example = "1")
             @PathVariable Long workoutExerciseId) {
@@ -0,0 +1,123 @@
+package com.workoutplanner.workoutplanner.dto.request;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parts of a WorkoutResponse requested through the {@code fields} and {@code expand} query parameters.
+ *
+ * <ul>
+ *   <li>{@code fields} - comma-separated workout fields to return; {@code sessionId} is always
+ *       returned. Absent means all fields.</li>
+ *   <li>{@code expand} - comma-separated associations to return: {@code exercises}, and
+ *       {@code sets} of those exercises (implies {@code exercises}). Absent means the endpoint's
+ *       default; empty means none.</li>
+ * </ul>
+ * The selection decides what is fetched, not just what is serialized: {@link #attributePaths()} is
+ * the entity graph of the workout query, and sets are only queried when expanded.
+ */
+public final class WorkoutFieldSelection {
+
+    public static final String EXPAND_EXERCISES = "exercises";
+    public static final String EXPAND_SETS = "sets";
+
+    /**
+     * Selectable WorkoutResponse fields besides the always included {@code sessionId}.
+     */
+    public static final Set<String> FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(List.of(
+            "name", "description", "userId", "userFullName", "status", "scheduledDate", "startedAt",
+            "completedAt", "actualDurationInMinutes", "sessionNotes", "createdAt")));
+
+    private static final Set<String> EXPANSIONS = Set.of(EXPAND_EXERCISES, EXPAND_SETS);
+
+    private final Set<String> fields;
+    private final boolean exercises;
+    private final boolean sets;
+
+    private WorkoutFieldSelection(Set<String> fields, Set<String> expand) {
+        this.fields = fields;
+        this.sets = expand.contains(EXPAND_SETS);
+        this.exercises = sets || expand.contains(EXPAND_EXERCISES);
+    }
+
+    /**
+     * All fields with the given expansions, e.g. {@code all(EXPAND_EXERCISES)} for the full workout.
+     */
+    public static WorkoutFieldSelection all(String... expand) {
+        return new WorkoutFieldSelection(FIELDS, Set.of(expand));
+    }
+
+    /**
+     * The given fields without expansions, ignoring names that are not workout fields; for callers
+     * that resolve associations themselves, such as the GraphQL API.
+     */
+    public static WorkoutFieldSelection ofFields(Collection<String> fields) {
+        Set<String> selectedFields = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (FIELDS.contains(field)) {
+                selectedFields.add(field);
+            }
+        }
+        return new WorkoutFieldSelection(selectedFields, Set.of());
+    }
+
+    /**
+     * Parses the query parameters of a workout request.
+     *
+     * @param fields {@code fields} parameter, or null for all fields
+     * @param expand {@code expand} parameter, or null for {@code defaultExpand}
+     * @param defaultExpand expansions of the endpoint when the parameter is absent
+     * @throws IllegalArgumentException if a field or expansion is unknown
+     */
+    public static WorkoutFieldSelection parse(String fields, String expand, String... defaultExpand) {
+        Set<String> selectedFields = fields == null ? FIELDS : split(fields, "field", FIELDS);
+        Set<String> expansions = expand == null ? Set.of(defaultExpand) : split(expand, "expansion", EXPANSIONS);
+        return new WorkoutFieldSelection(selectedFields, expansions);
+    }
+
+    private static Set<String> split(String parameter, String kind, Set<String> allowed) {
+        Set<String> values = new LinkedHashSet<>();
+        for (String value : parameter.split(",")) {
+            String trimmed = value.trim();
+            if (trimmed.isEmpty() || "sessionId".equals(trimmed)) {
+                continue;
+            }
+            if (!allowed.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown " + kind + " '" + trimmed + "'. Allowed: " + allowed);
+            }
+            values.add(trimmed);
+        }
+        return values;
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    public boolean expandsExercises() {
+        return exercises;
+    }
+
+    public boolean expandsSets() {
+        return sets;
+    }
+
+    /**
+     * Associations of WorkoutSession to fetch with the workout. The user is only needed for its
+     * name; {@code userId} is read from the foreign key.
+     */
+    public List<String> attributePaths() {
+        List<String> paths = new ArrayList<>();
+        if (includes("userFullName")) {
+            paths.add("user");
+        }
+        if (exercises) {
+            paths.add("workoutExercises.exercise");
+        }
+        return paths;
+    }
+}
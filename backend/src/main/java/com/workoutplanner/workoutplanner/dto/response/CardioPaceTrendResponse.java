@@ -0,0 +1,25 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Cardio pace on one training day, in seconds per distance unit.
+ * The rolling pace covers the last seven training days with the same distance unit.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardioPaceTrendResponse {
+
+    private LocalDate date;
+    private String distanceUnit;
+    private BigDecimal totalDistance;
+    private long totalDurationInSeconds;
+    private BigDecimal paceSecondsPerUnit;
+    private BigDecimal rollingPaceSecondsPerUnit;
+}
@@ -0,0 +1,24 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import com.workoutplanner.workoutplanner.enums.ImportFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of a bulk import that is still running.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportProgressResponse {
+
+    private String importId;
+    private ImportFormat format;
+    private String phase;
+    private long rowsRead;
+    private long rowsRejected;
+    private Instant startedAt;
+}
@@ -0,0 +1,30 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import com.workoutplanner.workoutplanner.enums.ImportFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk workout history import.
+ * Only the first rejected rows are listed in {@code errors}; {@code rowsRejected} holds the full count.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportResponse {
+
+    private String importId;
+    private ImportFormat format;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private long sessionsCreated;
+    private long workoutExercisesCreated;
+    private long setsCreated;
+    private List<ImportRowErrorResponse> errors;
+    private boolean errorsTruncated;
+    private long durationMillis;
+}
@@ -0,0 +1,17 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rejected row in a bulk import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorResponse {
+
+    private long lineNumber;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Estimated one-rep max for an exercise on one training day, with the best estimate up to that day.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OneRepMaxTrendResponse {
+
+    private LocalDate date;
+    private BigDecimal estimatedOneRepMax;
+    private BigDecimal bestToDate;
+}
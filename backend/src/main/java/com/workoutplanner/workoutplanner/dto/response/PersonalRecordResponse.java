@@ -0,0 +1,27 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import com.workoutplanner.workoutplanner.enums.TargetMuscleGroup;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Personal records for one strength exercise: heaviest set and best estimated one-rep max (Epley).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonalRecordResponse {
+
+    private Long exerciseId;
+    private String exerciseName;
+    private TargetMuscleGroup muscleGroup;
+    private BigDecimal maxWeight;
+    private Integer repsAtMaxWeight;
+    private LocalDate maxWeightDate;
+    private BigDecimal bestEstimatedOneRepMax;
+    private LocalDate bestEstimatedOneRepMaxDate;
+}
@@ -0,0 +1,25 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import com.workoutplanner.workoutplanner.enums.TargetMuscleGroup;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Strength training volume for one muscle group in one period.
+ * Tonnage is the sum of reps x weight.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TonnageResponse {
+
+    private LocalDate periodStart;
+    private TargetMuscleGroup muscleGroup;
+    private long setCount;
+    private long totalReps;
+    private BigDecimal tonnage;
+}
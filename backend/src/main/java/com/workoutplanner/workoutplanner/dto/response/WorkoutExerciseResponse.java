@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 /**
  * Response for workout exercise data (exercise within a workout).
  */
@@ -19,4 +21,9 @@ public class WorkoutExerciseResponse {
     private ExerciseType exerciseType;
     private Integer orderInWorkout;
     private String notes;
+
+    /**
+     * Sets of the exercise, only present when requested with {@code expand=sets}.
+     */
+    private List<SetResponse> sets;
 }
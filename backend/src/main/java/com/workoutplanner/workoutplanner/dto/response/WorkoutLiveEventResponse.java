@@ -0,0 +1,30 @@
+package com.workoutplanner.workoutplanner.dto.response;
+
+import com.workoutplanner.workoutplanner.enums.ChangeType;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Payload of a live workout stream event.
+ * Set fields are filled for set events, status fields for status and connection events.
+ * A set event only identifies the changed set; clients fetch it (or the session) as needed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutLiveEventResponse {
+
+    private Long sessionId;
+    private Long workoutExerciseId;
+    private Long setId;
+    private ExerciseType setType;
+    private ChangeType changeType;
+    private WorkoutStatus previousStatus;
+    private WorkoutStatus status;
+    private Instant occurredAt;
+}
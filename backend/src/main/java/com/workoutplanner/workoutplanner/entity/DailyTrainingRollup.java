@@ -0,0 +1,97 @@
+package com.workoutplanner.workoutplanner.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Per-user, per-day training totals of one exercise (and cardio distance unit).
+ *
+ * Derived data: rows are rebuilt from the set tables by
+ * {@link com.workoutplanner.workoutplanner.repository.DailyTrainingRollupRepository}
+ * and are never edited through JPA. The entity exists so the table is part of the schema.
+ */
+@Entity
+@Table(name = "daily_training_rollups",
+    uniqueConstraints = @UniqueConstraint(name = "uk_daily_training_rollup",
+        columnNames = {"user_id", "training_date", "exercise_id", "distance_unit"}),
+    indexes = @Index(name = "idx_daily_training_rollup_exercise", columnList = "user_id, exercise_id, training_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class DailyTrainingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id", nullable = false, updatable = false)
+    private Long rollupId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "training_date", nullable = false)
+    private LocalDate trainingDate;
+
+    @Column(name = "exercise_id", nullable = false)
+    private Long exerciseId;
+
+    /**
+     * Empty for strength and flexibility rows so it can take part in the unique key.
+     */
+    @Column(name = "distance_unit", nullable = false, length = 10)
+    private String distanceUnit = "";
+
+    @Column(name = "set_count", nullable = false)
+    private Integer setCount;
+
+    @Column(name = "total_reps", nullable = false)
+    private Long totalReps;
+
+    @Column(name = "tonnage", nullable = false, precision = 14, scale = 2)
+    private BigDecimal tonnage;
+
+    @Column(name = "max_weight", precision = 5, scale = 2)
+    private BigDecimal maxWeight;
+
+    @Column(name = "reps_at_max_weight")
+    private Integer repsAtMaxWeight;
+
+    @Column(name = "best_e1rm", precision = 8, scale = 2)
+    private BigDecimal bestE1rm;
+
+    @Column(name = "total_duration_seconds", nullable = false)
+    private Long totalDurationSeconds;
+
+    @Column(name = "total_distance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalDistance;
+
+    /**
+     * Duration of the cardio sets that recorded a distance, the denominator for pace.
+     */
+    @Column(name = "distance_duration_seconds", nullable = false)
+    private Long distanceDurationSeconds;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DailyTrainingRollup that = (DailyTrainingRollup) o;
+        return rollupId != null && Objects.equals(rollupId, that.rollupId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
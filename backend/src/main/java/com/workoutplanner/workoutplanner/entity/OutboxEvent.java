@@ -0,0 +1,85 @@
+package com.workoutplanner.workoutplanner.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A domain event waiting for (or done with) asynchronous delivery to its consumers.
+ *
+ * Rows are written in the transaction that produced the event and drained by
+ * {@link com.workoutplanner.workoutplanner.service.outbox.OutboxDispatcher}, both through
+ * {@link com.workoutplanner.workoutplanner.repository.OutboxEventRepository}. The entity exists so
+ * the table is part of the schema.
+ */
+@Entity
+@Table(name = "outbox_events",
+    indexes = @Index(name = "idx_outbox_event_pending", columnList = "processed_at, available_at, outbox_event_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "payload")
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id", nullable = false, updatable = false)
+    private Long outboxEventId;
+
+    /**
+     * Simple class name of the {@link com.workoutplanner.workoutplanner.event.DomainEvent}.
+     */
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Earliest time of the next delivery attempt; pushed back after a failed attempt.
+     */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * Set when delivery was given up after the maximum number of attempts.
+     */
+    @Column(name = "failed", nullable = false)
+    private Boolean failed = false;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OutboxEvent that = (OutboxEvent) o;
+        return outboxEventId != null && Objects.equals(outboxEventId, that.outboxEventId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
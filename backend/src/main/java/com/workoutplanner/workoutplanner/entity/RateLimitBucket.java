@@ -0,0 +1,51 @@
+package com.workoutplanner.workoutplanner.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+
+/**
+ * Serialized state of one Bucket4j rate-limit bucket shared by all instances.
+ *
+ * Rows are read and written by Bucket4j's PostgreSQL proxy manager (see
+ * {@link com.workoutplanner.workoutplanner.config.RateLimitStoreConfig}); only
+ * {@code last_touched_at} is maintained by the application, so that
+ * {@link com.workoutplanner.workoutplanner.service.ratelimit.RateLimitBucketRetention} can delete
+ * buckets nobody uses any more. The entity exists so the table is part of the schema.
+ */
+@Entity
+@Table(name = RateLimitBucket.TABLE_NAME,
+    indexes = @Index(name = "idx_rate_limit_buckets_last_touched_at", columnList = "last_touched_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "state")
+public class RateLimitBucket {
+
+    public static final String TABLE_NAME = "rate_limit_buckets";
+    public static final String ID_COLUMN = "id";
+    public static final String STATE_COLUMN = "state";
+    public static final String LAST_TOUCHED_AT_COLUMN = "last_touched_at";
+
+    /**
+     * Cache name and rate-limit key of the bucket, e.g. {@code rate-limit-buckets:203.0.113.7}.
+     */
+    @Id
+    @Column(name = ID_COLUMN, nullable = false, updatable = false, length = 255)
+    private String id;
+
+    @Column(name = STATE_COLUMN, columnDefinition = "bytea")
+    private byte[] state;
+
+    /**
+     * Set by the database when Bucket4j inserts the row, and refreshed while the bucket is in use.
+     */
+    @ColumnDefault("LOCALTIMESTAMP")
+    @Column(name = LAST_TOUCHED_AT_COLUMN, nullable = false, insertable = false, updatable = false)
+    private LocalDateTime lastTouchedAt;
+}
@@ -0,0 +1,49 @@
+package com.workoutplanner.workoutplanner.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Version of a user's training rollups, bumped in the same transaction as every rebuild of them.
+ *
+ * Shared by all instances: analytics cache keys and HTTP ETags are derived from it, so a change
+ * written through any instance is seen by every other one as soon as it commits. Maintained by
+ * {@link com.workoutplanner.workoutplanner.repository.DailyTrainingRollupRepository}; the entity
+ * exists so the table is part of the schema.
+ */
+@Entity
+@Table(name = "training_data_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class TrainingDataVersion {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TrainingDataVersion that = (TrainingDataVersion) o;
+        return userId != null && Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
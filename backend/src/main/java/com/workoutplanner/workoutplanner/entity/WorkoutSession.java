@@ -17,7 +17,9 @@ import java.util.Objects;
  * Workout session entity representing a user's workout.
  */
 @Entity
-@Table(name = "workout_sessions")
+@Table(name = "workout_sessions", indexes = {
+    @Index(name = "idx_workout_session_user", columnList = "user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,9 @@
+package com.workoutplanner.workoutplanner.enums;
+
+/**
+ * Bucket size for time-series analytics.
+ */
+public enum AnalyticsPeriod {
+    WEEK,
+    MONTH
+}
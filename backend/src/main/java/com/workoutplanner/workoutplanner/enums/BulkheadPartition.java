@@ -0,0 +1,31 @@
+package com.workoutplanner.workoutplanner.enums;
+
+/**
+ * Concurrency partitions requests are admitted through, so one class of endpoints cannot take
+ * all request threads and database connections from the others.
+ */
+public enum BulkheadPartition {
+    /** Ordinary reads (GET) */
+    READS("reads"),
+    /** Ordinary writes, e.g. set logging */
+    WRITES("writes"),
+    /** Training analytics aggregations */
+    ANALYTICS("analytics"),
+    /** Admin listings across all users */
+    ADMIN("admin"),
+    /** Bulk imports of workout history, long-running and open to every user */
+    IMPORTS("imports");
+
+    private final String key;
+
+    BulkheadPartition(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return name used in the {@code app.bulkhead.<key>.*} properties and the metric tags
+     */
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,10 @@
+package com.workoutplanner.workoutplanner.enums;
+
+/**
+ * Kind of change carried by a domain event.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
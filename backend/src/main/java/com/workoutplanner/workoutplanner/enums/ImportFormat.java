@@ -0,0 +1,37 @@
+package com.workoutplanner.workoutplanner.enums;
+
+/**
+ * Supported file formats for bulk workout history import.
+ */
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolves the import format from a request Content-Type header (parameters such as charset are ignored).
+     *
+     * @throws IllegalArgumentException if the content type is not a supported import format
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String baseType = contentType.split(";", 2)[0].trim();
+            for (ImportFormat format : values()) {
+                if (format.mediaType.equalsIgnoreCase(baseType)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType
+                + ". Use text/csv or application/x-ndjson");
+    }
+}
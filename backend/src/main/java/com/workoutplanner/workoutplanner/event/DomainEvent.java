@@ -0,0 +1,20 @@
+package com.workoutplanner.workoutplanner.event;
+
+import java.time.Instant;
+
+/**
+ * A change to a workout session, published by the write services.
+ *
+ * Events are delivered twice over: synchronously to in-process listeners (e.g. live streams) and,
+ * for types with a {@link com.workoutplanner.workoutplanner.service.outbox.DomainEventConsumer},
+ * durably through the transactional outbox. The permitted subtypes are the outbox's type registry,
+ * so their simple names must stay stable while events are pending.
+ */
+public sealed interface DomainEvent permits SetChangedEvent, WorkoutStatusChangedEvent {
+
+    Long sessionId();
+
+    Long userId();
+
+    Instant occurredAt();
+}
@@ -0,0 +1,40 @@
+package com.workoutplanner.workoutplanner.event;
+
+import com.workoutplanner.workoutplanner.entity.BaseSet;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.ChangeType;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+
+import java.time.Instant;
+
+/**
+ * Published when a strength, cardio or flexibility set is created, updated or (soft) deleted.
+ *
+ * @param sessionId         workout session the set belongs to
+ * @param userId            owner of the session
+ * @param workoutExerciseId workout exercise the set belongs to
+ * @param setId             the changed set
+ * @param setType           kind of set
+ * @param changeType        what happened to the set
+ * @param occurredAt        when the change was made
+ */
+public record SetChangedEvent(Long sessionId,
+                              Long userId,
+                              Long workoutExerciseId,
+                              Long setId,
+                              ExerciseType setType,
+                              ChangeType changeType,
+                              Instant occurredAt) implements DomainEvent {
+
+    public static SetChangedEvent of(BaseSet set, ExerciseType setType, ChangeType changeType) {
+        WorkoutSession workoutSession = set.getWorkoutExercise().getWorkoutSession();
+        return new SetChangedEvent(
+                workoutSession.getSessionId(),
+                workoutSession.getUser() != null ? workoutSession.getUser().getUserId() : null,
+                set.getWorkoutExercise().getWorkoutExerciseId(),
+                set.getSetId(),
+                setType,
+                changeType,
+                Instant.now());
+    }
+}
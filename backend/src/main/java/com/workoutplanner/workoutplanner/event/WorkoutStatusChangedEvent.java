@@ -0,0 +1,31 @@
+package com.workoutplanner.workoutplanner.event;
+
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+
+import java.time.Instant;
+
+/**
+ * Published when a workout session moves to a different status.
+ *
+ * @param sessionId      the workout session
+ * @param userId         owner of the session
+ * @param previousStatus status before the transition
+ * @param status         status after the transition
+ * @param occurredAt     when the transition was made
+ */
+public record WorkoutStatusChangedEvent(Long sessionId,
+                                        Long userId,
+                                        WorkoutStatus previousStatus,
+                                        WorkoutStatus status,
+                                        Instant occurredAt) implements DomainEvent {
+
+    public static WorkoutStatusChangedEvent of(WorkoutSession workoutSession, WorkoutStatus previousStatus) {
+        return new WorkoutStatusChangedEvent(
+                workoutSession.getSessionId(),
+                workoutSession.getUser() != null ? workoutSession.getUser().getUserId() : null,
+                previousStatus,
+                workoutSession.getStatus(),
+                Instant.now());
+    }
+}
@@ -0,0 +1,36 @@
+package com.workoutplanner.workoutplanner.exception;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps service exceptions to GraphQL errors, the GraphQL counterpart of
+ * {@link ValidationExceptionHandler}. Access denials are mapped by Spring for GraphQL's security
+ * resolver to {@code FORBIDDEN} / {@code UNAUTHORIZED}; anything else becomes
+ * {@code INTERNAL_ERROR} without details.
+ */
+@Component
+public class GraphQlExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+        if (ex instanceof ResourceNotFoundException) {
+            return error(ex, env, ErrorType.NOT_FOUND);
+        }
+        if (ex instanceof BusinessLogicException || ex instanceof IllegalArgumentException) {
+            return error(ex, env, ErrorType.BAD_REQUEST);
+        }
+        return null;
+    }
+
+    private static GraphQLError error(Throwable ex, DataFetchingEnvironment env, ErrorType errorType) {
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(errorType)
+                .message(ex.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.workoutplanner.workoutplanner.exception;
+
+/**
+ * Exception thrown when a caller has used up its request budget.
+ * Results in HTTP 429 TOO MANY REQUESTS response with a Retry-After header.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,19 @@
+package com.workoutplanner.workoutplanner.exception;
+
+/**
+ * Exception thrown when a request is shed because the service is at its concurrency limit.
+ * Results in HTTP 503 SERVICE UNAVAILABLE response with a Retry-After header.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -2,6 +2,7 @@ package com.workoutplanner.workoutplanner.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -197,6 +198,46 @@ public class ValidationExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles exhausted request budgets of cost-weighted rate limiting.
+     *
+     * @param ex RateLimitExceededException with the time until enough tokens are refilled
+     * @return ResponseEntity with error details, Retry-After header and 429 TOO MANY REQUESTS
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException ex) {
+        Map<String, Object> response = new HashMap<>();
+
+        logger.warn("EXCEPTION: Rate limit exceeded: {}", ex.getMessage());
+
+        response.put(MESSAGE_KEY, ex.getMessage());
+        response.put(STATUS_KEY, HttpStatus.TOO_MANY_REQUESTS.value());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * Handles requests shed by the adaptive concurrency limiter.
+     *
+     * @param ex ServiceOverloadedException thrown when the concurrency limit is reached
+     * @return ResponseEntity with error details, Retry-After header and 503 SERVICE UNAVAILABLE
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceOverloaded(ServiceOverloadedException ex) {
+        Map<String, Object> response = new HashMap<>();
+
+        logger.warn("EXCEPTION: Request shed: {}", ex.getMessage());
+
+        response.put(MESSAGE_KEY, ex.getMessage());
+        response.put(STATUS_KEY, HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * Handles illegal argument exceptions (invalid input parameters).
      *
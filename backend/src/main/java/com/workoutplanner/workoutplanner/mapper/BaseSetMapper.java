@@ -5,6 +5,7 @@ import com.workoutplanner.workoutplanner.entity.BaseSet;
 import com.workoutplanner.workoutplanner.entity.CardioSet;
 import com.workoutplanner.workoutplanner.entity.FlexibilitySet;
 import com.workoutplanner.workoutplanner.entity.StrengthSet;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -15,6 +16,7 @@ import java.util.List;
  * MapStruct mapper for set entity conversions.
  */
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+@Instrumented(Instrumented.MAPPING)
 public abstract class BaseSetMapper {
 
     @Mapping(target = "workoutExerciseId", source = "workoutExercise.workoutExerciseId")
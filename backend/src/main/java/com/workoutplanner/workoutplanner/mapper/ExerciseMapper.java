@@ -2,6 +2,7 @@ package com.workoutplanner.workoutplanner.mapper;
 
 import com.workoutplanner.workoutplanner.dto.response.ExerciseResponse;
 import com.workoutplanner.workoutplanner.entity.Exercise;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
 
@@ -11,6 +12,7 @@ import java.util.List;
  * MapStruct mapper for Exercise entity conversions.
  */
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+@Instrumented(Instrumented.MAPPING)
 public interface ExerciseMapper {
 
     ExerciseResponse toResponse(Exercise exercise);
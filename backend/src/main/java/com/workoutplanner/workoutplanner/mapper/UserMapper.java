@@ -3,6 +3,7 @@ package com.workoutplanner.workoutplanner.mapper;
 import com.workoutplanner.workoutplanner.dto.request.CreateUserRequest;
 import com.workoutplanner.workoutplanner.dto.response.UserResponse;
 import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -13,6 +14,7 @@ import java.util.List;
  * MapStruct mapper for User entity conversions.
  */
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+@Instrumented(Instrumented.MAPPING)
 public interface UserMapper {
 
     @Mapping(target = "userId", ignore = true)
@@ -6,6 +6,8 @@ import com.workoutplanner.workoutplanner.dto.request.CreateStrengthSetRequest;
 import com.workoutplanner.workoutplanner.dto.request.CreateCardioSetRequest;
 import com.workoutplanner.workoutplanner.dto.request.CreateFlexibilitySetRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutRequest;
+import com.workoutplanner.workoutplanner.dto.request.WorkoutFieldSelection;
+import com.workoutplanner.workoutplanner.dto.response.SetResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
 import com.workoutplanner.workoutplanner.entity.WorkoutSession;
@@ -13,6 +15,7 @@ import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
 import com.workoutplanner.workoutplanner.entity.StrengthSet;
 import com.workoutplanner.workoutplanner.entity.CardioSet;
 import com.workoutplanner.workoutplanner.entity.FlexibilitySet;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
@@ -20,12 +23,14 @@ import org.mapstruct.MappingTarget;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * MapStruct mapper for WorkoutSession and related entity conversions.
  */
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = BaseSetMapper.class)
+@Instrumented(Instrumented.MAPPING)
 public abstract class WorkoutMapper {
 
     @Mapping(target = "sessionId", ignore = true)
@@ -47,6 +52,77 @@ public abstract class WorkoutMapper {
 
     public abstract List<WorkoutResponse> toWorkoutResponseList(List<WorkoutSession> workoutSessions);
 
+    /**
+     * Maps only the fields and associations of the selection. Associations outside of it are never
+     * accessed, so they are not loaded either; unselected fields stay null and are omitted from the body.
+     */
+    public WorkoutResponse toWorkoutResponse(WorkoutSession workoutSession, WorkoutFieldSelection selection) {
+        WorkoutResponse response = new WorkoutResponse();
+        response.setSessionId(workoutSession.getSessionId());
+        if (selection.includes("name")) {
+            response.setName(workoutSession.getName());
+        }
+        if (selection.includes("description")) {
+            response.setDescription(workoutSession.getDescription());
+        }
+        if (selection.includes("userId")) {
+            response.setUserId(workoutSession.getUser().getUserId());
+        }
+        if (selection.includes("userFullName")) {
+            response.setUserFullName(workoutSession.getUser().getFirstName() + " " + workoutSession.getUser().getLastName());
+        }
+        if (selection.includes("status")) {
+            response.setStatus(workoutSession.getStatus());
+        }
+        if (selection.includes("scheduledDate")) {
+            response.setScheduledDate(workoutSession.getScheduledDate());
+        }
+        if (selection.includes("startedAt")) {
+            response.setStartedAt(workoutSession.getStartedAt());
+        }
+        if (selection.includes("completedAt")) {
+            response.setCompletedAt(workoutSession.getCompletedAt());
+        }
+        if (selection.includes("actualDurationInMinutes")) {
+            response.setActualDurationInMinutes(workoutSession.getActualDurationInMinutes());
+        }
+        if (selection.includes("sessionNotes")) {
+            response.setSessionNotes(workoutSession.getSessionNotes());
+        }
+        if (selection.includes("createdAt")) {
+            response.setCreatedAt(workoutSession.getCreatedAt());
+        }
+        if (selection.expandsExercises()) {
+            List<WorkoutExerciseResponse> exercises = new ArrayList<>(workoutSession.getWorkoutExercises().size());
+            for (WorkoutExercise workoutExercise : workoutSession.getWorkoutExercises()) {
+                WorkoutExerciseResponse exercise = toWorkoutExerciseResponse(workoutExercise);
+                if (selection.expandsSets()) {
+                    exercise.setSets(toSetResponses(workoutExercise));
+                }
+                exercises.add(exercise);
+            }
+            response.setWorkoutExercises(exercises);
+        }
+        return response;
+    }
+
+    /**
+     * Maps the set collection matching the exercise type; the other two are not touched.
+     */
+    private List<SetResponse> toSetResponses(WorkoutExercise workoutExercise) {
+        return switch (workoutExercise.getExercise().getType()) {
+            case STRENGTH -> toStrengthSetResponses(workoutExercise.getStrengthSets());
+            case CARDIO -> toCardioSetResponses(workoutExercise.getCardioSets());
+            case FLEXIBILITY -> toFlexibilitySetResponses(workoutExercise.getFlexibilitySets());
+        };
+    }
+
+    protected abstract List<SetResponse> toStrengthSetResponses(List<StrengthSet> strengthSets);
+
+    protected abstract List<SetResponse> toCardioSetResponses(List<CardioSet> cardioSets);
+
+    protected abstract List<SetResponse> toFlexibilitySetResponses(List<FlexibilitySet> flexibilitySets);
+
     @Mapping(target = "workoutExerciseId", ignore = true)
     @Mapping(target = "workoutSession", ignore = true)
     @Mapping(target = "exercise", ignore = true)
@@ -65,6 +141,7 @@ public abstract class WorkoutMapper {
     @Mapping(target = "exerciseId", source = "exercise.exerciseId")
     @Mapping(target = "exerciseName", source = "exercise.name")
     @Mapping(target = "exerciseType", source = "exercise.type")
+    @Mapping(target = "sets", ignore = true)
     public abstract WorkoutExerciseResponse toWorkoutExerciseResponse(WorkoutExercise workoutExercise);
 
     public abstract List<WorkoutExerciseResponse> toWorkoutExerciseResponseList(List<WorkoutExercise> workoutExercises);
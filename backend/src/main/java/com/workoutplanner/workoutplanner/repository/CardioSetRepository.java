@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for CardioSet entity with soft delete support.
@@ -20,4 +22,17 @@ public interface CardioSetRepository extends SoftDeleteRepository<CardioSet, Lon
 
     @Query("SELECT c FROM CardioSet c WHERE c.workoutExercise.workoutSession.sessionId = :sessionId AND c.deleted = false")
     List<CardioSet> findBySessionId(@Param("sessionId") Long sessionId);
+
+    /**
+     * Session owning a set, for ownership checks without loading the entity chain. Soft-deleted
+     * sets are included, so their owner gets a 404 from the service rather than a 403.
+     */
+    @Query("SELECT c.workoutExercise.workoutSession.sessionId FROM CardioSet c WHERE c.setId = :setId")
+    Optional<Long> findSessionIdById(@Param("setId") Long setId);
+
+    /**
+     * Sets of several workout exercises in one query, for batch loading.
+     */
+    @Query("SELECT c FROM CardioSet c WHERE c.workoutExercise.workoutExerciseId IN :workoutExerciseIds AND c.deleted = false ORDER BY c.setNumber ASC")
+    List<CardioSet> findByWorkoutExerciseIdIn(@Param("workoutExerciseIds") Collection<Long> workoutExerciseIds);
 }
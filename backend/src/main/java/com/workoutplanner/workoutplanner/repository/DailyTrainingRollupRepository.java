@@ -0,0 +1,210 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Maintains the {@code daily_training_rollups} table.
+ *
+ * A user's day is always rebuilt as a whole from the set tables, so a refresh is idempotent and
+ * also corrects any drift in that day. Refreshes of the same user are serialized with a
+ * transaction-scoped advisory lock; concurrent writers of one user would otherwise race between
+ * the delete and the insert. Every refresh also bumps the user's row in {@code training_data_versions},
+ * which analytics caching and ETags are keyed on.
+ */
+@Repository
+public class DailyTrainingRollupRepository {
+
+    /**
+     * Training day of a session: when it started, falling back to the scheduled date and then creation time.
+     */
+    public static final String TRAINING_DATE =
+            "CAST(COALESCE(ws.started_at, CAST(ws.scheduled_date AS timestamp), ws.created_at) AS date)";
+
+    /**
+     * Keeps the expanded {@code IN} list well below the PostgreSQL bind parameter limit.
+     */
+    private static final int MAX_DATES_PER_STATEMENT = 1000;
+
+    private static final String LOCK_USER =
+            "SELECT pg_advisory_xact_lock(hashtextextended('daily_training_rollups:' || :userId, 0))";
+
+    private static final String DELETE_DAYS =
+            "DELETE FROM daily_training_rollups WHERE user_id = :userId AND training_date IN (:dates)";
+
+    /**
+     * New rows start at the current time, so versions are not reused after the table is recreated.
+     */
+    private static final String BUMP_VERSION = """
+            INSERT INTO training_data_versions (user_id, version) VALUES (:userId, :initialVersion)
+            ON CONFLICT (user_id) DO UPDATE SET version = training_data_versions.version + 1
+            """;
+
+    private static final String DELETE_USER = "DELETE FROM daily_training_rollups WHERE user_id = :userId";
+
+    /**
+     * Aggregates the sets of trained (in progress, paused or completed) sessions. The {@code %s}
+     * placeholder takes an optional training date filter on the sessions.
+     */
+    private static final String INSERT_ROLLUPS = """
+            INSERT INTO daily_training_rollups (user_id, training_date, exercise_id, distance_unit, set_count,
+                                                total_reps, tonnage, max_weight, reps_at_max_weight, best_e1rm,
+                                                total_duration_seconds, total_distance, distance_duration_seconds,
+                                                refreshed_at)
+            WITH trained AS (
+                SELECT we.workout_exercise_id, we.exercise_id, %1$s AS training_date
+                FROM workout_sessions ws
+                JOIN workout_exercises we ON we.session_id = ws.session_id AND we.deleted = false
+                WHERE ws.user_id = :userId
+                  AND ws.deleted = false
+                  AND ws.status IN ('IN_PROGRESS', 'PAUSED', 'COMPLETED')%2$s
+            ), sets AS (
+                SELECT t.training_date, t.exercise_id, '' AS distance_unit, x.reps, x.weight,
+                       CASE WHEN x.reps = 1 THEN x.weight ELSE x.weight * (1 + x.reps / 30.0) END AS e1rm,
+                       CAST(NULL AS integer) AS duration_in_seconds, CAST(NULL AS numeric) AS distance
+                FROM strength_sets x
+                JOIN trained t ON t.workout_exercise_id = x.workout_exercise_id
+                WHERE x.deleted = false
+                UNION ALL
+                SELECT t.training_date, t.exercise_id, COALESCE(x.distance_unit, ''), NULL, NULL, NULL,
+                       x.duration_in_seconds, x.distance
+                FROM cardio_sets x
+                JOIN trained t ON t.workout_exercise_id = x.workout_exercise_id
+                WHERE x.deleted = false
+                UNION ALL
+                SELECT t.training_date, t.exercise_id, '', NULL, NULL, NULL, x.duration_in_seconds, NULL
+                FROM flexibility_sets x
+                JOIN trained t ON t.workout_exercise_id = x.workout_exercise_id
+                WHERE x.deleted = false
+            )
+            SELECT :userId, s.training_date, s.exercise_id, s.distance_unit,
+                   count(*),
+                   COALESCE(sum(s.reps), 0),
+                   COALESCE(sum(s.reps * s.weight), 0),
+                   max(s.weight),
+                   (array_agg(s.reps ORDER BY s.weight DESC, s.reps DESC) FILTER (WHERE s.weight IS NOT NULL))[1],
+                   round(max(s.e1rm), 2),
+                   COALESCE(sum(s.duration_in_seconds), 0),
+                   COALESCE(sum(s.distance), 0),
+                   COALESCE(sum(s.duration_in_seconds) FILTER (WHERE s.distance > 0), 0),
+                   LOCALTIMESTAMP
+            FROM sets s
+            GROUP BY s.training_date, s.exercise_id, s.distance_unit
+            """;
+
+    private static final String REFRESH_DAYS = INSERT_ROLLUPS.formatted(TRAINING_DATE,
+            "\n      AND " + TRAINING_DATE + " IN (:dates)");
+
+    private static final String REBUILD_USER = INSERT_ROLLUPS.formatted(TRAINING_DATE, "");
+
+    private static final String SESSION_DAY = "SELECT ws.user_id, " + TRAINING_DATE + " AS training_date ";
+
+    /**
+     * Days whose sessions, workout exercises or sets were modified since a point in time, every day
+     * trained since a date, and every rolled-up day since that date (catches hard deletes).
+     */
+    private static final String DAYS_TO_RECONCILE =
+            SESSION_DAY + "FROM workout_sessions ws "
+            + "WHERE ws.updated_at >= :modifiedSince OR " + TRAINING_DATE + " >= :trainedSince\n"
+            + "UNION " + SESSION_DAY + "FROM workout_exercises we "
+            + "JOIN workout_sessions ws ON ws.session_id = we.session_id WHERE we.updated_at >= :modifiedSince\n"
+            + "UNION " + setDaysModifiedSince("strength_sets") + "\n"
+            + "UNION " + setDaysModifiedSince("cardio_sets") + "\n"
+            + "UNION " + setDaysModifiedSince("flexibility_sets") + "\n"
+            + "UNION SELECT user_id, training_date FROM daily_training_rollups WHERE training_date >= :trainedSince";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public DailyTrainingRollupRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Rebuilds the given training days of a user. Must run inside a transaction.
+     *
+     * @param userId owner of the training data
+     * @param dates  training days to rebuild
+     * @return number of rollup rows written
+     */
+    public int refreshDays(Long userId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return 0;
+        }
+        lockUser(userId);
+        bumpVersion(userId);
+
+        List<LocalDate> sortedDates = new ArrayList<>(new TreeSet<>(dates));
+        int written = 0;
+        for (int from = 0; from < sortedDates.size(); from += MAX_DATES_PER_STATEMENT) {
+            List<LocalDate> chunk = sortedDates.subList(from, Math.min(from + MAX_DATES_PER_STATEMENT, sortedDates.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("userId", userId)
+                    .addValue("dates", chunk);
+            jdbcTemplate.update(DELETE_DAYS, params);
+            written += jdbcTemplate.update(REFRESH_DAYS, params);
+        }
+        return written;
+    }
+
+    /**
+     * Rebuilds every training day of a user. Must run inside a transaction.
+     *
+     * @param userId owner of the training data
+     * @return number of rollup rows written
+     */
+    public int rebuildUser(Long userId) {
+        lockUser(userId);
+        bumpVersion(userId);
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+        jdbcTemplate.update(DELETE_USER, params);
+        return jdbcTemplate.update(REBUILD_USER, params);
+    }
+
+    /**
+     * Finds the days the reconciliation job should rebuild, grouped by user.
+     *
+     * @param modifiedSince days with base rows modified at or after this time
+     * @param trainedSince  every day trained or rolled up on or after this date
+     * @return training days by user ID
+     */
+    public Map<Long, SortedSet<LocalDate>> findDaysToReconcile(LocalDateTime modifiedSince, LocalDate trainedSince) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("modifiedSince", modifiedSince)
+                .addValue("trainedSince", trainedSince);
+
+        Map<Long, SortedSet<LocalDate>> days = new TreeMap<>();
+        jdbcTemplate.query(DAYS_TO_RECONCILE, params, rs -> {
+            days.computeIfAbsent(rs.getLong("user_id"), id -> new TreeSet<>())
+                    .add(rs.getObject("training_date", LocalDate.class));
+        });
+        return days;
+    }
+
+    private void lockUser(Long userId) {
+        jdbcTemplate.query(LOCK_USER, new MapSqlParameterSource("userId", userId), rs -> { });
+    }
+
+    private void bumpVersion(Long userId) {
+        jdbcTemplate.update(BUMP_VERSION, new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("initialVersion", System.currentTimeMillis()));
+    }
+
+    private static String setDaysModifiedSince(String setTable) {
+        return SESSION_DAY + "FROM " + setTable + " x "
+                + "JOIN workout_exercises we ON we.workout_exercise_id = x.workout_exercise_id "
+                + "JOIN workout_sessions ws ON ws.session_id = we.session_id "
+                + "WHERE x.updated_at >= :modifiedSince";
+    }
+}
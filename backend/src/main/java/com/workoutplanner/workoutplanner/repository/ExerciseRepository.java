@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -39,4 +40,7 @@ public interface ExerciseRepository extends SoftDeleteRepository<Exercise, Long>
     List<Exercise> findByFilters(@Param("type") ExerciseType type,
                                  @Param("targetMuscleGroup") TargetMuscleGroup targetMuscleGroup,
                                  @Param("difficultyLevel") DifficultyLevel difficultyLevel);
+
+    @Query("SELECT e FROM Exercise e WHERE e.exerciseId IN :exerciseIds AND e.deleted = false")
+    List<Exercise> findByExerciseIdIn(@Param("exerciseIds") Collection<Long> exerciseIds);
 }
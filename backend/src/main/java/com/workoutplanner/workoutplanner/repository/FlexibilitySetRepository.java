@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for FlexibilitySet entity with soft delete support.
@@ -20,4 +22,17 @@ public interface FlexibilitySetRepository extends SoftDeleteRepository<Flexibili
 
     @Query("SELECT f FROM FlexibilitySet f WHERE f.workoutExercise.workoutSession.sessionId = :sessionId AND f.deleted = false")
     List<FlexibilitySet> findBySessionId(@Param("sessionId") Long sessionId);
+
+    /**
+     * Session owning a set, for ownership checks without loading the entity chain. Soft-deleted
+     * sets are included, so their owner gets a 404 from the service rather than a 403.
+     */
+    @Query("SELECT f.workoutExercise.workoutSession.sessionId FROM FlexibilitySet f WHERE f.setId = :setId")
+    Optional<Long> findSessionIdById(@Param("setId") Long setId);
+
+    /**
+     * Sets of several workout exercises in one query, for batch loading.
+     */
+    @Query("SELECT f FROM FlexibilitySet f WHERE f.workoutExercise.workoutExerciseId IN :workoutExerciseIds AND f.deleted = false ORDER BY f.setNumber ASC")
+    List<FlexibilitySet> findByWorkoutExerciseIdIn(@Param("workoutExerciseIds") Collection<Long> workoutExerciseIds);
 }
@@ -0,0 +1,151 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes the {@code outbox_events} table.
+ *
+ * Pending events are claimed with {@code FOR UPDATE SKIP LOCKED}, so several dispatchers (threads
+ * or instances) can drain the outbox concurrently without blocking on or double-delivering each
+ * other's rows. Claims last until the claiming transaction ends.
+ */
+@Repository
+public class OutboxEventRepository {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_events (event_type, session_id, user_id, payload, created_at, available_at,
+                                       attempts, failed)
+            VALUES (:eventType, :sessionId, :userId, CAST(:payload AS jsonb), :createdAt, :createdAt, 0, false)
+            """;
+
+    private static final String CLAIM_PENDING = """
+            SELECT outbox_event_id, event_type, payload, created_at, attempts
+            FROM outbox_events
+            WHERE processed_at IS NULL
+              AND available_at <= :now
+            ORDER BY outbox_event_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String MARK_PROCESSED =
+            "UPDATE outbox_events SET processed_at = :now WHERE outbox_event_id IN (:ids)";
+
+    private static final String MARK_RETRY = """
+            UPDATE outbox_events
+            SET attempts = :attempts, available_at = :availableAt, last_error = :error
+            WHERE outbox_event_id = :id
+            """;
+
+    private static final String MARK_FAILED = """
+            UPDATE outbox_events
+            SET attempts = :attempts, processed_at = :now, failed = true, last_error = :error
+            WHERE outbox_event_id = :id
+            """;
+
+    private static final String DELETE_PROCESSED = """
+            DELETE FROM outbox_events
+            WHERE outbox_event_id IN (SELECT outbox_event_id FROM outbox_events
+                                      WHERE processed_at < :before AND failed = false
+                                      LIMIT :limit)
+            """;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxEventRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * An event as written by the producing transaction.
+     */
+    public record NewOutboxEvent(String eventType, Long sessionId, Long userId, String payload, LocalDateTime createdAt) {
+    }
+
+    /**
+     * A claimed event awaiting delivery.
+     */
+    public record PendingOutboxEvent(long id, String eventType, String payload, LocalDateTime createdAt, int attempts) {
+    }
+
+    /**
+     * Appends events in one JDBC batch.
+     */
+    public void append(List<NewOutboxEvent> events) {
+        SqlParameterSource[] batch = events.stream()
+                .map(event -> new MapSqlParameterSource()
+                        .addValue("eventType", event.eventType())
+                        .addValue("sessionId", event.sessionId())
+                        .addValue("userId", event.userId())
+                        .addValue("payload", event.payload())
+                        .addValue("createdAt", event.createdAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    /**
+     * Locks and returns up to {@code limit} due events, oldest first, skipping rows claimed by others.
+     * Must run in a transaction.
+     */
+    public List<PendingOutboxEvent> claimPending(LocalDateTime now, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("limit", limit);
+        return jdbcTemplate.query(CLAIM_PENDING, params, (rs, rowNum) -> new PendingOutboxEvent(
+                rs.getLong("outbox_event_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getInt("attempts")));
+    }
+
+    public void markProcessed(Collection<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(MARK_PROCESSED, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", now));
+    }
+
+    public void markRetry(long id, int attempts, LocalDateTime availableAt, String error) {
+        jdbcTemplate.update(MARK_RETRY, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("attempts", attempts)
+                .addValue("availableAt", availableAt)
+                .addValue("error", truncate(error)));
+    }
+
+    public void markFailed(long id, int attempts, LocalDateTime now, String error) {
+        jdbcTemplate.update(MARK_FAILED, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("attempts", attempts)
+                .addValue("now", now)
+                .addValue("error", truncate(error)));
+    }
+
+    /**
+     * Deletes up to {@code limit} successfully processed events older than {@code before}.
+     * Failed events are kept for inspection.
+     *
+     * @return number of rows deleted
+     */
+    public int deleteProcessedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_PROCESSED, new MapSqlParameterSource()
+                .addValue("before", before)
+                .addValue("limit", limit));
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,56 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Maintains the {@code last_touched_at} column of the {@code rate_limit_buckets} table, whose
+ * bucket state is owned by Bucket4j.
+ *
+ * Both statements use the database clock, the same one that sets {@code last_touched_at} when
+ * Bucket4j inserts a row, so instance clocks and time zones do not matter.
+ */
+@Repository
+public class RateLimitBucketRepository {
+
+    private static final String TOUCH =
+            "UPDATE rate_limit_buckets SET last_touched_at = LOCALTIMESTAMP WHERE id IN (:ids)";
+
+    private static final String DELETE_UNTOUCHED = """
+            DELETE FROM rate_limit_buckets
+            WHERE id IN (SELECT id FROM rate_limit_buckets
+                         WHERE last_touched_at < LOCALTIMESTAMP - make_interval(secs => :retentionSeconds)
+                         LIMIT :limit)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public RateLimitBucketRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Marks the given buckets as used now. Unknown IDs are ignored.
+     */
+    public void touch(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(TOUCH, new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * Deletes up to {@code limit} buckets not used for longer than {@code retention}.
+     *
+     * @return number of rows deleted
+     */
+    public int deleteUntouchedFor(Duration retention, int limit) {
+        return jdbcTemplate.update(DELETE_UNTOUCHED, new MapSqlParameterSource()
+                .addValue("retentionSeconds", retention.toSeconds())
+                .addValue("limit", limit));
+    }
+}
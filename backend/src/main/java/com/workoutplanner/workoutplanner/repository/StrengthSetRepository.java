@@ -6,7 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for StrengthSet entity with soft delete support.
@@ -20,4 +22,17 @@ public interface StrengthSetRepository extends SoftDeleteRepository<StrengthSet,
 
     @Query("SELECT s FROM StrengthSet s WHERE s.workoutExercise.workoutSession.sessionId = :sessionId AND s.deleted = false")
     List<StrengthSet> findBySessionId(@Param("sessionId") Long sessionId);
+
+    /**
+     * Session owning a set, for ownership checks without loading the entity chain. Soft-deleted
+     * sets are included, so their owner gets a 404 from the service rather than a 403.
+     */
+    @Query("SELECT s.workoutExercise.workoutSession.sessionId FROM StrengthSet s WHERE s.setId = :setId")
+    Optional<Long> findSessionIdById(@Param("setId") Long setId);
+
+    /**
+     * Sets of several workout exercises in one query, for batch loading.
+     */
+    @Query("SELECT s FROM StrengthSet s WHERE s.workoutExercise.workoutExerciseId IN :workoutExerciseIds AND s.deleted = false ORDER BY s.setNumber ASC")
+    List<StrengthSet> findByWorkoutExerciseIdIn(@Param("workoutExerciseIds") Collection<Long> workoutExerciseIds);
 }
@@ -0,0 +1,193 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import com.workoutplanner.workoutplanner.dto.response.CardioPaceTrendResponse;
+import com.workoutplanner.workoutplanner.dto.response.OneRepMaxTrendResponse;
+import com.workoutplanner.workoutplanner.dto.response.PersonalRecordResponse;
+import com.workoutplanner.workoutplanner.dto.response.TonnageResponse;
+import com.workoutplanner.workoutplanner.enums.AnalyticsPeriod;
+import com.workoutplanner.workoutplanner.enums.TargetMuscleGroup;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read-only aggregate queries over a user's training history.
+ *
+ * All figures are read from the per-day {@code daily_training_rollups} maintained by
+ * {@link DailyTrainingRollupRepository}, so a query touches one row per trained day and exercise
+ * rather than every set. Aggregation beyond the day uses SQL aggregate and window functions and maps
+ * straight to response DTOs; no entities are loaded.
+ */
+@Repository
+public class TrainingAnalyticsRepository {
+
+    private static final String TONNAGE_BY_MUSCLE_GROUP = """
+            SELECT CAST(date_trunc(:period, CAST(r.training_date AS timestamp)) AS date) AS period_start,
+                   e.target_muscle_group,
+                   sum(r.set_count) AS set_count,
+                   sum(r.total_reps) AS total_reps,
+                   sum(r.tonnage) AS tonnage
+            FROM daily_training_rollups r
+            JOIN exercises e ON e.exercise_id = r.exercise_id
+            WHERE r.user_id = :userId
+              AND e.type = 'STRENGTH'
+              AND r.training_date BETWEEN :from AND :to
+            GROUP BY period_start, e.target_muscle_group
+            ORDER BY period_start, e.target_muscle_group
+            """;
+
+    private static final String PERSONAL_RECORDS = """
+            WITH ranked AS (
+                SELECT r.exercise_id, r.training_date, r.max_weight, r.reps_at_max_weight, r.best_e1rm,
+                       row_number() OVER (PARTITION BY r.exercise_id
+                                          ORDER BY r.max_weight DESC, r.reps_at_max_weight DESC,
+                                                   r.training_date) AS weight_rank,
+                       row_number() OVER (PARTITION BY r.exercise_id
+                                          ORDER BY r.best_e1rm DESC, r.training_date) AS e1rm_rank
+                FROM daily_training_rollups r
+                WHERE r.user_id = :userId AND r.max_weight IS NOT NULL
+            )
+            SELECT r.exercise_id,
+                   e.name,
+                   e.target_muscle_group,
+                   max(r.max_weight) FILTER (WHERE r.weight_rank = 1) AS max_weight,
+                   max(r.reps_at_max_weight) FILTER (WHERE r.weight_rank = 1) AS reps_at_max_weight,
+                   max(r.training_date) FILTER (WHERE r.weight_rank = 1) AS max_weight_date,
+                   max(r.best_e1rm) FILTER (WHERE r.e1rm_rank = 1) AS best_e1rm,
+                   max(r.training_date) FILTER (WHERE r.e1rm_rank = 1) AS best_e1rm_date
+            FROM ranked r
+            JOIN exercises e ON e.exercise_id = r.exercise_id
+            WHERE r.weight_rank = 1 OR r.e1rm_rank = 1
+            GROUP BY r.exercise_id, e.name, e.target_muscle_group
+            ORDER BY e.name
+            """;
+
+    private static final String ONE_REP_MAX_TREND = """
+            WITH daily AS (
+                SELECT r.training_date,
+                       max(r.best_e1rm) AS e1rm,
+                       max(max(r.best_e1rm)) OVER (ORDER BY r.training_date
+                                                   ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) AS best_to_date
+                FROM daily_training_rollups r
+                WHERE r.user_id = :userId
+                  AND r.exercise_id = :exerciseId
+                  AND r.best_e1rm IS NOT NULL
+                  AND r.training_date <= :to
+                GROUP BY r.training_date
+            )
+            SELECT training_date, e1rm, best_to_date
+            FROM daily
+            WHERE training_date >= :from
+            ORDER BY training_date
+            """;
+
+    private static final String CARDIO_PACE_TREND = """
+            WITH daily AS (
+                SELECT r.training_date,
+                       r.distance_unit,
+                       sum(r.total_distance) AS total_distance,
+                       sum(r.distance_duration_seconds) AS total_duration,
+                       sum(sum(r.distance_duration_seconds)) OVER w AS rolling_duration,
+                       sum(sum(r.total_distance)) OVER w AS rolling_distance
+                FROM daily_training_rollups r
+                WHERE r.user_id = :userId
+                  AND r.total_distance > 0
+                  AND (CAST(:exerciseId AS bigint) IS NULL OR r.exercise_id = :exerciseId)
+                  AND r.training_date <= :to
+                GROUP BY r.training_date, r.distance_unit
+                WINDOW w AS (PARTITION BY r.distance_unit ORDER BY r.training_date
+                             ROWS BETWEEN 6 PRECEDING AND CURRENT ROW)
+            )
+            SELECT training_date,
+                   distance_unit,
+                   total_distance,
+                   total_duration,
+                   round(total_duration / total_distance, 2) AS pace,
+                   round(rolling_duration / rolling_distance, 2) AS rolling_pace
+            FROM daily
+            WHERE training_date >= :from
+            ORDER BY training_date, distance_unit
+            """;
+
+    private static final String DATA_VERSION = "SELECT version FROM training_data_versions WHERE user_id = :userId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public TrainingAnalyticsRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Current version of a user's rollups, bumped by every refresh; 0 before the first one.
+     */
+    public long findDataVersion(Long userId) {
+        List<Long> versions = jdbcTemplate.queryForList(DATA_VERSION,
+                new MapSqlParameterSource("userId", userId), Long.class);
+        return versions.isEmpty() ? 0 : versions.get(0);
+    }
+
+    public List<TonnageResponse> findTonnageByMuscleGroup(Long userId, AnalyticsPeriod period,
+                                                          LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("period", period.name().toLowerCase())
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return jdbcTemplate.query(TONNAGE_BY_MUSCLE_GROUP, params, (rs, rowNum) -> new TonnageResponse(
+                rs.getObject("period_start", LocalDate.class),
+                TargetMuscleGroup.valueOf(rs.getString("target_muscle_group")),
+                rs.getLong("set_count"),
+                rs.getLong("total_reps"),
+                rs.getBigDecimal("tonnage")));
+    }
+
+    public List<PersonalRecordResponse> findPersonalRecords(Long userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+
+        return jdbcTemplate.query(PERSONAL_RECORDS, params, (rs, rowNum) -> new PersonalRecordResponse(
+                rs.getLong("exercise_id"),
+                rs.getString("name"),
+                TargetMuscleGroup.valueOf(rs.getString("target_muscle_group")),
+                rs.getBigDecimal("max_weight"),
+                rs.getObject("reps_at_max_weight", Integer.class),
+                rs.getObject("max_weight_date", LocalDate.class),
+                rs.getBigDecimal("best_e1rm"),
+                rs.getObject("best_e1rm_date", LocalDate.class)));
+    }
+
+    public List<OneRepMaxTrendResponse> findOneRepMaxTrend(Long userId, Long exerciseId,
+                                                           LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("exerciseId", exerciseId)
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return jdbcTemplate.query(ONE_REP_MAX_TREND, params, (rs, rowNum) -> new OneRepMaxTrendResponse(
+                rs.getObject("training_date", LocalDate.class),
+                rs.getBigDecimal("e1rm"),
+                rs.getBigDecimal("best_to_date")));
+    }
+
+    public List<CardioPaceTrendResponse> findCardioPaceTrend(Long userId, Long exerciseId,
+                                                             LocalDate from, LocalDate to) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("exerciseId", exerciseId, Types.BIGINT)
+                .addValue("from", from)
+                .addValue("to", to);
+
+        return jdbcTemplate.query(CARDIO_PACE_TREND, params, (rs, rowNum) -> new CardioPaceTrendResponse(
+                rs.getObject("training_date", LocalDate.class),
+                rs.getString("distance_unit").isEmpty() ? null : rs.getString("distance_unit"),
+                rs.getBigDecimal("total_distance"),
+                rs.getLong("total_duration"),
+                rs.getBigDecimal("pace"),
+                rs.getBigDecimal("rolling_pace")));
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,4 +29,7 @@ public interface UserRepository extends SoftDeleteRepository<User, Long> {
 
     @Query("SELECT u FROM User u WHERE u.auth0UserId = :auth0UserId AND u.deleted = false")
     Optional<User> findByAuth0UserId(@Param("auth0UserId") String auth0UserId);
+
+    @Query("SELECT u FROM User u WHERE u.userId IN :userIds AND u.deleted = false")
+    List<User> findByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
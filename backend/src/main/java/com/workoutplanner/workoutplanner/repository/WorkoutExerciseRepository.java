@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +36,18 @@ public interface WorkoutExerciseRepository extends SoftDeleteRepository<WorkoutE
     @EntityGraph(attributePaths = {"exercise", "flexibilitySets"})
     @Query("SELECT we FROM WorkoutExercise we WHERE we.workoutSession.sessionId = :sessionId AND we.exercise.type = :type AND we.deleted = false ORDER BY we.orderInWorkout ASC")
     List<WorkoutExercise> findFlexibilityExercisesWithSets(@Param("sessionId") Long sessionId, @Param("type") ExerciseType type);
+
+    /**
+     * Session owning a workout exercise, for ownership checks without loading the entity.
+     * Soft-deleted exercises are included, so their owner gets a 404 from the service rather than a 403.
+     */
+    @Query("SELECT we.workoutSession.sessionId FROM WorkoutExercise we WHERE we.workoutExerciseId = :workoutExerciseId")
+    Optional<Long> findSessionIdById(@Param("workoutExerciseId") Long workoutExerciseId);
+
+    /**
+     * Exercises of several workouts in one query, for batch loading.
+     */
+    @EntityGraph(attributePaths = "exercise")
+    @Query("SELECT we FROM WorkoutExercise we WHERE we.workoutSession.sessionId IN :sessionIds AND we.deleted = false ORDER BY we.orderInWorkout ASC")
+    List<WorkoutExercise> findBySessionIdIn(@Param("sessionIds") Collection<Long> sessionIds);
 }
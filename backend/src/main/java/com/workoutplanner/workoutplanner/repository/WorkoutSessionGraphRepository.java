@@ -0,0 +1,34 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WorkoutSession lookups whose fetched associations are chosen at runtime rather than fixed by an
+ * {@code @EntityGraph} annotation. Implemented by {@link WorkoutSessionGraphRepositoryImpl}.
+ */
+public interface WorkoutSessionGraphRepository {
+
+    /**
+     * Loads a workout session with exactly the given associations; all others stay lazy and are
+     * not queried unless accessed.
+     *
+     * @param sessionId the session ID
+     * @param attributePaths dotted association paths, e.g. {@code user} or {@code workoutExercises.exercise}
+     */
+    Optional<WorkoutSession> findBySessionId(Long sessionId, Collection<String> attributePaths);
+
+    /**
+     * Loads one page of the workout sessions of a user, most recently started first, with exactly
+     * the given associations. Only to-one associations may be given, since the page is cut in SQL.
+     *
+     * @param userId the user ID
+     * @param attributePaths dotted association paths, as for {@link #findBySessionId}
+     * @param pageable page number and size; its sort is ignored
+     */
+    List<WorkoutSession> findByUserId(Long userId, Collection<String> attributePaths, Pageable pageable);
+}
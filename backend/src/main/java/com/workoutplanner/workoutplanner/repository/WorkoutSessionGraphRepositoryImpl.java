@@ -0,0 +1,68 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Subgraph;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds a fetch graph per call, so the SELECT only joins the associations of the request.
+ */
+class WorkoutSessionGraphRepositoryImpl implements WorkoutSessionGraphRepository {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<WorkoutSession> findBySessionId(Long sessionId, Collection<String> attributePaths) {
+        return entityManager.createQuery(
+                        "SELECT w FROM WorkoutSession w WHERE w.sessionId = :sessionId AND w.deleted = false",
+                        WorkoutSession.class)
+                .setParameter("sessionId", sessionId)
+                .setHint(FETCH_GRAPH_HINT, graph(attributePaths))
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<WorkoutSession> findByUserId(Long userId, Collection<String> attributePaths, Pageable pageable) {
+        return entityManager.createQuery(
+                        "SELECT w FROM WorkoutSession w WHERE w.user.userId = :userId AND w.deleted = false "
+                                + "ORDER BY w.startedAt DESC, w.sessionId DESC",
+                        WorkoutSession.class)
+                .setParameter("userId", userId)
+                .setHint(FETCH_GRAPH_HINT, graph(attributePaths))
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    private EntityGraph<WorkoutSession> graph(Collection<String> attributePaths) {
+        EntityGraph<WorkoutSession> graph = entityManager.createEntityGraph(WorkoutSession.class);
+        for (String path : attributePaths) {
+            addPath(graph, path);
+        }
+        return graph;
+    }
+
+    private static void addPath(EntityGraph<WorkoutSession> graph, String path) {
+        String[] attributes = path.split("\\.");
+        if (attributes.length == 1) {
+            graph.addAttributeNodes(attributes[0]);
+            return;
+        }
+        Subgraph<Object> subgraph = graph.addSubgraph(attributes[0]);
+        for (int i = 1; i < attributes.length - 1; i++) {
+            subgraph = subgraph.addSubgraph(attributes[i]);
+        }
+        subgraph.addAttributeNodes(attributes[attributes.length - 1]);
+    }
+}
@@ -14,7 +14,7 @@ import java.util.Optional;
  * Repository for WorkoutSession entity with soft delete support.
  */
 @Repository
-public interface WorkoutSessionRepository extends SoftDeleteRepository<WorkoutSession, Long> {
+public interface WorkoutSessionRepository extends SoftDeleteRepository<WorkoutSession, Long>, WorkoutSessionGraphRepository {
 
     @Query("SELECT w FROM WorkoutSession w WHERE w.user.userId = :userId AND w.status = :status AND w.deleted = false")
     List<WorkoutSession> findByUserIdAndStatus(@Param("userId") Long userId, @Param("status") WorkoutStatus status);
@@ -23,10 +23,13 @@ public interface WorkoutSessionRepository extends SoftDeleteRepository<WorkoutSe
     @Query("SELECT w FROM WorkoutSession w WHERE w.user.userId = :userId AND w.deleted = false ORDER BY w.startedAt DESC")
     List<WorkoutSession> findByUserIdOrderByStartedAtDesc(@Param("userId") Long userId);
 
-    @EntityGraph(attributePaths = {"user", "workoutExercises", "workoutExercises.exercise"})
-    @Query("SELECT w FROM WorkoutSession w WHERE w.sessionId = :sessionId AND w.deleted = false")
-    Optional<WorkoutSession> findWithUserBySessionId(@Param("sessionId") Long sessionId);
-
     @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END FROM WorkoutSession w WHERE w.user.userId = :userId AND w.deleted = false")
     boolean existsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Owner of a workout session, for ownership checks without loading the entity. Soft-deleted
+     * sessions are included, so their owner gets a 404 from the service rather than a 403.
+     */
+    @Query("SELECT w.user.userId FROM WorkoutSession w WHERE w.sessionId = :sessionId")
+    Optional<Long> findUserIdBySessionId(@Param("sessionId") Long sessionId);
 }
@@ -78,7 +78,7 @@ public class Auth0JwtAuthenticationConverter implements Converter<Jwt, AbstractA
             permissions.stream()
                 .filter(String.class::isInstance)
                 .map(String.class::cast)
-                .map(SimpleGrantedAuthority::new)
+                .map(Auth0JwtAuthenticationConverter::toGrantedAuthority)
                 .forEach(authorities::add);
 
             logger.debug("Extracted permissions: {}", authorities);
@@ -97,4 +97,12 @@ public class Auth0JwtAuthenticationConverter implements Converter<Jwt, AbstractA
 
         return authorities;
     }
+
+    /**
+     * Known permissions map to shared authority instances; anything else gets its own.
+     */
+    private static GrantedAuthority toGrantedAuthority(String authority) {
+        Permission permission = Permission.fromAuthority(authority);
+        return permission != null ? permission.getGrantedAuthority() : new SimpleGrantedAuthority(authority);
+    }
 }
@@ -1,12 +1,17 @@
 package com.workoutplanner.workoutplanner.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.workoutplanner.workoutplanner.security.exception.EmailNotVerifiedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
@@ -18,6 +23,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
 
 /**
  * Filter that synchronizes Auth0 users with local database.
@@ -46,6 +53,16 @@ import java.io.IOException;
  * - Runs after authentication is complete
  * - Can properly handle errors and send HTTP responses
  * - Follows separation of concerns
+ *
+ * Synced principals are cached by the SHA-256 hash of the access token: a client sends the same
+ * token for its whole lifetime, and everything derived from it (verified email, synced principal)
+ * is fixed by its claims. A repeated token therefore skips re-verifying the email and opening a
+ * transaction; each request still gets its own {@link Auth0AuthenticationToken}, since
+ * authentication tokens are mutable. Entries live at most
+ * {@code app.security.principal-cache.max-ttl}, matching the {@code auth0Users} cache, and never
+ * outlive the token because the JWT decoder rejects it first.
+ *
+ * Metrics: the Caffeine cache metrics of cache {@code auth0Authentications}.
  */
 @Component
 @Profile("!test & !dev")  // Only active in production (Auth0 mode)
@@ -54,10 +71,27 @@ public class Auth0UserSyncFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(Auth0UserSyncFilter.class);
 
+    /**
+     * Auth0 connection prefixes (the part of the user ID before '|') of social login providers.
+     */
+    private static final Set<String> SOCIAL_LOGIN_PROVIDERS = Set.of(
+        "google-oauth2", "github", "facebook", "apple", "linkedin", "microsoft", "twitter");
+
     private final Auth0UserSyncService userSyncService;
+    private final Cache<String, Auth0Principal> principals;
 
-    public Auth0UserSyncFilter(Auth0UserSyncService userSyncService) {
+    public Auth0UserSyncFilter(
+            Auth0UserSyncService userSyncService,
+            @Value("${app.security.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${app.security.principal-cache.max-ttl:5m}") Duration maxTtl,
+            MeterRegistry meterRegistry) {
         this.userSyncService = userSyncService;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(maxTtl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "auth0Authentications");
     }
 
     @Override
@@ -70,8 +104,17 @@ public class Auth0UserSyncFilter extends OncePerRequestFilter {
 
         // Only process JWT authenticated requests
         if (authentication instanceof JwtAuthenticationToken jwtAuth && authentication.isAuthenticated()) {
+            Jwt jwt = jwtAuth.getToken();
+            String tokenHash = CachingJwtDecoder.hash(jwt.getTokenValue());
+            Auth0Principal cached = principals.getIfPresent(tokenHash);
+            if (cached != null) {
+                SecurityContextHolder.getContext().setAuthentication(
+                    new Auth0AuthenticationToken(cached, jwt, jwtAuth.getAuthorities()));
+                filterChain.doFilter(request, response);
+                return;
+            }
+
             try {
-                Jwt jwt = jwtAuth.getToken();
                 String auth0UserId = jwt.getSubject();
 
                 log.debug("Syncing user for request: {}", auth0UserId);
@@ -89,6 +132,7 @@ public class Auth0UserSyncFilter extends OncePerRequestFilter {
                     jwtAuth.getAuthorities()
                 );
 
+                principals.put(tokenHash, principal);
                 SecurityContextHolder.getContext().setAuthentication(auth0Token);
 
                 log.debug("User synced successfully: userId={}, email={}",
@@ -136,15 +180,10 @@ public class Auth0UserSyncFilter extends OncePerRequestFilter {
      * Checks if the Auth0 user ID indicates a social login provider.
      * Social providers verify emails as part of their authentication process.
      */
-    private boolean isSocialLoginProvider(String auth0UserId) {
+    static boolean isSocialLoginProvider(String auth0UserId) {
         if (auth0UserId == null) return false;
-        return auth0UserId.startsWith("google-oauth2|") ||
-               auth0UserId.startsWith("github|") ||
-               auth0UserId.startsWith("facebook|") ||
-               auth0UserId.startsWith("apple|") ||
-               auth0UserId.startsWith("linkedin|") ||
-               auth0UserId.startsWith("microsoft|") ||
-               auth0UserId.startsWith("twitter|");
+        int separator = auth0UserId.indexOf('|');
+        return separator > 0 && SOCIAL_LOGIN_PROVIDERS.contains(auth0UserId.substring(0, separator));
     }
 
     @Override
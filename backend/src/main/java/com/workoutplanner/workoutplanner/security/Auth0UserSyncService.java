@@ -4,6 +4,7 @@ import com.workoutplanner.workoutplanner.entity.User;
 import com.workoutplanner.workoutplanner.enums.UserRole;
 import com.workoutplanner.workoutplanner.repository.UserRepository;
 import com.workoutplanner.workoutplanner.security.exception.Auth0AuthenticationException;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,20 +19,28 @@ import java.util.Optional;
 /**
  * Service for synchronizing Auth0 users with local database.
  * Returns DTO (Auth0Principal) not JPA entity. Cache key is Auth0 user ID.
+ *
+ * New users are created immediately. Profile changes of existing users are reflected in the
+ * returned principal at once but written by {@link UserProfileWriteBehind}, so a cache miss never
+ * writes the users row.
  */
 @Service
 @Profile("!test & !dev")  // Only active in production (Auth0 mode)
+@Instrumented(Instrumented.AUTH_SYNC)
 public class Auth0UserSyncService {
 
     private static final Logger logger = LoggerFactory.getLogger(Auth0UserSyncService.class);
 
     private final UserRepository userRepository;
+    private final UserProfileWriteBehind profileWriteBehind;
     private final String audience;
 
     public Auth0UserSyncService(
             UserRepository userRepository,
+            UserProfileWriteBehind profileWriteBehind,
             @Value("${auth0.audience}") String audience) {
         this.userRepository = userRepository;
+        this.profileWriteBehind = profileWriteBehind;
         this.audience = audience;
     }
 
@@ -42,15 +51,28 @@ public class Auth0UserSyncService {
         logger.debug("Cache miss - syncing user from DB: {}", auth0UserId);
 
         Optional<User> existingUser = userRepository.findByAuth0UserId(auth0UserId);
+        if (existingUser.isEmpty()) {
+            return toAuth0Principal(createUser(jwt));
+        }
 
-        User user;
-        if (existingUser.isPresent()) {
-            user = updateUserIfNeeded(existingUser.get(), jwt);
-        } else {
-            user = createUser(jwt);
+        User user = existingUser.get();
+        ProfileClaims claims = extractProfileClaims(jwt);
+        if (claims.matches(user)) {
+            profileWriteBehind.cancel(user.getUserId());
+            return toAuth0Principal(user);
         }
 
-        return toAuth0Principal(user);
+        logger.debug("Profile claims changed for user {}, scheduling write-back", auth0UserId);
+        profileWriteBehind.schedule(user.getUserId(), claims);
+        return new Auth0Principal(
+            user.getUserId(),
+            user.getAuth0UserId(),
+            claims.email(),
+            user.getUsername(),
+            claims.firstName() != null ? claims.firstName() : user.getFirstName(),
+            claims.lastName() != null ? claims.lastName() : user.getLastName(),
+            claims.role()
+        );
     }
 
     private Auth0Principal toAuth0Principal(User user) {
@@ -82,42 +104,13 @@ public class Auth0UserSyncService {
         return savedUser;
     }
 
-    private User updateUserIfNeeded(User user, Jwt jwt) {
-        boolean updated = false;
-
-        String newEmail = extractEmail(jwt);
-        if (!user.getEmail().equals(newEmail)) {
-            logger.info("Updating email for user {}: {} -> {}",
-                user.getAuth0UserId(), user.getEmail(), newEmail);
-            user.setEmail(newEmail);
-            updated = true;
-        }
-
-        String newFirstName = extractFirstName(jwt);
-        if (newFirstName != null && !newFirstName.equals(user.getFirstName())) {
-            user.setFirstName(newFirstName);
-            updated = true;
-        }
-
-        String newLastName = extractLastName(jwt);
-        if (newLastName != null && !newLastName.equals(user.getLastName())) {
-            user.setLastName(newLastName);
-            updated = true;
-        }
-
-        UserRole newRole = extractRole(jwt);
-        if (user.getRole() != newRole) {
-            logger.info("Updating role for user {}: {} -> {}",
-                user.getAuth0UserId(), user.getRole(), newRole);
-            user.setRole(newRole);
-            updated = true;
-        }
-
-        if (updated) {
-            user = userRepository.save(user);
-        }
-
-        return user;
+    private ProfileClaims extractProfileClaims(Jwt jwt) {
+        return new ProfileClaims(
+            extractEmail(jwt),
+            extractFirstName(jwt),
+            extractLastName(jwt),
+            extractRole(jwt)
+        );
     }
 
     private String extractEmail(Jwt jwt) {
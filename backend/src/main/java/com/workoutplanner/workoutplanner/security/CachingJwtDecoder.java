@@ -0,0 +1,127 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JwtDecoder} that remembers successfully verified tokens.
+ *
+ * Clients reuse the same access token for its whole lifetime (an hour for Auth0), so most
+ * requests carry a token that has already been verified. Those are served from a bounded
+ * in-memory cache keyed by the token's SHA-256 hash, skipping signature verification, claim
+ * parsing and validation. An entry expires at the token's {@code exp}, or after {@code maxTtl}
+ * if that is sooner, so a cached token is never accepted past its expiry. Rejected tokens are
+ * not cached.
+ *
+ * Metrics: {@code security.jwt.decode} (by {@code cache} = hit/miss) and the Caffeine cache
+ * metrics of cache {@code jwtDecoder}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Clock clock;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, maxTtl, meterRegistry, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry,
+                      Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maxTtl, clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtDecoder");
+        this.hitTimer = Timer.builder("security.jwt.decode").tag("cache", "hit").register(meterRegistry);
+        this.missTimer = Timer.builder("security.jwt.decode").tag("cache", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        long start = System.nanoTime();
+        String key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null && isUnexpired(cached)) {
+            hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return jwt;
+    }
+
+    /**
+     * Drops all cached tokens, e.g. after a signing key has been revoked.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private boolean isUnexpired(Jwt jwt) {
+        return jwt.getExpiresAt().isAfter(clock.instant());
+    }
+
+    /**
+     * @return the hex SHA-256 hash of the token, used as cache key so raw tokens are never held
+     */
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires each entry at its token's {@code exp}, capped at {@code maxTtl} after caching.
+     */
+    private record TokenExpiry(Duration maxTtl, Clock clock) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration untilExpiry = Duration.between(clock.instant(), jwt.getExpiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return Math.min(untilExpiry.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.workoutplanner.workoutplanner.security;
+
+/**
+ * Resources whose access is decided by ownership of the workout session they belong to.
+ *
+ * @see RequiresWorkoutOwnership
+ */
+public enum OwnedResource {
+
+    WORKOUT,
+    WORKOUT_EXERCISE,
+    /** A set of any type (strength, cardio or flexibility). */
+    SET,
+    STRENGTH_SET,
+    CARDIO_SET,
+    FLEXIBILITY_SET
+}
@@ -0,0 +1,63 @@
+package com.workoutplanner.workoutplanner.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The Auth0 API permissions (OAuth2 scopes) this application checks.
+ *
+ * Each permission owns one bit of a {@link PermissionSet} and a shared {@link GrantedAuthority}
+ * instance, so the JWT converter does not allocate an authority per permission per request.
+ */
+public enum Permission {
+
+    READ_WORKOUTS("read:workouts"),
+    WRITE_WORKOUTS("write:workouts"),
+    DELETE_WORKOUTS("delete:workouts"),
+    READ_EXERCISES("read:exercises"),
+    WRITE_EXERCISES("write:exercises"),
+    DELETE_EXERCISES("delete:exercises"),
+    READ_USERS("read:users"),
+    WRITE_USERS("write:users"),
+    DELETE_USERS("delete:users");
+
+    private static final Map<String, Permission> BY_AUTHORITY = new HashMap<>();
+
+    static {
+        for (Permission permission : values()) {
+            BY_AUTHORITY.put(permission.authority, permission);
+        }
+    }
+
+    private final String authority;
+    private final GrantedAuthority grantedAuthority;
+    private final int mask;
+
+    Permission(String authority) {
+        this.authority = authority;
+        this.grantedAuthority = new SimpleGrantedAuthority(authority);
+        this.mask = 1 << ordinal();
+    }
+
+    public String getAuthority() {
+        return authority;
+    }
+
+    public GrantedAuthority getGrantedAuthority() {
+        return grantedAuthority;
+    }
+
+    int mask() {
+        return mask;
+    }
+
+    /**
+     * @return the permission with this authority string, or null if it is not one of ours
+     */
+    public static Permission fromAuthority(String authority) {
+        return authority != null ? BY_AUTHORITY.get(authority) : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.workoutplanner.workoutplanner.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+import java.util.function.Supplier;
+
+/**
+ * Method security expression handler whose root object is a {@link PermissionSecurityExpressionRoot}.
+ */
+public class PermissionMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    @Override
+    public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication, MethodInvocation mi) {
+        EvaluationContext context = super.createEvaluationContext(authentication, mi);
+        if (context instanceof StandardEvaluationContext standardContext
+                && standardContext.getRootObject().getValue() instanceof MethodSecurityExpressionOperations root) {
+            standardContext.setRootObject(new PermissionSecurityExpressionRoot(root));
+        }
+        return context;
+    }
+}
@@ -0,0 +1,83 @@
+package com.workoutplanner.workoutplanner.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * Immutable set of {@link Permission}s packed into an int, with O(1) membership checks.
+ *
+ * Built once per request from the authentication's authorities; authorities that are not a
+ * known permission (e.g. roles) are not represented.
+ */
+public final class PermissionSet {
+
+    public static final PermissionSet EMPTY = new PermissionSet(0);
+
+    private final int bits;
+
+    private PermissionSet(int bits) {
+        this.bits = bits;
+    }
+
+    public static PermissionSet of(Permission... permissions) {
+        int bits = 0;
+        for (Permission permission : permissions) {
+            bits |= permission.mask();
+        }
+        return new PermissionSet(bits);
+    }
+
+    public static PermissionSet fromAuthorities(Collection<? extends GrantedAuthority> authorities) {
+        int bits = 0;
+        for (GrantedAuthority authority : authorities) {
+            Permission permission = Permission.fromAuthority(authority.getAuthority());
+            if (permission != null) {
+                bits |= permission.mask();
+            }
+        }
+        return bits == 0 ? EMPTY : new PermissionSet(bits);
+    }
+
+    public boolean contains(Permission permission) {
+        return (bits & permission.mask()) != 0;
+    }
+
+    public boolean containsAny(Permission... permissions) {
+        for (Permission permission : permissions) {
+            if (contains(permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean containsAll(PermissionSet permissions) {
+        return (bits & permissions.bits) == permissions.bits;
+    }
+
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof PermissionSet that && bits == that.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return bits;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (Permission permission : Permission.values()) {
+            if (contains(permission)) {
+                builder.append(builder.length() > 1 ? ", " : "").append(permission.getAuthority());
+            }
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.enums.UserRole;
+
+/**
+ * The profile fields of a user that Auth0 owns, as extracted from one token.
+ *
+ * Compared by value: two sightings with equal claims are one pending change, which is what lets
+ * {@link UserProfileWriteBehind} coalesce them.
+ */
+record ProfileClaims(String email, String firstName, String lastName, UserRole role) {
+
+    /**
+     * @return true if writing these claims would not change the user
+     */
+    boolean matches(User user) {
+        return email.equals(user.getEmail())
+                && (firstName == null || firstName.equals(user.getFirstName()))
+                && (lastName == null || lastName.equals(user.getLastName()))
+                && role == user.getRole();
+    }
+
+    void applyTo(User user) {
+        user.setEmail(email);
+        if (firstName != null) {
+            user.setFirstName(firstName);
+        }
+        if (lastName != null) {
+            user.setLastName(lastName);
+        }
+        user.setRole(role);
+    }
+}
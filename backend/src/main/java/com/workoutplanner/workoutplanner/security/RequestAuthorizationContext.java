@@ -0,0 +1,86 @@
+package com.workoutplanner.workoutplanner.security;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Ownership lookups and decisions made during the current HTTP request.
+ *
+ * Stored as a request attribute, so controller and service checks of one request share it and a
+ * repeated check of the same resource costs no database round trip. Keys are (resource type, id);
+ * a request has a single authenticated user, so decisions need no user in the key. Outside of a
+ * request (scheduled jobs, tests) there is no context and every check is evaluated.
+ *
+ * Not thread-safe: a request's authorization checks run on its request thread. Lookups may nest
+ * (a set check resolves its workout check), so entries are added only after they are computed.
+ */
+public final class RequestAuthorizationContext {
+
+    private static final String ATTRIBUTE = RequestAuthorizationContext.class.getName();
+
+    private final Map<Key, Optional<Long>> resolvedIds = new HashMap<>();
+    private final Map<Key, Boolean> decisions = new HashMap<>();
+
+    /**
+     * @return the context of the current request, or null outside of a request
+     */
+    public static RequestAuthorizationContext current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        RequestAuthorizationContext context = (RequestAuthorizationContext)
+                attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (context == null) {
+            context = new RequestAuthorizationContext();
+            attributes.setAttribute(ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    /**
+     * Evaluates an ownership check once per request.
+     */
+    public static boolean decide(OwnedResource resource, Long id, Predicate<Long> check) {
+        RequestAuthorizationContext context = current();
+        if (context == null) {
+            return check.test(id);
+        }
+        Key key = new Key(resource, id);
+        Boolean decision = context.decisions.get(key);
+        if (decision == null) {
+            decision = check.test(id);
+            context.decisions.put(key, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * Resolves the id a resource's ownership hangs off once per request: the owning user of a
+     * workout, or the owning workout of anything below it.
+     *
+     * @param lookup loads the id, empty if the resource does not exist
+     */
+    public static Optional<Long> resolve(OwnedResource resource, Long id, Function<Long, Optional<Long>> lookup) {
+        RequestAuthorizationContext context = current();
+        if (context == null) {
+            return lookup.apply(id);
+        }
+        Key key = new Key(resource, id);
+        Optional<Long> resolved = context.resolvedIds.get(key);
+        if (resolved == null) {
+            resolved = lookup.apply(id);
+            context.resolvedIds.put(key, resolved);
+        }
+        return resolved;
+    }
+
+    private record Key(OwnedResource resource, Long id) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.workoutplanner.workoutplanner.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a method to the owner of the workout session behind one of its arguments (or an admin).
+ *
+ * Typed replacement for {@code @PreAuthorize("hasAuthority(...) and @resourceSecurityService.canAccess*(#id)")}:
+ * <pre>
+ * {@code
+ * @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.SET, permissions = Permission.WRITE_WORKOUTS)
+ * public ResponseEntity<SetResponse> updateSet(@PathVariable Long setId, ...)
+ * }
+ * </pre>
+ * Enforced by {@link WorkoutOwnershipAuthorizationManager}, which resolves the annotation once per
+ * method and evaluates the same ownership check at most once per request.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresWorkoutOwnership {
+
+    /**
+     * Name of the {@code Long} parameter holding the resource id.
+     */
+    String value();
+
+    /**
+     * Type of resource the id refers to.
+     */
+    OwnedResource resource() default OwnedResource.WORKOUT;
+
+    /**
+     * Permissions the caller needs in addition to ownership, all of them.
+     */
+    Permission[] permissions() default {};
+}
@@ -1,6 +1,7 @@
 package com.workoutplanner.workoutplanner.security;
 
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Optional;
@@ -37,4 +38,27 @@ public final class SecurityContextHelper {
 
         return Optional.empty();
     }
+
+    /**
+     * Checks a permission of the current user. O(1) for Auth0 tokens, which carry a precomputed
+     * {@link PermissionSet}; other authentications fall back to scanning their authorities.
+     */
+    public static boolean hasPermission(Permission permission) {
+        return hasPermission(SecurityContextHolder.getContext().getAuthentication(), permission);
+    }
+
+    public static boolean hasPermission(Authentication authentication, Permission permission) {
+        if (authentication instanceof Auth0AuthenticationToken auth0Token) {
+            return auth0Token.hasPermission(permission);
+        }
+        if (authentication == null) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (permission.getAuthority().equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -1,10 +1,9 @@
 package com.workoutplanner.workoutplanner.security;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.workoutplanner.workoutplanner.security.audit.SecurityAuditEvent;
+import com.workoutplanner.workoutplanner.security.audit.SecurityAuditPipeline;
+import com.workoutplanner.workoutplanner.security.audit.SecurityEventType;
 import org.slf4j.MDC;
-import org.slf4j.Marker;
-import org.slf4j.MarkerFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -18,7 +17,10 @@ import org.springframework.stereotype.Component;
  * All log entries include:
  * - Event type for easy filtering
  * - Correlation ID from MDC for request tracing
- * - Structured key=value format for parsing
+ * - Structured JSON format for parsing
+ *
+ * Events are handed to the {@link SecurityAuditPipeline}, which de-duplicates repeats and writes
+ * them in batches from a background thread, so logging never blocks the request thread.
  *
  * @see <a href="https://owasp.org/www-project-proactive-controls/v3/en/c9-security-logging">OWASP Security Logging</a>
  * @see <a href="https://cheatsheetseries.owasp.org/cheatsheets/Logging_Cheat_Sheet.html">OWASP Logging Cheat Sheet</a>
@@ -26,16 +28,11 @@ import org.springframework.stereotype.Component;
 @Component
 public class SecurityEventLogger {
 
-    /**
-     * Dedicated logger for security audit events.
-     * Configured in logback-spring.xml to write to a separate file.
-     */
-    private static final Logger securityLog = LoggerFactory.getLogger("SECURITY_AUDIT");
+    private final SecurityAuditPipeline auditPipeline;
 
-    /**
-     * Marker for filtering security events in log aggregation systems.
-     */
-    private static final Marker SECURITY_MARKER = MarkerFactory.getMarker("SECURITY");
+    public SecurityEventLogger(SecurityAuditPipeline auditPipeline) {
+        this.auditPipeline = auditPipeline;
+    }
 
     /**
      * Log successful authentication event.
@@ -45,9 +42,11 @@ public class SecurityEventLogger {
      * @param ipAddress   Client IP address
      */
     public void logAuthenticationSuccess(Long userId, String auth0UserId, String ipAddress) {
-        securityLog.info(SECURITY_MARKER,
-            "event=AUTHENTICATION_SUCCESS userId={} auth0UserId={} ip={} correlationId={}",
-            userId, auth0UserId, ipAddress, getCorrelationId());
+        publish(SecurityAuditEvent.builder()
+            .event(SecurityEventType.AUTHENTICATION_SUCCESS)
+            .userId(userId)
+            .auth0UserId(auth0UserId)
+            .ip(ipAddress));
     }
 
     /**
@@ -58,9 +57,11 @@ public class SecurityEventLogger {
      * @param ipAddress   Client IP address
      */
     public void logAuthenticationFailure(String auth0UserId, String reason, String ipAddress) {
-        securityLog.warn(SECURITY_MARKER,
-            "event=AUTHENTICATION_FAILURE auth0UserId={} reason={} ip={} correlationId={}",
-            auth0UserId != null ? auth0UserId : "unknown", reason, ipAddress, getCorrelationId());
+        publish(SecurityAuditEvent.builder()
+            .event(SecurityEventType.AUTHENTICATION_FAILURE)
+            .auth0UserId(auth0UserId != null ? auth0UserId : "unknown")
+            .reason(reason)
+            .ip(ipAddress));
     }
 
     /**
@@ -72,9 +73,12 @@ public class SecurityEventLogger {
      * @param action       Attempted action (READ, WRITE, DELETE)
      */
     public void logAuthorizationDenied(Long userId, String resourceType, Long resourceId, String action) {
-        securityLog.warn(SECURITY_MARKER,
-            "event=AUTHORIZATION_DENIED userId={} resourceType={} resourceId={} action={} correlationId={}",
-            userId, resourceType, resourceId, action, getCorrelationId());
+        publish(SecurityAuditEvent.builder()
+            .event(SecurityEventType.AUTHORIZATION_DENIED)
+            .userId(userId)
+            .resourceType(resourceType)
+            .resourceId(resourceId)
+            .action(action));
     }
 
     /**
@@ -84,9 +88,10 @@ public class SecurityEventLogger {
      * @param endpoint  Endpoint that was rate limited
      */
     public void logRateLimitExceeded(String ipAddress, String endpoint) {
-        securityLog.warn(SECURITY_MARKER,
-            "event=RATE_LIMIT_EXCEEDED ip={} endpoint={} correlationId={}",
-            ipAddress, endpoint, getCorrelationId());
+        publish(SecurityAuditEvent.builder()
+            .event(SecurityEventType.RATE_LIMIT_EXCEEDED)
+            .ip(ipAddress)
+            .endpoint(endpoint));
     }
 
     /**
@@ -97,9 +102,11 @@ public class SecurityEventLogger {
      * @param userId      User ID (if authenticated)
      */
     public void logSuspiciousActivity(String description, String ipAddress, Long userId) {
-        securityLog.warn(SECURITY_MARKER,
-            "event=SUSPICIOUS_ACTIVITY description=\"{}\" ip={} userId={} correlationId={}",
-            description, ipAddress, userId != null ? userId : "anonymous", getCorrelationId());
+        publish(SecurityAuditEvent.builder()
+            .event(SecurityEventType.SUSPICIOUS_ACTIVITY)
+            .reason(description)
+            .ip(ipAddress)
+            .userId(userId));
     }
 
     /**
@@ -110,9 +117,11 @@ public class SecurityEventLogger {
      * @param ipAddress   Client IP address
      */
     public void logEmailNotVerified(String auth0UserId, String email, String ipAddress) {
-        securityLog.warn(SECURITY_MARKER,
-            "event=EMAIL_NOT_VERIFIED auth0UserId={} email={} ip={} correlationId={}",
-            auth0UserId, maskEmail(email), ipAddress, getCorrelationId());
+        publish(SecurityAuditEvent.builder()
+            .event(SecurityEventType.EMAIL_NOT_VERIFIED)
+            .auth0UserId(auth0UserId)
+            .email(maskEmail(email))
+            .ip(ipAddress));
     }
 
     /**
@@ -124,9 +133,19 @@ public class SecurityEventLogger {
      * @param action       Action performed (READ, WRITE, DELETE)
      */
     public void logResourceAccess(Long userId, String resourceType, Long resourceId, String action) {
-        securityLog.info(SECURITY_MARKER,
-            "event=RESOURCE_ACCESS userId={} resourceType={} resourceId={} action={} correlationId={}",
-            userId, resourceType, resourceId, action, getCorrelationId());
+        publish(SecurityAuditEvent.builder()
+            .event(SecurityEventType.RESOURCE_ACCESS)
+            .userId(userId)
+            .resourceType(resourceType)
+            .resourceId(resourceId)
+            .action(action));
+    }
+
+    /**
+     * Stamps the event with the request's correlation ID, captured on the request thread.
+     */
+    private void publish(SecurityAuditEvent.SecurityAuditEventBuilder event) {
+        auditPipeline.publish(event.correlationId(getCorrelationId()).build());
     }
 
     /**
@@ -0,0 +1,154 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Debounced write-back of Auth0 profile changes to the {@code users} table.
+ *
+ * {@link Auth0UserSyncService} records changed claims here instead of saving on the request path.
+ * Pending changes are kept per user, latest claims winning, and written in batches every
+ * {@code app.security.profile-sync.write-interval}. Claims that flap between tokens (e.g. social
+ * and database connections of one account) therefore cost at most one write per user and
+ * interval, and none if they flap back to the stored values before the write; no request waits on
+ * the row lock or fights over {@code User.version}.
+ *
+ * A failed batch is retried user by user; a change that still fails is dropped and detected again
+ * on the user's next sync, since the row was not updated.
+ *
+ * Metrics: {@code auth0.profile.writes} (by outcome: written, coalesced, failed) and
+ * {@code auth0.profile.writes.pending}.
+ */
+@Component
+@Profile("!test & !dev")  // Only active in production (Auth0 mode)
+public class UserProfileWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserProfileWriteBehind.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ConcurrentMap<Long, ProfileClaims> pending = new ConcurrentHashMap<>();
+
+    private final Counter writtenCounter;
+    private final Counter coalescedCounter;
+    private final Counter failedCounter;
+
+    public UserProfileWriteBehind(UserRepository userRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.security.profile-sync.batch-size:100}") int batchSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        this.writtenCounter = outcomeCounter(meterRegistry, "written");
+        this.coalescedCounter = outcomeCounter(meterRegistry, "coalesced");
+        this.failedCounter = outcomeCounter(meterRegistry, "failed");
+        Gauge.builder("auth0.profile.writes.pending", pending, Map::size)
+                .description("Users with profile changes waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth0.profile.writes")
+                .description("Auth0 profile write-backs by outcome; coalesced counts suppressed writes")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the user's latest claims, replacing any change still pending for the user.
+     */
+    void schedule(Long userId, ProfileClaims claims) {
+        if (pending.put(userId, claims) != null) {
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * Drops a pending change, as the latest token matches the stored profile again.
+     */
+    void cancel(Long userId) {
+        if (pending.remove(userId) != null) {
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * Writes all pending changes in batches of {@code batch-size} users.
+     */
+    @Scheduled(fixedDelayString = "${app.security.profile-sync.write-interval:PT30S}")
+    @PreDestroy
+    public void flush() {
+        Map<Long, ProfileClaims> batch = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            ProfileClaims claims = pending.remove(userId);
+            if (claims != null) {
+                batch.put(userId, claims);
+            }
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(Map<Long, ProfileClaims> batch) {
+        try {
+            int written = transactionTemplate.execute(status -> apply(batch));
+            writtenCounter.increment(written);
+            logger.debug("Profile changes written: users={}", written);
+        } catch (RuntimeException e) {
+            logger.warn("Profile batch write failed, retrying per user: users={}, error={}",
+                    batch.size(), e.getMessage());
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(Long userId, ProfileClaims claims) {
+        try {
+            int written = transactionTemplate.execute(status -> apply(Map.of(userId, claims)));
+            writtenCounter.increment(written);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            logger.warn("Profile write failed: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private int apply(Map<Long, ProfileClaims> batch) {
+        List<User> changed = new ArrayList<>(batch.size());
+        for (User user : userRepository.findAllById(batch.keySet())) {
+            ProfileClaims claims = batch.get(user.getUserId());
+            if (!claims.matches(user)) {
+                logger.info("Updating profile of user {} from Auth0 claims", user.getAuth0UserId());
+                claims.applyTo(user);
+                changed.add(user);
+            }
+        }
+        userRepository.saveAll(changed);
+        return changed.size();
+    }
+}
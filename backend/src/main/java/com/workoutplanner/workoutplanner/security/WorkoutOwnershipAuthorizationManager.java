@@ -0,0 +1,108 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.service.ResourceSecurityService;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Authorization manager behind {@link RequiresWorkoutOwnership}.
+ *
+ * The annotation of each method is compiled once into a {@link CompiledCheck} (required permission
+ * bits, resource type and argument index), so an invocation costs a map lookup, a bitmask test and
+ * the ownership check itself - no SpEL parsing, bean resolution or reflective evaluation. Ownership
+ * is decided by {@link ResourceSecurityService}, which remembers decisions for the current request
+ * (see {@link RequestAuthorizationContext}), so a controller and the service it calls checking the
+ * same resource hit the database once.
+ */
+public class WorkoutOwnershipAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<Method, CompiledCheck> checks = new ConcurrentHashMap<>();
+    private final Supplier<ResourceSecurityService> resourceSecurityService;
+
+    /**
+     * @param resourceSecurityService resolved lazily, as method security infrastructure is created
+     *                                before the repositories the service depends on
+     */
+    public WorkoutOwnershipAuthorizationManager(Supplier<ResourceSecurityService> resourceSecurityService) {
+        this.resourceSecurityService = resourceSecurityService;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        CompiledCheck check = checks.computeIfAbsent(invocation.getMethod(),
+                method -> compile(method, invocation.getThis()));
+
+        Authentication current = authentication.get();
+        if (current == null || !current.isAuthenticated()) {
+            return DENIED;
+        }
+        PermissionSet granted = current instanceof Auth0AuthenticationToken auth0Token
+                ? auth0Token.getPermissions()
+                : PermissionSet.fromAuthorities(current.getAuthorities());
+        if (!granted.containsAll(check.permissions())) {
+            return DENIED;
+        }
+
+        Object id = invocation.getArguments()[check.argumentIndex()];
+        if (id == null) {
+            return DENIED;
+        }
+        return evaluate(check.resource(), (Long) id) ? GRANTED : DENIED;
+    }
+
+    private boolean evaluate(OwnedResource resource, Long id) {
+        ResourceSecurityService service = resourceSecurityService.get();
+        return switch (resource) {
+            case WORKOUT -> service.canAccessWorkout(id);
+            case WORKOUT_EXERCISE -> service.canAccessWorkoutExercise(id);
+            case SET -> service.canAccessSet(id);
+            case STRENGTH_SET -> service.canAccessStrengthSet(id);
+            case CARDIO_SET -> service.canAccessCardioSet(id);
+            case FLEXIBILITY_SET -> service.canAccessFlexibilitySet(id);
+        };
+    }
+
+    private CompiledCheck compile(Method method, Object target) {
+        Method specificMethod = target != null ? AopUtils.getMostSpecificMethod(method, target.getClass()) : method;
+        RequiresWorkoutOwnership annotation = AnnotationUtils.findAnnotation(specificMethod, RequiresWorkoutOwnership.class);
+        if (annotation == null) {
+            annotation = AnnotationUtils.findAnnotation(method, RequiresWorkoutOwnership.class);
+        }
+        if (annotation == null) {
+            throw new IllegalStateException("No @RequiresWorkoutOwnership on " + method);
+        }
+
+        String[] parameterNames = parameterNameDiscoverer.getParameterNames(specificMethod);
+        if (parameterNames != null) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i].equals(annotation.value())) {
+                    if (!Long.class.equals(specificMethod.getParameterTypes()[i])) {
+                        throw new IllegalStateException("@RequiresWorkoutOwnership parameter '" + annotation.value()
+                                + "' of " + method + " must be a Long");
+                    }
+                    return new CompiledCheck(PermissionSet.of(annotation.permissions()), annotation.resource(), i);
+                }
+            }
+        }
+        throw new IllegalStateException("@RequiresWorkoutOwnership parameter '" + annotation.value()
+                + "' not found on " + method);
+    }
+
+    private record CompiledCheck(PermissionSet permissions, OwnedResource resource, int argumentIndex) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.workoutplanner.workoutplanner.security.audit;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * One security audit record, written as a JSON line to the security audit log.
+ *
+ * @param suppressed number of identical events (same type, actor, resource and action) dropped by
+ *                   de-duplication since this event was first recorded; null on the first occurrence
+ */
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SecurityAuditEvent(
+        Instant timestamp,
+        SecurityEventType event,
+        Long userId,
+        String auth0UserId,
+        String ip,
+        String resourceType,
+        Long resourceId,
+        String action,
+        String endpoint,
+        String email,
+        String reason,
+        String correlationId,
+        Integer suppressed) {
+}
@@ -0,0 +1,282 @@
+package com.workoutplanner.workoutplanner.security.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous, batched writer for security audit events.
+ *
+ * Request threads only de-duplicate and enqueue: {@link #publish} costs a cache lookup and a CAS on
+ * a bounded {@link AuditRingBuffer}, never I/O or a lock. A single background thread drains the
+ * buffer and writes each batch as JSON lines in one call to the {@code SECURITY_AUDIT} logger,
+ * whose appender handles file rotation (see logback-spring.xml).
+ *
+ * Repeats of an event with the same type, actor (user id, else IP), resource and action within the
+ * de-duplication window are counted instead of queued, so denials of different resources are all
+ * written; when the window closes a copy of the first event is
+ * written with the number of repeats in {@code suppressed}. A full buffer drops events rather than
+ * slowing requests down.
+ *
+ * Metrics: {@code security.audit.events} (by outcome: accepted, suppressed, dropped) and
+ * {@code security.audit.queue.size}.
+ */
+@Component
+public class SecurityAuditPipeline implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecurityAuditPipeline.class);
+
+    /**
+     * Dedicated logger for security audit events.
+     * Configured in logback-spring.xml to write to a separate file.
+     */
+    private static final Logger auditLog = LoggerFactory.getLogger("SECURITY_AUDIT");
+
+    /**
+     * Marker for filtering security events in log aggregation systems.
+     */
+    private static final Marker SECURITY_MARKER = MarkerFactory.getMarker("SECURITY");
+
+    private static final long MAX_DEDUPLICATED_ACTORS = 100_000;
+
+    private final AuditRingBuffer<SecurityAuditEvent> buffer;
+    private final Cache<DeduplicationKey, DeduplicationWindow> recentEvents;
+    private final Consumer<String> sink;
+    private final Clock clock;
+    private final int batchSize;
+    private final long idleWaitNanos;
+    private final ObjectWriter jsonWriter = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writerFor(SecurityAuditEvent.class);
+
+    private final Counter acceptedCounter;
+    private final Counter suppressedCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    @Autowired
+    public SecurityAuditPipeline(MeterRegistry meterRegistry,
+                                 @Value("${app.security.audit.buffer-size:8192}") int bufferSize,
+                                 @Value("${app.security.audit.batch-size:256}") int batchSize,
+                                 @Value("${app.security.audit.dedup-window:10s}") Duration deduplicationWindow,
+                                 @Value("${app.security.audit.idle-wait:100ms}") Duration idleWait) {
+        this(meterRegistry, bufferSize, batchSize, deduplicationWindow, idleWait,
+                batch -> auditLog.info(SECURITY_MARKER, batch), Clock.systemUTC(), Scheduler.systemScheduler());
+    }
+
+    SecurityAuditPipeline(MeterRegistry meterRegistry, int bufferSize, int batchSize, Duration deduplicationWindow,
+                          Duration idleWait, Consumer<String> sink, Clock clock, Scheduler scheduler) {
+        this.buffer = new AuditRingBuffer<>(bufferSize);
+        this.batchSize = batchSize;
+        this.idleWaitNanos = idleWait.toNanos();
+        this.sink = sink;
+        this.clock = clock;
+        this.recentEvents = deduplicationWindow.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(deduplicationWindow)
+                .maximumSize(MAX_DEDUPLICATED_ACTORS)
+                .scheduler(scheduler)
+                .executor(Runnable::run)
+                .<DeduplicationKey, DeduplicationWindow>removalListener(
+                        (key, window, cause) -> closeWindow(window, cause))
+                .build();
+
+        this.acceptedCounter = outcomeCounter(meterRegistry, "accepted");
+        this.suppressedCounter = outcomeCounter(meterRegistry, "suppressed");
+        this.droppedCounter = outcomeCounter(meterRegistry, "dropped");
+        Gauge.builder("security.audit.queue.size", buffer, AuditRingBuffer::size)
+                .description("Security audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("security.audit.events")
+                .description("Security audit events by pipeline outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records an event without blocking. The timestamp is set here if missing.
+     */
+    public void publish(SecurityAuditEvent event) {
+        if (event.timestamp() == null) {
+            event = event.toBuilder().timestamp(clock.instant()).build();
+        }
+        DeduplicationKey key = recentEvents != null ? DeduplicationKey.of(event) : null;
+        if (key != null) {
+            DeduplicationWindow window = recentEvents.asMap().putIfAbsent(key, new DeduplicationWindow(event));
+            if (window != null) {
+                window.repeats().incrementAndGet();
+                suppressedCounter.increment();
+                return;
+            }
+        }
+        enqueue(event);
+    }
+
+    private void enqueue(SecurityAuditEvent event) {
+        if (buffer.offer(event)) {
+            acceptedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    private void closeWindow(DeduplicationWindow window, RemovalCause cause) {
+        int repeats = window != null ? window.repeats().get() : 0;
+        if (repeats > 0) {
+            enqueue(window.first().toBuilder().timestamp(clock.instant()).suppressed(repeats).build());
+            logger.debug("Security audit events de-duplicated: event={}, repeats={}, cause={}",
+                    window.first().event(), repeats, cause);
+        }
+    }
+
+    /**
+     * Writes up to one batch of queued events. Called by the writer thread only.
+     *
+     * @return number of events written
+     */
+    int writeBatch() {
+        List<SecurityAuditEvent> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+        int drained = buffer.drainTo(batch, batchSize);
+        if (drained == 0) {
+            return 0;
+        }
+        StringBuilder lines = new StringBuilder(drained * 200);
+        for (SecurityAuditEvent event : batch) {
+            try {
+                if (!lines.isEmpty()) {
+                    lines.append(System.lineSeparator());
+                }
+                lines.append(jsonWriter.writeValueAsString(event));
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to serialize security audit event: {}", event.event(), e);
+            }
+        }
+        try {
+            sink.accept(lines.toString());
+        } catch (RuntimeException e) {
+            logger.error("Failed to write {} security audit events", drained, e);
+        }
+        return drained;
+    }
+
+    /**
+     * Closes all de-duplication windows, queueing their repeat summaries.
+     */
+    void flushDeduplication() {
+        if (recentEvents != null) {
+            recentEvents.invalidateAll();
+            recentEvents.cleanUp();
+        }
+    }
+
+    private void runWriter() {
+        while (running) {
+            if (writeBatch() == 0) {
+                LockSupport.parkNanos(this, idleWaitNanos);
+            }
+        }
+        while (writeBatch() > 0) {
+            // drain what was queued before stop
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "security-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        flushDeduplication();
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            logger.warn("Security audit writer did not stop in time, queued={}", buffer.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops after the web server, so events of in-flight requests are still written.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private record DeduplicationKey(SecurityEventType event, Long userId, String ip,
+                                    String resourceType, Long resourceId, String action) {
+
+        /**
+         * @return the key, or null for events without an actor
+         */
+        static DeduplicationKey of(SecurityAuditEvent event) {
+            if (event.userId() != null) {
+                return new DeduplicationKey(event.event(), event.userId(), null,
+                        event.resourceType(), event.resourceId(), event.action());
+            }
+            if (event.ip() != null) {
+                return new DeduplicationKey(event.event(), null, event.ip(),
+                        event.resourceType(), event.resourceId(), event.action());
+            }
+            return null;
+        }
+    }
+
+    private record DeduplicationWindow(SecurityAuditEvent first, AtomicInteger repeats) {
+
+        DeduplicationWindow(SecurityAuditEvent first) {
+            this(first, new AtomicInteger());
+        }
+    }
+}
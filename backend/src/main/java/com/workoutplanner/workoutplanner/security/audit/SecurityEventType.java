@@ -0,0 +1,15 @@
+package com.workoutplanner.workoutplanner.security.audit;
+
+/**
+ * Types of security audit events.
+ */
+public enum SecurityEventType {
+
+    AUTHENTICATION_SUCCESS,
+    AUTHENTICATION_FAILURE,
+    AUTHORIZATION_DENIED,
+    RATE_LIMIT_EXCEEDED,
+    SUSPICIOUS_ACTIVITY,
+    EMAIL_NOT_VERIFIED,
+    RESOURCE_ACCESS
+}
@@ -4,16 +4,21 @@ import com.workoutplanner.workoutplanner.dto.request.CreateCardioSetRequest;
 import com.workoutplanner.workoutplanner.dto.response.SetResponse;
 import com.workoutplanner.workoutplanner.entity.CardioSet;
 import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
+import com.workoutplanner.workoutplanner.enums.ChangeType;
 import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.event.SetChangedEvent;
 import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
 import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
 import com.workoutplanner.workoutplanner.mapper.BaseSetMapper;
 import com.workoutplanner.workoutplanner.mapper.WorkoutMapper;
 import com.workoutplanner.workoutplanner.repository.CardioSetRepository;
 import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.security.OwnedResource;
+import com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +28,7 @@ import java.util.List;
  * Service for managing cardio set operations.
  */
 @Service
+@Instrumented(Instrumented.SERVICE)
 public class CardioSetService implements SetServiceInterface<CreateCardioSetRequest> {
 
     private static final Logger logger = LoggerFactory.getLogger(CardioSetService.class);
@@ -32,20 +38,26 @@ public class CardioSetService implements SetServiceInterface<CreateCardioSetRequ
     private final WorkoutExerciseRepository workoutExerciseRepository;
     private final WorkoutMapper workoutMapper;
     private final BaseSetMapper baseSetMapper;
+    private final TrainingRollupService trainingRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CardioSetService(CardioSetRepository cardioSetRepository,
                            WorkoutExerciseRepository workoutExerciseRepository,
                            WorkoutMapper workoutMapper,
-                           BaseSetMapper baseSetMapper) {
+                           BaseSetMapper baseSetMapper,
+                           TrainingRollupService trainingRollupService,
+                           ApplicationEventPublisher eventPublisher) {
         this.cardioSetRepository = cardioSetRepository;
         this.workoutExerciseRepository = workoutExerciseRepository;
         this.workoutMapper = workoutMapper;
         this.baseSetMapper = baseSetMapper;
+        this.trainingRollupService = trainingRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE)
     public SetResponse createSet(Long workoutExerciseId, CreateCardioSetRequest request) {
         logger.debug("Creating cardio set for workoutExerciseId={}", workoutExerciseId);
 
@@ -66,6 +78,8 @@ public class CardioSetService implements SetServiceInterface<CreateCardioSetRequ
         CardioSet cardioSet = workoutMapper.toCardioSetEntity(request);
         cardioSet.setWorkoutExercise(workoutExercise);
         CardioSet saved = cardioSetRepository.save(cardioSet);
+        trainingRollupService.recordChange(cardioSet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(saved, ExerciseType.CARDIO, ChangeType.CREATED));
 
         logger.info("Cardio set created: setId={}", saved.getSetId());
         return baseSetMapper.toSetResponse(saved);
@@ -81,7 +95,7 @@ public class CardioSetService implements SetServiceInterface<CreateCardioSetRequ
 
     @Override
     @Transactional(readOnly = true)
-    @PreAuthorize("@resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE)
     public List<SetResponse> getSetsByWorkoutExercise(Long workoutExerciseId) {
         List<CardioSet> sets = cardioSetRepository.findByWorkoutExerciseIdOrderBySetNumber(workoutExerciseId);
         return baseSetMapper.toCardioSetResponseList(sets);
@@ -89,7 +103,7 @@ public class CardioSetService implements SetServiceInterface<CreateCardioSetRequ
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessCardioSet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.CARDIO_SET)
     public SetResponse updateSet(Long setId, CreateCardioSetRequest request) {
         logger.debug("Updating cardio set: setId={}", setId);
 
@@ -98,6 +112,8 @@ public class CardioSetService implements SetServiceInterface<CreateCardioSetRequ
 
         workoutMapper.updateCardioSetEntity(request, cardioSet);
         CardioSet saved = cardioSetRepository.save(cardioSet);
+        trainingRollupService.recordChange(cardioSet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(saved, ExerciseType.CARDIO, ChangeType.UPDATED));
 
         logger.info("Cardio set updated: setId={}", saved.getSetId());
         return baseSetMapper.toSetResponse(saved);
@@ -105,7 +121,7 @@ public class CardioSetService implements SetServiceInterface<CreateCardioSetRequ
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessCardioSet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.CARDIO_SET)
     public void deleteSet(Long setId) {
         logger.debug("Soft deleting cardio set: setId={}", setId);
 
@@ -114,7 +130,10 @@ public class CardioSetService implements SetServiceInterface<CreateCardioSetRequ
 
         cardioSet.softDelete();
         cardioSetRepository.save(cardioSet);
+        trainingRollupService.recordChange(cardioSet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(cardioSet, ExerciseType.CARDIO, ChangeType.DELETED));
 
         logger.info("Cardio set deleted: setId={}", setId);
     }
+
 }
@@ -10,6 +10,7 @@ import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
 import com.workoutplanner.workoutplanner.mapper.ExerciseMapper;
 import com.workoutplanner.workoutplanner.repository.ExerciseRepository;
 import com.workoutplanner.workoutplanner.util.ValidationUtils;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -24,6 +25,7 @@ import java.util.List;
  * Exercise CRUD is admin-only; users can only browse.
  */
 @Service
+@Instrumented(Instrumented.SERVICE)
 public class ExerciseService implements ExerciseServiceInterface {
 
     private static final Logger logger = LoggerFactory.getLogger(ExerciseService.class);
@@ -52,7 +54,7 @@ public class ExerciseService implements ExerciseServiceInterface {
         Page<Exercise> page = exerciseRepository.findAll(pageable);
         List<ExerciseResponse> responses = exerciseMapper.toResponseList(page.getContent());
 
-        logger.info("Retrieved {} exercises (page {} of {})", responses.size(), page.getNumber(), page.getTotalPages());
+        logger.debug("Retrieved {} exercises (page {} of {})", responses.size(), page.getNumber(), page.getTotalPages());
 
         return new PagedResponse<>(
             responses,
@@ -71,7 +73,7 @@ public class ExerciseService implements ExerciseServiceInterface {
         String sanitizedName = ValidationUtils.sanitizeLikeWildcards(name.trim());
         List<Exercise> exercises = exerciseRepository.findByNameContainingIgnoreCase(sanitizedName);
 
-        logger.info("Found {} exercises matching '{}'", exercises.size(), sanitizedName);
+        logger.debug("Found {} exercises matching '{}'", exercises.size(), sanitizedName);
         return exerciseMapper.toResponseList(exercises);
     }
 
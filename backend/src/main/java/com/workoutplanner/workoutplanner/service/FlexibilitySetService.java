@@ -4,16 +4,21 @@ import com.workoutplanner.workoutplanner.dto.request.CreateFlexibilitySetRequest
 import com.workoutplanner.workoutplanner.dto.response.SetResponse;
 import com.workoutplanner.workoutplanner.entity.FlexibilitySet;
 import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
+import com.workoutplanner.workoutplanner.enums.ChangeType;
 import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.event.SetChangedEvent;
 import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
 import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
 import com.workoutplanner.workoutplanner.mapper.BaseSetMapper;
 import com.workoutplanner.workoutplanner.mapper.WorkoutMapper;
 import com.workoutplanner.workoutplanner.repository.FlexibilitySetRepository;
 import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.security.OwnedResource;
+import com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +28,7 @@ import java.util.List;
  * Service for managing flexibility set operations.
  */
 @Service
+@Instrumented(Instrumented.SERVICE)
 public class FlexibilitySetService implements SetServiceInterface<CreateFlexibilitySetRequest> {
 
     private static final Logger logger = LoggerFactory.getLogger(FlexibilitySetService.class);
@@ -32,20 +38,26 @@ public class FlexibilitySetService implements SetServiceInterface<CreateFlexibil
     private final WorkoutExerciseRepository workoutExerciseRepository;
     private final WorkoutMapper workoutMapper;
     private final BaseSetMapper baseSetMapper;
+    private final TrainingRollupService trainingRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FlexibilitySetService(FlexibilitySetRepository flexibilitySetRepository,
                                 WorkoutExerciseRepository workoutExerciseRepository,
                                 WorkoutMapper workoutMapper,
-                                BaseSetMapper baseSetMapper) {
+                                BaseSetMapper baseSetMapper,
+                                TrainingRollupService trainingRollupService,
+                                ApplicationEventPublisher eventPublisher) {
         this.flexibilitySetRepository = flexibilitySetRepository;
         this.workoutExerciseRepository = workoutExerciseRepository;
         this.workoutMapper = workoutMapper;
         this.baseSetMapper = baseSetMapper;
+        this.trainingRollupService = trainingRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE)
     public SetResponse createSet(Long workoutExerciseId, CreateFlexibilitySetRequest request) {
         logger.debug("Creating flexibility set for workoutExerciseId={}", workoutExerciseId);
 
@@ -66,6 +78,8 @@ public class FlexibilitySetService implements SetServiceInterface<CreateFlexibil
         FlexibilitySet flexibilitySet = workoutMapper.toFlexibilitySetEntity(request);
         flexibilitySet.setWorkoutExercise(workoutExercise);
         FlexibilitySet saved = flexibilitySetRepository.save(flexibilitySet);
+        trainingRollupService.recordChange(flexibilitySet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(saved, ExerciseType.FLEXIBILITY, ChangeType.CREATED));
 
         logger.info("Flexibility set created: setId={}", saved.getSetId());
         return baseSetMapper.toSetResponse(saved);
@@ -81,7 +95,7 @@ public class FlexibilitySetService implements SetServiceInterface<CreateFlexibil
 
     @Override
     @Transactional(readOnly = true)
-    @PreAuthorize("@resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE)
     public List<SetResponse> getSetsByWorkoutExercise(Long workoutExerciseId) {
         List<FlexibilitySet> sets = flexibilitySetRepository.findByWorkoutExerciseIdOrderBySetNumber(workoutExerciseId);
         return baseSetMapper.toFlexibilitySetResponseList(sets);
@@ -89,7 +103,7 @@ public class FlexibilitySetService implements SetServiceInterface<CreateFlexibil
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessFlexibilitySet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.FLEXIBILITY_SET)
     public SetResponse updateSet(Long setId, CreateFlexibilitySetRequest request) {
         logger.debug("Updating flexibility set: setId={}", setId);
 
@@ -98,6 +112,8 @@ public class FlexibilitySetService implements SetServiceInterface<CreateFlexibil
 
         workoutMapper.updateFlexibilitySetEntity(request, flexibilitySet);
         FlexibilitySet saved = flexibilitySetRepository.save(flexibilitySet);
+        trainingRollupService.recordChange(flexibilitySet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(saved, ExerciseType.FLEXIBILITY, ChangeType.UPDATED));
 
         logger.info("Flexibility set updated: setId={}", saved.getSetId());
         return baseSetMapper.toSetResponse(saved);
@@ -105,7 +121,7 @@ public class FlexibilitySetService implements SetServiceInterface<CreateFlexibil
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessFlexibilitySet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.FLEXIBILITY_SET)
     public void deleteSet(Long setId) {
         logger.debug("Soft deleting flexibility set: setId={}", setId);
 
@@ -114,6 +130,8 @@ public class FlexibilitySetService implements SetServiceInterface<CreateFlexibil
 
         flexibilitySet.softDelete();
         flexibilitySetRepository.save(flexibilitySet);
+        trainingRollupService.recordChange(flexibilitySet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(flexibilitySet, ExerciseType.FLEXIBILITY, ChangeType.DELETED));
 
         logger.info("Flexibility set deleted: setId={}", setId);
     }
@@ -1,27 +1,41 @@
 package com.workoutplanner.workoutplanner.service;
 
-import com.workoutplanner.workoutplanner.entity.*;
 import com.workoutplanner.workoutplanner.repository.*;
+import com.workoutplanner.workoutplanner.security.OwnedResource;
+import com.workoutplanner.workoutplanner.security.Permission;
+import com.workoutplanner.workoutplanner.security.RequestAuthorizationContext;
 import com.workoutplanner.workoutplanner.security.SecurityContextHelper;
 import com.workoutplanner.workoutplanner.security.SecurityEventLogger;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.function.Function;
+
 /**
  * Centralized security service for resource ownership validation.
  * 
  * This service implements the industry best practice for domain object security
  * as recommended by Spring Security documentation and OAuth2 standards.
  * 
- * Pattern: @PreAuthorize with custom bean methods (SpEL expressions)
+ * Pattern: ownership checks bound to methods with @RequiresWorkoutOwnership, evaluated by
+ * WorkoutOwnershipAuthorizationManager (no SpEL). The methods remain callable from
+ * {@code @PreAuthorize} expressions as {@code @resourceSecurityService.canAccess*(...)}.
+ * 
+ * Decisions and resolved owner ids are memoized for the current request in
+ * {@link RequestAuthorizationContext}, so a controller check and the service check behind it
+ * (e.g. canAccessSet, then canAccessStrengthSet) share one lookup per resource.
+ * 
+ * Owners are resolved including soft-deleted rows: the owner of a deleted resource passes the
+ * check and gets a 404 from the service, everyone else gets a 403 as for any foreign resource.
  * 
  * Usage in service methods:
  * <pre>
  * {@code
- * @PreAuthorize("@resourceSecurityService.canAccessWorkout(#sessionId)")
- * public WorkoutResponse getWorkoutSessionById(Long sessionId) {
+ * @RequiresWorkoutOwnership("sessionId")
+ * public WorkoutResponse getWorkoutSessionById(Long sessionId, WorkoutFieldSelection selection) {
  *     // Business logic
  * }
  * }
@@ -38,9 +52,10 @@ import org.springframework.stereotype.Service;
  * - Auth0 documentation recommendations
  * - OWASP A01:2021 - Broken Access Control prevention
  * 
- * @see org.springframework.security.access.prepost.PreAuthorize
+ * @see com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership
  */
 @Service("resourceSecurityService")
+@Instrumented(Instrumented.AUTHORIZATION)
 public class ResourceSecurityService {
 
     private static final Logger logger = LoggerFactory.getLogger(ResourceSecurityService.class);
@@ -80,6 +95,10 @@ public class ResourceSecurityService {
      * @return true if user can access, false otherwise
      */
     public boolean canAccessWorkout(Long sessionId) {
+        return RequestAuthorizationContext.decide(OwnedResource.WORKOUT, sessionId, this::checkWorkoutAccess);
+    }
+
+    private boolean checkWorkoutAccess(Long sessionId) {
         try {
             Long currentUserId = SecurityContextHelper.getCurrentUserId();
 
@@ -90,19 +109,19 @@ public class ResourceSecurityService {
             }
 
             // Check ownership
-            WorkoutSession workout = workoutSessionRepository.findById(sessionId)
-                .orElse(null);
+            Long ownerId = RequestAuthorizationContext.resolve(OwnedResource.WORKOUT, sessionId,
+                    workoutSessionRepository::findUserIdBySessionId).orElse(null);
 
-            if (workout == null) {
+            if (ownerId == null) {
                 logger.debug("Workout not found: sessionId={}", sessionId);
-                return false; // Will result in 404
+                return false; // Unknown workout, denied like a foreign one
             }
 
-            boolean isOwner = workout.getUser().getUserId().equals(currentUserId);
+            boolean isOwner = ownerId.equals(currentUserId);
 
             if (!isOwner) {
                 logger.warn("SECURITY: User {} attempted to access workout {} owned by user {}",
-                           currentUserId, sessionId, workout.getUser().getUserId());
+                           currentUserId, sessionId, ownerId);
                 securityEventLogger.logAuthorizationDenied(currentUserId, "WORKOUT", sessionId, "READ");
             }
 
@@ -130,27 +149,9 @@ public class ResourceSecurityService {
      * Access based on owning the parent workout session or being an admin.
      */
     public boolean canAccessWorkoutExercise(Long workoutExerciseId) {
-        try {
-            // Admin bypass - can access all workout exercises
-            if (isAdmin()) {
-                logger.debug("Admin access granted to workout exercise workoutExerciseId={}", workoutExerciseId);
-                return true;
-            }
-
-            WorkoutExercise workoutExercise = workoutExerciseRepository.findById(workoutExerciseId)
-                .orElse(null);
-
-            if (workoutExercise == null) {
-                return false;
-            }
-
-            // Check access to parent workout
-            return canAccessWorkout(workoutExercise.getWorkoutSession().getSessionId());
-
-        } catch (Exception e) {
-            logger.error("Error checking workout exercise access: {}", e.getMessage());
-            return false;
-        }
+        return RequestAuthorizationContext.decide(OwnedResource.WORKOUT_EXERCISE, workoutExerciseId,
+                id -> canAccessChildOfWorkout(OwnedResource.WORKOUT_EXERCISE, id,
+                        workoutExerciseRepository::findSessionIdById));
     }
 
     /**
@@ -184,25 +185,8 @@ public class ResourceSecurityService {
      * Access based on owning the parent workout or being an admin.
      */
     public boolean canAccessStrengthSet(Long setId) {
-        try {
-            // Admin bypass - can access all sets
-            if (isAdmin()) {
-                logger.debug("Admin access granted to strength set setId={}", setId);
-                return true;
-            }
-
-            StrengthSet set = strengthSetRepository.findById(setId).orElse(null);
-            if (set == null) {
-                return false;
-            }
-
-            Long sessionId = set.getWorkoutExercise().getWorkoutSession().getSessionId();
-            return canAccessWorkout(sessionId);
-
-        } catch (Exception e) {
-            logger.error("Error checking strength set access: {}", e.getMessage());
-            return false;
-        }
+        return RequestAuthorizationContext.decide(OwnedResource.STRENGTH_SET, setId,
+                id -> canAccessChildOfWorkout(OwnedResource.STRENGTH_SET, id, strengthSetRepository::findSessionIdById));
     }
 
     /**
@@ -210,25 +194,8 @@ public class ResourceSecurityService {
      * Access based on owning the parent workout or being an admin.
      */
     public boolean canAccessCardioSet(Long setId) {
-        try {
-            // Admin bypass - can access all sets
-            if (isAdmin()) {
-                logger.debug("Admin access granted to cardio set setId={}", setId);
-                return true;
-            }
-
-            CardioSet set = cardioSetRepository.findById(setId).orElse(null);
-            if (set == null) {
-                return false;
-            }
-
-            Long sessionId = set.getWorkoutExercise().getWorkoutSession().getSessionId();
-            return canAccessWorkout(sessionId);
-
-        } catch (Exception e) {
-            logger.error("Error checking cardio set access: {}", e.getMessage());
-            return false;
-        }
+        return RequestAuthorizationContext.decide(OwnedResource.CARDIO_SET, setId,
+                id -> canAccessChildOfWorkout(OwnedResource.CARDIO_SET, id, cardioSetRepository::findSessionIdById));
     }
 
     /**
@@ -236,23 +203,31 @@ public class ResourceSecurityService {
      * Access based on owning the parent workout or being an admin.
      */
     public boolean canAccessFlexibilitySet(Long setId) {
+        return RequestAuthorizationContext.decide(OwnedResource.FLEXIBILITY_SET, setId,
+                id -> canAccessChildOfWorkout(OwnedResource.FLEXIBILITY_SET, id,
+                        flexibilitySetRepository::findSessionIdById));
+    }
+
+    // ==================== USER SECURITY ====================
+
+    /**
+     * Check if current user can see the private details (e.g. email) of a user.
+     *
+     * Access granted if:
+     * - It is the current user, OR
+     * - User is admin (has read:users permission)
+     *
+     * @param userId the user ID
+     * @return true if user can access, false otherwise
+     */
+    public boolean canAccessUser(Long userId) {
         try {
-            // Admin bypass - can access all sets
             if (isAdmin()) {
-                logger.debug("Admin access granted to flexibility set setId={}", setId);
                 return true;
             }
-
-            FlexibilitySet set = flexibilitySetRepository.findById(setId).orElse(null);
-            if (set == null) {
-                return false;
-            }
-
-            Long sessionId = set.getWorkoutExercise().getWorkoutSession().getSessionId();
-            return canAccessWorkout(sessionId);
-
+            return userId != null && userId.equals(SecurityContextHelper.getCurrentUserId());
         } catch (Exception e) {
-            logger.error("Error checking flexibility set access: {}", e.getMessage());
+            logger.error("Error checking user access for userId={}: {}", userId, e.getMessage());
             return false;
         }
     }
@@ -264,26 +239,34 @@ public class ResourceSecurityService {
      * Admins have the read:users permission.
      */
     private boolean isAdmin() {
-        return hasAuthority("read:users");
+        return SecurityContextHelper.hasPermission(Permission.READ_USERS);
     }
 
     /**
-     * Check if current user has a specific authority (permission).
-     * 
-     * @param authority the authority to check (e.g., "read:users", "write:exercises")
-     * @return true if user has the authority, false otherwise
+     * Checks a resource below a workout session by resolving its session and checking that.
+     *
+     * @param sessionLookup finds the id of the session owning the resource
      */
-    private boolean hasAuthority(String authority) {
+    private boolean canAccessChildOfWorkout(OwnedResource resource, Long id,
+                                            Function<Long, Optional<Long>> sessionLookup) {
         try {
-            return SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getAuthorities()
-                .stream()
-                .anyMatch(a -> a.getAuthority().equals(authority));
+            // Admin bypass - can access everything below any workout
+            if (isAdmin()) {
+                logger.debug("Admin access granted to {} id={}", resource, id);
+                return true;
+            }
+
+            Long sessionId = RequestAuthorizationContext.resolve(resource, id, sessionLookup).orElse(null);
+            if (sessionId == null) {
+                return false;
+            }
+
+            // Check access to parent workout
+            return canAccessWorkout(sessionId);
+
         } catch (Exception e) {
-            logger.error("Error checking authority '{}': {}", authority, e.getMessage());
+            logger.error("Error checking {} access: {}", resource, e.getMessage());
             return false;
         }
     }
 }
-
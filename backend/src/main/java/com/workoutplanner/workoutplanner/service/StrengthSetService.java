@@ -4,16 +4,21 @@ import com.workoutplanner.workoutplanner.dto.request.CreateStrengthSetRequest;
 import com.workoutplanner.workoutplanner.dto.response.SetResponse;
 import com.workoutplanner.workoutplanner.entity.StrengthSet;
 import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
+import com.workoutplanner.workoutplanner.enums.ChangeType;
 import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.event.SetChangedEvent;
 import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
 import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
 import com.workoutplanner.workoutplanner.mapper.BaseSetMapper;
 import com.workoutplanner.workoutplanner.mapper.WorkoutMapper;
 import com.workoutplanner.workoutplanner.repository.StrengthSetRepository;
 import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.security.OwnedResource;
+import com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +28,7 @@ import java.util.List;
  * Service for managing strength set operations.
  */
 @Service
+@Instrumented(Instrumented.SERVICE)
 public class StrengthSetService implements SetServiceInterface<CreateStrengthSetRequest> {
 
     private static final Logger logger = LoggerFactory.getLogger(StrengthSetService.class);
@@ -32,20 +38,26 @@ public class StrengthSetService implements SetServiceInterface<CreateStrengthSet
     private final WorkoutExerciseRepository workoutExerciseRepository;
     private final WorkoutMapper workoutMapper;
     private final BaseSetMapper baseSetMapper;
+    private final TrainingRollupService trainingRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StrengthSetService(StrengthSetRepository strengthSetRepository,
                              WorkoutExerciseRepository workoutExerciseRepository,
                              WorkoutMapper workoutMapper,
-                             BaseSetMapper baseSetMapper) {
+                             BaseSetMapper baseSetMapper,
+                             TrainingRollupService trainingRollupService,
+                             ApplicationEventPublisher eventPublisher) {
         this.strengthSetRepository = strengthSetRepository;
         this.workoutExerciseRepository = workoutExerciseRepository;
         this.workoutMapper = workoutMapper;
         this.baseSetMapper = baseSetMapper;
+        this.trainingRollupService = trainingRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE)
     public SetResponse createSet(Long workoutExerciseId, CreateStrengthSetRequest request) {
         logger.debug("Creating strength set for workoutExerciseId={}", workoutExerciseId);
 
@@ -66,6 +78,8 @@ public class StrengthSetService implements SetServiceInterface<CreateStrengthSet
         StrengthSet strengthSet = workoutMapper.toStrengthSetEntity(request);
         strengthSet.setWorkoutExercise(workoutExercise);
         StrengthSet saved = strengthSetRepository.save(strengthSet);
+        trainingRollupService.recordChange(strengthSet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(saved, ExerciseType.STRENGTH, ChangeType.CREATED));
 
         logger.info("Strength set created: setId={}", saved.getSetId());
         return baseSetMapper.toSetResponse(saved);
@@ -81,7 +95,7 @@ public class StrengthSetService implements SetServiceInterface<CreateStrengthSet
 
     @Override
     @Transactional(readOnly = true)
-    @PreAuthorize("@resourceSecurityService.canAccessWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE)
     public List<SetResponse> getSetsByWorkoutExercise(Long workoutExerciseId) {
         List<StrengthSet> sets = strengthSetRepository.findByWorkoutExerciseIdOrderBySetNumber(workoutExerciseId);
         return baseSetMapper.toSetResponseList(sets);
@@ -89,7 +103,7 @@ public class StrengthSetService implements SetServiceInterface<CreateStrengthSet
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessStrengthSet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.STRENGTH_SET)
     public SetResponse updateSet(Long setId, CreateStrengthSetRequest request) {
         logger.debug("Updating strength set: setId={}", setId);
 
@@ -98,6 +112,8 @@ public class StrengthSetService implements SetServiceInterface<CreateStrengthSet
 
         workoutMapper.updateStrengthSetEntity(request, strengthSet);
         StrengthSet saved = strengthSetRepository.save(strengthSet);
+        trainingRollupService.recordChange(strengthSet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(saved, ExerciseType.STRENGTH, ChangeType.UPDATED));
 
         logger.info("Strength set updated: setId={}", saved.getSetId());
         return baseSetMapper.toSetResponse(saved);
@@ -105,7 +121,7 @@ public class StrengthSetService implements SetServiceInterface<CreateStrengthSet
 
     @Override
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canAccessStrengthSet(#setId)")
+    @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.STRENGTH_SET)
     public void deleteSet(Long setId) {
         logger.debug("Soft deleting strength set: setId={}", setId);
 
@@ -114,7 +130,10 @@ public class StrengthSetService implements SetServiceInterface<CreateStrengthSet
 
         strengthSet.softDelete();
         strengthSetRepository.save(strengthSet);
+        trainingRollupService.recordChange(strengthSet.getWorkoutExercise());
+        eventPublisher.publishEvent(SetChangedEvent.of(strengthSet, ExerciseType.STRENGTH, ChangeType.DELETED));
 
         logger.info("Strength set deleted: setId={}", setId);
     }
+
 }
@@ -0,0 +1,99 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.dto.response.CardioPaceTrendResponse;
+import com.workoutplanner.workoutplanner.dto.response.OneRepMaxTrendResponse;
+import com.workoutplanner.workoutplanner.dto.response.PersonalRecordResponse;
+import com.workoutplanner.workoutplanner.dto.response.TonnageResponse;
+import com.workoutplanner.workoutplanner.enums.AnalyticsPeriod;
+import com.workoutplanner.workoutplanner.repository.TrainingAnalyticsRepository;
+import com.workoutplanner.workoutplanner.security.SecurityContextHelper;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Service for per-user training analytics (tonnage, personal records, strength and cardio trends).
+ *
+ * Results are cached per user in the {@code trainingAnalytics} cache. Every cache key embeds the
+ * user's data version from {@code training_data_versions}, which is bumped in the same transaction
+ * as every rollup refresh, so stale entries are never read again and simply age out. The version is
+ * shared by all instances and doubles as the HTTP ETag; reading it is one primary-key lookup.
+ */
+@Service
+@Instrumented(Instrumented.SERVICE)
+public class TrainingAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingAnalyticsService.class);
+
+    public static final String CACHE_NAME = "trainingAnalytics";
+
+    private final TrainingAnalyticsRepository trainingAnalyticsRepository;
+    private final CacheManager cacheManager;
+
+    public TrainingAnalyticsService(TrainingAnalyticsRepository trainingAnalyticsRepository,
+                                    CacheManager cacheManager) {
+        this.trainingAnalyticsRepository = trainingAnalyticsRepository;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Returns the current user's analytics data version, used as a weak validator for HTTP caching.
+     */
+    @PreAuthorize("isAuthenticated()")
+    public String getMyDataVersion() {
+        Long userId = SecurityContextHelper.getCurrentUserId();
+        return userId + "-" + trainingAnalyticsRepository.findDataVersion(userId);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public List<TonnageResponse> getMyTonnage(AnalyticsPeriod period, LocalDate from, LocalDate to) {
+        Long userId = SecurityContextHelper.getCurrentUserId();
+        return cached(userId, "tonnage", List.of(period, from, to),
+                () -> trainingAnalyticsRepository.findTonnageByMuscleGroup(userId, period, from, to));
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public List<PersonalRecordResponse> getMyPersonalRecords() {
+        Long userId = SecurityContextHelper.getCurrentUserId();
+        return cached(userId, "personalRecords", List.of(),
+                () -> trainingAnalyticsRepository.findPersonalRecords(userId));
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public List<OneRepMaxTrendResponse> getMyOneRepMaxTrend(Long exerciseId, LocalDate from, LocalDate to) {
+        Long userId = SecurityContextHelper.getCurrentUserId();
+        return cached(userId, "oneRepMaxTrend", List.of(exerciseId, from, to),
+                () -> trainingAnalyticsRepository.findOneRepMaxTrend(userId, exerciseId, from, to));
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public List<CardioPaceTrendResponse> getMyCardioPaceTrend(Long exerciseId, LocalDate from, LocalDate to) {
+        Long userId = SecurityContextHelper.getCurrentUserId();
+        return cached(userId, "cardioPaceTrend", Arrays.asList(exerciseId, from, to),
+                () -> trainingAnalyticsRepository.findCardioPaceTrend(userId, exerciseId, from, to));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> cached(Long userId, String query, List<?> args, Supplier<List<T>> loader) {
+        AnalyticsCacheKey key = new AnalyticsCacheKey(userId,
+                trainingAnalyticsRepository.findDataVersion(userId), query, args);
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), CACHE_NAME + " cache is not configured");
+        return (List<T>) cache.get(key, () -> {
+            logger.debug("Computing training analytics: userId={}, query={}", userId, query);
+            return loader.get();
+        });
+    }
+
+    private record AnalyticsCacheKey(Long userId, long version, String query, List<?> args) {
+    }
+}
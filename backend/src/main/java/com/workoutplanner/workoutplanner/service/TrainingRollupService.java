@@ -0,0 +1,175 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.repository.DailyTrainingRollupRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Keeps the per-user daily training rollups in step with the set tables.
+ *
+ * Write paths record which (user, training day) pairs they touched. The pairs are collected per
+ * transaction and rebuilt once, just before commit, in the same transaction as the change; outside a
+ * transaction they are rebuilt immediately. A scheduled reconciliation rebuilds recently modified or
+ * trained days to repair drift from writes that bypass the services.
+ */
+@Service
+public class TrainingRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingRollupService.class);
+
+    private final DailyTrainingRollupRepository dailyTrainingRollupRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration reconcileLookback;
+
+    public TrainingRollupService(DailyTrainingRollupRepository dailyTrainingRollupRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.analytics.rollup.reconcile-lookback:48h}") Duration reconcileLookback) {
+        this.dailyTrainingRollupRepository = dailyTrainingRollupRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileLookback = reconcileLookback;
+    }
+
+    /**
+     * Training day of a session, matching {@link DailyTrainingRollupRepository#TRAINING_DATE}.
+     *
+     * @return the day, or null for a session that has not been persisted yet
+     */
+    public static LocalDate trainingDateOf(WorkoutSession workoutSession) {
+        if (workoutSession.getStartedAt() != null) {
+            return workoutSession.getStartedAt().toLocalDate();
+        }
+        if (workoutSession.getScheduledDate() != null) {
+            return workoutSession.getScheduledDate();
+        }
+        return workoutSession.getCreatedAt() != null ? workoutSession.getCreatedAt().toLocalDate() : null;
+    }
+
+    /**
+     * Records a change to the sets of a workout exercise.
+     */
+    public void recordChange(WorkoutExercise workoutExercise) {
+        if (workoutExercise != null) {
+            recordChange(workoutExercise.getWorkoutSession());
+        }
+    }
+
+    /**
+     * Records a change to a workout session or anything below it, on its current training day.
+     */
+    public void recordChange(WorkoutSession workoutSession) {
+        if (workoutSession == null || workoutSession.getUser() == null) {
+            return;
+        }
+        LocalDate trainingDate = trainingDateOf(workoutSession);
+        if (trainingDate != null) {
+            recordChange(workoutSession.getUser().getUserId(), Set.of(trainingDate));
+        }
+    }
+
+    /**
+     * Records changes to the given training days of a user. The refresh bumps the user's data version,
+     * which invalidates the user's cached analytics on every instance.
+     *
+     * @param userId owner of the changed training data
+     * @param dates  affected training days
+     */
+    public void recordChange(Long userId, Collection<LocalDate> dates) {
+        if (userId == null || dates.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(status -> dailyTrainingRollupRepository.refreshDays(userId, dates));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Long, Set<LocalDate>> pending = (Map<Long, Set<LocalDate>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingRollupSynchronization(pending));
+        }
+        pending.computeIfAbsent(userId, id -> new TreeSet<>()).addAll(dates);
+    }
+
+    /**
+     * Rebuilds every day of every user whose base rows changed within the lookback window, plus every
+     * day trained or rolled up within it. Each user is rebuilt in its own transaction.
+     */
+    @Scheduled(cron = "${app.analytics.rollup.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        LocalDateTime modifiedSince = LocalDateTime.now().minus(reconcileLookback);
+        Map<Long, SortedSet<LocalDate>> days = dailyTrainingRollupRepository
+                .findDaysToReconcile(modifiedSince, modifiedSince.toLocalDate());
+
+        long startNanos = System.nanoTime();
+        int users = 0;
+        for (Map.Entry<Long, SortedSet<LocalDate>> entry : days.entrySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        dailyTrainingRollupRepository.refreshDays(entry.getKey(), entry.getValue()));
+                users++;
+            } catch (RuntimeException e) {
+                logger.error("Training rollup reconciliation failed: userId={}", entry.getKey(), e);
+            }
+        }
+        logger.info("Training rollups reconciled: users={}, days={}, durationMs={}", users,
+                days.values().stream().mapToInt(Set::size).sum(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    /**
+     * Rebuilds all rollups of one user, e.g. after a manual data fix.
+     */
+    public void rebuildUser(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            int rows = dailyTrainingRollupRepository.rebuildUser(userId);
+            logger.info("Training rollups rebuilt: userId={}, rows={}", userId, rows);
+        });
+    }
+
+    private final class PendingRollupSynchronization implements TransactionSynchronization {
+
+        private final Map<Long, Set<LocalDate>> pending;
+
+        private PendingRollupSynchronization(Map<Long, Set<LocalDate>> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Rollups are computed in SQL, so pending entity changes must reach the database first
+            entityManager.flush();
+            pending.forEach(dailyTrainingRollupRepository::refreshDays);
+            logger.debug("Training rollups refreshed: users={}", pending.size());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TrainingRollupService.this);
+        }
+    }
+}
@@ -13,7 +13,10 @@ import com.workoutplanner.workoutplanner.mapper.UserMapper;
 import com.workoutplanner.workoutplanner.repository.UserRepository;
 import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
 import com.workoutplanner.workoutplanner.security.Auth0AuthenticationToken;
+import com.workoutplanner.workoutplanner.security.Permission;
+import com.workoutplanner.workoutplanner.security.SecurityContextHelper;
 import com.workoutplanner.workoutplanner.util.ValidationUtils;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -30,6 +33,7 @@ import java.util.List;
  * this service manages local user records and business data relationships.
  */
 @Service
+@Instrumented(Instrumented.SERVICE)
 public class UserService implements UserServiceInterface {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
@@ -89,7 +93,7 @@ public class UserService implements UserServiceInterface {
         Page<User> page = userRepository.findAll(pageable);
         List<UserResponse> responses = userMapper.toResponseList(page.getContent());
 
-        logger.info("Retrieved {} users (page {} of {})", responses.size(), page.getNumber(), page.getTotalPages());
+        logger.debug("Retrieved {} users (page {} of {})", responses.size(), page.getNumber(), page.getTotalPages());
 
         return new PagedResponse<>(
             responses,
@@ -183,7 +187,7 @@ public class UserService implements UserServiceInterface {
         String sanitized = ValidationUtils.sanitizeLikeWildcards(firstName.trim());
         List<User> users = userRepository.findByFirstNameContainingIgnoreCase(sanitized);
 
-        logger.info("Found {} users matching '{}'", users.size(), sanitized);
+        logger.debug("Found {} users matching '{}'", users.size(), sanitized);
         return userMapper.toResponseList(users);
     }
 
@@ -209,7 +213,7 @@ public class UserService implements UserServiceInterface {
             }
 
             // Admin bypass - admins can access all users
-            if (hasAuthority(auth, "read:users")) {
+            if (SecurityContextHelper.hasPermission(auth, Permission.READ_USERS)) {
                 logger.debug("Admin access granted for user operation userId={}", userId);
                 return true;
             }
@@ -226,9 +230,4 @@ public class UserService implements UserServiceInterface {
             return false;
         }
     }
-
-    private boolean hasAuthority(Authentication auth, String authority) {
-        return auth.getAuthorities().stream()
-                .anyMatch(a -> a.getAuthority().equals(authority));
-    }
 }
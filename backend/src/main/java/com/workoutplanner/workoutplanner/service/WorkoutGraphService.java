@@ -0,0 +1,162 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.dto.response.ExerciseResponse;
+import com.workoutplanner.workoutplanner.dto.response.SetResponse;
+import com.workoutplanner.workoutplanner.dto.response.UserResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.mapper.BaseSetMapper;
+import com.workoutplanner.workoutplanner.mapper.ExerciseMapper;
+import com.workoutplanner.workoutplanner.mapper.UserMapper;
+import com.workoutplanner.workoutplanner.mapper.WorkoutMapper;
+import com.workoutplanner.workoutplanner.repository.CardioSetRepository;
+import com.workoutplanner.workoutplanner.repository.ExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.FlexibilitySetRepository;
+import com.workoutplanner.workoutplanner.repository.StrengthSetRepository;
+import com.workoutplanner.workoutplanner.repository.UserRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch lookups behind the DataLoaders of the GraphQL API.
+ *
+ * Each method loads the associations of many parents in one query per 1000 parents, so resolving a
+ * field for a whole list of workouts (or workout exercises) costs the same number of statements as
+ * resolving it for one. The ids passed in come from parents the caller has already been authorized for;
+ * ownership is checked where those parents are loaded, not again here.
+ */
+@Service
+@Instrumented(Instrumented.SERVICE)
+public class WorkoutGraphService {
+
+    /**
+     * Keeps the expanded {@code IN} list well below the PostgreSQL bind parameter limit.
+     */
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final StrengthSetRepository strengthSetRepository;
+    private final CardioSetRepository cardioSetRepository;
+    private final FlexibilitySetRepository flexibilitySetRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+    private final WorkoutMapper workoutMapper;
+    private final BaseSetMapper baseSetMapper;
+    private final ExerciseMapper exerciseMapper;
+    private final UserMapper userMapper;
+
+    public WorkoutGraphService(WorkoutExerciseRepository workoutExerciseRepository,
+                               StrengthSetRepository strengthSetRepository,
+                               CardioSetRepository cardioSetRepository,
+                               FlexibilitySetRepository flexibilitySetRepository,
+                               ExerciseRepository exerciseRepository,
+                               UserRepository userRepository,
+                               WorkoutMapper workoutMapper,
+                               BaseSetMapper baseSetMapper,
+                               ExerciseMapper exerciseMapper,
+                               UserMapper userMapper) {
+        this.workoutExerciseRepository = workoutExerciseRepository;
+        this.strengthSetRepository = strengthSetRepository;
+        this.cardioSetRepository = cardioSetRepository;
+        this.flexibilitySetRepository = flexibilitySetRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.userRepository = userRepository;
+        this.workoutMapper = workoutMapper;
+        this.baseSetMapper = baseSetMapper;
+        this.exerciseMapper = exerciseMapper;
+        this.userMapper = userMapper;
+    }
+
+    /**
+     * Exercises of the given workouts, in workout order; one query per 1000 workouts.
+     *
+     * @param sessionIds the workout session IDs
+     * @return exercises by session ID; workouts without exercises are absent
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public Map<Long, List<WorkoutExerciseResponse>> getWorkoutExercisesBySessionIds(Collection<Long> sessionIds) {
+        return findInChunks(sessionIds, workoutExerciseRepository::findBySessionIdIn).stream()
+                .collect(Collectors.groupingBy(
+                        workoutExercise -> workoutExercise.getWorkoutSession().getSessionId(),
+                        Collectors.mapping(workoutMapper::toWorkoutExerciseResponse, Collectors.toList())));
+    }
+
+    /**
+     * Sets of the given workout exercises, by set number. Sets live in one table per exercise type,
+     * so this is one query per type present among the exercises (and per 1000 exercises of that type).
+     *
+     * @param exerciseTypes exercise type by workout exercise ID
+     * @return sets by workout exercise ID; exercises without sets are absent
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public Map<Long, List<SetResponse>> getSetsByWorkoutExerciseIds(Map<Long, ExerciseType> exerciseTypes) {
+        Map<ExerciseType, List<Long>> idsByType = new EnumMap<>(ExerciseType.class);
+        exerciseTypes.forEach((workoutExerciseId, type) ->
+                idsByType.computeIfAbsent(type, key -> new ArrayList<>()).add(workoutExerciseId));
+
+        List<SetResponse> sets = new ArrayList<>();
+        idsByType.forEach((type, ids) -> sets.addAll(switch (type) {
+            case STRENGTH -> baseSetMapper.toSetResponseList(findInChunks(ids, strengthSetRepository::findByWorkoutExerciseIdIn));
+            case CARDIO -> baseSetMapper.toCardioSetResponseList(findInChunks(ids, cardioSetRepository::findByWorkoutExerciseIdIn));
+            case FLEXIBILITY -> baseSetMapper.toFlexibilitySetResponseList(
+                    findInChunks(ids, flexibilitySetRepository::findByWorkoutExerciseIdIn));
+        }));
+        return sets.stream().collect(Collectors.groupingBy(SetResponse::getWorkoutExerciseId));
+    }
+
+    /**
+     * Exercises of the library by ID; one query per 1000 IDs.
+     *
+     * @param exerciseIds the exercise IDs
+     * @return exercises by ID; unknown or deleted exercises are absent
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public Map<Long, ExerciseResponse> getExercisesByIds(Collection<Long> exerciseIds) {
+        return findInChunks(exerciseIds, exerciseRepository::findByExerciseIdIn).stream()
+                .map(exerciseMapper::toResponse)
+                .collect(Collectors.toMap(ExerciseResponse::getExerciseId, Function.identity()));
+    }
+
+    /**
+     * Users by ID; one query per 1000 IDs.
+     *
+     * @param userIds the user IDs
+     * @return users by ID; unknown or deleted users are absent
+     */
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public Map<Long, UserResponse> getUsersByIds(Collection<Long> userIds) {
+        return findInChunks(userIds, userRepository::findByUserIdIn).stream()
+                .map(userMapper::toResponse)
+                .collect(Collectors.toMap(UserResponse::getUserId, Function.identity()));
+    }
+
+    /**
+     * Runs an {@code IN} query over the IDs in chunks of {@link #MAX_IDS_PER_STATEMENT}.
+     */
+    private static <T> List<T> findInChunks(Collection<Long> ids, Function<List<Long>, List<T>> query) {
+        List<Long> idList = new ArrayList<>(ids);
+        if (idList.size() <= MAX_IDS_PER_STATEMENT) {
+            return query.apply(idList);
+        }
+        List<T> results = new ArrayList<>();
+        for (int from = 0; from < idList.size(); from += MAX_IDS_PER_STATEMENT) {
+            results.addAll(query.apply(idList.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, idList.size()))));
+        }
+        return results;
+    }
+}
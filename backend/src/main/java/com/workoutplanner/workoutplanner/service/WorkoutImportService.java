@@ -0,0 +1,366 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workoutplanner.workoutplanner.dto.response.ImportProgressResponse;
+import com.workoutplanner.workoutplanner.dto.response.ImportReportResponse;
+import com.workoutplanner.workoutplanner.dto.response.ImportRowErrorResponse;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.enums.ImportFormat;
+import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
+import com.workoutplanner.workoutplanner.security.SecurityContextHelper;
+import com.workoutplanner.workoutplanner.service.importing.CsvImportRecordReader;
+import com.workoutplanner.workoutplanner.service.importing.ImportProgress;
+import com.workoutplanner.workoutplanner.service.importing.ImportProgressRegistry;
+import com.workoutplanner.workoutplanner.service.importing.ImportRecord;
+import com.workoutplanner.workoutplanner.service.importing.ImportRecordReader;
+import com.workoutplanner.workoutplanner.service.importing.ImportStagingWriter;
+import com.workoutplanner.workoutplanner.service.importing.NdjsonImportRecordReader;
+import com.workoutplanner.workoutplanner.service.importing.WorkoutImportRow;
+import com.workoutplanner.workoutplanner.service.importing.WorkoutImportRowValidator;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for bulk importing historical workouts.
+ *
+ * Rows are validated as they are read and streamed into a temporary staging table with
+ * PostgreSQL {@code COPY}, then merged into sessions, workout exercises and sets with a handful of
+ * set-based INSERT ... SELECT statements. Staging and merge run in one transaction, so an import
+ * either lands completely or not at all. Memory use is independent of file size.
+ */
+@Service
+public class WorkoutImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkoutImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final long PROGRESS_LOG_INTERVAL = 100_000;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final String CREATE_STAGING_TABLE = """
+            CREATE TEMP TABLE import_set_rows (
+                line_number bigint NOT NULL,
+                session_key text NOT NULL,
+                session_name text NOT NULL,
+                started_at timestamp NOT NULL,
+                completed_at timestamp,
+                exercise_id bigint NOT NULL,
+                exercise_order integer NOT NULL,
+                exercise_type text NOT NULL,
+                set_number integer NOT NULL,
+                reps integer,
+                weight numeric(5,2),
+                duration_in_seconds integer,
+                distance numeric(8,2),
+                distance_unit text,
+                stretch_type text,
+                intensity integer,
+                rest_time_in_seconds integer,
+                notes text,
+                completed boolean NOT NULL
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING =
+            "COPY import_set_rows (" + ImportStagingWriter.COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Rows whose (sessionKey, exerciseOrder) slot is claimed by more than one exercise cannot be
+     * merged unambiguously; they are removed from staging and reported.
+     */
+    private static final String REJECT_CONFLICTING_ORDERS = """
+            DELETE FROM import_set_rows r
+            USING (SELECT session_key, exercise_order
+                   FROM import_set_rows
+                   GROUP BY session_key, exercise_order
+                   HAVING count(DISTINCT exercise_id) > 1) c
+            WHERE r.session_key = c.session_key AND r.exercise_order = c.exercise_order
+            RETURNING r.line_number, r.session_key, r.exercise_order
+            """;
+
+    /**
+     * Session and workout exercise IDs are drawn from the identity sequences up front so child rows
+     * can be joined to their parents without a RETURNING round trip. The first row of each session
+     * supplies its name and timestamps.
+     */
+    private static final String STAGE_SESSIONS = """
+            CREATE TEMP TABLE import_sessions ON COMMIT DROP AS
+            SELECT nextval(pg_get_serial_sequence('workout_sessions', 'session_id')) AS session_id, s.*
+            FROM (SELECT DISTINCT ON (session_key) session_key, session_name, started_at, completed_at
+                  FROM import_set_rows
+                  ORDER BY session_key, line_number) s
+            """;
+
+    private static final String STAGE_WORKOUT_EXERCISES = """
+            CREATE TEMP TABLE import_workout_exercises ON COMMIT DROP AS
+            SELECT nextval(pg_get_serial_sequence('workout_exercises', 'workout_exercise_id')) AS workout_exercise_id,
+                   e.*
+            FROM (SELECT s.session_id, r.exercise_order, min(r.exercise_id) AS exercise_id
+                  FROM import_set_rows r
+                  JOIN import_sessions s ON s.session_key = r.session_key
+                  GROUP BY s.session_id, r.exercise_order) e
+            """;
+
+    private static final String INSERT_SESSIONS = """
+            INSERT INTO workout_sessions (session_id, name, user_id, status, scheduled_date, started_at,
+                                          completed_at, actual_duration_in_minutes, created_at, updated_at,
+                                          created_by, updated_by, deleted, version)
+            SELECT session_id, session_name, ?, 'COMPLETED', started_at::date, started_at, completed_at,
+                   CASE WHEN completed_at IS NOT NULL
+                        THEN LEAST(1440, floor(extract(epoch FROM completed_at - started_at) / 60))::integer
+                   END,
+                   LOCALTIMESTAMP, LOCALTIMESTAMP, ?, ?, false, 0
+            FROM import_sessions
+            """;
+
+    private static final String INSERT_WORKOUT_EXERCISES = """
+            INSERT INTO workout_exercises (workout_exercise_id, session_id, exercise_id, order_in_workout,
+                                           created_at, updated_at, created_by, updated_by, deleted, version)
+            SELECT workout_exercise_id, session_id, exercise_id, exercise_order,
+                   LOCALTIMESTAMP, LOCALTIMESTAMP, ?, ?, false, 0
+            FROM import_workout_exercises
+            """;
+
+    private static final String IMPORTED_TRAINING_DATES =
+            "SELECT DISTINCT CAST(started_at AS date) FROM import_sessions";
+
+    private static final String STAGED_SETS = """
+            FROM import_set_rows r
+            JOIN import_sessions s ON s.session_key = r.session_key
+            JOIN import_workout_exercises we ON we.session_id = s.session_id AND we.exercise_order = r.exercise_order
+            WHERE r.exercise_type = ?
+            """;
+
+    private static final String INSERT_STRENGTH_SETS = """
+            INSERT INTO strength_sets (workout_exercise_id, set_number, reps, weight, rest_time_in_seconds, notes,
+                                       completed, created_at, updated_at, created_by, updated_by, deleted, version)
+            SELECT we.workout_exercise_id, r.set_number, r.reps, r.weight, r.rest_time_in_seconds, r.notes,
+                   r.completed, LOCALTIMESTAMP, LOCALTIMESTAMP, ?, ?, false, 0
+            """ + STAGED_SETS;
+
+    private static final String INSERT_CARDIO_SETS = """
+            INSERT INTO cardio_sets (workout_exercise_id, set_number, duration_in_seconds, distance, distance_unit,
+                                     rest_time_in_seconds, notes, completed, created_at, updated_at, created_by,
+                                     updated_by, deleted, version)
+            SELECT we.workout_exercise_id, r.set_number, r.duration_in_seconds, r.distance, r.distance_unit,
+                   r.rest_time_in_seconds, r.notes, r.completed, LOCALTIMESTAMP, LOCALTIMESTAMP, ?, ?, false, 0
+            """ + STAGED_SETS;
+
+    private static final String INSERT_FLEXIBILITY_SETS = """
+            INSERT INTO flexibility_sets (workout_exercise_id, set_number, duration_in_seconds, stretch_type,
+                                          intensity, rest_time_in_seconds, notes, completed, created_at, updated_at,
+                                          created_by, updated_by, deleted, version)
+            SELECT we.workout_exercise_id, r.set_number, r.duration_in_seconds, r.stretch_type, r.intensity,
+                   r.rest_time_in_seconds, r.notes, r.completed, LOCALTIMESTAMP, LOCALTIMESTAMP, ?, ?, false, 0
+            """ + STAGED_SETS;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final ImportProgressRegistry progressRegistry;
+    private final TrainingRollupService trainingRollupService;
+    private final long maxRejectedRows;
+
+    public WorkoutImportService(JdbcTemplate jdbcTemplate,
+                                DataSource dataSource,
+                                ObjectMapper objectMapper,
+                                ImportProgressRegistry progressRegistry,
+                                TrainingRollupService trainingRollupService,
+                                @Value("${app.import.max-rejected-rows:10000}") long maxRejectedRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.progressRegistry = progressRegistry;
+        this.trainingRollupService = trainingRollupService;
+        this.maxRejectedRows = maxRejectedRows;
+    }
+
+    /**
+     * Imports workout history for the current user.
+     *
+     * Invalid rows are skipped and reported; the import is rolled back if more than
+     * {@code app.import.max-rejected-rows} rows are rejected.
+     *
+     * @param input  the file content, read as UTF-8
+     * @param format the file format
+     * @return the import report
+     */
+    @Transactional
+    @PreAuthorize("isAuthenticated()")
+    public ImportReportResponse importWorkouts(InputStream input, ImportFormat format) {
+        Long userId = SecurityContextHelper.getCurrentUserId();
+        ImportProgress progress = progressRegistry.start(userId, format);
+        long startNanos = System.nanoTime();
+        logger.info("Workout import started: importId={}, userId={}, format={}",
+                progress.getImportId(), userId, format);
+
+        try {
+            List<ImportRowErrorResponse> errors = new ArrayList<>();
+            long rowsStaged = stageRows(input, format, progress, errors);
+
+            progress.enterPhase(ImportProgress.Phase.MERGING);
+            long conflicting = rejectConflictingOrders(progress, errors);
+            ImportReportResponse report = merge(userId);
+            trainingRollupService.recordChange(userId, findImportedTrainingDates());
+
+            report.setImportId(progress.getImportId());
+            report.setFormat(format);
+            report.setRowsRead(progress.getRowsRead());
+            report.setRowsImported(rowsStaged - conflicting);
+            report.setRowsRejected(progress.getRowsRejected());
+            report.setErrors(errors);
+            report.setErrorsTruncated(progress.getRowsRejected() > errors.size());
+            report.setDurationMillis((System.nanoTime() - startNanos) / 1_000_000);
+
+            logger.info("Workout import finished: importId={}, rowsRead={}, rowsImported={}, rowsRejected={}, "
+                            + "sessions={}, sets={}, durationMs={}",
+                    report.getImportId(), report.getRowsRead(), report.getRowsImported(), report.getRowsRejected(),
+                    report.getSessionsCreated(), report.getSetsCreated(), report.getDurationMillis());
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import file", e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to stage import rows", e);
+        } finally {
+            progressRegistry.finish(progress);
+        }
+    }
+
+    /**
+     * Lists imports of the current user that are still running on this instance.
+     */
+    @PreAuthorize("isAuthenticated()")
+    public List<ImportProgressResponse> getMyRunningImports() {
+        Long userId = SecurityContextHelper.getCurrentUserId();
+        return progressRegistry.findByUserId(userId).stream()
+                .map(progress -> new ImportProgressResponse(progress.getImportId(), progress.getFormat(),
+                        progress.getPhase().name(), progress.getRowsRead(), progress.getRowsRejected(),
+                        progress.getStartedAt()))
+                .toList();
+    }
+
+    /**
+     * Streams validated rows into the staging table. Returns the number of staged rows.
+     */
+    private long stageRows(InputStream input, ImportFormat format, ImportProgress progress,
+                           List<ImportRowErrorResponse> errors) throws IOException, SQLException {
+        WorkoutImportRowValidator validator = new WorkoutImportRowValidator(loadExerciseTypes(), LocalDateTime.now());
+        jdbcTemplate.execute(CREATE_STAGING_TABLE);
+
+        // Transaction-bound connection: must not be closed here
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+
+        long rowsStaged;
+        try (ImportRecordReader reader = openReader(input, format);
+             ImportStagingWriter writer = new ImportStagingWriter(
+                     new PGCopyOutputStream(copyManager.copyIn(COPY_STAGING), COPY_BUFFER_SIZE))) {
+            List<String> rowErrors = new ArrayList<>(4);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                long rowsRead = progress.recordRead();
+                if (rowsRead % PROGRESS_LOG_INTERVAL == 0) {
+                    logger.info("Workout import progress: importId={}, rowsRead={}, rowsRejected={}",
+                            progress.getImportId(), rowsRead, progress.getRowsRejected());
+                }
+
+                rowErrors.clear();
+                WorkoutImportRow row = validator.validate(record, rowErrors);
+                if (row == null) {
+                    reject(progress, errors, record.lineNumber(), String.join("; ", rowErrors));
+                    continue;
+                }
+                writer.write(row);
+            }
+            rowsStaged = writer.getRowsWritten();
+        }
+
+        // Temporary tables are never auto-analyzed; give the planner real row counts for the merge joins
+        jdbcTemplate.execute("ANALYZE import_set_rows");
+        return rowsStaged;
+    }
+
+    private long rejectConflictingOrders(ImportProgress progress, List<ImportRowErrorResponse> errors) {
+        long[] rejected = {0};
+        jdbcTemplate.query(REJECT_CONFLICTING_ORDERS, rs -> {
+            rejected[0]++;
+            reject(progress, errors, rs.getLong("line_number"), String.format(
+                    "exerciseOrder %d of session '%s' refers to more than one exerciseId",
+                    rs.getInt("exercise_order"), rs.getString("session_key")));
+        });
+        return rejected[0];
+    }
+
+    private ImportReportResponse merge(Long userId) {
+        jdbcTemplate.execute(STAGE_SESSIONS);
+        jdbcTemplate.execute(STAGE_WORKOUT_EXERCISES);
+
+        ImportReportResponse report = new ImportReportResponse();
+        report.setSessionsCreated(jdbcTemplate.update(INSERT_SESSIONS, userId, userId, userId));
+        report.setWorkoutExercisesCreated(jdbcTemplate.update(INSERT_WORKOUT_EXERCISES, userId, userId));
+        report.setSetsCreated(
+                jdbcTemplate.update(INSERT_STRENGTH_SETS, userId, userId, ExerciseType.STRENGTH.name())
+                + jdbcTemplate.update(INSERT_CARDIO_SETS, userId, userId, ExerciseType.CARDIO.name())
+                + jdbcTemplate.update(INSERT_FLEXIBILITY_SETS, userId, userId, ExerciseType.FLEXIBILITY.name()));
+        return report;
+    }
+
+    private List<LocalDate> findImportedTrainingDates() {
+        return jdbcTemplate.queryForList(IMPORTED_TRAINING_DATES, LocalDate.class);
+    }
+
+    private void reject(ImportProgress progress, List<ImportRowErrorResponse> errors, long lineNumber, String message) {
+        long rejected = progress.recordRejected();
+        if (rejected > maxRejectedRows) {
+            throw new BusinessLogicException(String.format(
+                    "Import aborted: more than %d rows were rejected. First error at line %d: %s",
+                    maxRejectedRows, errors.isEmpty() ? lineNumber : errors.get(0).getLineNumber(),
+                    errors.isEmpty() ? message : errors.get(0).getMessage()));
+        }
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ImportRowErrorResponse(lineNumber, message));
+        }
+    }
+
+    private ImportRecordReader openReader(InputStream input, ImportFormat format) {
+        Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvImportRecordReader(reader);
+            case NDJSON -> new NdjsonImportRecordReader(reader, objectMapper);
+        };
+    }
+
+    private Map<Long, ExerciseType> loadExerciseTypes() {
+        Map<Long, ExerciseType> exerciseTypes = new HashMap<>();
+        jdbcTemplate.query("SELECT exercise_id, type FROM exercises WHERE deleted = false",
+                rs -> {
+                    exerciseTypes.put(rs.getLong("exercise_id"), ExerciseType.valueOf(rs.getString("type")));
+                });
+        return exerciseTypes;
+    }
+}
@@ -0,0 +1,203 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.dto.response.WorkoutLiveEventResponse;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import com.workoutplanner.workoutplanner.event.SetChangedEvent;
+import com.workoutplanner.workoutplanner.event.WorkoutStatusChangedEvent;
+import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
+import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
+import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
+import com.workoutplanner.workoutplanner.service.live.LiveEvent;
+import com.workoutplanner.workoutplanner.service.live.LiveEventSubscriber;
+import com.workoutplanner.workoutplanner.service.live.SseLiveEventSink;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes set and status changes of workout sessions to connected clients as Server-Sent Events.
+ *
+ * Changes are broadcast once their transaction has committed. Publishing is lock-free and O(1) per
+ * subscriber: each event is appended to the subscribers' bounded buffers and written out by the live
+ * event executor, so a slow client never holds up a write request. A client that falls behind gets a
+ * single "resync" event instead of the events it missed and should reload the session.
+ *
+ * The executor is owned by this service rather than exposed as a bean, so it does not replace
+ * Spring Boot's {@code applicationTaskExecutor} used by MVC async requests and {@code @Async}.
+ */
+@Service
+public class WorkoutLiveStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkoutLiveStreamService.class);
+
+    static final String EVENT_CONNECTED = "connected";
+    static final String EVENT_RESYNC = "resync";
+    static final String EVENT_STATUS_CHANGED = "status-changed";
+    static final String EVENT_SET_PREFIX = "set-";
+
+    private final Map<Long, Set<LiveEventSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    private final WorkoutSessionRepository workoutSessionRepository;
+    private final ThreadPoolTaskExecutor liveEventExecutor;
+    private final int bufferSize;
+    private final int maxSubscribersPerSession;
+    private final Duration timeout;
+
+    public WorkoutLiveStreamService(WorkoutSessionRepository workoutSessionRepository,
+                                    @Value("${app.live.executor-threads:4}") int executorThreads,
+                                    @Value("${app.live.executor-queue-capacity:10000}") int executorQueueCapacity,
+                                    @Value("${app.live.buffer-size:64}") int bufferSize,
+                                    @Value("${app.live.max-subscribers-per-session:16}") int maxSubscribersPerSession,
+                                    @Value("${app.live.timeout:30m}") Duration timeout) {
+        this.workoutSessionRepository = workoutSessionRepository;
+        this.liveEventExecutor = liveEventExecutor(executorThreads, executorQueueCapacity);
+        this.bufferSize = bufferSize;
+        this.maxSubscribersPerSession = maxSubscribersPerSession;
+        this.timeout = timeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        liveEventExecutor.shutdown();
+    }
+
+    /**
+     * Opens a live stream for a workout session that has not finished yet.
+     * The first event is "connected" carrying the current status, or "resync" when the client is
+     * reconnecting, since events missed while disconnected are not retained.
+     *
+     * @param sessionId   the workout session to follow
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, or null
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long sessionId, String lastEventId) {
+        WorkoutSession workoutSession = workoutSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workout session", "ID", sessionId));
+        if (isFinished(workoutSession.getStatus())) {
+            throw new BusinessLogicException("Live updates are not available for a "
+                    + workoutSession.getStatus().name().toLowerCase(Locale.ROOT) + " workout");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        LiveEventSubscriber subscriber = new LiveEventSubscriber(new SseLiveEventSink(emitter), liveEventExecutor,
+                bufferSize, () -> resyncEvent(sessionId), closed -> unsubscribe(sessionId, closed));
+
+        AtomicBoolean registered = new AtomicBoolean();
+        subscribers.compute(sessionId, (id, sessionSubscribers) -> {
+            Set<LiveEventSubscriber> result = sessionSubscribers != null ? sessionSubscribers : ConcurrentHashMap.newKeySet();
+            if (result.size() < maxSubscribersPerSession) {
+                result.add(subscriber);
+                registered.set(true);
+            }
+            return result.isEmpty() ? null : result;
+        });
+        if (!registered.get()) {
+            throw new BusinessLogicException("Too many live connections for this workout");
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+
+        String firstEvent = lastEventId != null ? EVENT_RESYNC : EVENT_CONNECTED;
+        subscriber.offer(new LiveEvent(eventIds.incrementAndGet(), firstEvent,
+                statusPayload(sessionId, null, workoutSession.getStatus())));
+        logger.debug("Live stream opened: sessionId={}, subscribers={}", sessionId, subscriberCount(sessionId));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSetChanged(SetChangedEvent event) {
+        broadcast(event.sessionId(), EVENT_SET_PREFIX + event.changeType().name().toLowerCase(Locale.ROOT),
+                new WorkoutLiveEventResponse(event.sessionId(), event.workoutExerciseId(), event.setId(),
+                        event.setType(), event.changeType(), null, null, event.occurredAt()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(WorkoutStatusChangedEvent event) {
+        broadcast(event.sessionId(), EVENT_STATUS_CHANGED,
+                new WorkoutLiveEventResponse(event.sessionId(), null, null, null, null,
+                        event.previousStatus(), event.status(), event.occurredAt()));
+        if (isFinished(event.status())) {
+            Set<LiveEventSubscriber> sessionSubscribers = subscribers.get(event.sessionId());
+            if (sessionSubscribers != null) {
+                sessionSubscribers.forEach(LiveEventSubscriber::completeAfterDrain);
+            }
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies and detects clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${app.live.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(sessionSubscribers -> sessionSubscribers.forEach(LiveEventSubscriber::heartbeat));
+    }
+
+    int subscriberCount(Long sessionId) {
+        Set<LiveEventSubscriber> sessionSubscribers = subscribers.get(sessionId);
+        return sessionSubscribers != null ? sessionSubscribers.size() : 0;
+    }
+
+    private void broadcast(Long sessionId, String name, WorkoutLiveEventResponse payload) {
+        Set<LiveEventSubscriber> sessionSubscribers = subscribers.get(sessionId);
+        if (sessionSubscribers == null) {
+            return;
+        }
+        LiveEvent event = new LiveEvent(eventIds.incrementAndGet(), name, payload);
+        sessionSubscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    private void unsubscribe(Long sessionId, LiveEventSubscriber subscriber) {
+        subscribers.computeIfPresent(sessionId, (id, sessionSubscribers) -> {
+            sessionSubscribers.remove(subscriber);
+            return sessionSubscribers.isEmpty() ? null : sessionSubscribers;
+        });
+        logger.debug("Live stream closed: sessionId={}", sessionId);
+    }
+
+    private LiveEvent resyncEvent(Long sessionId) {
+        return new LiveEvent(eventIds.incrementAndGet(), EVENT_RESYNC, statusPayload(sessionId, null, null));
+    }
+
+    /**
+     * Writes live events to connected clients, off the request and commit threads.
+     */
+    private static ThreadPoolTaskExecutor liveEventExecutor(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("live-events-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    private static WorkoutLiveEventResponse statusPayload(Long sessionId, WorkoutStatus previousStatus,
+                                                          WorkoutStatus status) {
+        return new WorkoutLiveEventResponse(sessionId, null, null, null, null, previousStatus, status, Instant.now());
+    }
+
+    private static boolean isFinished(WorkoutStatus status) {
+        return status == WorkoutStatus.COMPLETED || status == WorkoutStatus.CANCELLED;
+    }
+}
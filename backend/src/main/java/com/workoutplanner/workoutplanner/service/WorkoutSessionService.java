@@ -4,6 +4,7 @@ import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutExerciseRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutExerciseRequest;
+import com.workoutplanner.workoutplanner.dto.request.WorkoutFieldSelection;
 import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
@@ -15,6 +16,7 @@ import com.workoutplanner.workoutplanner.entity.User;
 import com.workoutplanner.workoutplanner.entity.Exercise;
 import com.workoutplanner.workoutplanner.enums.ExerciseType;
 import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import com.workoutplanner.workoutplanner.event.WorkoutStatusChangedEvent;
 import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
 import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
 import com.workoutplanner.workoutplanner.exception.OptimisticLockConflictException;
@@ -26,15 +28,21 @@ import com.workoutplanner.workoutplanner.repository.ExerciseRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import com.workoutplanner.workoutplanner.security.SecurityContextHelper;
+import com.workoutplanner.workoutplanner.security.OwnedResource;
+import com.workoutplanner.workoutplanner.security.RequiresWorkoutOwnership;
+import com.workoutplanner.workoutplanner.service.observability.Instrumented;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import jakarta.validation.ValidationException;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -47,6 +55,7 @@ import java.util.stream.Collectors;
  * - Write operations use @Transactional for data modification
  */
 @Service
+@Instrumented(Instrumented.SERVICE)
 public class WorkoutSessionService implements WorkoutSessionServiceInterface {
 
     private static final Logger logger = LoggerFactory.getLogger(WorkoutSessionService.class);
@@ -57,6 +66,8 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
     private final UserRepository userRepository;
     private final ExerciseRepository exerciseRepository;
     private final WorkoutMapper workoutMapper;
+    private final TrainingRollupService trainingRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor injection for dependencies.
@@ -66,12 +77,16 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
                                 WorkoutExerciseRepository workoutExerciseRepository,
                                 UserRepository userRepository,
                                 ExerciseRepository exerciseRepository,
-                                WorkoutMapper workoutMapper) {
+                                WorkoutMapper workoutMapper,
+                                TrainingRollupService trainingRollupService,
+                                ApplicationEventPublisher eventPublisher) {
         this.workoutSessionRepository = workoutSessionRepository;
         this.workoutExerciseRepository = workoutExerciseRepository;
         this.userRepository = userRepository;
         this.exerciseRepository = exerciseRepository;
         this.workoutMapper = workoutMapper;
+        this.trainingRollupService = trainingRollupService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -122,19 +137,25 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
     }
 
     /**
-     * Get workout session by ID.
-     * Uses JOIN FETCH to prevent N+1 query problem when accessing user details.
+     * Get the requested parts of a workout session.
+     * The workout query fetches only the associations of the selection; sets are loaded per
+     * exercise type and only when expanded.
      *
      * @param sessionId the session ID
-     * @return WorkoutResponse the workout response
+     * @param selection fields and associations to return
+     * @return WorkoutResponse with the selected fields
      */
     @Transactional(readOnly = true)
-    @PreAuthorize("@resourceSecurityService.canAccessWorkout(#sessionId)")
-    public WorkoutResponse getWorkoutSessionById(Long sessionId) {
-        WorkoutSession workoutSession = workoutSessionRepository.findWithUserBySessionId(sessionId)
+    @RequiresWorkoutOwnership("sessionId")
+    public WorkoutResponse getWorkoutSessionById(Long sessionId, WorkoutFieldSelection selection) {
+        WorkoutSession workoutSession = workoutSessionRepository.findBySessionId(sessionId, selection.attributePaths())
                 .orElseThrow(() -> new ResourceNotFoundException(WORKOUT_SESSION, "ID", sessionId));
 
-        return workoutMapper.toWorkoutResponse(workoutSession);
+        if (selection.expandsSets()) {
+            loadSetsBasedOnExerciseType(sessionId, workoutSession.getWorkoutExercises());
+        }
+
+        return workoutMapper.toWorkoutResponse(workoutSession, selection);
     }
 
     /**
@@ -170,30 +191,21 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
     }
 
     /**
-     * Get workout session with smart loading of sets.
-     * Only loads sets based on exercise type to optimize performance.
-     * 
-     * @param sessionId the workout session ID
-     * @return WorkoutResponse with smart-loaded sets
+     * Get the requested parts of one page of the current user's workout sessions.
+     * Only the associations of the selection are fetched, in the same single query.
+     *
+     * @param selection fields and associations to return; exercises and sets are not supported here
+     * @param pageable  page number and size; sessions are always ordered most recently started first
+     * @return List of WorkoutResponse with the selected fields
      */
     @Transactional(readOnly = true)
-    public WorkoutResponse getWorkoutSessionWithSmartLoading(Long sessionId) {
-        logger.info("Loading workout session {} with smart loading", sessionId);
-        
-        // Load workout session with user
-        WorkoutSession workoutSession = workoutSessionRepository.findWithUserBySessionId(sessionId)
-                .orElseThrow(() -> new ResourceNotFoundException(WORKOUT_SESSION, "ID", sessionId));
-        
-        List<WorkoutExercise> exercises = workoutExerciseRepository.findBySessionIdOrderByOrder(sessionId);
-
-        loadSetsBasedOnExerciseType(sessionId, exercises);
-
-        workoutSession.setWorkoutExercises(exercises);
-
-        logger.info("Successfully loaded workout session {} with {} exercises using smart loading",
-                   sessionId, exercises.size());
+    @PreAuthorize("hasAuthority('read:workouts')")
+    public List<WorkoutResponse> getMyWorkouts(WorkoutFieldSelection selection, Pageable pageable) {
+        Long userId = SecurityContextHelper.getCurrentUserId();
 
-        return workoutMapper.toWorkoutResponse(workoutSession);
+        return workoutSessionRepository.findByUserId(userId, selection.attributePaths(), pageable).stream()
+                .map(workoutSession -> workoutMapper.toWorkoutResponse(workoutSession, selection))
+                .toList();
     }
 
     /**
@@ -206,15 +218,23 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
     private void loadSetsBasedOnExerciseType(Long sessionId, List<WorkoutExercise> exercises) {
         logger.debug("Starting smart loading for session {} with {} exercises", sessionId, exercises.size());
 
-        Map<Long, WorkoutExercise> strengthExercises = workoutExerciseRepository.findStrengthExercisesWithSets(sessionId, ExerciseType.STRENGTH)
+        // Types without exercises in this workout need no query
+        Set<ExerciseType> types = exercises.stream()
+                .map(exercise -> exercise.getExercise().getType())
+                .collect(Collectors.toSet());
+
+        Map<Long, WorkoutExercise> strengthExercises = !types.contains(ExerciseType.STRENGTH) ? Map.of()
+                : workoutExerciseRepository.findStrengthExercisesWithSets(sessionId, ExerciseType.STRENGTH)
                 .stream().collect(Collectors.toMap(WorkoutExercise::getWorkoutExerciseId, Function.identity()));
         logger.debug("Loaded {} strength exercises with sets", strengthExercises.size());
 
-        Map<Long, WorkoutExercise> cardioExercises = workoutExerciseRepository.findCardioExercisesWithSets(sessionId, ExerciseType.CARDIO)
+        Map<Long, WorkoutExercise> cardioExercises = !types.contains(ExerciseType.CARDIO) ? Map.of()
+                : workoutExerciseRepository.findCardioExercisesWithSets(sessionId, ExerciseType.CARDIO)
                 .stream().collect(Collectors.toMap(WorkoutExercise::getWorkoutExerciseId, Function.identity()));
         logger.debug("Loaded {} cardio exercises with sets", cardioExercises.size());
 
-        Map<Long, WorkoutExercise> flexibilityExercises = workoutExerciseRepository.findFlexibilityExercisesWithSets(sessionId, ExerciseType.FLEXIBILITY)
+        Map<Long, WorkoutExercise> flexibilityExercises = !types.contains(ExerciseType.FLEXIBILITY) ? Map.of()
+                : workoutExerciseRepository.findFlexibilityExercisesWithSets(sessionId, ExerciseType.FLEXIBILITY)
                 .stream().collect(Collectors.toMap(WorkoutExercise::getWorkoutExerciseId, Function.identity()));
         logger.debug("Loaded {} flexibility exercises with sets", flexibilityExercises.size());
         
@@ -267,7 +287,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
      * @return WorkoutResponse the updated workout response
      */
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RequiresWorkoutOwnership("sessionId")
     public WorkoutResponse updateWorkoutSession(Long sessionId, UpdateWorkoutRequest updateWorkoutRequest) {
         try {
             // Validate workout dates if provided
@@ -275,6 +295,8 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
             
             WorkoutSession workoutSession = workoutSessionRepository.findById(sessionId)
                     .orElseThrow(() -> new ResourceNotFoundException(WORKOUT_SESSION, "ID", sessionId));
+            LocalDate previousTrainingDate = TrainingRollupService.trainingDateOf(workoutSession);
+            WorkoutStatus previousStatus = workoutSession.getStatus();
 
             workoutMapper.updateEntity(updateWorkoutRequest, workoutSession);
 
@@ -284,6 +306,8 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
             }
 
             WorkoutSession savedWorkoutSession = workoutSessionRepository.save(workoutSession);
+            recordTrainingChange(savedWorkoutSession, previousTrainingDate);
+            publishStatusChange(savedWorkoutSession, previousStatus);
             return workoutMapper.toWorkoutResponse(savedWorkoutSession);
             
         } catch (ObjectOptimisticLockingFailureException e) {
@@ -310,10 +334,13 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
                     .orElseThrow(() -> new ResourceNotFoundException(WORKOUT_SESSION, "ID", sessionId));
 
             WorkoutStatus oldStatus = workoutSession.getStatus();
+            LocalDate previousTrainingDate = TrainingRollupService.trainingDateOf(workoutSession);
             handleStatusTransition(workoutSession, status);
             workoutSession.setStatus(status);
 
             WorkoutSession savedWorkoutSession = workoutSessionRepository.save(workoutSession);
+            recordTrainingChange(savedWorkoutSession, previousTrainingDate);
+            publishStatusChange(savedWorkoutSession, oldStatus);
             
             logger.info("SERVICE: Workout session status updated. sessionId={}, oldStatus={}, newStatus={}", 
                        sessionId, oldStatus, status);
@@ -329,7 +356,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
     }
 
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RequiresWorkoutOwnership("sessionId")
     public WorkoutResponse performAction(Long sessionId, String action) {
         WorkoutStatus status = switch (action.toLowerCase()) {
             case "start", "resume" -> WorkoutStatus.IN_PROGRESS;
@@ -352,10 +379,13 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
                     .orElseThrow(() -> new ResourceNotFoundException(WORKOUT_SESSION, "ID", sessionId));
 
             WorkoutStatus oldStatus = workoutSession.getStatus();
+            LocalDate previousTrainingDate = TrainingRollupService.trainingDateOf(workoutSession);
             handleStatusTransition(workoutSession, status);
             workoutSession.setStatus(status);
 
             WorkoutSession savedWorkoutSession = workoutSessionRepository.save(workoutSession);
+            recordTrainingChange(savedWorkoutSession, previousTrainingDate);
+            publishStatusChange(savedWorkoutSession, oldStatus);
 
             logger.info("SERVICE: Workout session status updated. sessionId={}, oldStatus={}, newStatus={}",
                        sessionId, oldStatus, status);
@@ -376,7 +406,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
      * @param sessionId the session ID
      */
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RequiresWorkoutOwnership("sessionId")
     public void deleteWorkoutSession(Long sessionId) {
         logger.debug("SERVICE: Soft deleting workout session. sessionId={}", sessionId);
         
@@ -385,6 +415,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
 
         workoutSession.softDelete();
         workoutSessionRepository.save(workoutSession);
+        trainingRollupService.recordChange(workoutSession);
 
         logger.info("Workout session deleted: sessionId={}", sessionId);
     }
@@ -400,7 +431,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
      * @return WorkoutExerciseResponse the created workout exercise response
      */
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canModifyWorkout(#sessionId)")
+    @RequiresWorkoutOwnership("sessionId")
     public WorkoutExerciseResponse addExerciseToWorkout(Long sessionId, CreateWorkoutExerciseRequest createWorkoutExerciseRequest) {
         WorkoutSession workoutSession = workoutSessionRepository.findById(sessionId)
                 .orElseThrow(() -> new ResourceNotFoundException(WORKOUT_SESSION, "ID", sessionId));
@@ -428,6 +459,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
                 .orElseThrow(() -> new ResourceNotFoundException("Workout exercise", "ID", workoutExerciseId));
 
         workoutExerciseRepository.delete(workoutExercise);
+        trainingRollupService.recordChange(workoutExercise);
     }
 
     /**
@@ -438,7 +470,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
      * @return WorkoutExerciseResponse the updated workout exercise
      */
     @Transactional
-    @PreAuthorize("@resourceSecurityService.canModifyWorkoutExercise(#workoutExerciseId)")
+    @RequiresWorkoutOwnership(value = "workoutExerciseId", resource = OwnedResource.WORKOUT_EXERCISE)
     public WorkoutExerciseResponse updateWorkoutExercise(Long workoutExerciseId, UpdateWorkoutExerciseRequest updateRequest) {
         WorkoutExercise workoutExercise = workoutExerciseRepository.findById(workoutExerciseId)
                 .orElseThrow(() -> new ResourceNotFoundException("Workout exercise", "ID", workoutExerciseId));
@@ -462,7 +494,7 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
      * @return List of WorkoutExerciseResponse
      */
     @Transactional(readOnly = true)
-    @PreAuthorize("@resourceSecurityService.canAccessWorkout(#sessionId)")
+    @RequiresWorkoutOwnership("sessionId")
     public List<WorkoutExerciseResponse> getWorkoutExercises(Long sessionId) {
         List<WorkoutExercise> workoutExercises = workoutExerciseRepository.findBySessionIdOrderByOrder(sessionId);
         return workoutMapper.toWorkoutExerciseResponseList(workoutExercises);
@@ -535,4 +567,20 @@ public class WorkoutSessionService implements WorkoutSessionServiceInterface {
                 break;
         }
     }
+
+    /**
+     * Records a session change for the training rollups, on both the old and the new training day.
+     */
+    private void recordTrainingChange(WorkoutSession workoutSession, LocalDate previousTrainingDate) {
+        trainingRollupService.recordChange(workoutSession);
+        if (previousTrainingDate != null && workoutSession != null && workoutSession.getUser() != null) {
+            trainingRollupService.recordChange(workoutSession.getUser().getUserId(), Set.of(previousTrainingDate));
+        }
+    }
+
+    private void publishStatusChange(WorkoutSession workoutSession, WorkoutStatus previousStatus) {
+        if (workoutSession != null && workoutSession.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(WorkoutStatusChangedEvent.of(workoutSession, previousStatus));
+        }
+    }
 }
@@ -4,6 +4,7 @@ import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutExerciseRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutExerciseRequest;
+import com.workoutplanner.workoutplanner.dto.request.WorkoutFieldSelection;
 import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
@@ -19,7 +20,7 @@ public interface WorkoutSessionServiceInterface {
 
     WorkoutResponse createWorkoutSession(CreateWorkoutRequest request);
 
-    WorkoutResponse getWorkoutSessionById(Long sessionId);
+    WorkoutResponse getWorkoutSessionById(Long sessionId, WorkoutFieldSelection selection);
 
     List<WorkoutResponse> getWorkoutSessionsByUserId(Long userId);
 
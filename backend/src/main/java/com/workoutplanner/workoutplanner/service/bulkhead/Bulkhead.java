@@ -0,0 +1,25 @@
+package com.workoutplanner.workoutplanner.service.bulkhead;
+
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns an endpoint, or all endpoints of a controller, to a bulkhead partition.
+ *
+ * Without it, GET requests run in {@link BulkheadPartition#READS} and all others in
+ * {@link BulkheadPartition#WRITES}. A method annotation wins over a class annotation.
+ *
+ * @see BulkheadInterceptor
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    BulkheadPartition value();
+}
@@ -0,0 +1,140 @@
+package com.workoutplanner.workoutplanner.service.bulkhead;
+
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import com.workoutplanner.workoutplanner.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Admits every controller request through the {@link PartitionBulkhead} of its partition (see
+ * {@link Bulkhead}), so a burst of admin listings or analytics cannot starve set logging of request
+ * threads and database connections. Requests that find their partition full and its queue full, or
+ * that wait longer than the partition's timeout, are rejected with 503 and Retry-After.
+ *
+ * Router-function endpoints such as GraphQL carry no annotations and are assigned a partition by
+ * request path instead; other handlers (static resources, error pages) are not admitted.
+ *
+ * The permit is held until the request completes, or until it goes asynchronous (live streams) so
+ * long-lived connections do not occupy the partition. GraphQL queries run on the request thread
+ * before the response goes asynchronous, so they keep their permit while they load data.
+ *
+ * Metrics per partition: {@code bulkhead.calls{partition,outcome=permitted|rejected}},
+ * {@code bulkhead.active}, {@code bulkhead.queued} and {@code bulkhead.saturation}.
+ */
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final Map<BulkheadPartition, PartitionBulkhead> bulkheads = new EnumMap<>(BulkheadPartition.class);
+    private final Map<BulkheadPartition, Counter> permitted = new EnumMap<>(BulkheadPartition.class);
+    private final Map<BulkheadPartition, Counter> rejected = new EnumMap<>(BulkheadPartition.class);
+    private final Map<String, BulkheadPartition> routePartitions;
+
+    /**
+     * @param routePartitions partitions of router-function endpoints by request path
+     */
+    public BulkheadInterceptor(Iterable<PartitionBulkhead> partitionBulkheads,
+                               Map<String, BulkheadPartition> routePartitions,
+                               MeterRegistry meterRegistry) {
+        this.routePartitions = Map.copyOf(routePartitions);
+        for (PartitionBulkhead bulkhead : partitionBulkheads) {
+            BulkheadPartition partition = bulkhead.getPartition();
+            String tag = partition.getKey();
+            bulkheads.put(partition, bulkhead);
+            permitted.put(partition, callsCounter(meterRegistry, tag, "permitted"));
+            rejected.put(partition, callsCounter(meterRegistry, tag, "rejected"));
+            Gauge.builder("bulkhead.active", bulkhead, PartitionBulkhead::getActive)
+                    .description("Requests holding a permit of the bulkhead partition")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.queued", bulkhead, PartitionBulkhead::getQueued)
+                    .description("Requests waiting for a permit of the bulkhead partition")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.saturation", bulkhead, PartitionBulkhead::getSaturation)
+                    .description("Share of the bulkhead partition's permits in use")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+        }
+        if (bulkheads.size() != BulkheadPartition.values().length) {
+            throw new IllegalArgumentException("Every bulkhead partition needs a bulkhead");
+        }
+    }
+
+    private static Counter callsCounter(MeterRegistry meterRegistry, String partition, String outcome) {
+        return Counter.builder("bulkhead.calls")
+                .description("Requests by bulkhead partition and admission outcome")
+                .tag("partition", partition)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        BulkheadPartition partition = handler instanceof HandlerMethod handlerMethod
+                ? partitionOf(handlerMethod, request)
+                : routePartitions.get(request.getRequestURI());
+        if (partition == null) {
+            return true;
+        }
+        PartitionBulkhead bulkhead = bulkheads.get(partition);
+        if (!bulkhead.tryAcquire()) {
+            rejected.get(partition).increment();
+            throw new ServiceOverloadedException("Service is busy, please retry shortly", RETRY_AFTER_SECONDS);
+        }
+        permitted.get(partition).increment();
+        request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+                                               @NonNull HttpServletResponse response,
+                                               @NonNull Object handler) {
+        release(request);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        release(request);
+    }
+
+    private static void release(HttpServletRequest request) {
+        Object bulkhead = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (bulkhead != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((PartitionBulkhead) bulkhead).release();
+        }
+    }
+
+    static BulkheadPartition partitionOf(HandlerMethod handlerMethod, HttpServletRequest request) {
+        Bulkhead bulkhead = handlerMethod.getMethodAnnotation(Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), Bulkhead.class);
+        }
+        if (bulkhead != null) {
+            return bulkhead.value();
+        }
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                ? BulkheadPartition.READS
+                : BulkheadPartition.WRITES;
+    }
+}
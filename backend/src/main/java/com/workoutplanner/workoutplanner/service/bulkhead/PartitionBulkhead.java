@@ -0,0 +1,87 @@
+package com.workoutplanner.workoutplanner.service.bulkhead;
+
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Semaphore bulkhead of one partition: at most {@code maxConcurrent} requests run at once, up to
+ * {@code maxQueue} more wait for a permit in arrival order for at most {@code maxWait}, and
+ * everything beyond that is rejected immediately.
+ */
+public class PartitionBulkhead {
+
+    private final BulkheadPartition partition;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    public PartitionBulkhead(BulkheadPartition partition, int maxConcurrent, int maxQueue, Duration maxWait) {
+        if (maxConcurrent < 1 || maxQueue < 0) {
+            throw new IllegalArgumentException("Bulkhead " + partition.getKey()
+                    + " needs max-concurrent >= 1 and max-queue >= 0");
+        }
+        this.partition = partition;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Takes a permit, waiting in line if the partition is busy and the queue has room.
+     * A successful call must be followed by exactly one {@link #release()}.
+     *
+     * @return true if the request may proceed
+     */
+    public boolean tryAcquire() {
+        // A free permit is only taken directly when nobody is waiting, to keep the order fair
+        if (queued.get() == 0 && permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            return false;
+        }
+        try {
+            return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public BulkheadPartition getPartition() {
+        return partition;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    /**
+     * @return share of the partition's permits in use, from 0 to 1
+     */
+    public double getSaturation() {
+        return (double) getActive() / maxConcurrent;
+    }
+}
@@ -0,0 +1,173 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming RFC 4180 CSV reader. The first record must be a header naming columns from {@link ImportColumns}.
+ * Quoted fields may contain commas, doubled quotes and line breaks.
+ */
+public class CsvImportRecordReader implements ImportRecordReader {
+
+    private final BufferedReader reader;
+    private List<String> header;
+    private long currentLine = 1;
+
+    public CsvImportRecordReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        if (header == null) {
+            readHeader();
+        }
+
+        while (true) {
+            long recordLine = currentLine;
+            List<String> fields;
+            try {
+                fields = readFields();
+            } catch (MalformedRecordException e) {
+                return ImportRecord.malformed(recordLine, e.getMessage());
+            }
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue; // blank line
+            }
+            if (fields.size() != header.size()) {
+                return ImportRecord.malformed(recordLine, String.format(
+                        "Expected %d columns but found %d", header.size(), fields.size()));
+            }
+
+            Map<String, String> values = new HashMap<>(header.size() * 2);
+            for (int i = 0; i < header.size(); i++) {
+                String value = fields.get(i).trim();
+                values.put(header.get(i), value.isEmpty() ? null : value);
+            }
+            return new ImportRecord(recordLine, values, null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> fields;
+        try {
+            fields = readFields();
+        } catch (MalformedRecordException e) {
+            throw new BusinessLogicException("Invalid CSV header: " + e.getMessage());
+        }
+        if (fields == null) {
+            throw new BusinessLogicException("Import file is empty");
+        }
+
+        List<String> columns = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            String column = field.trim();
+            if (!ImportColumns.ALL.contains(column)) {
+                throw new BusinessLogicException("Unknown CSV column '" + column + "'. Supported columns: "
+                        + String.join(", ", ImportColumns.ALL));
+            }
+            if (columns.contains(column)) {
+                throw new BusinessLogicException("Duplicate CSV column '" + column + "'");
+            }
+            columns.add(column);
+        }
+        for (String required : ImportColumns.REQUIRED) {
+            if (!columns.contains(required)) {
+                throw new BusinessLogicException("Missing required CSV column '" + required + "'");
+            }
+        }
+        header = columns;
+    }
+
+    /**
+     * Reads one CSV record. Returns null at end of input.
+     */
+    private List<String> readFields() throws IOException, MalformedRecordException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean readAny = false;
+        int recordLength = 0;
+        int c;
+
+        while ((c = reader.read()) != -1) {
+            readAny = true;
+            if (++recordLength > MAX_RECORD_LENGTH) {
+                skipToEndOfLine();
+                throw new MalformedRecordException("Record exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+            char ch = (char) c;
+
+            if (inQuotes) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        currentLine++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"') {
+                inQuotes = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                currentLine++;
+                fields.add(field.toString());
+                return fields;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+        }
+
+        if (!readAny) {
+            return null;
+        }
+        if (inQuotes) {
+            throw new MalformedRecordException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void skipToEndOfLine() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                currentLine++;
+                return;
+            }
+        }
+    }
+
+    private static class MalformedRecordException extends Exception {
+        MalformedRecordException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
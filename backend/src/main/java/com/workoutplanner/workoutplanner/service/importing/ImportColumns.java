@@ -0,0 +1,40 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import java.util.List;
+
+/**
+ * Column names accepted in import files (CSV header names and NDJSON keys).
+ * Each record describes one set; session and workout exercise columns are repeated on every row
+ * and grouped by {@link #SESSION_KEY} and {@link #EXERCISE_ORDER} during the merge.
+ */
+public final class ImportColumns {
+
+    public static final String SESSION_KEY = "sessionKey";
+    public static final String SESSION_NAME = "sessionName";
+    public static final String STARTED_AT = "startedAt";
+    public static final String COMPLETED_AT = "completedAt";
+    public static final String EXERCISE_ID = "exerciseId";
+    public static final String EXERCISE_ORDER = "exerciseOrder";
+    public static final String SET_NUMBER = "setNumber";
+    public static final String REPS = "reps";
+    public static final String WEIGHT = "weight";
+    public static final String DURATION_IN_SECONDS = "durationInSeconds";
+    public static final String DISTANCE = "distance";
+    public static final String DISTANCE_UNIT = "distanceUnit";
+    public static final String STRETCH_TYPE = "stretchType";
+    public static final String INTENSITY = "intensity";
+    public static final String REST_TIME_IN_SECONDS = "restTimeInSeconds";
+    public static final String NOTES = "notes";
+    public static final String COMPLETED = "completed";
+
+    public static final List<String> ALL = List.of(
+            SESSION_KEY, SESSION_NAME, STARTED_AT, COMPLETED_AT, EXERCISE_ID, EXERCISE_ORDER, SET_NUMBER,
+            REPS, WEIGHT, DURATION_IN_SECONDS, DISTANCE, DISTANCE_UNIT, STRETCH_TYPE, INTENSITY,
+            REST_TIME_IN_SECONDS, NOTES, COMPLETED);
+
+    public static final List<String> REQUIRED = List.of(
+            SESSION_KEY, SESSION_NAME, STARTED_AT, EXERCISE_ID, EXERCISE_ORDER, SET_NUMBER);
+
+    private ImportColumns() {
+    }
+}
@@ -0,0 +1,76 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.workoutplanner.workoutplanner.enums.ImportFormat;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live progress of a running import. Counters are updated by the importing thread and read
+ * concurrently by progress requests.
+ */
+public class ImportProgress {
+
+    /**
+     * Import lifecycle phases.
+     */
+    public enum Phase {
+        STAGING,
+        MERGING
+    }
+
+    private final String importId;
+    private final Long userId;
+    private final ImportFormat format;
+    private final Instant startedAt;
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private volatile Phase phase = Phase.STAGING;
+
+    public ImportProgress(String importId, Long userId, ImportFormat format, Instant startedAt) {
+        this.importId = importId;
+        this.userId = userId;
+        this.format = format;
+        this.startedAt = startedAt;
+    }
+
+    public long recordRead() {
+        return rowsRead.incrementAndGet();
+    }
+
+    public long recordRejected() {
+        return rowsRejected.incrementAndGet();
+    }
+
+    public void enterPhase(Phase phase) {
+        this.phase = phase;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getRowsRejected() {
+        return rowsRejected.get();
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+}
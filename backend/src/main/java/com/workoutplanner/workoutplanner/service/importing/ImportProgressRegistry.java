@@ -0,0 +1,37 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.workoutplanner.workoutplanner.enums.ImportFormat;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory registry of imports currently running on this instance.
+ */
+@Component
+public class ImportProgressRegistry {
+
+    private final Map<String, ImportProgress> running = new ConcurrentHashMap<>();
+
+    public ImportProgress start(Long userId, ImportFormat format) {
+        ImportProgress progress = new ImportProgress(UUID.randomUUID().toString(), userId, format, Instant.now());
+        running.put(progress.getImportId(), progress);
+        return progress;
+    }
+
+    public void finish(ImportProgress progress) {
+        running.remove(progress.getImportId());
+    }
+
+    public List<ImportProgress> findByUserId(Long userId) {
+        return running.values().stream()
+                .filter(progress -> progress.getUserId().equals(userId))
+                .sorted(Comparator.comparing(ImportProgress::getStartedAt))
+                .toList();
+    }
+}
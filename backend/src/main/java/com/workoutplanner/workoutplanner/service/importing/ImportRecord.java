@@ -0,0 +1,21 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import java.util.Map;
+
+/**
+ * Raw, untyped record read from an import file.
+ *
+ * @param lineNumber 1-based line on which the record starts (CSV header is line 1)
+ * @param values     column name to raw value; blank values are stored as null
+ * @param parseError set when the record could not be tokenized (values is empty in that case)
+ */
+public record ImportRecord(long lineNumber, Map<String, String> values, String parseError) {
+
+    public static ImportRecord malformed(long lineNumber, String parseError) {
+        return new ImportRecord(lineNumber, Map.of(), parseError);
+    }
+
+    public boolean isMalformed() {
+        return parseError != null;
+    }
+}
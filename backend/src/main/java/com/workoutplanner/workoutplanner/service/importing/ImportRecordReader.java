@@ -0,0 +1,22 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streaming reader over an import file. Implementations hold at most one record in memory,
+ * so arbitrarily large files can be imported with constant heap usage.
+ */
+public interface ImportRecordReader extends Closeable {
+
+    /**
+     * Maximum length of a single record in characters. Guards against unbounded buffering
+     * when a file contains an unterminated quote or a missing line break.
+     */
+    int MAX_RECORD_LENGTH = 8192;
+
+    /**
+     * Returns the next record, or null at end of input.
+     */
+    ImportRecord next() throws IOException;
+}
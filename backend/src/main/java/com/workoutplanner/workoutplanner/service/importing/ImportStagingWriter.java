@@ -0,0 +1,85 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes validated rows in PostgreSQL {@code COPY ... WITH (FORMAT csv)} format.
+ *
+ * Unquoted empty fields are read by COPY as NULL, so text values are always quoted to keep
+ * empty strings distinct from NULL. Column order must match {@link #COLUMNS}.
+ */
+public class ImportStagingWriter implements Closeable {
+
+    /**
+     * Staging table column list, in the order values are written.
+     */
+    public static final String COLUMNS = "line_number, session_key, session_name, started_at, completed_at, "
+            + "exercise_id, exercise_order, exercise_type, set_number, reps, weight, duration_in_seconds, "
+            + "distance, distance_unit, stretch_type, intensity, rest_time_in_seconds, notes, completed";
+
+    private final Writer writer;
+    private long rowsWritten;
+
+    public ImportStagingWriter(OutputStream copyStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(copyStream, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public void write(WorkoutImportRow row) throws IOException {
+        writer.write(Long.toString(row.lineNumber()));
+        writeText(row.sessionKey());
+        writeText(row.sessionName());
+        writeValue(row.startedAt());
+        writeValue(row.completedAt());
+        writeValue(row.exerciseId());
+        writeValue(row.exerciseOrder());
+        writeText(row.exerciseType().name());
+        writeValue(row.setNumber());
+        writeValue(row.reps());
+        writeValue(row.weight());
+        writeValue(row.durationInSeconds());
+        writeValue(row.distance());
+        writeText(row.distanceUnit());
+        writeText(row.stretchType());
+        writeValue(row.intensity());
+        writeValue(row.restTimeInSeconds());
+        writeText(row.notes());
+        writeValue(row.completed());
+        writer.write('\n');
+        rowsWritten++;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Flushes buffered rows and ends the COPY.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        writer.write(',');
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private void writeText(String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
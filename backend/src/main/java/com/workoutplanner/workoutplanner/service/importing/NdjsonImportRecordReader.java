@@ -0,0 +1,105 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Streaming newline-delimited JSON reader. Each non-blank line must be a JSON object whose keys are
+ * names from {@link ImportColumns}; unknown keys are ignored.
+ */
+public class NdjsonImportRecordReader implements ImportRecordReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder line = new StringBuilder();
+    private long currentLine = 0;
+    private boolean endOfInput;
+
+    public NdjsonImportRecordReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRecord next() throws IOException {
+        while (true) {
+            boolean tooLong = !readLine();
+            if (tooLong) {
+                return ImportRecord.malformed(currentLine, "Record exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (line.isEmpty() && endOfInput) {
+                return null;
+            }
+            if (line.toString().isBlank()) {
+                continue;
+            }
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line.toString());
+            } catch (JsonProcessingException e) {
+                return ImportRecord.malformed(currentLine, "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (node == null || !node.isObject()) {
+                return ImportRecord.malformed(currentLine, "Expected a JSON object");
+            }
+
+            Map<String, String> values = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                if (value.isNull() || value.isContainerNode()) {
+                    continue;
+                }
+                String text = value.asText().trim();
+                if (!text.isEmpty()) {
+                    values.put(field.getKey(), text);
+                }
+            }
+            return new ImportRecord(currentLine, values, null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next physical line into {@link #line}. Returns false if the line exceeded
+     * {@link ImportRecordReader#MAX_RECORD_LENGTH}; the remainder of that line is discarded.
+     */
+    private boolean readLine() throws IOException {
+        line.setLength(0);
+        currentLine++;
+        boolean withinLimit = true;
+        int c;
+        while ((c = reader.read()) != -1) {
+            if (c == '\n') {
+                return withinLimit;
+            }
+            if (c == '\r') {
+                continue;
+            }
+            if (line.length() >= MAX_RECORD_LENGTH) {
+                withinLimit = false;
+                line.setLength(0);
+                continue;
+            }
+            if (withinLimit) {
+                line.append((char) c);
+            }
+        }
+        endOfInput = true;
+        return withinLimit;
+    }
+}
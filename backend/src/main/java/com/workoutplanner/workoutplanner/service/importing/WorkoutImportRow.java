@@ -0,0 +1,31 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A validated import row describing a single set together with its session and workout exercise.
+ */
+public record WorkoutImportRow(
+        long lineNumber,
+        String sessionKey,
+        String sessionName,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt,
+        Long exerciseId,
+        Integer exerciseOrder,
+        ExerciseType exerciseType,
+        Integer setNumber,
+        Integer reps,
+        BigDecimal weight,
+        Integer durationInSeconds,
+        BigDecimal distance,
+        String distanceUnit,
+        String stretchType,
+        Integer intensity,
+        Integer restTimeInSeconds,
+        String notes,
+        boolean completed) {
+}
@@ -0,0 +1,224 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+import static com.workoutplanner.workoutplanner.service.importing.ImportColumns.*;
+
+/**
+ * Validates raw import records and converts them to {@link WorkoutImportRow}s.
+ *
+ * Limits mirror the bean validation constraints on the create request DTOs so imported data
+ * is indistinguishable from data entered through the regular endpoints.
+ */
+public class WorkoutImportRowValidator {
+
+    private static final BigDecimal MAX_WEIGHT = new BigDecimal("999.99");
+    private static final BigDecimal MAX_DISTANCE = new BigDecimal("1000");
+
+    private final Map<Long, ExerciseType> exerciseTypes;
+    private final LocalDateTime now;
+
+    /**
+     * @param exerciseTypes active exercises by ID; rows referencing any other exercise are rejected
+     * @param now           reference time for rejecting sessions in the future
+     */
+    public WorkoutImportRowValidator(Map<Long, ExerciseType> exerciseTypes, LocalDateTime now) {
+        this.exerciseTypes = exerciseTypes;
+        this.now = now;
+    }
+
+    /**
+     * Validates a record.
+     *
+     * @param record the raw record
+     * @param errors receives one message per violation
+     * @return the converted row, or null if the record has errors
+     */
+    public WorkoutImportRow validate(ImportRecord record, List<String> errors) {
+        if (record.isMalformed()) {
+            errors.add(record.parseError());
+            return null;
+        }
+
+        RowReader row = new RowReader(record.values(), errors);
+
+        String sessionKey = row.requiredText(SESSION_KEY, 1, 100);
+        String sessionName = row.requiredText(SESSION_NAME, 2, 100);
+        LocalDateTime startedAt = row.dateTime(STARTED_AT, true);
+        LocalDateTime completedAt = row.dateTime(COMPLETED_AT, false);
+        Long exerciseId = row.longValue(EXERCISE_ID);
+        Integer exerciseOrder = row.integer(EXERCISE_ORDER, true, 1, 100);
+        Integer setNumber = row.integer(SET_NUMBER, true, 1, 50);
+        Integer restTime = row.integer(REST_TIME_IN_SECONDS, false, 0, 3600);
+        String notes = row.optionalText(NOTES, 500);
+        Boolean completed = row.bool(COMPLETED);
+
+        if (startedAt != null && startedAt.isAfter(now)) {
+            errors.add("startedAt cannot be in the future");
+        }
+        if (startedAt != null && completedAt != null && completedAt.isBefore(startedAt)) {
+            errors.add("completedAt cannot be before startedAt");
+        }
+
+        ExerciseType exerciseType = null;
+        if (exerciseId != null) {
+            exerciseType = exerciseTypes.get(exerciseId);
+            if (exerciseType == null) {
+                errors.add("exerciseId " + exerciseId + " does not exist");
+            }
+        }
+
+        Integer reps = null;
+        BigDecimal weight = null;
+        Integer duration = null;
+        BigDecimal distance = null;
+        String distanceUnit = null;
+        String stretchType = null;
+        Integer intensity = null;
+
+        if (exerciseType == ExerciseType.STRENGTH) {
+            reps = row.integer(REPS, true, 1, 1000);
+            weight = row.decimal(WEIGHT, true, false, MAX_WEIGHT);
+        } else if (exerciseType == ExerciseType.CARDIO) {
+            duration = row.integer(DURATION_IN_SECONDS, true, 1, 14400);
+            distance = row.decimal(DISTANCE, false, true, MAX_DISTANCE);
+            distanceUnit = row.optionalText(DISTANCE_UNIT, 10);
+        } else if (exerciseType == ExerciseType.FLEXIBILITY) {
+            duration = row.integer(DURATION_IN_SECONDS, true, 1, 14400);
+            stretchType = row.requiredText(STRETCH_TYPE, 2, 50);
+            intensity = row.integer(INTENSITY, true, 1, 10);
+        }
+
+        if (!errors.isEmpty()) {
+            return null;
+        }
+
+        return new WorkoutImportRow(record.lineNumber(), sessionKey, sessionName, startedAt, completedAt,
+                exerciseId, exerciseOrder, exerciseType, setNumber, reps, weight, duration, distance,
+                distanceUnit, stretchType, intensity, restTime, notes, completed == null || completed);
+    }
+
+    /**
+     * Typed accessors over a raw record that append a message to {@code errors} on every violation.
+     */
+    private record RowReader(Map<String, String> values, List<String> errors) {
+
+        String requiredText(String column, int minLength, int maxLength) {
+            String value = values.get(column);
+            if (value == null) {
+                errors.add(column + " is required");
+                return null;
+            }
+            if (value.length() < minLength || value.length() > maxLength) {
+                errors.add(String.format("%s must be between %d and %d characters", column, minLength, maxLength));
+                return null;
+            }
+            return value;
+        }
+
+        String optionalText(String column, int maxLength) {
+            String value = values.get(column);
+            if (value != null && value.length() > maxLength) {
+                errors.add(String.format("%s must not exceed %d characters", column, maxLength));
+                return null;
+            }
+            return value;
+        }
+
+        Integer integer(String column, boolean required, int min, int max) {
+            String value = values.get(column);
+            if (value == null) {
+                if (required) {
+                    errors.add(column + " is required");
+                }
+                return null;
+            }
+            try {
+                int parsed = Integer.parseInt(value);
+                if (parsed < min || parsed > max) {
+                    errors.add(String.format("%s must be between %d and %d", column, min, max));
+                    return null;
+                }
+                return parsed;
+            } catch (NumberFormatException e) {
+                errors.add(column + " must be a whole number");
+                return null;
+            }
+        }
+
+        Long longValue(String column) {
+            String value = values.get(column);
+            if (value == null) {
+                errors.add(column + " is required");
+                return null;
+            }
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                errors.add(column + " must be a whole number");
+                return null;
+            }
+        }
+
+        BigDecimal decimal(String column, boolean required, boolean zeroAllowed, BigDecimal max) {
+            String value = values.get(column);
+            if (value == null) {
+                if (required) {
+                    errors.add(column + " is required");
+                }
+                return null;
+            }
+            try {
+                BigDecimal parsed = new BigDecimal(value);
+                int sign = parsed.signum();
+                if (sign < 0 || (sign == 0 && !zeroAllowed) || parsed.compareTo(max) > 0) {
+                    errors.add(String.format("%s must be %s and at most %s",
+                            column, zeroAllowed ? "zero or positive" : "positive", max.toPlainString()));
+                    return null;
+                }
+                return parsed;
+            } catch (NumberFormatException e) {
+                errors.add(column + " must be a number");
+                return null;
+            }
+        }
+
+        LocalDateTime dateTime(String column, boolean required) {
+            String value = values.get(column);
+            if (value == null) {
+                if (required) {
+                    errors.add(column + " is required");
+                }
+                return null;
+            }
+            try {
+                return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+            } catch (DateTimeParseException e) {
+                errors.add(column + " must be an ISO-8601 date or date-time");
+                return null;
+            }
+        }
+
+        Boolean bool(String column) {
+            String value = values.get(column);
+            if (value == null) {
+                return null;
+            }
+            if ("true".equalsIgnoreCase(value)) {
+                return Boolean.TRUE;
+            }
+            if ("false".equalsIgnoreCase(value)) {
+                return Boolean.FALSE;
+            }
+            errors.add(column + " must be true or false");
+            return null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.workoutplanner.workoutplanner.service.live;
+
+/**
+ * One message on a live stream.
+ *
+ * @param id   monotonically increasing event id, sent as the SSE id; 0 for heartbeats
+ * @param name SSE event name, or null for a heartbeat comment
+ * @param data payload serialised as JSON, or null
+ */
+public record LiveEvent(long id, String name, Object data) {
+
+    private static final LiveEvent HEARTBEAT = new LiveEvent(0, null, null);
+
+    public static LiveEvent heartbeat() {
+        return HEARTBEAT;
+    }
+
+    public boolean isHeartbeat() {
+        return name == null;
+    }
+}
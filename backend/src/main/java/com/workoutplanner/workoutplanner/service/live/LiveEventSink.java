@@ -0,0 +1,21 @@
+package com.workoutplanner.workoutplanner.service.live;
+
+import java.io.IOException;
+
+/**
+ * Transport of one live stream connection.
+ */
+public interface LiveEventSink {
+
+    /**
+     * Writes an event to the client. Called by at most one thread at a time.
+     *
+     * @throws IOException when the client has gone away
+     */
+    void send(LiveEvent event) throws IOException;
+
+    /**
+     * Ends the stream normally.
+     */
+    void complete();
+}
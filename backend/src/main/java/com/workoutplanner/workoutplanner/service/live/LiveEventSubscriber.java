@@ -0,0 +1,167 @@
+package com.workoutplanner.workoutplanner.service.live;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * One live stream connection with a bounded, lock-free outbound buffer.
+ *
+ * Publishers never block and never write to the network: {@link #offer} appends to the buffer and,
+ * if no drain is running, hands a drain task to the executor. At most one drain runs at a time, so
+ * events reach the client in the order they were offered. When a slow client lets the buffer fill
+ * up, further events are dropped and everything still buffered is coalesced into a single resync
+ * event telling the client to reload the session.
+ */
+public class LiveEventSubscriber {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveEventSubscriber.class);
+
+    private final LiveEventSink sink;
+    private final Executor executor;
+    private final int capacity;
+    private final Supplier<LiveEvent> resyncEvent;
+    private final Consumer<LiveEventSubscriber> onClose;
+
+    private final Queue<LiveEvent> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean completeRequested;
+
+    /**
+     * @param sink        connection to write to
+     * @param executor    runs drain tasks
+     * @param capacity    maximum number of buffered events
+     * @param resyncEvent creates the event sent in place of dropped events
+     * @param onClose     called once when the subscriber closes
+     */
+    public LiveEventSubscriber(LiveEventSink sink, Executor executor, int capacity,
+                               Supplier<LiveEvent> resyncEvent, Consumer<LiveEventSubscriber> onClose) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.sink = sink;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.resyncEvent = resyncEvent;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Queues an event for delivery without blocking.
+     *
+     * @return false if the subscriber is closed
+     */
+    public boolean offer(LiveEvent event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (buffered.incrementAndGet() > capacity) {
+            buffered.decrementAndGet();
+            overflowed.set(true);
+        } else {
+            buffer.offer(event);
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Sends a heartbeat unless events are already waiting to go out.
+     */
+    public void heartbeat() {
+        if (buffered.get() == 0) {
+            offer(LiveEvent.heartbeat());
+        } else {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Completes the stream once everything buffered so far has been sent.
+     */
+    public void completeAfterDrain() {
+        completeRequested = true;
+        scheduleDrain();
+    }
+
+    /**
+     * Closes the subscriber and discards buffered events. Idempotent.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            onClose.accept(this);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    private void scheduleDrain() {
+        if (!closed.get() && draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Events stay buffered; the next offer or heartbeat retries
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            do {
+                drainBuffer();
+                draining.set(false);
+                // Re-check after releasing the flag so an offer racing with the release is not stranded
+            } while (!closed.get() && hasPendingWork() && draining.compareAndSet(false, true));
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Live stream subscriber disconnected: {}", e.getMessage());
+            close();
+            draining.set(false);
+        }
+    }
+
+    private void drainBuffer() throws IOException {
+        if (overflowed.getAndSet(false)) {
+            discardBuffered();
+            sink.send(resyncEvent.get());
+        }
+        LiveEvent event;
+        while (!closed.get() && (event = buffer.poll()) != null) {
+            buffered.decrementAndGet();
+            sink.send(event);
+        }
+        if (completeRequested && !hasPendingEvents() && !closed.get()) {
+            close();
+            sink.complete();
+        }
+    }
+
+    private void discardBuffered() {
+        while (buffer.poll() != null) {
+            buffered.decrementAndGet();
+        }
+    }
+
+    private boolean hasPendingEvents() {
+        return !buffer.isEmpty() || overflowed.get();
+    }
+
+    private boolean hasPendingWork() {
+        return hasPendingEvents() || completeRequested;
+    }
+}
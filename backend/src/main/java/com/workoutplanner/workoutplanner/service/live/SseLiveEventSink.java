@@ -0,0 +1,35 @@
+package com.workoutplanner.workoutplanner.service.live;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * {@link LiveEventSink} writing Server-Sent Events to an {@link SseEmitter}.
+ */
+public class SseLiveEventSink implements LiveEventSink {
+
+    private final SseEmitter emitter;
+
+    public SseLiveEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(LiveEvent event) throws IOException {
+        if (event.isHeartbeat()) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(event.id()))
+                .name(event.name())
+                .data(event.data(), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+}
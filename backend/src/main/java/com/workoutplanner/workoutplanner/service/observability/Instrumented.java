@@ -0,0 +1,37 @@
+package com.workoutplanner.workoutplanner.service.observability;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times the public methods of a bean, or a single method, as operations of a latency layer:
+ * <pre>
+ * {@code
+ * @Service
+ * @Instrumented(Instrumented.AUTHORIZATION)
+ * public class ResourceSecurityService { ... }
+ * }
+ * </pre>
+ * Together with the request's database time this splits request latency into authentication
+ * sync, authorization, service logic and mapping. Recorded by {@link OperationMetricsInterceptor}.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface Instrumented {
+
+    String AUTH_SYNC = "auth-sync";
+    String AUTHORIZATION = "authorization";
+    String SERVICE = "service";
+    String MAPPING = "mapping";
+
+    /**
+     * Layer the operations belong to, used as the {@code layer} tag.
+     */
+    String value();
+}
@@ -0,0 +1,133 @@
+package com.workoutplanner.workoutplanner.service.observability;
+
+import com.workoutplanner.workoutplanner.service.profiling.OperationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times {@link Instrumented} operations into {@code app.operation}, tagged with {@code layer},
+ * {@code operation} ({@code Class.method}), {@code outcome} ({@code success|error}) and
+ * {@code exception}. Timers publish SLO buckets and client-side percentiles and are cached per
+ * method, target class and exception type, so the hot path is a map lookup and a clock read.
+ *
+ * Operations slower than the configured threshold are logged with their layer and duration; the
+ * log line carries the request's correlationId from the MDC.
+ *
+ * Each operation is also emitted as an {@link OperationEvent} for Flight Recorder recordings.
+ */
+public class OperationMetricsInterceptor implements MethodInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationMetricsInterceptor.class);
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Duration[] serviceLevelObjectives;
+    private final double[] percentiles;
+    private final long slowThresholdNanos;
+    private final Map<OperationKey, Operation> operations = new ConcurrentHashMap<>();
+
+    public OperationMetricsInterceptor(Supplier<MeterRegistry> meterRegistry,
+                                       Duration[] serviceLevelObjectives,
+                                       double[] percentiles,
+                                       Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.serviceLevelObjectives = serviceLevelObjectives;
+        this.percentiles = percentiles;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class || !Modifier.isPublic(method.getModifiers())) {
+            return invocation.proceed();
+        }
+        OperationEvent event = new OperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            event.end();
+            record(invocation, failure, elapsedNanos, event);
+        }
+    }
+
+    private void record(MethodInvocation invocation, Throwable failure, long elapsedNanos, OperationEvent event) {
+        Class<?> targetClass = AopUtils.getTargetClass(invocation.getThis());
+        Operation operation = operations.computeIfAbsent(new OperationKey(invocation.getMethod(), targetClass),
+                key -> Operation.of(key.method(), key.targetClass()));
+        String exception = failure == null ? NO_EXCEPTION : failure.getClass().getSimpleName();
+        operation.timers.computeIfAbsent(exception, key -> timer(operation, key))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (event.shouldCommit()) {
+            event.layer = operation.layer;
+            event.operation = operation.name;
+            event.outcome = failure == null ? "success" : "error";
+            event.commit();
+        }
+
+        if (elapsedNanos > slowThresholdNanos) {
+            logger.warn("Slow operation. layer={}, operation={}, outcome={}, durationMs={}",
+                    operation.layer, operation.name, failure == null ? "success" : "error",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    private Timer timer(Operation operation, String exception) {
+        return Timer.builder("app.operation")
+                .description("Duration of instrumented service, authorization, auth sync and mapping operations")
+                .tag("layer", operation.layer)
+                .tag("operation", operation.name)
+                .tag("outcome", NO_EXCEPTION.equals(exception) ? "success" : "error")
+                .tag("exception", exception)
+                .serviceLevelObjectives(serviceLevelObjectives)
+                .publishPercentiles(percentiles)
+                .register(meterRegistry.get());
+    }
+
+    private record OperationKey(Method method, Class<?> targetClass) {
+    }
+
+    private static final class Operation {
+
+        private final String layer;
+        private final String name;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+        private Operation(String layer, String name) {
+            this.layer = layer;
+            this.name = name;
+        }
+
+        static Operation of(Method method, Class<?> targetClass) {
+            Instrumented instrumented = AnnotatedElementUtils.findMergedAnnotation(method, Instrumented.class);
+            if (instrumented == null) {
+                instrumented = AnnotatedElementUtils.findMergedAnnotation(targetClass, Instrumented.class);
+            }
+            return new Operation(instrumented != null ? instrumented.value() : Instrumented.SERVICE,
+                    targetClass.getSimpleName() + "." + method.getName());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.workoutplanner.workoutplanner.service.outbox;
+
+import com.workoutplanner.workoutplanner.event.DomainEvent;
+
+/**
+ * Asynchronous consumer of domain events delivered through the transactional outbox.
+ *
+ * Register an implementation as a bean to receive every committed event of its type (or subtypes).
+ * Delivery is at-least-once and runs on the outbox dispatcher, after the producing transaction has
+ * committed, so consumers must be idempotent. A consumer that throws has the event retried with
+ * backoff; one that writes to the database should do so in its own transaction.
+ *
+ * @param <E> handled event type; {@link DomainEvent} receives all events
+ */
+public interface DomainEventConsumer<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void consume(E event);
+}
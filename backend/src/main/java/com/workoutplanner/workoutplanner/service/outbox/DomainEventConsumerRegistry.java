@@ -0,0 +1,61 @@
+package com.workoutplanner.workoutplanner.service.outbox;
+
+import com.workoutplanner.workoutplanner.event.DomainEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registered {@link DomainEventConsumer} beans, indexed by concrete event type.
+ */
+@Component
+public class DomainEventConsumerRegistry {
+
+    private final Map<Class<?>, List<DomainEventConsumer<?>>> consumersByType = new HashMap<>();
+    private final Map<String, Class<? extends DomainEvent>> typesByName = new HashMap<>();
+
+    public DomainEventConsumerRegistry(List<DomainEventConsumer<?>> consumers) {
+        for (Class<?> permitted : DomainEvent.class.getPermittedSubclasses()) {
+            Class<? extends DomainEvent> type = permitted.asSubclass(DomainEvent.class);
+            typesByName.put(type.getSimpleName(), type);
+            List<DomainEventConsumer<?>> handlers = new ArrayList<>();
+            for (DomainEventConsumer<?> consumer : consumers) {
+                if (consumer.eventType().isAssignableFrom(type)) {
+                    handlers.add(consumer);
+                }
+            }
+            if (!handlers.isEmpty()) {
+                consumersByType.put(type, List.copyOf(handlers));
+            }
+        }
+    }
+
+    /**
+     * Whether events of this type need to go through the outbox at all.
+     */
+    public boolean hasConsumers(Class<? extends DomainEvent> eventType) {
+        return consumersByType.containsKey(eventType);
+    }
+
+    /**
+     * Resolves a stored event type name.
+     *
+     * @return the event class, or null if no such event exists (any more)
+     */
+    public Class<? extends DomainEvent> resolveType(String eventTypeName) {
+        return typesByName.get(eventTypeName);
+    }
+
+    /**
+     * Delivers an event to each of its consumers in turn. The first failure aborts delivery.
+     */
+    @SuppressWarnings("unchecked")
+    public void dispatch(DomainEvent event) {
+        for (DomainEventConsumer<?> consumer : consumersByType.getOrDefault(event.getClass(), List.of())) {
+            ((DomainEventConsumer<DomainEvent>) consumer).consume(event);
+        }
+    }
+}
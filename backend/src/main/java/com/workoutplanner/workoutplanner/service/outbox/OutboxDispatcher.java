@@ -0,0 +1,184 @@
+package com.workoutplanner.workoutplanner.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workoutplanner.workoutplanner.event.DomainEvent;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository.PendingOutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the transactional outbox into the registered {@link DomainEventConsumer}s.
+ *
+ * Each poll claims batches of due events with {@code FOR UPDATE SKIP LOCKED} and delivers them in
+ * id order, one transaction per batch, so any number of instances can poll side by side. A failed
+ * event is retried with exponential backoff and given up (kept, flagged as failed) after the
+ * maximum number of attempts; other events in the batch are unaffected.
+ *
+ * Metrics: {@code outbox.events.dispatched} (by type and outcome), {@code outbox.events.delivery.lag}
+ * (commit to delivery), {@code outbox.lag} (age of the oldest due event at the last poll) and
+ * {@code outbox.dispatch.batch}.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofHours(1);
+    private static final int CLEANUP_BATCH_SIZE = 10_000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventConsumerRegistry consumerRegistry;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retention;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Timer batchTimer;
+    private final Timer deliveryLagTimer;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            DomainEventConsumerRegistry consumerRegistry,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.retry-backoff:10s}") Duration retryBackoff,
+                            @Value("${app.outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.consumerRegistry = consumerRegistry;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.retention = retention;
+
+        this.batchTimer = Timer.builder("outbox.dispatch.batch").register(meterRegistry);
+        this.deliveryLagTimer = Timer.builder("outbox.events.delivery.lag").register(meterRegistry);
+        Gauge.builder("outbox.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Delivers due events until the outbox is drained or the per-poll batch limit is reached.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void poll() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+                Integer claimed = transactionTemplate.execute(status -> batchTimer.record(this::dispatchBatch));
+                if (claimed == null || claimed < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Outbox dispatch failed", e);
+        }
+    }
+
+    /**
+     * Deletes delivered events past the retention period. Failed events are kept.
+     */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 15 * * * *}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted = 0;
+        int batch;
+        do {
+            batch = outboxEventRepository.deleteProcessedBefore(before, CLEANUP_BATCH_SIZE);
+            deleted += batch;
+        } while (batch == CLEANUP_BATCH_SIZE);
+        logger.info("Outbox cleaned up: deleted={}", deleted);
+    }
+
+    int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PendingOutboxEvent> events = outboxEventRepository.claimPending(now, batchSize);
+        lagMillis.set(events.isEmpty() ? 0 : Duration.between(events.get(0).createdAt(), now).toMillis());
+
+        List<Long> delivered = new ArrayList<>(events.size());
+        for (PendingOutboxEvent event : events) {
+            try {
+                deliver(event);
+                delivered.add(event.id());
+                deliveryLagTimer.record(Duration.between(event.createdAt(), LocalDateTime.now()));
+                count(event, "success");
+            } catch (RuntimeException e) {
+                handleFailure(event, e, now);
+            }
+        }
+        outboxEventRepository.markProcessed(delivered, LocalDateTime.now());
+        if (!events.isEmpty()) {
+            logger.debug("Outbox batch dispatched: claimed={}, delivered={}", events.size(), delivered.size());
+        }
+        return events.size();
+    }
+
+    private void deliver(PendingOutboxEvent event) {
+        Class<? extends DomainEvent> type = consumerRegistry.resolveType(event.eventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown event type " + event.eventType());
+        }
+        DomainEvent domainEvent;
+        try {
+            domainEvent = objectMapper.readValue(event.payload(), type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable " + event.eventType() + " payload: " + e.getMessage(), e);
+        }
+        consumerRegistry.dispatch(domainEvent);
+    }
+
+    private void handleFailure(PendingOutboxEvent event, RuntimeException error, LocalDateTime now) {
+        int attempts = event.attempts() + 1;
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        if (attempts >= maxAttempts) {
+            outboxEventRepository.markFailed(event.id(), attempts, now, message);
+            count(event, "failed");
+            logger.error("Outbox event given up: id={}, type={}, attempts={}", event.id(), event.eventType(), attempts, error);
+        } else {
+            outboxEventRepository.markRetry(event.id(), attempts, now.plus(backoff(attempts)), message);
+            count(event, "retry");
+            logger.warn("Outbox event delivery failed, will retry: id={}, type={}, attempts={}, error={}",
+                    event.id(), event.eventType(), attempts, message);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(MAX_RETRY_BACKOFF) > 0 ? MAX_RETRY_BACKOFF : backoff;
+    }
+
+    private void count(PendingOutboxEvent event, String outcome) {
+        Counter.builder("outbox.events.dispatched")
+                .tag("type", event.eventType())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
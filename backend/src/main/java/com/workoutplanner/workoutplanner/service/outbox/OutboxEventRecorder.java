@@ -0,0 +1,98 @@
+package com.workoutplanner.workoutplanner.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workoutplanner.workoutplanner.event.DomainEvent;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository.NewOutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes published domain events that have consumers to the outbox, in the publishing transaction.
+ *
+ * Events are collected per transaction and inserted in one batch just before commit, so the outbox
+ * rows commit or roll back together with the change that produced them. Outside a transaction an
+ * event is written immediately.
+ */
+@Component
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventConsumerRegistry consumerRegistry;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public OutboxEventRecorder(OutboxEventRepository outboxEventRepository,
+                               DomainEventConsumerRegistry consumerRegistry,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.consumerRegistry = consumerRegistry;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener
+    public void onDomainEvent(DomainEvent event) {
+        if (!consumerRegistry.hasConsumers(event.getClass())) {
+            return;
+        }
+        NewOutboxEvent outboxEvent = toOutboxEvent(event);
+        Counter.builder("outbox.events.recorded")
+                .tag("type", outboxEvent.eventType())
+                .register(meterRegistry)
+                .increment();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            outboxEventRepository.append(List.of(outboxEvent));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<NewOutboxEvent> pending = (List<NewOutboxEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingOutboxSynchronization(pending));
+        }
+        pending.add(outboxEvent);
+    }
+
+    private NewOutboxEvent toOutboxEvent(DomainEvent event) {
+        try {
+            return new NewOutboxEvent(event.getClass().getSimpleName(), event.sessionId(), event.userId(),
+                    objectMapper.writeValueAsString(event), LocalDateTime.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private final class PendingOutboxSynchronization implements TransactionSynchronization {
+
+        private final List<NewOutboxEvent> pending;
+
+        private PendingOutboxSynchronization(List<NewOutboxEvent> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            outboxEventRepository.append(pending);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxEventRecorder.this);
+        }
+    }
+}
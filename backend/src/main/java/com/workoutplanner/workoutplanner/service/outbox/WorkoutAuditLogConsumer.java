@@ -0,0 +1,35 @@
+package com.workoutplanner.workoutplanner.service.outbox;
+
+import com.workoutplanner.workoutplanner.event.DomainEvent;
+import com.workoutplanner.workoutplanner.event.SetChangedEvent;
+import com.workoutplanner.workoutplanner.event.WorkoutStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes an audit trail of workout changes in structured key=value form, off the request path.
+ */
+@Component
+public class WorkoutAuditLogConsumer implements DomainEventConsumer<DomainEvent> {
+
+    private static final Logger auditLog = LoggerFactory.getLogger("WORKOUT_AUDIT");
+
+    @Override
+    public Class<DomainEvent> eventType() {
+        return DomainEvent.class;
+    }
+
+    @Override
+    public void consume(DomainEvent event) {
+        if (event instanceof SetChangedEvent set) {
+            auditLog.info("event=SET_{} userId={} sessionId={} workoutExerciseId={} setId={} setType={} occurredAt={}",
+                    set.changeType(), set.userId(), set.sessionId(), set.workoutExerciseId(), set.setId(),
+                    set.setType(), set.occurredAt());
+        } else if (event instanceof WorkoutStatusChangedEvent status) {
+            auditLog.info("event=WORKOUT_STATUS_CHANGED userId={} sessionId={} from={} to={} occurredAt={}",
+                    status.userId(), status.sessionId(), status.previousStatus(), status.status(),
+                    status.occurredAt());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.workoutplanner.workoutplanner.service.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Actuator endpoint for Java Flight Recorder recordings, at
+ * {@code /internal/actuator/flightrecorder} and admin-only like the other non-public actuator
+ * endpoints.
+ *
+ * <ul>
+ *   <li>{@code GET /flightrecorder} - running recordings and files in the dump directory</li>
+ *   <li>{@code POST /flightrecorder/{name}} with optional {@code settings} ({@code default} or
+ *       {@code profile}) and {@code duration} - starts a recording; 400 for an invalid name or
+ *       settings, 409 while a recording of that name is running</li>
+ *   <li>{@code DELETE /flightrecorder/{name}} - stops a recording and writes its file</li>
+ *   <li>{@code GET /flightrecorder/{name}} - downloads a dump of a running recording
+ *       ({@code continuous} for the rolling one) or a file from the dump directory</li>
+ * </ul>
+ *
+ * @see FlightRecorderService
+ */
+@Component
+@Endpoint(id = "flightrecorder")
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderEndpoint {
+
+    private static final String DEFAULT_SETTINGS = "profile";
+
+    private final FlightRecorderService flightRecorderService;
+
+    public FlightRecorderEndpoint(FlightRecorderService flightRecorderService) {
+        this.flightRecorderService = flightRecorderService;
+    }
+
+    @ReadOperation
+    public FlightRecorderDescriptor recordings() {
+        return new FlightRecorderDescriptor(flightRecorderService.recordings(), flightRecorderService.files());
+    }
+
+    @WriteOperation
+    public FlightRecorderService.RecordingInfo start(@Selector String name,
+                                                     @Nullable String settings,
+                                                     @Nullable Duration duration) throws IOException {
+        return flightRecorderService.start(name, settings != null ? settings : DEFAULT_SETTINGS, duration);
+    }
+
+    @DeleteOperation
+    public WebEndpointResponse<FlightRecorderService.RecordingInfo> stop(@Selector String name) {
+        FlightRecorderService.RecordingInfo stopped = flightRecorderService.stop(name);
+        return stopped != null
+                ? new WebEndpointResponse<>(stopped)
+                : new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector String name) throws IOException {
+        Path file = flightRecorderService.dump(name);
+        return file != null
+                ? new WebEndpointResponse<>(new FileSystemResource(file))
+                : new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    /**
+     * Response of {@code GET /flightrecorder}.
+     */
+    public record FlightRecorderDescriptor(List<FlightRecorderService.RecordingInfo> recordings,
+                                           List<FlightRecorderService.DumpFile> files) {
+    }
+}
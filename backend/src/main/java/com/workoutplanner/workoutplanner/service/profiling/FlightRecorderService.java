@@ -0,0 +1,323 @@
+package com.workoutplanner.workoutplanner.service.profiling;
+
+import com.workoutplanner.workoutplanner.exception.ResourceConflictException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Java Flight Recorder recordings for on-demand profiling, driven by {@link FlightRecorderEndpoint}.
+ *
+ * <ul>
+ *   <li>Named recordings are started and stopped on demand, with the JDK's {@code default}
+ *       (about 1% overhead) or {@code profile} settings, and end on their own after a maximum
+ *       duration. A stopped recording is written to {@code <dump-directory>/<name>.jfr}.</li>
+ *   <li>The continuous recording keeps the last {@code max-age} of events in memory. When a request
+ *       takes longer than the SLO breach threshold, it is dumped to
+ *       {@code slo-breach-<timestamp>.jfr} by a background job, at most once per cooldown.</li>
+ * </ul>
+ * Besides the JDK's events (execution samples, allocations, locks, GC, I/O) on-demand recordings
+ * contain every {@link OperationEvent} and {@link QueryEvent}. The continuous recording only
+ * contains operations slower than {@code continuous.operation-threshold}, and no statements:
+ * emitting those would wrap every statement of every request. The files need no agent to analyse, e.g.
+ * {@code jfr print --events jdk.ExecutionSample} for hot methods, or JDK Mission Control.
+ * Only the newest {@code max-files} files are kept in the dump directory.
+ */
+@Component
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    public static final String CONTINUOUS = "continuous";
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9_-]{1,100}\\.jfr");
+    private static final String FILE_SUFFIX = ".jfr";
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneOffset.UTC);
+
+    private final Path dumpDirectory;
+    private final Duration maxDuration;
+    private final int maxFiles;
+    private final boolean continuousEnabled;
+    private final Duration continuousMaxAge;
+    private final DataSize continuousMaxSize;
+    private final Duration continuousOperationThreshold;
+    private final long breachThresholdNanos;
+    private final long breachCooldownNanos;
+
+    private final Map<String, Recording> recordings = new ConcurrentHashMap<>();
+    private final AtomicReference<String> pendingBreach = new AtomicReference<>();
+    private final AtomicLong nextBreachDumpNanos = new AtomicLong(System.nanoTime());
+    private volatile Recording continuous;
+
+    public FlightRecorderService(
+            @Value("${app.profiling.dump-directory:${java.io.tmpdir}/workoutplanner-jfr}") Path dumpDirectory,
+            @Value("${app.profiling.max-duration:10m}") Duration maxDuration,
+            @Value("${app.profiling.max-files:20}") int maxFiles,
+            @Value("${app.profiling.continuous.enabled:true}") boolean continuousEnabled,
+            @Value("${app.profiling.continuous.max-age:5m}") Duration continuousMaxAge,
+            @Value("${app.profiling.continuous.max-size:64MB}") DataSize continuousMaxSize,
+            @Value("${app.profiling.continuous.operation-threshold:100ms}") Duration continuousOperationThreshold,
+            @Value("${app.profiling.slo-breach.threshold:2s}") Duration breachThreshold,
+            @Value("${app.profiling.slo-breach.cooldown:10m}") Duration breachCooldown) {
+        this.dumpDirectory = dumpDirectory;
+        this.maxDuration = maxDuration;
+        this.maxFiles = maxFiles;
+        this.continuousEnabled = continuousEnabled;
+        this.continuousMaxAge = continuousMaxAge;
+        this.continuousMaxSize = continuousMaxSize;
+        this.continuousOperationThreshold = continuousOperationThreshold;
+        this.breachThresholdNanos = breachThreshold.toNanos();
+        this.breachCooldownNanos = breachCooldown.toNanos();
+    }
+
+    @PostConstruct
+    void startContinuousRecording() throws IOException, ParseException {
+        Files.createDirectories(dumpDirectory);
+        if (!continuousEnabled) {
+            return;
+        }
+        Recording recording = new Recording(Configuration.getConfiguration("default"));
+        recording.setName(CONTINUOUS);
+        recording.setToDisk(false);
+        recording.setMaxAge(continuousMaxAge);
+        recording.setMaxSize(continuousMaxSize.toBytes());
+        recording.enable(OperationEvent.NAME).withThreshold(continuousOperationThreshold);
+        recording.start();
+        continuous = recording;
+        logger.info("Continuous flight recording started: maxAge={}, maxSize={}", continuousMaxAge, continuousMaxSize);
+    }
+
+    @PreDestroy
+    void closeRecordings() {
+        if (continuous != null) {
+            continuous.close();
+        }
+        recordings.values().forEach(Recording::close);
+    }
+
+    /**
+     * Starts a named recording that ends on its own after {@code duration} (at most
+     * {@code max-duration}) and is then written to the dump directory.
+     *
+     * @param settings JDK settings name, {@code default} or {@code profile}
+     * @throws IllegalArgumentException for an invalid name or unknown settings
+     * @throws ResourceConflictException if a recording of that name is still running
+     */
+    public RecordingInfo start(String name, String settings, Duration duration) throws IOException {
+        requireValidName(name);
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (ParseException | IOException e) {
+            throw new IllegalArgumentException("Unknown recording settings: " + settings);
+        }
+        Duration limit = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+
+        Recording recording = new Recording(configuration);
+        recording.setName(name);
+        recording.setDuration(limit);
+        recording.setDestination(dumpDirectory.resolve(name + FILE_SUFFIX));
+        recording.enable(OperationEvent.NAME);
+        recording.enable(QueryEvent.NAME);
+        Recording previous = recordings.putIfAbsent(name, recording);
+        if (previous != null) {
+            if (previous.getState() == RecordingState.RUNNING || previous.getState() == RecordingState.DELAYED) {
+                recording.close();
+                throw new ResourceConflictException("Recording is already running: " + name);
+            }
+            previous.close();
+            recordings.put(name, recording);
+        }
+        recording.start();
+        logger.info("Flight recording started: name={}, settings={}, duration={}", name, settings, limit);
+        return RecordingInfo.of(recording);
+    }
+
+    /**
+     * Stops a named recording, writing it to {@code <dump-directory>/<name>.jfr}.
+     *
+     * @return the stopped recording, or null if there is none of that name
+     */
+    public RecordingInfo stop(String name) {
+        Recording recording = recordings.remove(name);
+        if (recording == null) {
+            return null;
+        }
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+        }
+        RecordingInfo info = RecordingInfo.of(recording);
+        recording.close();
+        pruneFiles();
+        logger.info("Flight recording stopped: name={}, file={}", name, info.file());
+        return info;
+    }
+
+    /**
+     * Returns the file for {@code name}: a fresh dump of the running recording of that name
+     * (including the continuous one), or an earlier dump file of that name.
+     *
+     * @return the file, or null if there is neither
+     */
+    public Path dump(String name) throws IOException {
+        Recording recording = CONTINUOUS.equals(name) ? continuous : recordings.get(name);
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return dumpRecording(recording, name);
+        }
+        if (FILE_NAME.matcher(name).matches()) {
+            Path file = dumpDirectory.resolve(name);
+            return Files.isRegularFile(file) ? file : null;
+        }
+        if (NAME.matcher(name).matches()) {
+            Path file = dumpDirectory.resolve(name + FILE_SUFFIX);
+            return Files.isRegularFile(file) ? file : null;
+        }
+        return null;
+    }
+
+    /**
+     * @return the recordings known to this instance, including the continuous one
+     */
+    public List<RecordingInfo> recordings() {
+        List<RecordingInfo> result = new ArrayList<>();
+        if (continuous != null) {
+            result.add(RecordingInfo.of(continuous));
+        }
+        recordings.values().forEach(recording -> result.add(RecordingInfo.of(recording)));
+        return result;
+    }
+
+    /**
+     * @return the files in the dump directory, newest first
+     */
+    public List<DumpFile> files() {
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .map(DumpFile::of)
+                    .sorted(Comparator.comparing(DumpFile::lastModified).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reports a completed request. If it breached the SLO threshold and the cooldown has passed,
+     * the continuous recording is dumped by the next run of {@link #dumpOnSloBreach()}, so the
+     * request thread does not wait for the file.
+     */
+    public void onRequestCompleted(String request, long elapsedNanos) {
+        if (continuous == null || elapsedNanos < breachThresholdNanos) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = nextBreachDumpNanos.get();
+        if (now - next >= 0 && nextBreachDumpNanos.compareAndSet(next, now + breachCooldownNanos)) {
+            pendingBreach.set(request + " took " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.profiling.slo-breach.check-interval:PT1S}")
+    public void dumpOnSloBreach() {
+        String breach = pendingBreach.getAndSet(null);
+        Recording recording = continuous;
+        if (breach == null || recording == null) {
+            return;
+        }
+        try {
+            Path file = dumpRecording(recording, "slo-breach");
+            logger.warn("SLO breach, continuous flight recording dumped: breach={}, file={}", breach, file);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("SLO breach, dumping the continuous flight recording failed: breach={}, error={}",
+                    breach, e.getMessage());
+        }
+    }
+
+    private Path dumpRecording(Recording recording, String prefix) throws IOException {
+        Path file = dumpDirectory.resolve(prefix + "-" + TIMESTAMP.format(Instant.now()) + FILE_SUFFIX);
+        recording.dump(file);
+        pruneFiles();
+        return file;
+    }
+
+    private void pruneFiles() {
+        List<DumpFile> files = files();
+        for (DumpFile file : files.subList(Math.min(maxFiles, files.size()), files.size())) {
+            try {
+                Files.deleteIfExists(dumpDirectory.resolve(file.name()));
+            } catch (IOException e) {
+                logger.warn("Could not delete old flight recording: file={}, error={}", file.name(), e.getMessage());
+            }
+        }
+    }
+
+    private static void requireValidName(String name) {
+        if (name == null || !NAME.matcher(name).matches() || CONTINUOUS.equals(name)) {
+            throw new IllegalArgumentException(
+                    "Recording name must be 1-64 letters, digits, '-' or '_' and not '" + CONTINUOUS + "'");
+        }
+    }
+
+    /**
+     * State of one recording.
+     *
+     * @param file where a stopped recording was written, null for in-memory recordings
+     */
+    public record RecordingInfo(String name, String state, Instant startTime, Duration maxDuration,
+                                long size, String file) {
+
+        static RecordingInfo of(Recording recording) {
+            Path destination = recording.getDestination();
+            return new RecordingInfo(recording.getName(), recording.getState().name(), recording.getStartTime(),
+                    recording.getDuration(), recording.getSize(),
+                    destination != null ? destination.toString() : null);
+        }
+    }
+
+    /**
+     * One file in the dump directory.
+     */
+    public record DumpFile(String name, long size, Instant lastModified) {
+
+        static DumpFile of(Path file) {
+            try {
+                return new DumpFile(file.getFileName().toString(), Files.size(file),
+                        Files.getLastModifiedTime(file).toInstant());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.workoutplanner.workoutplanner.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one {@link com.workoutplanner.workoutplanner.service.observability.Instrumented}
+ * operation: a service call, an authorization check, a user sync or a mapping.
+ *
+ * Emitted by {@link com.workoutplanner.workoutplanner.service.observability.OperationMetricsInterceptor};
+ * costs a single check while no recording has the event enabled. Disabled unless a recording
+ * enables it explicitly, as {@link FlightRecorderService} does.
+ */
+@Name(OperationEvent.NAME)
+@Label("Operation")
+@Category({"Workout Planner", "Operations"})
+@Description("Instrumented service, authorization, auth sync or mapping operation")
+@StackTrace(false)
+@Enabled(false)
+public class OperationEvent extends Event {
+
+    public static final String NAME = "workoutplanner.Operation";
+
+    @Label("Layer")
+    public String layer;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Outcome")
+    public String outcome;
+}
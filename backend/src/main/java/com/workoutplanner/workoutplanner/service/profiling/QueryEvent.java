@@ -0,0 +1,41 @@
+package com.workoutplanner.workoutplanner.service.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one SQL statement executed through
+ * {@link com.workoutplanner.workoutplanner.service.querymetrics.QueryCountingDataSource}.
+ *
+ * Carries a stack trace, so the recording shows which code path issued the statement. Disabled
+ * unless a recording enables it explicitly: while it is enabled, every statement is wrapped by the
+ * data source, so only on-demand recordings of {@link FlightRecorderService} turn it on.
+ */
+@Name(QueryEvent.NAME)
+@Label("SQL Statement")
+@Category({"Workout Planner", "Database"})
+@Description("SQL statement executed through the application data source")
+@StackTrace(true)
+@Enabled(false)
+public class QueryEvent extends Event {
+
+    public static final String NAME = "workoutplanner.Query";
+
+    private static final EventType TYPE = EventType.getEventType(QueryEvent.class);
+
+    @Label("SQL")
+    public String sql;
+
+    /**
+     * @return true while at least one running recording has this event enabled
+     */
+    public static boolean isRecording() {
+        return TYPE.isEnabled();
+    }
+}
@@ -0,0 +1,167 @@
+package com.workoutplanner.workoutplanner.service.querymetrics;
+
+import com.workoutplanner.workoutplanner.service.profiling.QueryEvent;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * JDBC proxy layer that records every statement executed through the data source, with its SQL,
+ * duration and fetched rows, into the {@link RequestQueryStatistics} scope open on the calling thread.
+ *
+ * Sits below Hibernate, so it sees JPA, JdbcTemplate and Bucket4j statements alike. Statements
+ * prepared outside of a scope are handed out unwrapped and cost nothing beyond a thread-local lookup,
+ * unless a Flight Recorder recording has {@link QueryEvent} enabled; every executed statement is then
+ * also emitted as such an event. Rows are counted as successful {@link ResultSet#next()} calls.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection(), new ConnectionHandler());
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password), new ConnectionHandler());
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ProxyHandler handler) {
+        handler.target = target;
+        return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * Delegates to the wrapped JDBC object, keeping identity semantics of the proxy itself.
+     */
+    private abstract static class ProxyHandler implements InvocationHandler {
+
+        Object target;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return intercept(proxy, method, args);
+            }
+        }
+
+        abstract Object intercept(Object proxy, Method method, Object[] args) throws Throwable;
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static final class ConnectionHandler extends ProxyHandler {
+
+        @Override
+        Object intercept(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            RequestQueryStatistics statistics = RequestQueryStatistics.current();
+            if (statistics == null && !QueryEvent.isRecording()) {
+                return result;
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            if (result instanceof CallableStatement callable) {
+                return proxy(CallableStatement.class, callable, new StatementHandler(statistics, sql));
+            }
+            if (result instanceof PreparedStatement prepared) {
+                return proxy(PreparedStatement.class, prepared, new StatementHandler(statistics, sql));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, new StatementHandler(statistics, null));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Records executions into the request's statistics, if any, and as {@link QueryEvent}s.
+     */
+    private static final class StatementHandler extends ProxyHandler {
+
+        private final RequestQueryStatistics statistics;
+        private final String preparedSql;
+
+        StatementHandler(RequestQueryStatistics statistics, String preparedSql) {
+            this.statistics = statistics;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object intercept(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                Object result = delegate(method, args);
+                return result instanceof ResultSet resultSet && "getResultSet".equals(name) && statistics != null
+                        ? proxy(ResultSet.class, resultSet, new ResultSetHandler(statistics))
+                        : result;
+            }
+            QueryEvent event = new QueryEvent();
+            event.begin();
+            long start = System.nanoTime();
+            try {
+                Object result = delegate(method, args);
+                return result instanceof ResultSet resultSet && statistics != null
+                        ? proxy(ResultSet.class, resultSet, new ResultSetHandler(statistics))
+                        : result;
+            } finally {
+                long elapsedNanos = System.nanoTime() - start;
+                event.end();
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                if (statistics != null) {
+                    statistics.recordStatement(sql, elapsedNanos);
+                }
+                if (event.shouldCommit()) {
+                    event.sql = sql;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static final class ResultSetHandler extends ProxyHandler {
+
+        private final RequestQueryStatistics statistics;
+
+        ResultSetHandler(RequestQueryStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        Object intercept(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                statistics.recordRow();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.workoutplanner.workoutplanner.service.querymetrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.function.HandlerFunction;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the {@link RequestQueryStatistics} of each HTTP request per controller method and logs
+ * requests above the alert thresholds together with their statement shapes. Called by
+ * {@link com.workoutplanner.workoutplanner.config.WebConfig.LoggingFilter} while the request's
+ * correlationId is still in the MDC, so the warning links to the request's other log lines.
+ *
+ * Metrics (histograms, tagged {@code handler=Controller#method}, or the path pattern for router-function
+ * endpoints such as GraphQL): {@code db.statements.per.request},
+ * {@code db.rows.per.request} and {@code db.time.per.request}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.query-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestQueryMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestQueryMetrics.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int statementThreshold;
+    private final long databaseTimeThresholdNanos;
+
+    public RequestQueryMetrics(MeterRegistry meterRegistry,
+                               @Value("${app.query-metrics.statement-threshold:30}") int statementThreshold,
+                               @Value("${app.query-metrics.db-time-threshold:500ms}") Duration databaseTimeThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+        this.databaseTimeThresholdNanos = databaseTimeThreshold.toNanos();
+    }
+
+    /**
+     * Records the statistics of a completed request. Requests that never reached a controller
+     * method or router function (rejected by security, unknown paths) are not recorded.
+     */
+    public void record(HttpServletRequest request, RequestQueryStatistics statistics) {
+        String handlerTag = handlerTag(request);
+        if (handlerTag == null) {
+            return;
+        }
+
+        DistributionSummary.builder("db.statements.per.request")
+                .description("SQL statements executed per request")
+                .tag("handler", handlerTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("db.rows.per.request")
+                .description("Rows fetched per request")
+                .tag("handler", handlerTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder("db.time.per.request")
+                .description("Time spent executing SQL statements per request")
+                .tag("handler", handlerTag)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getDatabaseTimeNanos(), TimeUnit.NANOSECONDS);
+
+        if (statistics.getStatements() > statementThreshold
+                || statistics.getDatabaseTimeNanos() > databaseTimeThresholdNanos) {
+            logger.warn("Request exceeded query thresholds. handler={}, {} {}, {}, shapes={}",
+                    handlerTag, request.getMethod(), request.getRequestURI(), statistics, statistics.getShapes());
+        }
+    }
+
+    private static String handlerTag(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        if (handler instanceof HandlerFunction<?>
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String pattern) {
+            return pattern;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,124 @@
+package com.workoutplanner.workoutplanner.service.querymetrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statements, fetched rows and database time of one unit of work (usually an HTTP request),
+ * collected by {@link QueryCountingDataSource} on the thread that opened the scope.
+ *
+ * <pre>
+ * {@code
+ * try (RequestQueryStatistics.Scope scope = RequestQueryStatistics.open()) {
+ *     ...
+ *     RequestQueryStatistics statistics = scope.statistics();
+ * }
+ * }
+ * </pre>
+ * Statement shapes (SQL with bind parameters as {@code ?}) are kept with their execution counts,
+ * for up to {@value #MAX_SHAPES} distinct statements, to show which statement repeats in an N+1.
+ */
+public final class RequestQueryStatistics {
+
+    static final int MAX_SHAPES = 50;
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+    private int statements;
+    private long rows;
+    private long databaseTimeNanos;
+
+    /**
+     * Starts collecting on the current thread. A scope opened inside another one collects on its
+     * own; the outer scope continues once it is closed.
+     */
+    public static Scope open() {
+        RequestQueryStatistics previous = CURRENT.get();
+        RequestQueryStatistics statistics = new RequestQueryStatistics();
+        CURRENT.set(statistics);
+        return new Scope(statistics, previous);
+    }
+
+    /**
+     * @return statistics of the scope open on the current thread, or null outside of a scope
+     */
+    static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    synchronized void recordStatement(String sql, long elapsedNanos) {
+        statements++;
+        databaseTimeNanos += elapsedNanos;
+        if (sql != null) {
+            String shape = shapeOf(sql);
+            if (shapes.containsKey(shape) || shapes.size() < MAX_SHAPES) {
+                shapes.merge(shape, 1, Integer::sum);
+            }
+        }
+    }
+
+    synchronized void recordRow() {
+        rows++;
+    }
+
+    static String shapeOf(String sql) {
+        String shape = sql.strip().replaceAll("\\s+", " ");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+
+    public synchronized int getStatements() {
+        return statements;
+    }
+
+    public synchronized long getRows() {
+        return rows;
+    }
+
+    public synchronized long getDatabaseTimeNanos() {
+        return databaseTimeNanos;
+    }
+
+    /**
+     * @return statement shapes in order of first execution, with how often each ran
+     */
+    public synchronized Map<String, Integer> getShapes() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(shapes));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "statements=" + statements + ", rows=" + rows
+                + ", dbTimeMs=" + TimeUnit.NANOSECONDS.toMillis(databaseTimeNanos);
+    }
+
+    /**
+     * Open collection scope; closing it restores the scope that was open before.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final RequestQueryStatistics statistics;
+        private final RequestQueryStatistics previous;
+
+        private Scope(RequestQueryStatistics statistics, RequestQueryStatistics previous) {
+            this.statistics = statistics;
+            this.previous = previous;
+        }
+
+        public RequestQueryStatistics statistics() {
+            return statistics;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
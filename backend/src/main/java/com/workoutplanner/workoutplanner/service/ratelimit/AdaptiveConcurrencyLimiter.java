@@ -0,0 +1,116 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for expensive requests that follows their latency, in the style of a gradient
+ * limiter (Netflix concurrency-limits "Gradient2").
+ *
+ * Every completed request reports its latency. The limiter keeps two averages of it:
+ * <ul>
+ *   <li>a short one, reacting within a few requests, and</li>
+ *   <li>a long one over {@code longWindow} requests, standing for the latency of a healthy service.</li>
+ * </ul>
+ * While the short average stays within {@code tolerance} times the long one the limit grows by a
+ * small headroom; once it rises above that (typically because the database slows down and queries
+ * queue up) the limit shrinks by the ratio of the two, by at most half per sample. Changes are
+ * smoothed and the limit stays within {@code [minLimit, maxLimit]}.
+ *
+ * Requests beyond the limit are rejected right away instead of queueing, which keeps the latency
+ * of admitted requests close to the healthy one during traffic spikes.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_WINDOW = 10;
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double MAX_DROP = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final int longWindow;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double smoothing, double tolerance, int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.longWindow = longWindow;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a permit if fewer than {@link #getLimit()} requests are in flight.
+     * A successful call must be followed by exactly one {@link #release(long)}.
+     *
+     * @return true if the request may proceed
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a permit and feeds the latency of its request into the limit.
+     *
+     * @param rttNanos time the request held the permit
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        samples++;
+        if (samples <= WARMUP_SAMPLES) {
+            shortRttNanos += (rttNanos - shortRttNanos) / samples;
+            longRttNanos = shortRttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) / SHORT_WINDOW;
+        longRttNanos += (rttNanos - longRttNanos) / longWindow;
+
+        // A sustained latency increase becomes the new normal over time; a large one is let go of
+        // faster so the limit does not stay low once the spike has passed
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        // Only requests that actually used the limit tell whether it may grow
+        if (inFlightAtCompletion < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MAX_DROP, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
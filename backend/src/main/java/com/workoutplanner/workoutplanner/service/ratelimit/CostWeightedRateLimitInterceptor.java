@@ -0,0 +1,164 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.workoutplanner.workoutplanner.exception.RateLimitExceededException;
+import com.workoutplanner.workoutplanner.exception.ServiceOverloadedException;
+import com.workoutplanner.workoutplanner.service.RateLimitSecurityService;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost-weighted rate limiting and load shedding for endpoints annotated with {@link RateLimitCost},
+ * and for router-function endpoints such as GraphQL, which cannot carry the annotation and are
+ * given a cost by request path instead.
+ *
+ * <ol>
+ *   <li>The endpoint's cost is taken from the caller's token budget (per user, or per IP address
+ *       for anonymous callers). An exhausted budget answers 429 with Retry-After.</li>
+ *   <li>The request then needs a permit of the {@link AdaptiveConcurrencyLimiter}. Without one it is
+ *       shed with 503 and Retry-After, and the cost is refunded: the caller did nothing wrong, and
+ *       retries during an overload must not use up their budget. The permit is returned with the
+ *       request's latency once the request completes.</li>
+ * </ol>
+ * This complements the static per-URL limits of application-ratelimit.yml, which weigh every call
+ * the same.
+ *
+ * Metrics: {@code rate.limit.cost.requests{outcome=allowed|throttled|shed}},
+ * {@code rate.limit.concurrency.limit}, {@code rate.limit.concurrency.in-flight} and the Caffeine
+ * cache metrics of cache {@code rateLimitCostBuckets}.
+ */
+public class CostWeightedRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_START_ATTRIBUTE =
+            CostWeightedRateLimitInterceptor.class.getName() + ".permitStart";
+    private static final long SHED_RETRY_AFTER_SECONDS = 1;
+
+    private final RateLimitSecurityService securityService;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Map<String, Integer> routeCosts;
+    private final long capacity;
+    private final Duration refillPeriod;
+    private final Cache<String, Bucket> budgets;
+    private final Counter allowed;
+    private final Counter throttled;
+    private final Counter shed;
+
+    /**
+     * @param routeCosts costs of router-function endpoints by request path
+     */
+    public CostWeightedRateLimitInterceptor(RateLimitSecurityService securityService,
+                                            AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                            Map<String, Integer> routeCosts,
+                                            long capacity,
+                                            Duration refillPeriod,
+                                            long maximumSize,
+                                            MeterRegistry meterRegistry) {
+        this.securityService = securityService;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.routeCosts = Map.copyOf(routeCosts);
+        this.capacity = capacity;
+        this.refillPeriod = refillPeriod;
+        this.budgets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(refillPeriod)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, budgets, "rateLimitCostBuckets");
+        this.allowed = outcomeCounter(meterRegistry, "allowed");
+        this.throttled = outcomeCounter(meterRegistry, "throttled");
+        this.shed = outcomeCounter(meterRegistry, "shed");
+        Gauge.builder("rate.limit.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for cost-weighted endpoints")
+                .register(meterRegistry);
+        Gauge.builder("rate.limit.concurrency.in-flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Cost-weighted requests currently holding a permit")
+                .register(meterRegistry);
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("rate.limit.cost.requests")
+                .description("Requests to cost-weighted endpoints by rate-limit outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        Integer cost = costOf(handler, request);
+        if (cost == null) {
+            return true;
+        }
+
+        long tokens = Math.min(cost, capacity);
+        Bucket budget = budgets.get(callerKey(request), key -> newBudget());
+        ConsumptionProbe probe = budget.tryConsumeAndReturnRemaining(tokens);
+        if (!probe.isConsumed()) {
+            throttled.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(
+                    probe.getNanosToWaitForRefill() + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new RateLimitExceededException("Too many requests", retryAfterSeconds);
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            budget.addTokens(tokens);
+            shed.increment();
+            throw new ServiceOverloadedException("Service is busy, please retry shortly", SHED_RETRY_AFTER_SECONDS);
+        }
+        allowed.increment();
+        request.setAttribute(PERMIT_START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    /**
+     * Releases the permit once the request has completed; for asynchronous requests that is after
+     * the async dispatch, whose {@code preHandle} is skipped so the request is charged once.
+     */
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        Object start = request.getAttribute(PERMIT_START_ATTRIBUTE);
+        if (start != null) {
+            request.removeAttribute(PERMIT_START_ATTRIBUTE);
+            concurrencyLimiter.release(System.nanoTime() - (long) start);
+        }
+    }
+
+    private Integer costOf(Object handler, HttpServletRequest request) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RateLimitCost cost = handlerMethod.getMethodAnnotation(RateLimitCost.class);
+            return cost != null ? cost.value() : null;
+        }
+        return routeCosts.get(request.getRequestURI());
+    }
+
+    private String callerKey(HttpServletRequest request) {
+        return securityService.isAuthenticated()
+                ? "user:" + securityService.getUsername()
+                : "ip:" + request.getRemoteAddr();
+    }
+
+    private Bucket newBudget() {
+        return Bucket.builder()
+                .addLimit(limit -> limit.capacity(capacity).refillGreedy(capacity, refillPeriod))
+                .build();
+    }
+}
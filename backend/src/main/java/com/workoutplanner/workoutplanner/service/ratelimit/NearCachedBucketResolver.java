@@ -0,0 +1,120 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import com.giffing.bucket4j.spring.boot.starter.config.cache.ProxyManagerWrapper;
+import com.giffing.bucket4j.spring.boot.starter.config.cache.SyncCacheResolver;
+import com.giffing.bucket4j.spring.boot.starter.context.RateLimitResult;
+import com.giffing.bucket4j.spring.boot.starter.context.RateLimitResultWrapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.EstimationProbe;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimization;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+
+/**
+ * Bucket4j cache resolver for the rate-limit filters backed by a shared {@link ProxyManager}
+ * (PostgreSQL, see {@link com.workoutplanner.workoutplanner.config.RateLimitStoreConfig}), so a limit
+ * holds across all instances instead of once per instance.
+ *
+ * The starter's own resolvers build a new bucket proxy on every request, which would make every
+ * request a database round trip. This resolver keeps one proxy per bucket in a bounded near-cache
+ * and builds it with a Bucket4j optimization that keeps a local copy of the bucket state:
+ * <ul>
+ *   <li>While a bucket is far from its limit, up to {@code localShare} of its smallest capacity is
+ *       consumed locally and reconciled with the database in one batched update, at the latest
+ *       after {@code maxUnsynchronizedDelay}.</li>
+ *   <li>When the local copy runs low the bucket synchronizes immediately, so decisions near the
+ *       limit are made on the shared state.</li>
+ *   <li>Buckets too small for any local share still batch concurrent requests into one round trip.</li>
+ * </ul>
+ * A limit can therefore be exceeded by at most {@code localShare} of its capacity per instance.
+ * Every bucket served is reported to {@link RateLimitBucketRetention}, which deletes unused rows.
+ *
+ * Metrics: the Caffeine cache metrics of cache {@code rateLimitBuckets}.
+ */
+public class NearCachedBucketResolver implements SyncCacheResolver {
+
+    private final ProxyManager<String> proxyManager;
+    private final RateLimitBucketRetention retention;
+    private final Cache<String, BucketProxy> buckets;
+    private final double localShare;
+    private final Duration maxUnsynchronizedDelay;
+
+    public NearCachedBucketResolver(ProxyManager<String> proxyManager,
+                                    RateLimitBucketRetention retention,
+                                    double localShare,
+                                    Duration maxUnsynchronizedDelay,
+                                    long maximumSize,
+                                    Duration idleTimeout,
+                                    MeterRegistry meterRegistry) {
+        this.proxyManager = proxyManager;
+        this.retention = retention;
+        this.localShare = localShare;
+        this.maxUnsynchronizedDelay = maxUnsynchronizedDelay;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "rateLimitBuckets");
+    }
+
+    @Override
+    public ProxyManagerWrapper resolve(String cacheName) {
+        return (key, numTokens, estimate, configuration, listener, version, replaceStrategy) -> {
+            String bucketId = cacheName + ':' + key;
+            retention.touch(bucketId);
+            BucketProxy bucket = buckets.get(bucketId, id -> proxyManager.builder()
+                    .withImplicitConfigurationReplacement(version, replaceStrategy)
+                    .withOptimization(optimizationFor(configuration))
+                    .build(id, () -> configuration)
+                    .toListenable(listener));
+
+            if (estimate) {
+                EstimationProbe probe = bucket.estimateAbilityToConsume(numTokens);
+                if (probe.canBeConsumed()) {
+                    return new RateLimitResultWrapper(RateLimitResult.builder()
+                            .estimation(true)
+                            .consumed(true)
+                            .remainingTokens(probe.getRemainingTokens())
+                            .nanosToWaitForRefill(probe.getNanosToWaitForRefill())
+                            .nanosToWaitForReset(0)
+                            .build());
+                }
+            }
+            ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(numTokens);
+            return new RateLimitResultWrapper(RateLimitResult.builder()
+                    .estimation(false)
+                    .consumed(probe.isConsumed())
+                    .remainingTokens(probe.getRemainingTokens())
+                    .nanosToWaitForRefill(probe.getNanosToWaitForRefill())
+                    .nanosToWaitForReset(probe.getNanosToWaitForReset())
+                    .build());
+        };
+    }
+
+    /**
+     * @return local consumption of {@code localShare} of the smallest capacity, or plain batching
+     *         if that rounds down to zero tokens
+     */
+    Optimization optimizationFor(BucketConfiguration configuration) {
+        long smallestCapacity = Long.MAX_VALUE;
+        for (Bandwidth bandwidth : configuration.getBandwidths()) {
+            smallestCapacity = Math.min(smallestCapacity, bandwidth.getCapacity());
+        }
+        long unsynchronizedTokens = (long) (smallestCapacity * localShare);
+        if (unsynchronizedTokens == 0) {
+            return Optimizations.batching();
+        }
+        return Optimizations.predicting(new DelayParameters(unsynchronizedTokens, maxUnsynchronizedDelay));
+    }
+}
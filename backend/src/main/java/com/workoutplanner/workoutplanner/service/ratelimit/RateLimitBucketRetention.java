@@ -0,0 +1,75 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import com.workoutplanner.workoutplanner.repository.RateLimitBucketRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deletes rows of the shared {@code rate_limit_buckets} table that are no longer used, which would
+ * otherwise grow by one row per client IP and user forever.
+ *
+ * {@link NearCachedBucketResolver} reports every bucket it serves; the IDs are collected in memory
+ * and written to {@code last_touched_at} in batches, so the hot path never waits for the database.
+ * Buckets untouched for longer than {@code retention} are deleted in batches. The retention must be
+ * longer than the longest refill period: such a bucket has refilled completely, so recreating it
+ * from its configuration on the next request changes nothing.
+ */
+public class RateLimitBucketRetention {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitBucketRetention.class);
+
+    private static final int TOUCH_BATCH_SIZE = 1_000;
+    private static final int CLEANUP_BATCH_SIZE = 10_000;
+
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final Duration retention;
+    private final Set<String> touched = ConcurrentHashMap.newKeySet();
+
+    public RateLimitBucketRetention(RateLimitBucketRepository rateLimitBucketRepository, Duration retention) {
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.retention = retention;
+    }
+
+    /**
+     * Records that a bucket was used; written by the next {@link #flushTouched()}.
+     */
+    public void touch(String id) {
+        touched.add(id);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.retention.touch-interval:PT1M}")
+    public void flushTouched() {
+        List<String> batch = new ArrayList<>(TOUCH_BATCH_SIZE);
+        for (Iterator<String> ids = touched.iterator(); ids.hasNext(); ) {
+            batch.add(ids.next());
+            ids.remove();
+            if (batch.size() == TOUCH_BATCH_SIZE) {
+                rateLimitBucketRepository.touch(batch);
+                batch = new ArrayList<>(TOUCH_BATCH_SIZE);
+            }
+        }
+        rateLimitBucketRepository.touch(batch);
+    }
+
+    /**
+     * Deletes buckets not used for longer than the retention period.
+     */
+    @Scheduled(cron = "${app.rate-limit.retention.cleanup-cron:0 45 * * * *}")
+    public void cleanup() {
+        int deleted = 0;
+        int batch;
+        do {
+            batch = rateLimitBucketRepository.deleteUntouchedFor(retention, CLEANUP_BATCH_SIZE);
+            deleted += batch;
+        } while (batch == CLEANUP_BATCH_SIZE);
+        logger.info("Rate-limit buckets cleaned up: deleted={}", deleted);
+    }
+}
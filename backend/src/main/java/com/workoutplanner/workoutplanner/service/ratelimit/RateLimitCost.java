@@ -0,0 +1,31 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares what a request to an endpoint costs against the caller's request budget:
+ * <pre>
+ * {@code
+ * @RateLimitCost(20)
+ * @GetMapping("/{sessionId}/smart")
+ * public ResponseEntity<WorkoutResponse> getWorkoutSessionWithSmartLoading(...)
+ * }
+ * </pre>
+ * Annotated endpoints also run under the adaptive concurrency limit. Enforced by
+ * {@link CostWeightedRateLimitInterceptor}; endpoints without the annotation are not affected.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimitCost {
+
+    /**
+     * Tokens taken from the caller's budget per request, roughly proportional to the database
+     * work of the endpoint (1 for a single-row update).
+     */
+    int value();
+}
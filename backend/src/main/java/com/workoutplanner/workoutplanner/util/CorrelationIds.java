@@ -0,0 +1,68 @@
+package com.workoutplanner.workoutplanner.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Correlation ids and request context for the MDC, computed without regular expressions or
+ * {@link java.security.SecureRandom}.
+ */
+public final class CorrelationIds {
+
+    /**
+     * Request and response header carrying the correlation id.
+     */
+    public static final String HEADER = "X-Request-Id";
+
+    static final int MAX_INCOMING_LENGTH = 64;
+
+    private static final String API_PREFIX = "/api/";
+
+    private CorrelationIds() {
+    }
+
+    /**
+     * Creates a time-ordered id in UUID version 7 layout: 48 bits of epoch milliseconds followed
+     * by 74 random bits from {@link ThreadLocalRandom}. Ids sort by creation time, and generating
+     * one does not contend across threads the way {@link UUID#randomUUID()} does.
+     */
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    /**
+     * Whether an id sent by the client can be used as is: 1 to 64 letters, digits, '-', '_', '.'
+     * or ':'. Anything else is replaced, so the id cannot inject into log lines or headers.
+     */
+    public static boolean isAcceptable(String incoming) {
+        if (incoming == null || incoming.isEmpty() || incoming.length() > MAX_INCOMING_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < incoming.length(); i++) {
+            char c = incoming.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == ':';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extracts the version segment of an API path, e.g. {@code v1} from {@code /api/v1/workouts}.
+     *
+     * @return the version, or null if the path is not a versioned API path
+     */
+    public static String apiVersion(String uri) {
+        if (uri == null || !uri.startsWith(API_PREFIX) || uri.length() <= API_PREFIX.length()
+                || uri.charAt(API_PREFIX.length()) != 'v') {
+            return null;
+        }
+        int end = uri.indexOf('/', API_PREFIX.length());
+        return uri.substring(API_PREFIX.length(), end < 0 ? uri.length() : end);
+    }
+}
@@ -2,10 +2,12 @@ package com.workoutplanner.workoutplanner.config;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
@@ -43,6 +45,10 @@ import java.util.concurrent.TimeUnit;
  * </ol>
  * HTTP calls execute in separate transactions that won't rollback automatically!
  *
+ * <h2>Query Budgets:</h2>
+ * Test methods can take a {@link QueryCapture} parameter and declare a {@link QueryBudget} to fail
+ * when a MockMvc or REST Assured call executes more SQL statements than expected (N+1 guard).
+ *
  * @see TestcontainersInitializer
  * @see <a href="https://maciejwalkowiak.com/blog/testcontainers-spring-boot-setup/">Best way to use Testcontainers</a>
  * @see <a href="https://docs.spring.io/spring-boot/reference/testing/testcontainers.html">Spring Boot Testcontainers</a>
@@ -51,6 +57,8 @@ import java.util.concurrent.TimeUnit;
 @ContextConfiguration(initializers = TestcontainersInitializer.class)
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
+@Import(QueryCaptureFilter.class)
+@ExtendWith(QueryBudgetExtension.class)
 @Transactional // Rollback for repository/JPA tests (NOT for REST Assured!)
 @Timeout(value = 30, unit = TimeUnit.SECONDS) // Prevent tests from hanging indefinitely
 public abstract class AbstractIntegrationTest {
@@ -81,7 +89,8 @@ public abstract class AbstractIntegrationTest {
         // Default content type for requests - no need to repeat in individual tests
         RestAssured.requestSpecification = RestAssured.given()
             .contentType(ContentType.JSON)
-            .accept(ContentType.JSON);
+            .accept(ContentType.JSON)
+            .filter(QueryCapture.restAssuredFilter());
     }
 
     /**
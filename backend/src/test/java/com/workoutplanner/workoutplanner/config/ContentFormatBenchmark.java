@@ -0,0 +1,100 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JMH benchmark of writing and reading a page of 50 workouts as JSON, CBOR and Smile, each with
+ * the mapper settings the application uses for that format (see {@link JacksonConfig}).
+ *
+ * Before each run the body size is printed uncompressed and gzipped.
+ *
+ * Not part of the regular build (surefire only runs *Test/*Tests classes). Run explicitly:
+ * <pre>
+ * mvn test -Dtest=ContentFormatBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@DisplayName("Content Format Benchmark")
+public class ContentFormatBenchmark {
+
+    private static final TypeReference<PagedResponse<WorkoutResponse>> WORKOUT_PAGE = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private PagedResponse<WorkoutResponse> body;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        JacksonConfig config = new JacksonConfig();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(config.blackbirdModule());
+        objectMapper = switch (format) {
+            case "cbor" -> config.cborHttpMessageConverter(builder).getObjectMapper();
+            case "smile" -> config.smileHttpMessageConverter(builder).getObjectMapper();
+            default -> builder.build();
+        };
+        body = JsonSerializationBenchmark.workoutPage();
+        encoded = objectMapper.writeValueAsBytes(body);
+
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(encoded);
+        }
+        System.out.printf("%n%s: %d bytes, %d bytes gzipped%n", format, encoded.length, gzipped.size());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public PagedResponse<WorkoutResponse> deserialize() throws IOException {
+        return objectMapper.readValue(encoded, WORKOUT_PAGE);
+    }
+
+    @Test
+    @DisplayName("Run JMH content format benchmark")
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(ContentFormatBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
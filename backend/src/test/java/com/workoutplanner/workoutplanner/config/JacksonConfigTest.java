@@ -0,0 +1,104 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workoutplanner.workoutplanner.dto.response.ExerciseResponse;
+import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
+import com.workoutplanner.workoutplanner.dto.response.SetResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
+import com.workoutplanner.workoutplanner.enums.DifficultyLevel;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.enums.TargetMuscleGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the JSON, CBOR and Smile representations configured by JacksonConfig.
+ */
+@DisplayName("JacksonConfig Unit Tests")
+class JacksonConfigTest {
+
+    private final JacksonConfig config = new JacksonConfig();
+
+    /**
+     * Builder with the settings of application.properties, as Spring Boot would customize it.
+     */
+    private Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(config.blackbirdModule());
+    }
+
+    private ObjectMapper mapper(String format) {
+        return switch (format) {
+            case "cbor" -> config.cborHttpMessageConverter(builder()).getObjectMapper();
+            case "smile" -> config.smileHttpMessageConverter(builder()).getObjectMapper();
+            default -> builder().build();
+        };
+    }
+
+    private static <T> T roundTrip(ObjectMapper mapper, Object value, TypeReference<T> type) throws Exception {
+        return mapper.readValue(mapper.writeValueAsBytes(value), type);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"json", "cbor", "smile"})
+    @DisplayName("Should round-trip response DTOs to the same values as JSON")
+    void shouldRoundTripLikeJson(String format) throws Exception {
+        // Arrange
+        ObjectMapper json = mapper("json");
+        ObjectMapper binary = mapper(format);
+        PagedResponse<WorkoutResponse> workouts = JsonSerializationBenchmark.workoutPage();
+        List<SetResponse> sets = JsonSerializationBenchmark.strengthSets();
+        PagedResponse<ExerciseResponse> exercises = new PagedResponse<>(List.of(
+                new ExerciseResponse(1L, "Barbell Back Squat", "Compound lift", ExerciseType.STRENGTH,
+                        TargetMuscleGroup.LEGS, DifficultyLevel.INTERMEDIATE, null)), 0, 20, 1, 1);
+
+        // Act & Assert
+        TypeReference<PagedResponse<WorkoutResponse>> workoutPage = new TypeReference<>() { };
+        assertThat(roundTrip(binary, workouts, workoutPage))
+                .isEqualTo(workouts)
+                .isEqualTo(roundTrip(json, workouts, workoutPage));
+        TypeReference<List<SetResponse>> setList = new TypeReference<>() { };
+        assertThat(roundTrip(binary, sets, setList))
+                .isEqualTo(sets)
+                .isEqualTo(roundTrip(json, sets, setList));
+        TypeReference<PagedResponse<ExerciseResponse>> exercisePage = new TypeReference<>() { };
+        assertThat(roundTrip(binary, exercises, exercisePage))
+                .isEqualTo(exercises)
+                .isEqualTo(roundTrip(json, exercises, exercisePage));
+        assertThat(binary.readTree(binary.writeValueAsBytes(workouts)))
+                .isEqualTo(json.readTree(json.writeValueAsBytes(workouts)));
+    }
+
+    @Test
+    @DisplayName("Should produce smaller bodies than JSON and register the binary media types")
+    void shouldProduceSmallerBodies() throws Exception {
+        // Arrange
+        PagedResponse<WorkoutResponse> workouts = JsonSerializationBenchmark.workoutPage();
+
+        // Act
+        int jsonSize = mapper("json").writeValueAsBytes(workouts).length;
+        int cborSize = mapper("cbor").writeValueAsBytes(workouts).length;
+        int smileSize = mapper("smile").writeValueAsBytes(workouts).length;
+
+        // Assert
+        assertThat(cborSize).isLessThan(jsonSize);
+        assertThat(smileSize).isLessThan(jsonSize);
+        assertThat(config.cborHttpMessageConverter(builder()).getSupportedMediaTypes())
+                .contains(MediaType.APPLICATION_CBOR);
+        assertThat(config.smileHttpMessageConverter(builder()).getSupportedMediaTypes())
+                .contains(MediaType.valueOf("application/x-jackson-smile"));
+    }
+}
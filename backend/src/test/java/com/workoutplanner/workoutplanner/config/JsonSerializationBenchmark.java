@@ -0,0 +1,138 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
+import com.workoutplanner.workoutplanner.dto.response.SetResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JMH benchmark of serializing the largest response bodies with Jackson's defaults and with the
+ * tuned ObjectMapper of {@link JacksonConfig} (Blackbird, null fields omitted).
+ *
+ * <ul>
+ *   <li>{@code workouts} - a page of 50 workouts with 8 exercises each (admin list, /workouts/my)</li>
+ *   <li>{@code sets} - 200 strength sets, whose cardio and flexibility fields are null</li>
+ * </ul>
+ * Before each run the body size is printed uncompressed and gzipped, i.e. the bytes on the wire
+ * without and with response compression.
+ *
+ * Not part of the regular build (surefire only runs *Test/*Tests classes). Run explicitly:
+ * <pre>
+ * mvn test -Dtest=JsonSerializationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@DisplayName("JSON Serialization Benchmark")
+public class JsonSerializationBenchmark {
+
+    @Param({"defaults", "tuned"})
+    public String mapper;
+
+    @Param({"workouts", "sets"})
+    public String payload;
+
+    private ObjectMapper objectMapper;
+    private Object body;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("tuned".equals(mapper)) {
+            builder.serializationInclusion(JsonInclude.Include.NON_NULL)
+                    .modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+        body = "workouts".equals(payload) ? workoutPage() : strengthSets();
+
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+            gzip.write(json);
+        }
+        System.out.printf("%n%s/%s: %d bytes, %d bytes gzipped%n", mapper, payload, json.length, gzipped.size());
+    }
+
+    static PagedResponse<WorkoutResponse> workoutPage() {
+        List<WorkoutResponse> workouts = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            List<WorkoutExerciseResponse> exercises = new ArrayList<>();
+            for (int order = 1; order <= 8; order++) {
+                exercises.add(new WorkoutExerciseResponse(id * 10 + order, (long) order, "Barbell Back Squat",
+                        ExerciseType.STRENGTH, order, order % 3 == 0 ? "Pause at the bottom" : null, null));
+            }
+            boolean completed = id % 2 == 0;
+            workouts.add(new WorkoutResponse(id, "Lower Body Strength " + id, null, 42L, "Alex Morgan",
+                    completed ? WorkoutStatus.COMPLETED : WorkoutStatus.PLANNED, LocalDate.of(2026, 3, 1),
+                    completed ? LocalDateTime.of(2026, 3, 1, 18, 0) : null,
+                    completed ? LocalDateTime.of(2026, 3, 1, 19, 5) : null,
+                    completed ? 65 : null, null, exercises, LocalDateTime.of(2026, 2, 27, 9, 30)));
+        }
+        return new PagedResponse<>(workouts, 0, 50, 240, 5);
+    }
+
+    static List<SetResponse> strengthSets() {
+        List<SetResponse> sets = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            SetResponse set = new SetResponse();
+            set.setSetId(id);
+            set.setWorkoutExerciseId(7L);
+            set.setSetNumber((int) id);
+            set.setRestTimeInSeconds(120);
+            set.setCompleted(true);
+            set.setReps(5);
+            set.setWeight(new BigDecimal("102.50"));
+            sets.add(set);
+        }
+        return sets;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Test
+    @DisplayName("Run JMH JSON serialization benchmark")
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JsonSerializationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
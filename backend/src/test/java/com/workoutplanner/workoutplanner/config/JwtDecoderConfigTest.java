@@ -0,0 +1,126 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
+
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests for the JWKS source and decoder built by JwtDecoderConfig, against a local JWKS stub.
+ */
+@DisplayName("JwtDecoderConfig Tests")
+class JwtDecoderConfigTest {
+
+    private static final String ISSUER = "https://test.auth0.com/";
+    private static final String AUDIENCE = "test-audience";
+
+    private HttpServer jwksServer;
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private RSAKey signingKey;
+    private JWKSource<SecurityContext> jwkSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+        byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+        jwksServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        jwksServer.createContext("/.well-known/jwks.json", exchange -> {
+            jwksRequests.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(jwks);
+            }
+        });
+        jwksServer.start();
+
+        String jwkSetUri = JwtDecoderConfig.defaultJwkSetUri(
+                "http://localhost:" + jwksServer.getAddress().getPort());
+        jwkSource = JwtDecoderConfig.buildJwkSource(jwkSetUri, Duration.ofHours(1), Duration.ofMinutes(5),
+                Duration.ofHours(4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should pre-fetch keys so decoding does not hit the JWKS endpoint")
+    void shouldPrefetchKeys() throws Exception {
+        // Act
+        int keys = JwtDecoderConfig.prefetch(jwkSource);
+        JwtDecoder decoder = JwtDecoderConfig.buildDecoder(jwkSource, ISSUER, List.of(AUDIENCE));
+        Jwt jwt = decoder.decode(sign(ISSUER, AUDIENCE));
+
+        // Assert
+        assertThat(keys).isEqualTo(1);
+        assertThat(jwt.getSubject()).isEqualTo("auth0|123");
+        assertThat(jwksRequests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject tokens for another audience or issuer")
+    void shouldValidateIssuerAndAudience() throws Exception {
+        // Arrange
+        JwtDecoder decoder = JwtDecoderConfig.buildDecoder(jwkSource, ISSUER, List.of(AUDIENCE));
+
+        // Act & Assert
+        assertThatThrownBy(() -> decoder.decode(sign(ISSUER, "other-audience")))
+                .isInstanceOf(JwtValidationException.class);
+        assertThatThrownBy(() -> decoder.decode(sign("https://evil.example.com/", AUDIENCE)))
+                .isInstanceOf(JwtValidationException.class);
+    }
+
+    @Test
+    @DisplayName("Should derive the Auth0 JWKS location from the issuer")
+    void shouldDeriveJwkSetUri() {
+        assertThat(JwtDecoderConfig.defaultJwkSetUri("https://tenant.auth0.com/"))
+                .isEqualTo("https://tenant.auth0.com/.well-known/jwks.json");
+        assertThat(JwtDecoderConfig.defaultJwkSetUri("https://tenant.auth0.com"))
+                .isEqualTo("https://tenant.auth0.com/.well-known/jwks.json");
+    }
+
+    private String sign(String issuer, String audience) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer(issuer)
+                .audience(audience)
+                .subject("auth0|123")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(Duration.ofHours(1))))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(),
+                claims);
+        jwt.sign(new RSASSASigner(signingKey));
+        return jwt.serialize();
+    }
+}
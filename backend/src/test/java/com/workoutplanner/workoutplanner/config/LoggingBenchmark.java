@@ -0,0 +1,161 @@
+package com.workoutplanner.workoutplanner.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * JMH benchmark of INFO logging from request threads with the appenders of logback-spring.xml,
+ * each writing to a file in a temporary directory.
+ *
+ * <ul>
+ *   <li>{@code sync-pattern} - previous JSON_FILE: hand-written JSON pattern, written on the calling thread</li>
+ *   <li>{@code sync-json} - LogstashEncoder, written on the calling thread</li>
+ *   <li>{@code async-json} - JSON_FILE and ASYNC_JSON_FILE: LogstashEncoder behind a never-blocking
+ *       AsyncAppender (queue 8192, INFO discarded above 80%)</li>
+ * </ul>
+ * Four threads log concurrently with the request MDC set. After each trial the number of events
+ * written is printed, as the async appender trades discarded INFO events for throughput once the
+ * disk cannot keep up.
+ *
+ * Not part of the regular build (surefire only runs *Test/*Tests classes). Run explicitly:
+ * <pre>
+ * mvn test -Dtest=LoggingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+@DisplayName("Logging Benchmark")
+public class LoggingBenchmark {
+
+    private static final String JSON_PATTERN = "{\"timestamp\":\"%d{yyyy-MM-dd HH:mm:ss.SSS}\",\"level\":\"%level\","
+            + "\"thread\":\"%thread\",\"correlationId\":\"%X{correlationId:-}\",\"userId\":\"%X{userId:-}\","
+            + "\"apiVersion\":\"%X{apiVersion:-}\",\"logger\":\"%logger\",\"message\":\"%message\","
+            + "\"exception\":\"%ex{full}\"}%n";
+
+    @Param({"sync-pattern", "sync-json", "async-json"})
+    public String appender;
+
+    private Path directory;
+    private LoggerContext context;
+    private Logger logger;
+    private final LongAdder offered = new LongAdder();
+
+    @Setup(org.openjdk.jmh.annotations.Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("logging-benchmark");
+        context = new LoggerContext();
+        context.setMDCAdapter(MDC.getMDCAdapter());
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(directory.resolve("application.log").toString());
+        file.setEncoder(appender.endsWith("json") ? jsonEncoder() : patternEncoder());
+        file.start();
+
+        Appender<ILoggingEvent> root = file;
+        if (appender.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            root = async;
+        }
+        Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.INFO);
+        rootLogger.addAppender(root);
+        logger = context.getLogger("com.workoutplanner.workoutplanner.service.ExerciseService");
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(JSON_PATTERN);
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.start();
+        return encoder;
+    }
+
+    @TearDown(org.openjdk.jmh.annotations.Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Path file = directory.resolve("application.log");
+        try (Stream<String> lines = Files.lines(file)) {
+            System.out.printf("%n%s: %d of %d events written%n", appender, lines.count(), offered.sum());
+        }
+        Files.delete(file);
+        Files.delete(directory);
+    }
+
+    @State(Scope.Thread)
+    public static class RequestContext {
+
+        @Setup(org.openjdk.jmh.annotations.Level.Trial)
+        public void setUp() {
+            MDC.put("correlationId", "3f2b8c1e-7a4d-4e0b-9c55-2d1f6a8e9b70");
+            MDC.put("userId", "42");
+            MDC.put("apiVersion", "v1");
+        }
+    }
+
+    @Benchmark
+    public void logInfo(RequestContext request) {
+        logger.info("Retrieved {} exercises (page {} of {})", 20, 0, 12);
+        offered.increment();
+    }
+
+    @Test
+    @DisplayName("Run JMH logging benchmark")
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(LoggingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.workoutplanner.workoutplanner.util.CorrelationIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WebConfig.LoggingFilter request correlation.
+ */
+@DisplayName("LoggingFilter Unit Tests")
+class LoggingFilterTest {
+
+    @SuppressWarnings("unchecked")
+    private final WebConfig.LoggingFilter filter = new WebConfig.LoggingFilter(
+            mock(ObjectProvider.class), mock(ObjectProvider.class));
+
+    private Map<String, String> filter(MockHttpServletRequest request, MockHttpServletResponse response)
+            throws Exception {
+        Map<String, String> mdc = new HashMap<>();
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest req, jakarta.servlet.ServletResponse res) {
+                mdc.putAll(MDC.getCopyOfContextMap());
+            }
+        });
+        return mdc;
+    }
+
+    @Test
+    @DisplayName("Should propagate an incoming X-Request-Id to the MDC and the response")
+    void shouldPropagateIncomingRequestId() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/workouts/my");
+        request.addHeader(CorrelationIds.HEADER, "client-trace-42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        Map<String, String> mdc = filter(request, response);
+
+        // Assert
+        assertThat(mdc).containsEntry("correlationId", "client-trace-42").containsEntry("apiVersion", "v1");
+        assertThat(response.getHeader(CorrelationIds.HEADER)).isEqualTo("client-trace-42");
+        assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("Should generate an id when the incoming one is missing or unsafe")
+    void shouldGenerateIdForUnsafeHeader() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/internal/actuator/health");
+        request.addHeader(CorrelationIds.HEADER, "forged\nline");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        Map<String, String> mdc = filter(request, response);
+
+        // Assert
+        String correlationId = response.getHeader(CorrelationIds.HEADER);
+        assertThat(correlationId).isNotEqualTo("forged\nline").hasSize(36);
+        assertThat(mdc).containsEntry("correlationId", correlationId).doesNotContainKey("apiVersion");
+    }
+}
@@ -0,0 +1,38 @@
+package com.workoutplanner.workoutplanner.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many SQL statements the calls captured by a test's {@link QueryCapture} may execute,
+ * to catch N+1 regressions such as a mapper touching a lazy association:
+ * <pre>
+ * {@code
+ * @Test
+ * @QueryBudget(max = 3)
+ * void shouldListMyWorkoutsWithinQueryBudget(QueryCapture queries) throws Exception {
+ *     // Arrange - create several workouts
+ *     queries.capture(() -> given().when().get("/workouts/my").then().statusCode(200));
+ * }
+ * }
+ * </pre>
+ * Set exactly one of {@link #exact()} and {@link #max()}. Enforced by {@link QueryBudgetExtension}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * Exact number of statements, or -1.
+     */
+    int exact() default -1;
+
+    /**
+     * Maximum number of statements, or -1.
+     */
+    int max() default -1;
+}
@@ -0,0 +1,53 @@
+package com.workoutplanner.workoutplanner.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Provides {@link QueryCapture} test method parameters and enforces {@link QueryBudget}.
+ * A test declaring a budget must capture at least one call, so the budget cannot silently check nothing.
+ *
+ * Registered on {@link AbstractIntegrationTest}.
+ */
+public class QueryBudgetExtension implements ParameterResolver, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCapture.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        QueryBudget budget = extensionContext.getRequiredTestMethod().getAnnotation(QueryBudget.class);
+        if (budget != null && (budget.exact() >= 0) == (budget.max() >= 0)) {
+            fail("@QueryBudget needs exactly one of exact and max");
+        }
+        EntityManagerFactory entityManagerFactory =
+                SpringExtension.getApplicationContext(extensionContext).getBean(EntityManagerFactory.class);
+        QueryCapture capture = new QueryCapture(budget, entityManagerFactory);
+        extensionContext.getStore(NAMESPACE).put(QueryCapture.class, capture);
+        return capture;
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (!context.getRequiredTestMethod().isAnnotationPresent(QueryBudget.class)
+                || context.getExecutionException().isPresent()) {
+            return;
+        }
+        QueryCapture capture = context.getStore(NAMESPACE).get(QueryCapture.class, QueryCapture.class);
+        if (capture == null || !capture.isUsed()) {
+            fail("@QueryBudget test " + context.getDisplayName()
+                    + " must take a QueryCapture parameter and capture the call under test");
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.workoutplanner.workoutplanner.service.querymetrics.RequestQueryStatistics;
+import io.restassured.filter.Filter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Captures the SQL statements that HTTP calls of a test cause on the server, for MockMvc and
+ * REST Assured alike. Obtain one as a test method parameter (see {@link QueryBudgetExtension}).
+ *
+ * <ul>
+ *   <li>MockMvc requests run on the test thread and are recognized by it.</li>
+ *   <li>REST Assured requests carry the capture id in the {@value #HEADER} header, added by
+ *       {@link #restAssuredFilter()}.</li>
+ * </ul>
+ * {@link QueryCaptureFilter} collects the statements per request. Before each capture, the test's
+ * own persistence context is flushed and cleared, so lazy loads in the captured call cannot be
+ * served from entities the test created.
+ */
+public final class QueryCapture {
+
+    static final String HEADER = "X-Test-Query-Capture";
+
+    private static final long COMPLETION_TIMEOUT_MILLIS = 5000;
+    private static final Map<String, QueryCapture> ACTIVE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<QueryCapture> CURRENT = new ThreadLocal<>();
+
+    private final String id = UUID.randomUUID().toString();
+    private final QueryBudget budget;
+    private final EntityManagerFactory entityManagerFactory;
+    private final List<RequestQueryStatistics> requests = new ArrayList<>();
+    private int sentRequests;
+    private boolean used;
+
+    QueryCapture(QueryBudget budget, EntityManagerFactory entityManagerFactory) {
+        this.budget = budget;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Runs the call, collecting the statements of every request it makes, and checks them against
+     * the test's {@link QueryBudget}, if any.
+     *
+     * @return the result of the call
+     */
+    public <T> T capture(Callable<T> call) throws Exception {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (entityManager != null) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+        synchronized (this) {
+            requests.clear();
+            sentRequests = 0;
+        }
+
+        T result;
+        ACTIVE.put(id, this);
+        CURRENT.set(this);
+        try {
+            result = call.call();
+            awaitRequests();
+        } finally {
+            CURRENT.remove();
+            ACTIVE.remove(id);
+        }
+        used = true;
+
+        if (budget != null) {
+            verify(budget);
+        }
+        return result;
+    }
+
+    /**
+     * @return statements executed by the requests of the last capture
+     */
+    public synchronized int getStatements() {
+        return requests.stream().mapToInt(RequestQueryStatistics::getStatements).sum();
+    }
+
+    /**
+     * @return statement shapes of the last capture with how often each ran
+     */
+    public synchronized Map<String, Integer> getShapes() {
+        Map<String, Integer> shapes = new LinkedHashMap<>();
+        requests.forEach(request -> request.getShapes().forEach((shape, count) -> shapes.merge(shape, count, Integer::sum)));
+        return shapes;
+    }
+
+    boolean isUsed() {
+        return used;
+    }
+
+    private void verify(QueryBudget budget) {
+        int statements = getStatements();
+        if (budget.exact() >= 0 && statements != budget.exact()) {
+            fail("Expected exactly " + budget.exact() + " SQL statements but got " + statements + describeShapes());
+        }
+        if (budget.max() >= 0 && statements > budget.max()) {
+            fail("Expected at most " + budget.max() + " SQL statements but got " + statements + describeShapes());
+        }
+    }
+
+    private String describeShapes() {
+        StringBuilder description = new StringBuilder(":");
+        getShapes().forEach((shape, count) -> description.append("\n  ").append(count).append("x ").append(shape));
+        return description.toString();
+    }
+
+    private synchronized void awaitRequests() throws InterruptedException {
+        // REST Assured may see the response before the server-side filter has handed over its statistics
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMPLETION_TIMEOUT_MILLIS);
+        while (requests.size() < sentRequests) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                fail("Only " + requests.size() + " of " + sentRequests + " captured requests completed");
+            }
+            wait(remainingMillis);
+        }
+    }
+
+    synchronized void completed(RequestQueryStatistics statistics) {
+        requests.add(statistics);
+        notifyAll();
+    }
+
+    private synchronized void sent() {
+        sentRequests++;
+    }
+
+    /**
+     * @return the capture the request belongs to, or null if it is not captured
+     */
+    static QueryCapture forRequest(HttpServletRequest request) {
+        String captureId = request.getHeader(HEADER);
+        return captureId != null ? ACTIVE.get(captureId) : CURRENT.get();
+    }
+
+    /**
+     * @return REST Assured filter tagging requests sent during a capture on the calling thread
+     */
+    public static Filter restAssuredFilter() {
+        return (requestSpec, responseSpec, context) -> {
+            QueryCapture capture = CURRENT.get();
+            if (capture != null) {
+                requestSpec.header(HEADER, capture.id);
+                capture.sent();
+            }
+            return context.next(requestSpec, responseSpec);
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.workoutplanner.workoutplanner.config;
+
+import com.workoutplanner.workoutplanner.service.querymetrics.RequestQueryStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Collects the SQL statements of requests made during a {@link QueryCapture} and hands them to it.
+ * Runs last in the filter chain, after security and MDC set-up.
+ */
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class QueryCaptureFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryCapture capture = QueryCapture.forRequest(request);
+        if (capture == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RequestQueryStatistics.Scope scope = RequestQueryStatistics.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            capture.completed(scope.statistics());
+        }
+    }
+}
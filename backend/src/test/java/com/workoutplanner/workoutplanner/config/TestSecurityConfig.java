@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -43,7 +44,7 @@ import java.util.Map;
  * - Auto-authenticates requests with a test user (userId=1) via TestAuthFilter
  * - CSRF disabled
  * - Stateless sessions
- * - Method security enabled (for proper testing of @PreAuthorize)
+ * - Method security enabled (for proper testing of @PreAuthorize and @RequiresWorkoutOwnership)
  *
  * Note: This config is in src/test/java so it's only available during tests.
  * It uses @Profile("test") which is activated by @ActiveProfiles("test") in tests.
@@ -51,6 +52,7 @@ import java.util.Map;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
+@Import(MethodSecurityConfig.class)
 @Profile("test")
 public class TestSecurityConfig {
 
@@ -0,0 +1,86 @@
+package com.workoutplanner.workoutplanner.controller;
+
+import com.workoutplanner.workoutplanner.dto.response.UserResponse;
+import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
+import com.workoutplanner.workoutplanner.service.ExerciseService;
+import com.workoutplanner.workoutplanner.service.ResourceSecurityService;
+import com.workoutplanner.workoutplanner.service.WorkoutGraphService;
+import com.workoutplanner.workoutplanner.service.WorkoutSessionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkoutGraphQlController.
+ * Tests the page size limit and the email resolver directly: no query lets a non-admin reach
+ * another user yet, so the email denial path cannot be exercised through the API.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkoutGraphQlController Unit Tests")
+class WorkoutGraphQlControllerTest {
+
+    @Mock
+    private WorkoutSessionService workoutSessionService;
+
+    @Mock
+    private ExerciseService exerciseService;
+
+    @Mock
+    private WorkoutGraphService workoutGraphService;
+
+    @Mock
+    private ResourceSecurityService resourceSecurityService;
+
+    @InjectMocks
+    private WorkoutGraphQlController workoutGraphQlController;
+
+    private UserResponse user;
+
+    @BeforeEach
+    void setUp() {
+        user = new UserResponse();
+        user.setUserId(2L);
+        user.setEmail("other@example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject a page of workouts above the size limit")
+    void shouldRejectOversizedPage() {
+        // Act & Assert
+        assertThatThrownBy(() -> workoutGraphQlController.myWorkouts(0, WorkoutGraphQlController.MAX_PAGE_SIZE + 1, null))
+                .isInstanceOf(BusinessLogicException.class);
+        verifyNoInteractions(workoutSessionService);
+    }
+
+    @Test
+    @DisplayName("Should resolve the email of an accessible user")
+    void shouldResolveEmailOfAccessibleUser() {
+        // Arrange
+        when(resourceSecurityService.canAccessUser(2L)).thenReturn(true);
+
+        // Act
+        String email = workoutGraphQlController.email(user);
+
+        // Assert
+        assertThat(email).isEqualTo("other@example.com");
+    }
+
+    @Test
+    @DisplayName("Should deny the email of another user to a non-admin")
+    void shouldDenyEmailOfOtherUser() {
+        // Arrange
+        when(resourceSecurityService.canAccessUser(2L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> workoutGraphQlController.email(user))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+}
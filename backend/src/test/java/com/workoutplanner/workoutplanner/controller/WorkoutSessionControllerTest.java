@@ -5,6 +5,7 @@ import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutExerciseRequest;
 import com.workoutplanner.workoutplanner.dto.request.UpdateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.WorkoutActionRequest;
+import com.workoutplanner.workoutplanner.dto.request.WorkoutFieldSelection;
 import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
@@ -13,12 +14,14 @@ import com.workoutplanner.workoutplanner.exception.OptimisticLockConflictExcepti
 import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
 import com.workoutplanner.workoutplanner.service.ResourceSecurityService;
 import com.workoutplanner.workoutplanner.service.UserService;
+import com.workoutplanner.workoutplanner.service.WorkoutLiveStreamService;
 import com.workoutplanner.workoutplanner.service.WorkoutSessionService;
 import com.workoutplanner.workoutplanner.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import com.workoutplanner.workoutplanner.config.TestSecurityConfig;
@@ -32,6 +35,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
@@ -80,6 +84,9 @@ class WorkoutSessionControllerTest {
     @MockitoBean
     private WorkoutSessionService workoutSessionService;
 
+    @MockitoBean
+    private WorkoutLiveStreamService workoutLiveStreamService;
+
     @MockitoBean(name = "resourceSecurityService")
     private ResourceSecurityService resourceSecurityService;
 
@@ -163,7 +170,8 @@ class WorkoutSessionControllerTest {
             response.setSessionId(VALID_WORKOUT_ID);
             response.setName(WORKOUT_NAME);
             
-            when(workoutSessionService.getWorkoutSessionById(VALID_WORKOUT_ID)).thenReturn(response);
+            when(workoutSessionService.getWorkoutSessionById(eq(VALID_WORKOUT_ID), any(WorkoutFieldSelection.class)))
+                .thenReturn(response);
             
             // Act & Assert
             mockMvc.perform(get("/api/v1/workouts/" + VALID_WORKOUT_ID))
@@ -171,7 +179,52 @@ class WorkoutSessionControllerTest {
                 .andExpect(jsonPath("$.sessionId").value(VALID_WORKOUT_ID))
                 .andExpect(jsonPath("$.name").value(WORKOUT_NAME));
             
-            verify(workoutSessionService).getWorkoutSessionById(VALID_WORKOUT_ID);
+            ArgumentCaptor<WorkoutFieldSelection> selection = ArgumentCaptor.forClass(WorkoutFieldSelection.class);
+            verify(workoutSessionService).getWorkoutSessionById(eq(VALID_WORKOUT_ID), selection.capture());
+            assertThat(selection.getValue().includes("userFullName")).isTrue();
+            assertThat(selection.getValue().expandsExercises()).isTrue();
+            assertThat(selection.getValue().expandsSets()).isFalse();
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should pass requested fields and expansions to the service")
+        void shouldPassFieldsAndExpand() throws Exception {
+            // Arrange
+            WorkoutResponse response = new WorkoutResponse();
+            response.setSessionId(VALID_WORKOUT_ID);
+            response.setName(WORKOUT_NAME);
+            when(workoutSessionService.getWorkoutSessionById(eq(VALID_WORKOUT_ID), any(WorkoutFieldSelection.class)))
+                .thenReturn(response);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/workouts/" + VALID_WORKOUT_ID)
+                    .param("fields", "name, status")
+                    .param("expand", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(WORKOUT_NAME))
+                .andExpect(jsonPath("$.workoutExercises").doesNotExist());
+
+            ArgumentCaptor<WorkoutFieldSelection> selection = ArgumentCaptor.forClass(WorkoutFieldSelection.class);
+            verify(workoutSessionService).getWorkoutSessionById(eq(VALID_WORKOUT_ID), selection.capture());
+            assertThat(selection.getValue().includes("name")).isTrue();
+            assertThat(selection.getValue().includes("status")).isTrue();
+            assertThat(selection.getValue().includes("userFullName")).isFalse();
+            assertThat(selection.getValue().expandsExercises()).isFalse();
+            assertThat(selection.getValue().attributePaths()).isEmpty();
+        }
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 400 for unknown field or expansion")
+        void shouldReturn400ForUnknownFieldOrExpansion() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/workouts/" + VALID_WORKOUT_ID).param("fields", "name,password"))
+                .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/workouts/" + VALID_WORKOUT_ID).param("expand", "user"))
+                .andExpect(status().isBadRequest());
+
+            verify(workoutSessionService, never()).getWorkoutSessionById(anyLong(), any(WorkoutFieldSelection.class));
         }
         
         @Test
@@ -179,14 +232,29 @@ class WorkoutSessionControllerTest {
         @DisplayName("Should return 404 when workout not found")
         void shouldReturn404WhenWorkoutNotFound() throws Exception {
             // Arrange
-            when(workoutSessionService.getWorkoutSessionById(NON_EXISTENT_ID))
+            when(workoutSessionService.getWorkoutSessionById(eq(NON_EXISTENT_ID), any(WorkoutFieldSelection.class)))
                 .thenThrow(new ResourceNotFoundException("Workout session", "ID", NON_EXISTENT_ID));
             
             // Act & Assert
             mockMvc.perform(get("/api/v1/workouts/" + NON_EXISTENT_ID))
                 .andExpect(status().isNotFound());
         }
-        
+
+        @Test
+        @WithMockUser
+        @DisplayName("Should return 403 when user does not own the workout")
+        void shouldReturn403WhenNotOwner() throws Exception {
+            // Arrange
+            when(resourceSecurityService.canAccessWorkout(VALID_WORKOUT_ID)).thenReturn(false);
+
+            // Act & Assert
+            mockMvc.perform(get("/api/v1/workouts/" + VALID_WORKOUT_ID))
+                .andExpect(status().isForbidden());
+
+            verify(resourceSecurityService).canAccessWorkout(VALID_WORKOUT_ID);
+            verifyNoInteractions(workoutSessionService);
+        }
+
         @Test
         @WithMockUser
         @DisplayName("Should return paginated workouts")
@@ -251,9 +319,9 @@ class WorkoutSessionControllerTest {
             WorkoutResponse response = new WorkoutResponse();
             response.setSessionId(VALID_WORKOUT_ID);
             response.setName("Smart Loaded Workout");
-            response.setWorkoutExercises(List.of()); // Initialize to prevent NPE in controller logging
+            response.setWorkoutExercises(List.of());
             
-            when(workoutSessionService.getWorkoutSessionWithSmartLoading(VALID_WORKOUT_ID))
+            when(workoutSessionService.getWorkoutSessionById(eq(VALID_WORKOUT_ID), any(WorkoutFieldSelection.class)))
                 .thenReturn(response);
             
             // Act & Assert
@@ -262,7 +330,9 @@ class WorkoutSessionControllerTest {
                 .andExpect(jsonPath("$.sessionId").value(VALID_WORKOUT_ID))
                 .andExpect(jsonPath("$.name").value("Smart Loaded Workout"));
             
-            verify(workoutSessionService).getWorkoutSessionWithSmartLoading(VALID_WORKOUT_ID);
+            ArgumentCaptor<WorkoutFieldSelection> selection = ArgumentCaptor.forClass(WorkoutFieldSelection.class);
+            verify(workoutSessionService).getWorkoutSessionById(eq(VALID_WORKOUT_ID), selection.capture());
+            assertThat(selection.getValue().expandsSets()).isTrue();
         }
     }
     
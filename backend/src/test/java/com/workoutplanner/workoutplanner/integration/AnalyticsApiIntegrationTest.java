@@ -0,0 +1,176 @@
+package com.workoutplanner.workoutplanner.integration;
+
+import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.config.TestSecurityConfig;
+import com.workoutplanner.workoutplanner.entity.Exercise;
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import com.workoutplanner.workoutplanner.repository.CardioSetRepository;
+import com.workoutplanner.workoutplanner.repository.ExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.FlexibilitySetRepository;
+import com.workoutplanner.workoutplanner.repository.StrengthSetRepository;
+import com.workoutplanner.workoutplanner.repository.UserRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * API Integration tests for the training analytics endpoints.
+ *
+ * Training history is loaded through the import endpoint so the aggregates run against real rows.
+ */
+@DisplayName("Analytics API Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AnalyticsApiIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private StrengthSetRepository strengthSetRepository;
+
+    @Autowired
+    private CardioSetRepository cardioSetRepository;
+
+    @Autowired
+    private FlexibilitySetRepository flexibilitySetRepository;
+
+    private Exercise strengthExercise;
+
+    @BeforeEach
+    void setUp() {
+        User testUser = TestDataBuilder.createNewUser();
+        testUser.setRole(UserRole.USER);
+        testUser = userRepository.saveAndFlush(testUser);
+        TestSecurityConfig.TestAuthFilter.setTestUserId(testUser.getUserId());
+
+        strengthExercise = exerciseRepository.saveAndFlush(TestDataBuilder.createNewStrengthExercise());
+
+        long strength = strengthExercise.getExerciseId();
+        String csv = "sessionKey,sessionName,startedAt,exerciseId,exerciseOrder,setNumber,reps,weight\n"
+                + "a,Push Day,2024-03-01T18:00," + strength + ",1,1,10,80\n"
+                + "a,Push Day,2024-03-01T18:00," + strength + ",1,2,8,85\n"
+                + "b,Push Day,2024-03-08T18:00," + strength + ",1,1,3,100\n";
+
+        given()
+            .contentType("text/csv")
+            .body(csv)
+        .when()
+            .post("/workouts/import")
+        .then()
+            .statusCode(200);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        strengthSetRepository.deleteAll();
+        cardioSetRepository.deleteAll();
+        flexibilitySetRepository.deleteAll();
+        workoutExerciseRepository.deleteAll();
+        workoutSessionRepository.deleteAll();
+        exerciseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should aggregate weekly tonnage per muscle group")
+    void shouldAggregateWeeklyTonnage() {
+        given()
+            .queryParam("period", "WEEK")
+            .queryParam("from", "2024-01-01")
+            .queryParam("to", "2024-12-31")
+        .when()
+            .get("/analytics/tonnage")
+        .then()
+            .statusCode(200)
+            .body("$", hasSize(2))
+            .body("[0].periodStart", equalTo("2024-02-26"))
+            .body("[0].muscleGroup", equalTo("CHEST"))
+            .body("[0].setCount", equalTo(2))
+            .body("[0].totalReps", equalTo(18))
+            .body("[0].tonnage", equalTo(1480.0f))
+            .body("[1].periodStart", equalTo("2024-03-04"));
+    }
+
+    @Test
+    @DisplayName("Should report heaviest set and best estimated one-rep max")
+    void shouldReportPersonalRecords() {
+        given()
+        .when()
+            .get("/analytics/personal-records")
+        .then()
+            .statusCode(200)
+            .body("$", hasSize(1))
+            .body("[0].exerciseId", equalTo(strengthExercise.getExerciseId().intValue()))
+            .body("[0].maxWeight", equalTo(100.0f))
+            .body("[0].maxWeightDate", equalTo("2024-03-08"));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when the data version has not changed")
+    void shouldReturnNotModifiedForMatchingETag() {
+        String etag = given()
+            .when()
+                .get("/analytics/personal-records")
+            .then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+        .when()
+            .get("/analytics/personal-records")
+        .then()
+            .statusCode(304);
+    }
+
+    @Test
+    @DisplayName("Should issue a new ETag once the training data changes")
+    void shouldChangeETagAfterWrite() {
+        String etag = given()
+            .when()
+                .get("/analytics/personal-records")
+            .then()
+                .statusCode(200)
+                .extract().header("ETag");
+
+        // The version lives in the database, so any instance handling the write invalidates it
+        given()
+            .contentType("text/csv")
+            .body("sessionKey,sessionName,startedAt,exerciseId,exerciseOrder,setNumber,reps,weight\n"
+                    + "c,Push Day,2024-03-15T18:00," + strengthExercise.getExerciseId() + ",1,1,1,110\n")
+        .when()
+            .post("/workouts/import")
+        .then()
+            .statusCode(200);
+
+        given()
+            .header("If-None-Match", etag)
+        .when()
+            .get("/analytics/personal-records")
+        .then()
+            .statusCode(200)
+            .header("ETag", not(equalTo(etag)))
+            .body("[0].maxWeight", equalTo(110.0f));
+    }
+}
@@ -0,0 +1,305 @@
+package com.workoutplanner.workoutplanner.integration;
+
+import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.config.QueryBudget;
+import com.workoutplanner.workoutplanner.config.QueryCapture;
+import com.workoutplanner.workoutplanner.config.TestSecurityConfig;
+import com.workoutplanner.workoutplanner.entity.CardioSet;
+import com.workoutplanner.workoutplanner.entity.Exercise;
+import com.workoutplanner.workoutplanner.entity.StrengthSet;
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import com.workoutplanner.workoutplanner.repository.CardioSetRepository;
+import com.workoutplanner.workoutplanner.repository.ExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.StrengthSetRepository;
+import com.workoutplanner.workoutplanner.repository.UserRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * API Integration tests for the GraphQL read API.
+ *
+ * The N+1 tests run the same nested query over one and over several workouts, each with a strength
+ * and a cardio exercise, and expect the same statement count: one per level and set type, no
+ * matter how many workouts, exercises or sets are returned.
+ */
+@DisplayName("GraphQL API Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Disable inherited @Transactional for REST Assured tests
+class GraphQlApiIntegrationTest extends AbstractIntegrationTest {
+
+    /**
+     * myWorkouts, users, workout exercises with their exercises, exercises, strength sets, cardio sets.
+     */
+    private static final int NESTED_QUERY_STATEMENTS = 6;
+
+    private static final String NESTED_QUERY = """
+            {
+              myWorkouts {
+                name
+                user { username email }
+                exercises {
+                  exerciseName
+                  exercise { name targetMuscleGroup }
+                  sets { setNumber reps weight distance }
+                }
+              }
+            }
+            """;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private StrengthSetRepository strengthSetRepository;
+
+    @Autowired
+    private CardioSetRepository cardioSetRepository;
+
+    private User testUser;
+    private Exercise strengthExercise;
+    private Exercise cardioExercise;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestDataBuilder.createNewUser();
+        testUser.setRole(UserRole.USER);
+        testUser = userRepository.saveAndFlush(testUser);
+        TestSecurityConfig.TestAuthFilter.setTestUserId(testUser.getUserId());
+        TestSecurityConfig.TestAuthFilter.setAdminMode(false);
+
+        strengthExercise = exerciseRepository.saveAndFlush(TestDataBuilder.createNewStrengthExercise());
+        cardioExercise = exerciseRepository.saveAndFlush(TestDataBuilder.createNewCardioExercise());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        TestSecurityConfig.TestAuthFilter.setAdminMode(true);
+        strengthSetRepository.deleteAll();
+        cardioSetRepository.deleteAll();
+        workoutExerciseRepository.deleteAll();
+        workoutSessionRepository.deleteAll();
+        exerciseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    /**
+     * Creates a workout with a strength and a cardio exercise, one set each.
+     */
+    private WorkoutSession createWorkout(User user) {
+        WorkoutSession workoutSession = workoutSessionRepository.saveAndFlush(TestDataBuilder.createNewWorkoutSession(user));
+
+        WorkoutExercise strength = TestDataBuilder.createWorkoutExercise(workoutSession, strengthExercise);
+        strength.setWorkoutExerciseId(null);
+        strength = workoutExerciseRepository.saveAndFlush(strength);
+        StrengthSet strengthSet = TestDataBuilder.createStrengthSet(strength);
+        strengthSet.setSetId(null);
+        strengthSetRepository.saveAndFlush(strengthSet);
+
+        WorkoutExercise cardio = TestDataBuilder.createWorkoutExercise(workoutSession, cardioExercise);
+        cardio.setWorkoutExerciseId(null);
+        cardio.setOrderInWorkout(2);
+        cardio = workoutExerciseRepository.saveAndFlush(cardio);
+        CardioSet cardioSet = TestDataBuilder.createCardioSet(cardio);
+        cardioSet.setSetId(null);
+        cardioSetRepository.saveAndFlush(cardioSet);
+
+        return workoutSession;
+    }
+
+    private static ValidatableResponse graphql(String query) {
+        return given()
+                .body(Map.of("query", query))
+            .when()
+                .post("/graphql")
+            .then()
+                .statusCode(200);
+    }
+
+    @Nested
+    @DisplayName("N+1 Query Tests")
+    class NPlusOneTests {
+
+        @Test
+        @QueryBudget(exact = NESTED_QUERY_STATEMENTS)
+        @DisplayName("Should resolve a nested query over one workout with one statement per level")
+        void shouldResolveOneWorkout(QueryCapture queries) throws Exception {
+            // Arrange
+            createWorkout(testUser);
+
+            // Act & Assert
+            queries.capture(() -> graphql(NESTED_QUERY)
+                .body("errors", nullValue())
+                .body("data.myWorkouts", hasSize(1))
+                .body("data.myWorkouts[0].user.email", equalTo(testUser.getEmail()))
+                .body("data.myWorkouts[0].exercises", hasSize(2))
+                .body("data.myWorkouts[0].exercises[0].exercise.name", equalTo("Bench Press"))
+                .body("data.myWorkouts[0].exercises[0].sets[0].reps", equalTo(10))
+                .body("data.myWorkouts[0].exercises[1].sets[0].distance", equalTo(5.0f)));
+        }
+
+        @Test
+        @QueryBudget(exact = NESTED_QUERY_STATEMENTS)
+        @DisplayName("Should resolve the same query over many workouts with the same statements")
+        void shouldResolveManyWorkouts(QueryCapture queries) throws Exception {
+            // Arrange
+            for (int i = 0; i < 5; i++) {
+                createWorkout(testUser);
+            }
+
+            // Act & Assert
+            queries.capture(() -> graphql(NESTED_QUERY)
+                .body("errors", nullValue())
+                .body("data.myWorkouts", hasSize(5))
+                .body("data.myWorkouts.exercises.flatten()", hasSize(10))
+                .body("data.myWorkouts.exercises.flatten().sets.flatten()", hasSize(10)));
+        }
+
+        @Test
+        @QueryBudget(max = 5)
+        @DisplayName("Should resolve a workout with its sets within the query budget")
+        void shouldResolveWorkoutWithSets(QueryCapture queries) throws Exception {
+            // Arrange - ownership check, workout with user, workout exercises, strength sets, cardio sets
+            WorkoutSession workoutSession = createWorkout(testUser);
+
+            // Act & Assert
+            queries.capture(() -> graphql("{ workout(sessionId: " + workoutSession.getSessionId()
+                    + ") { name userFullName exercises { exerciseType sets { setNumber } } } }")
+                .body("errors", nullValue())
+                .body("data.workout.userFullName", equalTo("Test User"))
+                .body("data.workout.exercises.exerciseType", contains("STRENGTH", "CARDIO")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Authorization Tests")
+    class AuthorizationTests {
+
+        @Test
+        @DisplayName("Should deny another user's workout")
+        void shouldDenyOtherUsersWorkout() {
+            // Arrange
+            User otherUser = userRepository.saveAndFlush(TestDataBuilder.createNewUser());
+            WorkoutSession otherWorkout = createWorkout(otherUser);
+
+            // Act & Assert
+            graphql("{ workout(sessionId: " + otherWorkout.getSessionId() + ") { name } }")
+                .body("data", hasEntry(equalTo("workout"), nullValue()))
+                .body("errors[0].extensions.classification", equalTo("FORBIDDEN"));
+        }
+
+        @Test
+        @DisplayName("Should show the email of another user to admins")
+        void shouldShowEmailToAdmin() {
+            // Arrange
+            TestSecurityConfig.TestAuthFilter.setAdminMode(true);
+            User otherUser = userRepository.saveAndFlush(TestDataBuilder.createNewUser());
+            WorkoutSession otherWorkout = createWorkout(otherUser);
+
+            // Act & Assert
+            graphql("{ workout(sessionId: " + otherWorkout.getSessionId() + ") { user { username email } } }")
+                .body("errors", nullValue())
+                .body("data.workout.user.email", equalTo(otherUser.getEmail()));
+        }
+
+        @Test
+        @DisplayName("Should return NOT_FOUND for an unknown exercise")
+        void shouldReturnNotFoundForUnknownExercise() {
+            // Act & Assert
+            graphql("{ exercise(exerciseId: 999999) { name } }")
+                .body("data", hasEntry(equalTo("exercise"), nullValue()))
+                .body("errors[0].extensions.classification", equalTo("NOT_FOUND"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pagination Tests")
+    class PaginationTests {
+
+        @Test
+        @DisplayName("Should return the current user's workouts one page at a time")
+        void shouldPageMyWorkouts() {
+            // Arrange
+            for (int i = 0; i < 3; i++) {
+                createWorkout(testUser);
+            }
+
+            // Act & Assert
+            graphql("{ myWorkouts(page: 0, size: 2) { sessionId } }")
+                .body("errors", nullValue())
+                .body("data.myWorkouts", hasSize(2));
+            graphql("{ myWorkouts(page: 1, size: 2) { sessionId } }")
+                .body("errors", nullValue())
+                .body("data.myWorkouts", hasSize(1));
+        }
+
+        @Test
+        @DisplayName("Should reject a page size above the limit")
+        void shouldRejectOversizedPage() {
+            // Act & Assert
+            graphql("{ myWorkouts(size: 101) { name } }")
+                .body("errors[0].extensions.classification", equalTo("BAD_REQUEST"))
+                .body("errors[0].message", containsString("Page size cannot exceed 100"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Limit Tests")
+    class QueryLimitTests {
+
+        @Test
+        @QueryBudget(exact = 0)
+        @DisplayName("Should reject a query above the complexity limit without touching the database")
+        void shouldRejectComplexQuery(QueryCapture queries) throws Exception {
+            // Arrange - 201 aliased fields
+            StringBuilder query = new StringBuilder("{ myWorkouts {");
+            for (int i = 0; i <= 200; i++) {
+                query.append(" name").append(i).append(": name");
+            }
+            query.append(" } }");
+
+            // Act & Assert
+            queries.capture(() -> graphql(query.toString())
+                .body("data", nullValue())
+                .body("errors[0].message", containsString("maximum query complexity exceeded")));
+        }
+
+        @Test
+        @DisplayName("Should reject a query above the depth limit")
+        void shouldRejectDeepQuery() {
+            // Arrange - 14 levels
+            String query = "{ __schema { types { fields { type { ofType { ofType { ofType { ofType { ofType "
+                    + "{ ofType { ofType { ofType { ofType { name } } } } } } } } } } } } } }";
+
+            // Act & Assert
+            graphql(query)
+                .body("data", nullValue())
+                .body("errors[0].message", containsString("maximum query depth exceeded"));
+        }
+    }
+}
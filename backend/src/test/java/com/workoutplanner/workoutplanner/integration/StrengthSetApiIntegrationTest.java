@@ -1,6 +1,8 @@
 package com.workoutplanner.workoutplanner.integration;
 
 import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.config.QueryBudget;
+import com.workoutplanner.workoutplanner.config.QueryCapture;
 import com.workoutplanner.workoutplanner.config.TestSecurityConfig;
 import com.workoutplanner.workoutplanner.dto.request.CreateStrengthSetRequest;
 import com.workoutplanner.workoutplanner.entity.Exercise;
@@ -378,6 +380,48 @@ class StrengthSetApiIntegrationTest extends AbstractIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET - Sets within a workout")
+    class WorkoutSetsTests {
+
+        @BeforeEach
+        void createSet() {
+            StrengthSet set = TestDataBuilder.createStrengthSet(workoutExercise);
+            set.setSetId(null);
+            strengthSetRepository.saveAndFlush(set);
+        }
+
+        @Test
+        @QueryBudget(max = 3)
+        @DisplayName("Should return the sets of a workout with one set query")
+        void shouldReturnSetsWithSmartLoading(QueryCapture queries) throws Exception {
+            // Act & Assert - ownership check, workout with exercises, strength sets
+            queries.capture(() -> given()
+                .queryParam("fields", "name")
+            .when()
+                .get("/workouts/" + workoutSession.getSessionId() + "/smart")
+            .then()
+                .statusCode(200)
+                .body("workoutExercises", hasSize(1))
+                .body("workoutExercises[0].sets", hasSize(1))
+                .body("workoutExercises[0].sets[0].reps", equalTo(10)));
+        }
+
+        @Test
+        @DisplayName("Should leave out sets unless expanded")
+        void shouldOmitSetsUnlessExpanded() {
+            // Act & Assert
+            given()
+                .queryParam("expand", "exercises")
+            .when()
+                .get("/workouts/" + workoutSession.getSessionId() + "/smart")
+            .then()
+                .statusCode(200)
+                .body("workoutExercises", hasSize(1))
+                .body("workoutExercises[0]", not(hasKey("sets")));
+        }
+    }
+
     @Nested
     @DisplayName("Complete Workflow")
     class CompleteWorkflowTests {
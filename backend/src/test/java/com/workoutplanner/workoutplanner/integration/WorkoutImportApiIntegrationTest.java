@@ -0,0 +1,209 @@
+package com.workoutplanner.workoutplanner.integration;
+
+import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.config.TestSecurityConfig;
+import com.workoutplanner.workoutplanner.entity.Exercise;
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import com.workoutplanner.workoutplanner.repository.CardioSetRepository;
+import com.workoutplanner.workoutplanner.repository.ExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.FlexibilitySetRepository;
+import com.workoutplanner.workoutplanner.repository.StrengthSetRepository;
+import com.workoutplanner.workoutplanner.repository.UserRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * API Integration tests for the bulk workout import endpoint.
+ *
+ * Exercises the full COPY staging and merge path against PostgreSQL.
+ */
+@DisplayName("Workout Import API Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WorkoutImportApiIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private StrengthSetRepository strengthSetRepository;
+
+    @Autowired
+    private CardioSetRepository cardioSetRepository;
+
+    @Autowired
+    private FlexibilitySetRepository flexibilitySetRepository;
+
+    private User testUser;
+    private Exercise strengthExercise;
+    private Exercise cardioExercise;
+
+    @BeforeEach
+    void setUp() {
+        testUser = TestDataBuilder.createNewUser();
+        testUser.setRole(UserRole.USER);
+        testUser = userRepository.saveAndFlush(testUser);
+        TestSecurityConfig.TestAuthFilter.setTestUserId(testUser.getUserId());
+
+        strengthExercise = exerciseRepository.saveAndFlush(TestDataBuilder.createNewStrengthExercise());
+        cardioExercise = exerciseRepository.saveAndFlush(TestDataBuilder.createNewCardioExercise());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        strengthSetRepository.deleteAll();
+        cardioSetRepository.deleteAll();
+        flexibilitySetRepository.deleteAll();
+        workoutExerciseRepository.deleteAll();
+        workoutSessionRepository.deleteAll();
+        exerciseRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("POST - Import CSV")
+    class ImportCsvTests {
+
+        @Test
+        @DisplayName("Should create sessions, workout exercises and sets from CSV")
+        void shouldImportCsv() {
+            long strength = strengthExercise.getExerciseId();
+            long cardio = cardioExercise.getExerciseId();
+            String csv = "sessionKey,sessionName,startedAt,completedAt,exerciseId,exerciseOrder,setNumber,reps,weight,durationInSeconds,distance,notes\n"
+                    + "a,Push Day,2024-03-01T18:00,2024-03-01T19:00," + strength + ",1,1,10,80,,,\n"
+                    + "a,Push Day,2024-03-01T18:00,2024-03-01T19:00," + strength + ",1,2,8,85,,,\"last set, hard\"\n"
+                    + "a,Push Day,2024-03-01T18:00,2024-03-01T19:00," + cardio + ",2,1,,,900,2.5,\n"
+                    + "b,Run,2024-03-03,," + cardio + ",1,1,,,1800,5,\n";
+
+            given()
+                .contentType("text/csv")
+                .body(csv)
+            .when()
+                .post("/workouts/import")
+            .then()
+                .statusCode(200)
+                .body("rowsRead", equalTo(4))
+                .body("rowsImported", equalTo(4))
+                .body("rowsRejected", equalTo(0))
+                .body("sessionsCreated", equalTo(2))
+                .body("workoutExercisesCreated", equalTo(3))
+                .body("setsCreated", equalTo(4))
+                .body("errors", empty());
+
+            List<WorkoutSession> sessions = workoutSessionRepository.findAll();
+            assertThat(sessions).hasSize(2)
+                    .allSatisfy(session -> {
+                        assertThat(session.getStatus()).isEqualTo(WorkoutStatus.COMPLETED);
+                        assertThat(session.getUser().getUserId()).isEqualTo(testUser.getUserId());
+                    });
+            assertThat(strengthSetRepository.count()).isEqualTo(2);
+            assertThat(cardioSetRepository.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should skip and report invalid rows while importing the rest")
+        void shouldReportInvalidRows() {
+            long strength = strengthExercise.getExerciseId();
+            String csv = "sessionKey,sessionName,startedAt,exerciseId,exerciseOrder,setNumber,reps,weight\n"
+                    + "a,Push Day,2024-03-01T18:00," + strength + ",1,1,10,80\n"
+                    + "a,Push Day,2024-03-01T18:00," + strength + ",1,2,0,80\n"
+                    + "a,Push Day,2024-03-01T18:00,99999,1,3,10,80\n";
+
+            given()
+                .contentType("text/csv")
+                .body(csv)
+            .when()
+                .post("/workouts/import")
+            .then()
+                .statusCode(200)
+                .body("rowsImported", equalTo(1))
+                .body("rowsRejected", equalTo(2))
+                .body("errors.lineNumber", contains(3, 4))
+                .body("errors[0].message", containsString("reps must be between 1 and 1000"))
+                .body("errors[1].message", containsString("exerciseId 99999 does not exist"));
+        }
+
+        @Test
+        @DisplayName("Should reject rows that assign different exercises to the same order")
+        void shouldRejectConflictingExerciseOrder() {
+            long strength = strengthExercise.getExerciseId();
+            long cardio = cardioExercise.getExerciseId();
+            String csv = "sessionKey,sessionName,startedAt,exerciseId,exerciseOrder,setNumber,reps,weight,durationInSeconds\n"
+                    + "a,Mixed,2024-03-01T18:00," + strength + ",1,1,10,80,\n"
+                    + "a,Mixed,2024-03-01T18:00," + cardio + ",1,1,,,600\n";
+
+            given()
+                .contentType("text/csv")
+                .body(csv)
+            .when()
+                .post("/workouts/import")
+            .then()
+                .statusCode(200)
+                .body("rowsImported", equalTo(0))
+                .body("rowsRejected", equalTo(2))
+                .body("setsCreated", equalTo(0));
+        }
+
+        @Test
+        @DisplayName("Should return 400 for unknown CSV column")
+        void shouldReturn400ForUnknownColumn() {
+            given()
+                .contentType("text/csv")
+                .body("sessionKey,sessionName,startedAt,exerciseId,exerciseOrder,setNumber,weigth\n")
+            .when()
+                .post("/workouts/import")
+            .then()
+                .statusCode(400);
+        }
+    }
+
+    @Nested
+    @DisplayName("POST - Import NDJSON")
+    class ImportNdjsonTests {
+
+        @Test
+        @DisplayName("Should import NDJSON rows")
+        void shouldImportNdjson() {
+            String ndjson = "{\"sessionKey\":\"r1\",\"sessionName\":\"Run\",\"startedAt\":\"2024-04-01T07:00\","
+                    + "\"exerciseId\":" + cardioExercise.getExerciseId() + ",\"exerciseOrder\":1,\"setNumber\":1,"
+                    + "\"durationInSeconds\":1500,\"distance\":4.2,\"distanceUnit\":\"km\"}\n";
+
+            given()
+                .contentType("application/x-ndjson")
+                .body(ndjson)
+            .when()
+                .post("/workouts/import")
+            .then()
+                .statusCode(200)
+                .body("format", equalTo("NDJSON"))
+                .body("sessionsCreated", equalTo(1))
+                .body("setsCreated", equalTo(1));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.workoutplanner.workoutplanner.integration;
 
 import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.config.QueryBudget;
+import com.workoutplanner.workoutplanner.config.QueryCapture;
 import com.workoutplanner.workoutplanner.config.TestSecurityConfig;
 import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutRequest;
 import com.workoutplanner.workoutplanner.dto.request.WorkoutActionRequest;
@@ -10,6 +12,8 @@ import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
 import com.workoutplanner.workoutplanner.repository.UserRepository;
 import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
 import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -365,6 +369,48 @@ class WorkoutSessionApiIntegrationTest extends AbstractIntegrationTest {
         TestSecurityConfig.TestAuthFilter.setAdminMode(true);
     }
 
+    @Test
+    @DisplayName("GET /api/v1/workouts/{id} - Should return 404 to the owner of a deleted workout and 403 to others")
+    void shouldReturn404ToOwnerOfDeletedWorkout() {
+        // Arrange - Create and delete a workout as testUser, without admin rights
+        CreateWorkoutRequest createRequest = TestDataBuilder.createWorkoutRequest();
+        Integer workoutId = given()
+                .body(createRequest)
+        .when()
+            .post("/workouts")
+        .then()
+            .statusCode(201)
+            .extract().path("sessionId");
+        TestSecurityConfig.TestAuthFilter.setAdminMode(false);
+        given()
+        .when()
+            .delete("/workouts/" + workoutId)
+        .then()
+            .statusCode(204);
+
+        // Act & Assert - the owner learns it is gone
+        given()
+        .when()
+            .get("/workouts/" + workoutId)
+        .then()
+            .statusCode(404);
+
+        // Act & Assert - anyone else is denied as before the delete
+        User otherUser = TestDataBuilder.createNewUser();
+        otherUser.setRole(UserRole.USER);
+        otherUser = userRepository.saveAndFlush(otherUser);
+        TestSecurityConfig.TestAuthFilter.setTestUserId(otherUser.getUserId());
+        given()
+        .when()
+            .get("/workouts/" + workoutId)
+        .then()
+            .statusCode(403);
+
+        // Clean up - restore original user and admin mode
+        TestSecurityConfig.TestAuthFilter.setTestUserId(testUser.getUserId());
+        TestSecurityConfig.TestAuthFilter.setAdminMode(true);
+    }
+
     @Test
     @DisplayName("PUT /api/v1/workouts/{id} - Should return 403 when updating another user's workout")
     void shouldReturn403WhenUpdatingAnotherUsersWorkout() {
@@ -476,6 +522,130 @@ class WorkoutSessionApiIntegrationTest extends AbstractIntegrationTest {
         TestSecurityConfig.TestAuthFilter.setAdminMode(true);
     }
 
+    // ==================== QUERY BUDGET TESTS ====================
+
+    private Integer createWorkout() {
+        return given()
+                .body(TestDataBuilder.createWorkoutRequest())
+        .when()
+            .post("/workouts")
+        .then()
+            .statusCode(201)
+            .extract().path("sessionId");
+    }
+
+    @Test
+    @QueryBudget(max = 3)
+    @DisplayName("GET /api/v1/workouts/my - Should not issue a query per workout")
+    void shouldListMyWorkoutsWithinQueryBudget(QueryCapture queries) throws Exception {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            createWorkout();
+        }
+
+        // Act & Assert
+        queries.capture(() -> given()
+        .when()
+            .get("/workouts/my")
+        .then()
+            .statusCode(200)
+            .body("$", hasSize(5))
+            .body("userFullName", everyItem(notNullValue())));
+    }
+
+    @Test
+    @QueryBudget(max = 3)
+    @DisplayName("GET /api/v1/workouts/{id} - Should load a workout within its query budget")
+    void shouldReturnWorkoutByIdWithinQueryBudget(QueryCapture queries) throws Exception {
+        // Arrange
+        Integer workoutId = createWorkout();
+
+        // Act & Assert
+        queries.capture(() -> given()
+        .when()
+            .get("/workouts/" + workoutId)
+        .then()
+            .statusCode(200)
+            .body("userFullName", notNullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/workouts/{id} - Should return only requested fields and expansions")
+    void shouldReturnSparseFieldset() {
+        // Arrange
+        Integer workoutId = createWorkout();
+
+        // Act & Assert
+        given()
+            .queryParam("fields", "name,status")
+            .queryParam("expand", "")
+        .when()
+            .get("/workouts/" + workoutId)
+        .then()
+            .statusCode(200)
+            .body("sessionId", equalTo(workoutId))
+            .body("name", equalTo("Test Workout"))
+            .body("status", equalTo("PLANNED"))
+            .body("$", not(hasKey("userFullName")))
+            .body("$", not(hasKey("workoutExercises")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/workouts/{id} - Should return 400 for unknown field")
+    void shouldReturn400ForUnknownField() {
+        // Arrange
+        Integer workoutId = createWorkout();
+
+        // Act & Assert
+        given()
+            .queryParam("fields", "name,version")
+        .when()
+            .get("/workouts/" + workoutId)
+        .then()
+            .statusCode(400);
+    }
+
+    // ==================== RESPONSE ENCODING TESTS ====================
+
+    @Test
+    @DisplayName("GET /api/v1/workouts/my - Should gzip large responses and omit null fields")
+    void shouldCompressLargeResponses() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            createWorkout();
+        }
+
+        // Act & Assert
+        given()
+            .header("Accept-Encoding", "gzip")
+        .when()
+            .get("/workouts/my")
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", "gzip")
+            .body("$", hasSize(20))
+            .body("[0]", not(hasKey("completedAt")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/workouts/my - Should not compress for clients without Accept-Encoding")
+    void shouldNotCompressWithoutAcceptEncoding() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            createWorkout();
+        }
+
+        // Act & Assert
+        given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+        .when()
+            .get("/workouts/my")
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", nullValue())
+            .body("$", hasSize(20));
+    }
+
     // ==================== COMPLETE WORKFLOW TEST ====================
     
     @Test
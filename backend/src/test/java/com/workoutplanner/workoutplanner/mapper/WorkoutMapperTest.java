@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -394,6 +395,72 @@ class WorkoutMapperTest {
         assertThat(existingSet.getNotes()).isEqualTo("Deeper stretch");
     }
     
+    // ==================== SELECTIVE MAPPING TESTS ====================
+
+    @Test
+    @DisplayName("Should map only selected fields without touching unselected associations")
+    void shouldMapOnlySelectedFields() {
+        // Arrange
+        WorkoutSession entity = TestDataBuilder.createDefaultWorkoutSession(null);
+        entity.setWorkoutExercises(null);
+        WorkoutFieldSelection selection = WorkoutFieldSelection.parse("name,status", "");
+
+        // Act
+        WorkoutResponse response = workoutMapper.toWorkoutResponse(entity, selection);
+
+        // Assert - user and exercises are null, so touching them would have thrown
+        assertThat(response.getSessionId()).isEqualTo(1L);
+        assertThat(response.getName()).isEqualTo("Morning Workout");
+        assertThat(response.getStatus()).isEqualTo(WorkoutStatus.PLANNED);
+        assertThat(response.getDescription()).isNull();
+        assertThat(response.getUserFullName()).isNull();
+        assertThat(response.getWorkoutExercises()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should map all fields and exercises like the full mapping")
+    void shouldMapAllFieldsWithExercises() {
+        // Arrange
+        User user = TestDataBuilder.createPersistedUser();
+        WorkoutSession entity = TestDataBuilder.createDefaultWorkoutSession(user);
+        WorkoutExercise workoutExercise = TestDataBuilder.createWorkoutExercise(entity, TestDataBuilder.createStrengthExercise());
+        workoutExercise.setStrengthSets(null);
+        entity.setWorkoutExercises(new ArrayList<>(List.of(workoutExercise)));
+
+        // Act
+        WorkoutResponse response = workoutMapper.toWorkoutResponse(entity, WorkoutFieldSelection.all(WorkoutFieldSelection.EXPAND_EXERCISES));
+
+        // Assert
+        assertThat(response).isEqualTo(workoutMapper.toWorkoutResponse(entity));
+        assertThat(response.getWorkoutExercises()).singleElement()
+                .satisfies(exercise -> assertThat(exercise.getSets()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should map only the set type of each exercise when sets are expanded")
+    void shouldMapSetsByExerciseType() {
+        // Arrange
+        ReflectionTestUtils.setField(workoutMapper, "baseSetMapper", Mappers.getMapper(BaseSetMapper.class));
+        User user = TestDataBuilder.createPersistedUser();
+        WorkoutSession entity = TestDataBuilder.createDefaultWorkoutSession(user);
+        WorkoutExercise workoutExercise = TestDataBuilder.createWorkoutExercise(entity, TestDataBuilder.createStrengthExercise());
+        workoutExercise.setStrengthSets(List.of(TestDataBuilder.createStrengthSet(workoutExercise)));
+        workoutExercise.setCardioSets(null);
+        workoutExercise.setFlexibilitySets(null);
+        entity.setWorkoutExercises(new ArrayList<>(List.of(workoutExercise)));
+
+        // Act
+        WorkoutResponse response = workoutMapper.toWorkoutResponse(entity, WorkoutFieldSelection.parse("name", "sets"));
+
+        // Assert
+        assertThat(response.getWorkoutExercises()).singleElement()
+                .satisfies(exercise -> assertThat(exercise.getSets()).singleElement()
+                        .satisfies(set -> {
+                            assertThat(set.getReps()).isEqualTo(10);
+                            assertThat(set.getWorkoutExerciseId()).isEqualTo(1L);
+                        }));
+    }
+
     // ==================== NULL HANDLING TESTS ====================
     
     @Test
@@ -0,0 +1,205 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.dto.response.TonnageResponse;
+import com.workoutplanner.workoutplanner.entity.Exercise;
+import com.workoutplanner.workoutplanner.enums.AnalyticsPeriod;
+import com.workoutplanner.workoutplanner.enums.TargetMuscleGroup;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark of the dashboard tonnage query on rollups versus the raw set tables.
+ *
+ * Not part of the regular build (surefire only runs *Test/*Tests classes). Run explicitly:
+ * <pre>
+ * mvn test -Dtest=DailyTrainingRollupBenchmark -Dbenchmark.sets=10000000 -Dbenchmark.users=100
+ * </pre>
+ * Generates {@code benchmark.sets} strength sets spread over {@code benchmark.users} users (one
+ * session a day, 5 exercises of 4 sets each), builds the rollups and times one user's full-history
+ * weekly tonnage both ways. Everything is rolled back afterwards.
+ */
+@DisplayName("Daily Training Rollup Benchmark")
+@Timeout(value = 2, unit = TimeUnit.HOURS)
+class DailyTrainingRollupBenchmark extends AbstractIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(DailyTrainingRollupBenchmark.class);
+
+    private static final int EXERCISES_PER_SESSION = 5;
+    private static final int SETS_PER_EXERCISE = 4;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 10;
+
+    /**
+     * The tonnage query as it ran before rollups existed: aggregates every set of the user.
+     */
+    private static final String TONNAGE_FROM_SETS = """
+            SELECT CAST(date_trunc(:period, CAST(s.training_date AS timestamp)) AS date) AS period_start,
+                   e.target_muscle_group,
+                   count(*) AS set_count,
+                   COALESCE(sum(s.reps), 0) AS total_reps,
+                   COALESCE(sum(s.reps * s.weight), 0) AS tonnage
+            FROM (SELECT CAST(COALESCE(ws.started_at, CAST(ws.scheduled_date AS timestamp), ws.created_at) AS date)
+                             AS training_date, we.exercise_id, x.reps, x.weight
+                  FROM strength_sets x
+                  JOIN workout_exercises we ON we.workout_exercise_id = x.workout_exercise_id AND we.deleted = false
+                  JOIN workout_sessions ws ON ws.session_id = we.session_id AND ws.deleted = false
+                  WHERE ws.user_id = :userId
+                    AND x.deleted = false
+                    AND ws.status IN ('IN_PROGRESS', 'PAUSED', 'COMPLETED')) s
+            JOIN exercises e ON e.exercise_id = s.exercise_id
+            WHERE s.training_date BETWEEN :from AND :to
+            GROUP BY period_start, e.target_muscle_group
+            ORDER BY period_start, e.target_muscle_group
+            """;
+
+    private static final String GENERATE_SESSIONS = """
+            INSERT INTO workout_sessions (name, user_id, status, scheduled_date, started_at, completed_at,
+                                          created_at, updated_at, deleted, version)
+            SELECT 'Benchmark', u.user_id, 'COMPLETED', d::date, d + time '18:00', d + time '19:00',
+                   LOCALTIMESTAMP, LOCALTIMESTAMP, false, 0
+            FROM unnest(?::bigint[]) AS u(user_id)
+            CROSS JOIN generate_series(?::date, ?::date, interval '1 day') AS d
+            """;
+
+    private static final String GENERATE_WORKOUT_EXERCISES = """
+            INSERT INTO workout_exercises (session_id, exercise_id, order_in_workout, created_at, updated_at,
+                                           deleted, version)
+            SELECT ws.session_id, (?::bigint[])[1 + (ws.session_id + o) % ?], o, LOCALTIMESTAMP, LOCALTIMESTAMP, false, 0
+            FROM workout_sessions ws
+            CROSS JOIN generate_series(1, ?) AS o
+            WHERE ws.user_id = ANY(?::bigint[])
+            """;
+
+    private static final String GENERATE_STRENGTH_SETS = """
+            INSERT INTO strength_sets (workout_exercise_id, set_number, reps, weight, completed, created_at,
+                                       updated_at, deleted, version)
+            SELECT we.workout_exercise_id, n, 5 + (we.workout_exercise_id + n) % 8,
+                   40 + (we.workout_exercise_id * 7 + n) % 120, true, LOCALTIMESTAMP, LOCALTIMESTAMP, false, 0
+            FROM workout_exercises we
+            JOIN workout_sessions ws ON ws.session_id = we.session_id
+            CROSS JOIN generate_series(1, ?) AS n
+            WHERE ws.user_id = ANY(?::bigint[])
+            """;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private DailyTrainingRollupRepository dailyTrainingRollupRepository;
+
+    @Autowired
+    private TrainingAnalyticsRepository trainingAnalyticsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Test
+    @DisplayName("Tonnage from rollups should beat aggregation over raw sets")
+    void benchmarkTonnage() {
+        long totalSets = Long.getLong("benchmark.sets", 1_000_000L);
+        int userCount = Integer.getInteger("benchmark.users", 10);
+        long days = Math.max(1, totalSets / userCount / (EXERCISES_PER_SESSION * SETS_PER_EXERCISE));
+        LocalDate to = LocalDate.of(2024, 12, 31);
+        LocalDate from = to.minusDays(days - 1);
+
+        Long[] userIds = new Long[userCount];
+        for (int i = 0; i < userCount; i++) {
+            userIds[i] = userRepository.save(TestDataBuilder.createNewUser()).getUserId();
+        }
+        List<Long> exerciseIds = new ArrayList<>();
+        for (TargetMuscleGroup muscleGroup : TargetMuscleGroup.values()) {
+            Exercise exercise = TestDataBuilder.createNewStrengthExercise();
+            exercise.setName("Benchmark " + muscleGroup);
+            exercise.setTargetMuscleGroup(muscleGroup);
+            exerciseIds.add(exerciseRepository.save(exercise).getExerciseId());
+        }
+        userRepository.flush();
+        exerciseRepository.flush();
+
+        long generateStart = System.nanoTime();
+        String users = toArrayLiteral(Arrays.asList(userIds));
+        jdbcTemplate.update(GENERATE_SESSIONS, users, from, to);
+        jdbcTemplate.update(GENERATE_WORKOUT_EXERCISES, toArrayLiteral(exerciseIds), exerciseIds.size(),
+                EXERCISES_PER_SESSION, users);
+        int sets = jdbcTemplate.update(GENERATE_STRENGTH_SETS, SETS_PER_EXERCISE, users);
+        long rollupStart = System.nanoTime();
+        for (Long userId : userIds) {
+            dailyTrainingRollupRepository.rebuildUser(userId);
+        }
+        long rollupEnd = System.nanoTime();
+        jdbcTemplate.execute("ANALYZE");
+        logger.info("Generated {} sets for {} users over {} days in {} ms; rollups built in {} ms",
+                sets, userCount, days, (rollupStart - generateStart) / 1_000_000, (rollupEnd - rollupStart) / 1_000_000);
+
+        Long userId = userIds[0];
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("period", "week")
+                .addValue("from", from)
+                .addValue("to", to);
+        Supplier<List<TonnageResponse>> fromSets = () -> namedParameterJdbcTemplate.query(TONNAGE_FROM_SETS, params,
+                (rs, rowNum) -> new TonnageResponse(
+                        rs.getObject("period_start", LocalDate.class),
+                        TargetMuscleGroup.valueOf(rs.getString("target_muscle_group")),
+                        rs.getLong("set_count"),
+                        rs.getLong("total_reps"),
+                        rs.getBigDecimal("tonnage")));
+        Supplier<List<TonnageResponse>> fromRollups = () ->
+                trainingAnalyticsRepository.findTonnageByMuscleGroup(userId, AnalyticsPeriod.WEEK, from, to);
+
+        assertThat(fromRollups.get()).usingRecursiveFieldByFieldElementComparator()
+                .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactlyElementsOf(fromSets.get());
+
+        double setsMillis = medianMillis(fromSets);
+        double rollupsMillis = medianMillis(fromRollups);
+        logger.info("Weekly tonnage over {} days for one user: raw sets {} ms, rollups {} ms ({}x)",
+                days, String.format("%.2f", setsMillis), String.format("%.2f", rollupsMillis),
+                String.format("%.1f", setsMillis / rollupsMillis));
+
+        assertThat(rollupsMillis).isLessThan(setsMillis);
+    }
+
+    private static double medianMillis(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            query.get();
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[MEASURED_RUNS / 2] / 1_000_000.0;
+    }
+
+    private static String toArrayLiteral(List<Long> ids) {
+        return ids.toString().replace('[', '{').replace(']', '}').replace(" ", "");
+    }
+}
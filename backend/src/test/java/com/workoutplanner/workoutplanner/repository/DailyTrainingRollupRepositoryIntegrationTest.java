@@ -0,0 +1,218 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.entity.CardioSet;
+import com.workoutplanner.workoutplanner.entity.Exercise;
+import com.workoutplanner.workoutplanner.entity.StrengthSet;
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for DailyTrainingRollupRepository.
+ *
+ * Verifies day rebuilds against the set tables, including soft deletes and session status.
+ */
+@DisplayName("DailyTrainingRollupRepository Integration Tests")
+class DailyTrainingRollupRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    @Autowired
+    private DailyTrainingRollupRepository dailyTrainingRollupRepository;
+
+    @Autowired
+    private StrengthSetRepository strengthSetRepository;
+
+    @Autowired
+    private CardioSetRepository cardioSetRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+    private WorkoutSession workoutSession;
+    private WorkoutExercise strengthWorkoutExercise;
+    private WorkoutExercise cardioWorkoutExercise;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(TestDataBuilder.createNewUser());
+
+        workoutSession = TestDataBuilder.createNewWorkoutSession(testUser);
+        workoutSession.setStatus(WorkoutStatus.COMPLETED);
+        workoutSession.setStartedAt(DAY.atTime(18, 0));
+        workoutSession = workoutSessionRepository.save(workoutSession);
+
+        Exercise strengthExercise = exerciseRepository.save(TestDataBuilder.createNewStrengthExercise());
+        Exercise cardioExercise = exerciseRepository.save(TestDataBuilder.createNewCardioExercise());
+        strengthWorkoutExercise = saveWorkoutExercise(strengthExercise, 1);
+        cardioWorkoutExercise = saveWorkoutExercise(cardioExercise, 2);
+
+        saveStrengthSet(1, 10, "80.00");
+        saveStrengthSet(2, 8, "85.00");
+        saveCardioSet(1, 1500, "5.00");
+        saveCardioSet(2, 300, null);
+
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should roll up a day's sets per exercise")
+    void shouldRollUpDay() {
+        // Act
+        int written = dailyTrainingRollupRepository.refreshDays(testUser.getUserId(), List.of(DAY));
+
+        // Assert
+        assertThat(written).isEqualTo(2);
+
+        Map<String, Object> strength = findRollup(strengthWorkoutExercise);
+        assertThat(strength.get("set_count")).isEqualTo(2);
+        assertThat(strength.get("total_reps")).isEqualTo(18L);
+        assertThat((BigDecimal) strength.get("tonnage")).isEqualByComparingTo("1480");
+        assertThat((BigDecimal) strength.get("max_weight")).isEqualByComparingTo("85");
+        assertThat(strength.get("reps_at_max_weight")).isEqualTo(8);
+        assertThat((BigDecimal) strength.get("best_e1rm")).isEqualByComparingTo("107.67");
+
+        Map<String, Object> cardio = findRollup(cardioWorkoutExercise);
+        assertThat(cardio.get("set_count")).isEqualTo(2);
+        assertThat(cardio.get("total_duration_seconds")).isEqualTo(1800L);
+        assertThat(cardio.get("distance_duration_seconds")).isEqualTo(1500L);
+        assertThat((BigDecimal) cardio.get("total_distance")).isEqualByComparingTo("5");
+    }
+
+    @Test
+    @DisplayName("Should replace the day's rows on refresh and honour soft deletes")
+    void shouldReplaceRowsOnRefresh() {
+        // Arrange
+        dailyTrainingRollupRepository.refreshDays(testUser.getUserId(), List.of(DAY));
+        strengthSetRepository.findByWorkoutExerciseIdOrderBySetNumber(strengthWorkoutExercise.getWorkoutExerciseId())
+                .get(1).softDelete();
+        entityManager.flush();
+
+        // Act
+        dailyTrainingRollupRepository.refreshDays(testUser.getUserId(), List.of(DAY));
+
+        // Assert
+        Map<String, Object> strength = findRollup(strengthWorkoutExercise);
+        assertThat(strength.get("set_count")).isEqualTo(1);
+        assertThat((BigDecimal) strength.get("max_weight")).isEqualByComparingTo("80");
+        assertThat(countRollups()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop the day when the session no longer counts as trained")
+    void shouldDropCancelledSession() {
+        // Arrange
+        dailyTrainingRollupRepository.refreshDays(testUser.getUserId(), List.of(DAY));
+        workoutSession.setStatus(WorkoutStatus.CANCELLED);
+        entityManager.flush();
+
+        // Act
+        dailyTrainingRollupRepository.refreshDays(testUser.getUserId(), List.of(DAY));
+
+        // Assert
+        assertThat(countRollups()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should bump the user's data version on every refresh, even when the day empties")
+    void shouldBumpDataVersion() {
+        // Arrange
+        dailyTrainingRollupRepository.refreshDays(testUser.getUserId(), List.of(DAY));
+        long versionBefore = dataVersion();
+        workoutSession.setStatus(WorkoutStatus.CANCELLED);
+        entityManager.flush();
+
+        // Act
+        dailyTrainingRollupRepository.refreshDays(testUser.getUserId(), List.of(DAY));
+
+        // Assert
+        assertThat(dataVersion()).isEqualTo(versionBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should find recently modified days for reconciliation")
+    void shouldFindDaysToReconcile() {
+        // Act
+        var days = dailyTrainingRollupRepository.findDaysToReconcile(
+                LocalDateTime.now().minusHours(1), LocalDate.now());
+
+        // Assert
+        assertThat(days.get(testUser.getUserId())).containsExactly(DAY);
+    }
+
+    private long dataVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM training_data_versions WHERE user_id = ?",
+                Long.class, testUser.getUserId());
+    }
+
+    private WorkoutExercise saveWorkoutExercise(Exercise exercise, int order) {
+        WorkoutExercise workoutExercise = new WorkoutExercise();
+        workoutExercise.setWorkoutSession(workoutSession);
+        workoutExercise.setExercise(exercise);
+        workoutExercise.setOrderInWorkout(order);
+        return workoutExerciseRepository.save(workoutExercise);
+    }
+
+    private void saveStrengthSet(int setNumber, int reps, String weight) {
+        StrengthSet set = new StrengthSet();
+        set.setWorkoutExercise(strengthWorkoutExercise);
+        set.setSetNumber(setNumber);
+        set.setReps(reps);
+        set.setWeight(new BigDecimal(weight));
+        strengthSetRepository.save(set);
+    }
+
+    private void saveCardioSet(int setNumber, int durationInSeconds, String distance) {
+        CardioSet set = new CardioSet();
+        set.setWorkoutExercise(cardioWorkoutExercise);
+        set.setSetNumber(setNumber);
+        set.setDurationInSeconds(durationInSeconds);
+        set.setDistance(distance == null ? null : new BigDecimal(distance));
+        set.setDistanceUnit("km");
+        cardioSetRepository.save(set);
+    }
+
+    private Map<String, Object> findRollup(WorkoutExercise workoutExercise) {
+        return jdbcTemplate.queryForMap(
+                "SELECT * FROM daily_training_rollups WHERE user_id = ? AND training_date = ? AND exercise_id = ?",
+                testUser.getUserId(), DAY, workoutExercise.getExercise().getExerciseId());
+    }
+
+    private int countRollups() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM daily_training_rollups WHERE user_id = ?",
+                Integer.class, testUser.getUserId());
+    }
+}
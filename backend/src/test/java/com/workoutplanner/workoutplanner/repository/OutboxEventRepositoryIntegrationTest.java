@@ -0,0 +1,86 @@
+package com.workoutplanner.workoutplanner.repository;
+
+import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository.NewOutboxEvent;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository.PendingOutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for OutboxEventRepository.
+ *
+ * Verifies claiming order, retry scheduling and cleanup against PostgreSQL.
+ */
+@DisplayName("OutboxEventRepository Integration Tests")
+class OutboxEventRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 18, 0);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        outboxEventRepository.append(List.of(
+                new NewOutboxEvent("SetChangedEvent", 1L, 2L, "{\"sessionId\":1}", NOW.minusMinutes(2)),
+                new NewOutboxEvent("WorkoutStatusChangedEvent", 1L, 2L, "{\"sessionId\":1}", NOW.minusMinutes(1))));
+    }
+
+    @Test
+    @DisplayName("Should claim due events oldest first, up to the limit")
+    void shouldClaimOldestFirst() {
+        // Act
+        List<PendingOutboxEvent> claimed = outboxEventRepository.claimPending(NOW, 1);
+
+        // Assert
+        assertThat(claimed).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.eventType()).isEqualTo("SetChangedEvent");
+                    assertThat(event.attempts()).isZero();
+                    assertThat(event.payload()).contains("sessionId");
+                });
+    }
+
+    @Test
+    @DisplayName("Should not claim processed events or events waiting for a retry")
+    void shouldSkipProcessedAndDeferred() {
+        // Arrange
+        List<PendingOutboxEvent> claimed = outboxEventRepository.claimPending(NOW, 10);
+        outboxEventRepository.markProcessed(List.of(claimed.get(0).id()), NOW);
+        outboxEventRepository.markRetry(claimed.get(1).id(), 1, NOW.plusMinutes(5), "boom");
+
+        // Act & Assert
+        assertThat(outboxEventRepository.claimPending(NOW, 10)).isEmpty();
+        assertThat(outboxEventRepository.claimPending(NOW.plusMinutes(5), 10)).singleElement()
+                .satisfies(event -> assertThat(event.attempts()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("Should delete old delivered events but keep failed ones")
+    void shouldCleanUpDeliveredEvents() {
+        // Arrange
+        List<PendingOutboxEvent> claimed = outboxEventRepository.claimPending(NOW, 10);
+        outboxEventRepository.markProcessed(List.of(claimed.get(0).id()), NOW.minusDays(8));
+        outboxEventRepository.markFailed(claimed.get(1).id(), 10, NOW.minusDays(8), "boom");
+
+        // Act
+        int deleted = outboxEventRepository.deleteProcessedBefore(NOW.minusDays(7), 100);
+
+        // Assert
+        assertThat(deleted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_events WHERE failed", Integer.class))
+                .isEqualTo(1);
+    }
+}
@@ -6,6 +6,7 @@ import com.workoutplanner.workoutplanner.entity.WorkoutSession;
 import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
 import com.workoutplanner.workoutplanner.util.TestDataBuilder;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -118,13 +119,35 @@ class WorkoutSessionRepositoryIntegrationTest extends AbstractIntegrationTest {
         workout = workoutSessionRepository.save(workout);
         
         // Act
-        Optional<WorkoutSession> result = workoutSessionRepository.findWithUserBySessionId(workout.getSessionId());
+        Optional<WorkoutSession> result = workoutSessionRepository.findBySessionId(workout.getSessionId(), List.of("user"));
         
         // Assert - User should be loaded eagerly (no lazy loading exception)
         assertThat(result).isPresent();
         assertThat(result.get().getUser().getUsername()).isEqualTo(testUser.getUsername());
     }
     
+    @Test
+    @DisplayName("Should fetch only the requested associations")
+    void shouldFetchOnlyRequestedAssociations() {
+        // Arrange
+        WorkoutSession workout = workoutSessionRepository.save(TestDataBuilder.createNewWorkoutSession(testUser));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        WorkoutSession bare = workoutSessionRepository.findBySessionId(workout.getSessionId(), List.of()).orElseThrow();
+        entityManager.clear();
+        WorkoutSession full = workoutSessionRepository.findBySessionId(workout.getSessionId(),
+                List.of("user", "workoutExercises.exercise")).orElseThrow();
+
+        // Assert
+        assertThat(Hibernate.isInitialized(bare.getUser())).isFalse();
+        assertThat(Hibernate.isInitialized(bare.getWorkoutExercises())).isFalse();
+        assertThat(bare.getUser().getUserId()).isEqualTo(testUser.getUserId());
+        assertThat(Hibernate.isInitialized(full.getUser())).isTrue();
+        assertThat(Hibernate.isInitialized(full.getWorkoutExercises())).isTrue();
+    }
+
     @Test
     @DisplayName("Should find workouts by user ID ordered by started date")
     void shouldFindWorkoutsByUserIdOrderedByStartedAt() {
@@ -0,0 +1,204 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for Auth0UserSyncFilter.
+ * Tests email verification, principal caching and social provider detection.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Auth0UserSyncFilter Unit Tests")
+class Auth0UserSyncFilterTest {
+
+    private static final String AUTH0_USER_ID = "auth0|123456789";
+
+    @Mock
+    private Auth0UserSyncService userSyncService;
+
+    private Auth0UserSyncFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new Auth0UserSyncFilter(userSyncService, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static Jwt jwt(String tokenValue, String subject, Boolean emailVerified) {
+        Jwt.Builder builder = Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .subject(subject)
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600));
+        if (emailVerified != null) {
+            builder.claim("email_verified", emailVerified);
+        }
+        return builder.build();
+    }
+
+    private static Auth0Principal principal(String subject) {
+        return new Auth0Principal(1L, subject, "test@example.com", "testuser", "Test", "User", UserRole.USER);
+    }
+
+    /**
+     * Runs one request authenticated by the JWT and returns the resulting authentication.
+     */
+    private Authentication filter(Jwt jwt, MockHttpServletResponse response) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new JwtAuthenticationToken(jwt, AuthorityUtils.createAuthorityList("read:workouts")));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/workouts"), response, new MockFilterChain());
+        Authentication result = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return result;
+    }
+
+    @Nested
+    @DisplayName("User Sync Tests")
+    class UserSyncTests {
+
+        @Test
+        @DisplayName("Should replace the JWT authentication with an Auth0 token")
+        void shouldReplaceAuthentication() throws Exception {
+            // Arrange
+            Jwt jwt = jwt("token-1", AUTH0_USER_ID, true);
+            when(userSyncService.syncUser(jwt)).thenReturn(principal(AUTH0_USER_ID));
+
+            // Act
+            Authentication result = filter(jwt, new MockHttpServletResponse());
+
+            // Assert
+            assertThat(result).isInstanceOf(Auth0AuthenticationToken.class);
+            Auth0AuthenticationToken token = (Auth0AuthenticationToken) result;
+            assertThat(token.getPrincipal().userId()).isEqualTo(1L);
+            assertThat(token.hasPermission(Permission.READ_WORKOUTS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject an unverified email with 403")
+        void shouldRejectUnverifiedEmail() throws Exception {
+            // Arrange
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // Act
+            filter(jwt("token-1", AUTH0_USER_ID, false), response);
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(403);
+            assertThat(response.getContentAsString()).contains("email_not_verified");
+            verifyNoInteractions(userSyncService);
+        }
+
+        @Test
+        @DisplayName("Should skip email verification for social providers")
+        void shouldSkipVerificationForSocialProviders() throws Exception {
+            // Arrange
+            Jwt jwt = jwt("token-1", "google-oauth2|987", null);
+            when(userSyncService.syncUser(jwt)).thenReturn(principal("google-oauth2|987"));
+
+            // Act
+            Authentication result = filter(jwt, new MockHttpServletResponse());
+
+            // Assert
+            assertThat(result).isInstanceOf(Auth0AuthenticationToken.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Principal Cache Tests")
+    class PrincipalCacheTests {
+
+        @Test
+        @DisplayName("Should reuse the principal of a repeated access token in a fresh authentication")
+        void shouldReusePrincipalForRepeatedAccessToken() throws Exception {
+            // Arrange
+            Jwt jwt = jwt("token-1", AUTH0_USER_ID, true);
+            when(userSyncService.syncUser(jwt)).thenReturn(principal(AUTH0_USER_ID));
+
+            // Act
+            Authentication first = filter(jwt, new MockHttpServletResponse());
+            Authentication second = filter(jwt("token-1", AUTH0_USER_ID, true), new MockHttpServletResponse());
+
+            // Assert
+            assertThat(second).isNotSameAs(first).isInstanceOf(Auth0AuthenticationToken.class);
+            assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+            assertThat(second.isAuthenticated()).isTrue();
+            verify(userSyncService, times(1)).syncUser(any());
+        }
+
+        @Test
+        @DisplayName("Should sync again for a new access token")
+        void shouldSyncNewAccessToken() throws Exception {
+            // Arrange
+            when(userSyncService.syncUser(any())).thenReturn(principal(AUTH0_USER_ID));
+
+            // Act
+            Authentication first = filter(jwt("token-1", AUTH0_USER_ID, true), new MockHttpServletResponse());
+            Authentication second = filter(jwt("token-2", AUTH0_USER_ID, true), new MockHttpServletResponse());
+
+            // Assert
+            assertThat(second).isNotSameAs(first);
+            verify(userSyncService, times(2)).syncUser(any());
+        }
+
+        @Test
+        @DisplayName("Should not cache failed syncs")
+        void shouldNotCacheFailures() throws Exception {
+            // Arrange
+            Jwt jwt = jwt("token-1", AUTH0_USER_ID, true);
+            when(userSyncService.syncUser(jwt))
+                    .thenThrow(new IllegalStateException("database down"))
+                    .thenReturn(principal(AUTH0_USER_ID));
+            MockHttpServletResponse failed = new MockHttpServletResponse();
+
+            // Act
+            filter(jwt, failed);
+            Authentication retried = filter(jwt, new MockHttpServletResponse());
+
+            // Assert
+            assertThat(failed.getStatus()).isEqualTo(500);
+            assertThat(retried).isInstanceOf(Auth0AuthenticationToken.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("isSocialLoginProvider() Tests")
+    class SocialLoginProviderTests {
+
+        @Test
+        @DisplayName("Should recognize social connection prefixes only")
+        void shouldMatchProviderPrefix() {
+            assertThat(Auth0UserSyncFilter.isSocialLoginProvider("google-oauth2|1")).isTrue();
+            assertThat(Auth0UserSyncFilter.isSocialLoginProvider("github|1")).isTrue();
+            assertThat(Auth0UserSyncFilter.isSocialLoginProvider("auth0|1")).isFalse();
+            assertThat(Auth0UserSyncFilter.isSocialLoginProvider("github")).isFalse();
+            assertThat(Auth0UserSyncFilter.isSocialLoginProvider("githubx|1")).isFalse();
+            assertThat(Auth0UserSyncFilter.isSocialLoginProvider(null)).isFalse();
+        }
+    }
+}
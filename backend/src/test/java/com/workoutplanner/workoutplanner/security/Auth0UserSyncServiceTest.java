@@ -22,6 +22,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,11 +41,14 @@ class Auth0UserSyncServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserProfileWriteBehind profileWriteBehind;
+
     private Auth0UserSyncService auth0UserSyncService;
 
     @BeforeEach
     void setUp() {
-        auth0UserSyncService = new Auth0UserSyncService(userRepository, TEST_AUDIENCE);
+        auth0UserSyncService = new Auth0UserSyncService(userRepository, profileWriteBehind, TEST_AUDIENCE);
     }
 
     private Jwt createJwt(Map<String, Object> claims) {
@@ -326,7 +330,7 @@ class Auth0UserSyncServiceTest {
     class ExistingUserUpdateTests {
 
         @Test
-        @DisplayName("Should return existing user without saving when no changes")
+        @DisplayName("Should return existing user without scheduling a write when no changes")
         void shouldReturnExistingUserWithoutSavingWhenNoChanges() {
             // Arrange
             Map<String, Object> claims = createBasicClaims();
@@ -341,11 +345,13 @@ class Auth0UserSyncServiceTest {
             // Assert
             assertThat(result).isNotNull();
             assertThat(result.userId()).isEqualTo(1L);
+            verify(profileWriteBehind).cancel(1L);
+            verify(profileWriteBehind, never()).schedule(any(), any());
             verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
-        @DisplayName("Should update email when changed in Auth0")
+        @DisplayName("Should schedule email update when changed in Auth0")
         void shouldUpdateEmailWhenChanged() {
             // Arrange
             Map<String, Object> claims = createBasicClaims();
@@ -354,7 +360,6 @@ class Auth0UserSyncServiceTest {
             User existingUser = createExistingUser();
 
             when(userRepository.findByAuth0UserId(AUTH0_USER_ID)).thenReturn(Optional.of(existingUser));
-            when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
 
             // Act
             Auth0Principal result = auth0UserSyncService.syncUser(jwt);
@@ -362,13 +367,14 @@ class Auth0UserSyncServiceTest {
             // Assert
             assertThat(result.email()).isEqualTo("newemail@example.com");
 
-            ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-            verify(userRepository).save(userCaptor.capture());
-            assertThat(userCaptor.getValue().getEmail()).isEqualTo("newemail@example.com");
+            ArgumentCaptor<ProfileClaims> claimsCaptor = ArgumentCaptor.forClass(ProfileClaims.class);
+            verify(profileWriteBehind).schedule(eq(1L), claimsCaptor.capture());
+            assertThat(claimsCaptor.getValue().email()).isEqualTo("newemail@example.com");
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
-        @DisplayName("Should update first name when changed in Auth0")
+        @DisplayName("Should schedule first name update when changed in Auth0")
         void shouldUpdateFirstNameWhenChanged() {
             // Arrange
             Map<String, Object> claims = createBasicClaims();
@@ -377,18 +383,18 @@ class Auth0UserSyncServiceTest {
             User existingUser = createExistingUser();
 
             when(userRepository.findByAuth0UserId(AUTH0_USER_ID)).thenReturn(Optional.of(existingUser));
-            when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
 
             // Act
             Auth0Principal result = auth0UserSyncService.syncUser(jwt);
 
             // Assert
             assertThat(result.firstName()).isEqualTo("NewFirstName");
-            verify(userRepository).save(any(User.class));
+            verify(profileWriteBehind).schedule(eq(1L), any(ProfileClaims.class));
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
-        @DisplayName("Should update last name when changed in Auth0")
+        @DisplayName("Should schedule last name update when changed in Auth0")
         void shouldUpdateLastNameWhenChanged() {
             // Arrange
             Map<String, Object> claims = createBasicClaims();
@@ -397,18 +403,18 @@ class Auth0UserSyncServiceTest {
             User existingUser = createExistingUser();
 
             when(userRepository.findByAuth0UserId(AUTH0_USER_ID)).thenReturn(Optional.of(existingUser));
-            when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
 
             // Act
             Auth0Principal result = auth0UserSyncService.syncUser(jwt);
 
             // Assert
             assertThat(result.lastName()).isEqualTo("NewLastName");
-            verify(userRepository).save(any(User.class));
+            verify(profileWriteBehind).schedule(eq(1L), any(ProfileClaims.class));
+            verify(userRepository, never()).save(any(User.class));
         }
 
         @Test
-        @DisplayName("Should update role when changed in Auth0")
+        @DisplayName("Should schedule role update when changed in Auth0")
         void shouldUpdateRoleWhenChanged() {
             // Arrange
             Map<String, Object> claims = createBasicClaims();
@@ -417,14 +423,14 @@ class Auth0UserSyncServiceTest {
             User existingUser = createExistingUser();
 
             when(userRepository.findByAuth0UserId(AUTH0_USER_ID)).thenReturn(Optional.of(existingUser));
-            when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
 
             // Act
             Auth0Principal result = auth0UserSyncService.syncUser(jwt);
 
             // Assert
             assertThat(result.role()).isEqualTo(UserRole.ADMIN);
-            verify(userRepository).save(any(User.class));
+            verify(profileWriteBehind).schedule(eq(1L), any(ProfileClaims.class));
+            verify(userRepository, never()).save(any(User.class));
         }
     }
 
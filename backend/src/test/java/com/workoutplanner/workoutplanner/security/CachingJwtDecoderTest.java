@@ -0,0 +1,142 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingJwtDecoder.
+ * Tests cache hits, expiry at the token's exp and the max TTL cap.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingJwtDecoder Unit Tests")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T18:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Instant now = NOW;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        Ticker ticker = nanos::get;
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(30), meterRegistry, clock, ticker);
+    }
+
+    @Test
+    @DisplayName("Should verify a token once and serve repeats from the cache")
+    void shouldServeRepeatsFromCache() {
+        // Arrange
+        Jwt jwt = jwt("token-a", NOW.plus(Duration.ofMinutes(10)));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        // Act
+        Jwt first = cachingJwtDecoder.decode("token-a");
+        Jwt second = cachingJwtDecoder.decode("token-a");
+
+        // Assert
+        assertThat(first).isSameAs(jwt);
+        assertThat(second).isSameAs(jwt);
+        verify(delegate, times(1)).decode("token-a");
+        assertThat(meterRegistry.get("security.jwt.decode").tag("cache", "hit").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("security.jwt.decode").tag("cache", "miss").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve a cached token past its exp")
+    void shouldExpireAtTokenExpiry() {
+        // Arrange
+        when(delegate.decode("token-a"))
+                .thenReturn(jwt("token-a", NOW.plus(Duration.ofMinutes(10))))
+                .thenThrow(new BadJwtException("Jwt expired"));
+        cachingJwtDecoder.decode("token-a");
+
+        // Act
+        advance(Duration.ofMinutes(10).plusSeconds(1));
+
+        // Assert
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("token-a")).isInstanceOf(BadJwtException.class);
+    }
+
+    @Test
+    @DisplayName("Should re-verify long-lived tokens after the max TTL")
+    void shouldCapEntriesAtMaxTtl() {
+        // Arrange
+        Jwt jwt = jwt("token-a", NOW.plus(Duration.ofHours(24)));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+        cachingJwtDecoder.decode("token-a");
+
+        // Act
+        advance(Duration.ofMinutes(31));
+        cachingJwtDecoder.decode("token-a");
+
+        // Assert
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should not cache rejected tokens")
+    void shouldNotCacheRejectedTokens() {
+        // Arrange
+        when(delegate.decode("forged")).thenThrow(new BadJwtException("Invalid signature"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> cachingJwtDecoder.decode("forged")).isInstanceOf(BadJwtException.class);
+        verify(delegate, times(2)).decode("forged");
+    }
+
+    private void advance(Duration duration) {
+        now = now.plus(duration);
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("auth0|123")
+                .issuedAt(NOW)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
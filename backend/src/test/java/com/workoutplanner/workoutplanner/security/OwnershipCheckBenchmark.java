@@ -0,0 +1,179 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
+import com.workoutplanner.workoutplanner.service.ResourceSecurityService;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * JMH benchmark of the method security overhead of one {@code GET /workouts/{sessionId}}: a
+ * controller check (permission + ownership) followed by the service check (ownership).
+ *
+ * <ul>
+ *   <li>{@code spelExpressions} - the previous {@code @PreAuthorize} SpEL expressions</li>
+ *   <li>{@code compiledChecks} - {@link RequiresWorkoutOwnership} via {@link WorkoutOwnershipAuthorizationManager}</li>
+ * </ul>
+ * Both run the real {@link ResourceSecurityService}, including its per-request memoization, over
+ * an owner lookup stubbed to return immediately, so the difference is SpEL evaluation versus the
+ * compiled checks. The test also prints how many owner lookups each variant makes per request.
+ *
+ * Not part of the regular build (surefire only runs *Test/*Tests classes). Run explicitly:
+ * <pre>
+ * mvn test -Dtest=OwnershipCheckBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@DisplayName("Ownership Check Benchmark")
+public class OwnershipCheckBenchmark {
+
+    private static final Long SESSION_ID = 42L;
+
+    private final AtomicLong ownershipLookups = new AtomicLong();
+
+    private GenericApplicationContext applicationContext;
+    private PreAuthorizeAuthorizationManager preAuthorizeManager;
+    private WorkoutOwnershipAuthorizationManager ownershipManager;
+    private Supplier<Authentication> authentication;
+    private MethodInvocation controllerInvocation;
+    private MethodInvocation serviceInvocation;
+
+    @Setup
+    public void setUp() throws Exception {
+        ResourceSecurityService resourceSecurityService = new ResourceSecurityService(
+                stubWorkoutSessionRepository(ownershipLookups), null, null, null, null, null);
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean("resourceSecurityService", ResourceSecurityService.class,
+                () -> resourceSecurityService);
+        applicationContext.refresh();
+
+        PermissionMethodSecurityExpressionHandler expressionHandler = new PermissionMethodSecurityExpressionHandler();
+        expressionHandler.setApplicationContext(applicationContext);
+        preAuthorizeManager = new PreAuthorizeAuthorizationManager();
+        preAuthorizeManager.setExpressionHandler(expressionHandler);
+        ownershipManager = new WorkoutOwnershipAuthorizationManager(() -> resourceSecurityService);
+
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("auth0|123").build();
+        Auth0AuthenticationToken token = new Auth0AuthenticationToken(
+                new Auth0Principal(1L, "auth0|123", "user@example.com", "user", "Test", "User", UserRole.USER), jwt,
+                AuthorityUtils.createAuthorityList("read:workouts", "write:workouts", "ROLE_USER"));
+        authentication = () -> token;
+
+        Endpoints endpoints = new Endpoints();
+        controllerInvocation = new SimpleMethodInvocation(endpoints,
+                Endpoints.class.getDeclaredMethod("getWorkoutSession", Long.class), SESSION_ID);
+        serviceInvocation = new SimpleMethodInvocation(endpoints,
+                Endpoints.class.getDeclaredMethod("loadWorkoutSession", Long.class), SESSION_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public boolean spelExpressions() {
+        return inRequest(() -> preAuthorizeManager.authorize(authentication, controllerInvocation).isGranted()
+                && preAuthorizeManager.authorize(authentication, serviceInvocation).isGranted());
+    }
+
+    @Benchmark
+    public boolean compiledChecks() {
+        return inRequest(() -> ownershipManager.check(authentication, controllerInvocation).isGranted()
+                && ownershipManager.check(authentication, serviceInvocation).isGranted());
+    }
+
+    private boolean inRequest(Supplier<Boolean> checks) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        SecurityContextHolder.getContext().setAuthentication(authentication.get());
+        try {
+            return checks.get();
+        } finally {
+            SecurityContextHolder.clearContext();
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("Run JMH ownership check benchmark")
+    void runBenchmark() throws Exception {
+        setUp();
+        spelExpressions();
+        long spelLookups = ownershipLookups.getAndSet(0);
+        compiledChecks();
+        System.out.printf("Ownership lookups per request: spelExpressions=%d, compiledChecks=%d%n",
+                spelLookups, ownershipLookups.get());
+        tearDown();
+
+        new Runner(new OptionsBuilder()
+                .include(OwnershipCheckBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    /**
+     * Controller and service methods of one request, annotated both ways.
+     */
+    static class Endpoints {
+
+        @PreAuthorize("hasAuthority('read:workouts') and @resourceSecurityService.canAccessWorkout(#sessionId)")
+        @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.READ_WORKOUTS)
+        public void getWorkoutSession(Long sessionId) {
+        }
+
+        @PreAuthorize("@resourceSecurityService.canAccessWorkout(#sessionId)")
+        @RequiresWorkoutOwnership("sessionId")
+        public void loadWorkoutSession(Long sessionId) {
+        }
+    }
+
+    /**
+     * Repository answering the owner lookup immediately and counting calls.
+     */
+    private static WorkoutSessionRepository stubWorkoutSessionRepository(AtomicLong lookups) {
+        return (WorkoutSessionRepository) Proxy.newProxyInstance(WorkoutSessionRepository.class.getClassLoader(),
+                new Class<?>[]{WorkoutSessionRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findUserIdBySessionId")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    lookups.incrementAndGet();
+                    return Optional.of(1L);
+                });
+    }
+}
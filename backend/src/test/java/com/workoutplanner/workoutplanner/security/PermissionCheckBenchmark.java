@@ -0,0 +1,115 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the authority checks one request performs: three {@code @PreAuthorize}-style
+ * {@code hasAuthority} checks plus two admin checks from nested {@code canAccess*} calls.
+ *
+ * <ul>
+ *   <li>{@code authorityScan} - previous ResourceSecurityService: stream + equals per check</li>
+ *   <li>{@code authoritySet} - Spring's expression root: a fresh set of authority strings per expression</li>
+ *   <li>{@code permissionBitset} - {@link PermissionSet} lookups on the token</li>
+ * </ul>
+ *
+ * Not part of the regular build (surefire only runs *Test/*Tests classes). Run explicitly:
+ * <pre>
+ * mvn test -Dtest=PermissionCheckBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@DisplayName("Permission Check Benchmark")
+public class PermissionCheckBenchmark {
+
+    private static final String[] REQUEST_CHECKS = {
+            "read:workouts", "write:workouts", "read:workouts", "read:users", "read:users"
+    };
+
+    private Auth0AuthenticationToken token;
+
+    @Setup
+    public void setUp() {
+        List<GrantedAuthority> authorities = List.of(
+                new SimpleGrantedAuthority("read:workouts"),
+                new SimpleGrantedAuthority("write:workouts"),
+                new SimpleGrantedAuthority("delete:workouts"),
+                new SimpleGrantedAuthority("read:exercises"),
+                new SimpleGrantedAuthority("ROLE_USER"));
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("auth0|123").build();
+        token = new Auth0AuthenticationToken(
+                new Auth0Principal(1L, "auth0|123", "user@example.com", "user", "Test", "User", UserRole.USER), jwt,
+                authorities);
+    }
+
+    @Benchmark
+    public int authorityScan() {
+        int granted = 0;
+        for (String authority : REQUEST_CHECKS) {
+            if (token.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals(authority))) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    @Benchmark
+    public int authoritySet() {
+        int granted = 0;
+        for (String authority : REQUEST_CHECKS) {
+            Set<String> authorities = new HashSet<>(AuthorityUtils.authorityListToSet(token.getAuthorities()));
+            if (authorities.contains(authority)) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    @Benchmark
+    public int permissionBitset() {
+        int granted = 0;
+        for (String authority : REQUEST_CHECKS) {
+            Permission permission = Permission.fromAuthority(authority);
+            if (permission != null && token.hasPermission(permission)) {
+                granted++;
+            }
+        }
+        return granted;
+    }
+
+    @Test
+    @DisplayName("Run JMH permission check benchmark")
+    void runBenchmark() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(PermissionCheckBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,95 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PermissionSet and its use in method security expressions.
+ */
+@DisplayName("PermissionSet Unit Tests")
+class PermissionSetTest {
+
+    @Test
+    @DisplayName("Should map known authorities to permissions and ignore the rest")
+    void shouldBuildFromAuthorities() {
+        PermissionSet permissions = PermissionSet.fromAuthorities(
+                AuthorityUtils.createAuthorityList("read:workouts", "delete:users", "ROLE_USER", "read:unknown"));
+
+        assertThat(permissions.contains(Permission.READ_WORKOUTS)).isTrue();
+        assertThat(permissions.contains(Permission.DELETE_USERS)).isTrue();
+        assertThat(permissions.contains(Permission.WRITE_WORKOUTS)).isFalse();
+        assertThat(permissions.containsAny(Permission.WRITE_WORKOUTS, Permission.READ_WORKOUTS)).isTrue();
+        assertThat(permissions).isEqualTo(PermissionSet.of(Permission.READ_WORKOUTS, Permission.DELETE_USERS));
+        assertThat(permissions).hasToString("[read:workouts, delete:users]");
+    }
+
+    @Test
+    @DisplayName("Should precompute permissions on the Auth0 token")
+    void shouldPrecomputeOnToken() {
+        Auth0AuthenticationToken token = token("read:workouts", "read:users");
+
+        assertThat(token.hasPermission(Permission.READ_USERS)).isTrue();
+        assertThat(token.hasPermission(Permission.WRITE_WORKOUTS)).isFalse();
+        assertThat(SecurityContextHelper.hasPermission(token, Permission.READ_WORKOUTS)).isTrue();
+    }
+
+    @Nested
+    @DisplayName("PermissionSecurityExpressionRoot Tests")
+    class ExpressionRootTests {
+
+        @Test
+        @DisplayName("Should answer authority checks from the token's permissions")
+        void shouldUsePermissionSet() throws Exception {
+            PermissionSecurityExpressionRoot root = root(token("read:workouts", "ROLE_ADMIN"));
+
+            assertThat(root.hasAuthority("read:workouts")).isTrue();
+            assertThat(root.hasAuthority("write:workouts")).isFalse();
+            assertThat(root.hasAnyAuthority("delete:workouts", "read:workouts")).isTrue();
+            assertThat(root.hasAuthority("ROLE_ADMIN")).isTrue();
+            assertThat(root.hasRole("ADMIN")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should fall back to Spring's checks for other authentications")
+        void shouldDelegateForOtherAuthentications() throws Exception {
+            PermissionSecurityExpressionRoot root = root(UsernamePasswordAuthenticationToken.authenticated(
+                    "user", null, AuthorityUtils.createAuthorityList("write:workouts")));
+
+            assertThat(root.hasAuthority("write:workouts")).isTrue();
+            assertThat(root.hasAnyAuthority("read:users", "write:workouts")).isTrue();
+            assertThat(root.hasAuthority("read:users")).isFalse();
+        }
+
+        private PermissionSecurityExpressionRoot root(Authentication authentication) throws Exception {
+            MethodInvocation invocation = new SimpleMethodInvocation(new Object(), Object.class.getMethod("toString"));
+            MethodSecurityExpressionOperations delegate = (MethodSecurityExpressionOperations)
+                    new DefaultMethodSecurityExpressionHandler()
+                            .createEvaluationContext(() -> authentication, invocation)
+                            .getRootObject().getValue();
+            return new PermissionSecurityExpressionRoot(delegate);
+        }
+    }
+
+    private static Auth0AuthenticationToken token(String... authorities) {
+        List<GrantedAuthority> grantedAuthorities = AuthorityUtils.createAuthorityList(authorities);
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("auth0|123").build();
+        return new Auth0AuthenticationToken(
+                new Auth0Principal(1L, "auth0|123", "user@example.com", "user", "Test", "User", UserRole.USER),
+                jwt, grantedAuthorities);
+    }
+}
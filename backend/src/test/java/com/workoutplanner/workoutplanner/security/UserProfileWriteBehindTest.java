@@ -0,0 +1,158 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import com.workoutplanner.workoutplanner.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UserProfileWriteBehind.
+ * Tests coalescing of profile changes and batched write-back.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProfileWriteBehind Unit Tests")
+class UserProfileWriteBehindTest {
+
+    private static final ProfileClaims NEW_CLAIMS =
+            new ProfileClaims("new@example.com", "Test", "User", UserRole.USER);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserProfileWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = new UserProfileWriteBehind(userRepository, transactionManager, meterRegistry, 100);
+    }
+
+    private void stubTransactions() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private static User user(Long userId, String email) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setAuth0UserId("auth0|" + userId);
+        user.setEmail(email);
+        user.setUsername("user" + userId);
+        user.setFirstName("Test");
+        user.setLastName("User");
+        user.setRole(UserRole.USER);
+        return user;
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("auth0.profile.writes").tag("outcome", outcome).counter().count();
+    }
+
+    @Nested
+    @DisplayName("Coalescing Tests")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("Should write repeated changes of one user once with the latest claims")
+        void shouldCoalesceRepeatedChanges() {
+            // Arrange
+            stubTransactions();
+            User user = user(1L, "old@example.com");
+            when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(user));
+
+            // Act
+            writeBehind.schedule(1L, new ProfileClaims("other@example.com", "Test", "User", UserRole.USER));
+            writeBehind.schedule(1L, NEW_CLAIMS);
+            writeBehind.flush();
+
+            // Assert
+            assertThat(user.getEmail()).isEqualTo("new@example.com");
+            verify(userRepository).saveAll(List.of(user));
+            assertThat(outcome("written")).isEqualTo(1);
+            assertThat(outcome("coalesced")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should drop a change cancelled before the write")
+        void shouldDropCancelledChange() {
+            // Act
+            writeBehind.schedule(1L, NEW_CLAIMS);
+            writeBehind.cancel(1L);
+            writeBehind.flush();
+
+            // Assert
+            verifyNoInteractions(userRepository);
+            assertThat(outcome("coalesced")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should skip users whose row already matches")
+        void shouldSkipMatchingUsers() {
+            // Arrange
+            stubTransactions();
+            when(userRepository.findAllById(Set.of(1L))).thenReturn(List.of(user(1L, "new@example.com")));
+
+            // Act
+            writeBehind.schedule(1L, NEW_CLAIMS);
+            writeBehind.flush();
+
+            // Assert
+            verify(userRepository).saveAll(List.of());
+            assertThat(outcome("written")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should retry a failed batch per user and count failures")
+        void shouldRetryPerUser() {
+            // Arrange
+            stubTransactions();
+            when(userRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+                Iterable<Long> ids = invocation.getArgument(0);
+                List<User> users = new ArrayList<>();
+                ids.forEach(id -> users.add(user(id, "old" + id + "@example.com")));
+                return users;
+            });
+            when(userRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                List<User> users = invocation.getArgument(0);
+                if (users.stream().anyMatch(user -> user.getUserId().equals(2L))) {
+                    throw new ObjectOptimisticLockingFailureException(User.class, 2L);
+                }
+                return users;
+            });
+
+            // Act
+            writeBehind.schedule(1L, new ProfileClaims("new1@example.com", "Test", "User", UserRole.USER));
+            writeBehind.schedule(2L, new ProfileClaims("new2@example.com", "Test", "User", UserRole.USER));
+            writeBehind.flush();
+
+            // Assert
+            assertThat(outcome("written")).isEqualTo(1);
+            assertThat(outcome("failed")).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.workoutplanner.workoutplanner.security;
+
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import com.workoutplanner.workoutplanner.service.ResourceSecurityService;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkoutOwnershipAuthorizationManager.
+ * Tests permission and ownership checks compiled from the annotation.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkoutOwnershipAuthorizationManager Unit Tests")
+class WorkoutOwnershipAuthorizationManagerTest {
+
+    private static final Long SESSION_ID = 1L;
+
+    @Mock
+    private ResourceSecurityService resourceSecurityService;
+
+    private WorkoutOwnershipAuthorizationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new WorkoutOwnershipAuthorizationManager(() -> resourceSecurityService);
+    }
+
+    @Nested
+    @DisplayName("check() Tests")
+    class CheckTests {
+
+        @Test
+        @DisplayName("Should grant the owner holding the required permission")
+        void shouldGrantOwnerWithPermission() throws Exception {
+            when(resourceSecurityService.canAccessWorkout(SESSION_ID)).thenReturn(true);
+
+            assertThat(isGranted(token("read:workouts"), "readWorkout", SESSION_ID)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should deny without the required permission before checking ownership")
+        void shouldDenyWithoutPermission() throws Exception {
+            assertThat(isGranted(token("write:workouts"), "readWorkout", SESSION_ID)).isFalse();
+
+            verifyNoInteractions(resourceSecurityService);
+        }
+
+        @Test
+        @DisplayName("Should deny a non-owner")
+        void shouldDenyNonOwner() throws Exception {
+            when(resourceSecurityService.canAccessStrengthSet(5L)).thenReturn(false);
+
+            assertThat(isGranted(token(), "updateStrengthSet", 5L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should deny a null id")
+        void shouldDenyNullId() throws Exception {
+            assertThat(isGranted(token("read:workouts"), "readWorkout", null)).isFalse();
+
+            verifyNoInteractions(resourceSecurityService);
+        }
+
+        @Test
+        @DisplayName("Should fail fast when the annotated parameter does not exist")
+        void shouldRejectUnknownParameter() {
+            assertThatThrownBy(() -> isGranted(token(), "misconfigured", SESSION_ID))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("'workoutId' not found");
+        }
+    }
+
+    private boolean isGranted(Authentication authentication, String methodName, Long id) throws Exception {
+        Workouts target = new Workouts();
+        MethodInvocation invocation = new SimpleMethodInvocation(target,
+                Workouts.class.getDeclaredMethod(methodName, Long.class), id);
+        return manager.check(() -> authentication, invocation).isGranted();
+    }
+
+    private static Auth0AuthenticationToken token(String... authorities) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("auth0|123").build();
+        return new Auth0AuthenticationToken(
+                new Auth0Principal(1L, "auth0|123", "user@example.com", "user", "Test", "User", UserRole.USER),
+                jwt, AuthorityUtils.createAuthorityList(authorities));
+    }
+
+    static class Workouts {
+
+        @RequiresWorkoutOwnership(value = "sessionId", permissions = Permission.READ_WORKOUTS)
+        void readWorkout(Long sessionId) {
+        }
+
+        @RequiresWorkoutOwnership(value = "setId", resource = OwnedResource.STRENGTH_SET)
+        void updateStrengthSet(Long setId) {
+        }
+
+        @RequiresWorkoutOwnership("workoutId")
+        void misconfigured(Long sessionId) {
+        }
+    }
+}
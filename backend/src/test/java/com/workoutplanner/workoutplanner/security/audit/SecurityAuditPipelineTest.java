@@ -0,0 +1,209 @@
+package com.workoutplanner.workoutplanner.security.audit;
+
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for SecurityAuditPipeline.
+ * Tests batching, de-duplication and overflow handling without the writer thread.
+ */
+@DisplayName("SecurityAuditPipeline Unit Tests")
+class SecurityAuditPipelineTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> writes = new ArrayList<>();
+
+    private SecurityAuditPipeline pipeline(int bufferSize, Duration deduplicationWindow) {
+        return new SecurityAuditPipeline(meterRegistry, bufferSize, 256, deduplicationWindow, Duration.ofMillis(10),
+                writes::add, Clock.fixed(NOW, ZoneOffset.UTC), Scheduler.disabledScheduler());
+    }
+
+    private static SecurityAuditEvent denied(Long userId, Long resourceId) {
+        return SecurityAuditEvent.builder()
+                .event(SecurityEventType.AUTHORIZATION_DENIED)
+                .userId(userId)
+                .resourceType("WORKOUT")
+                .resourceId(resourceId)
+                .action("ACCESS")
+                .build();
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("security.audit.events").tag("outcome", outcome).counter().count();
+    }
+
+    @Nested
+    @DisplayName("writeBatch() Tests")
+    class WriteBatchTests {
+
+        @Test
+        @DisplayName("Should write queued events as JSON lines in one call")
+        void shouldWriteBatchAsJsonLines() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(16, Duration.ZERO);
+            pipeline.publish(denied(1L, 10L));
+            pipeline.publish(denied(2L, 20L));
+
+            // Act
+            int written = pipeline.writeBatch();
+
+            // Assert
+            assertThat(written).isEqualTo(2);
+            assertThat(writes).hasSize(1);
+            String[] lines = writes.get(0).split(System.lineSeparator());
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0])
+                    .startsWith("{\"timestamp\":\"2026-01-15T10:00:00Z\",\"event\":\"AUTHORIZATION_DENIED\"")
+                    .contains("\"userId\":1", "\"resourceId\":10")
+                    .doesNotContain("suppressed", "email");
+            assertThat(lines[1]).contains("\"userId\":2");
+        }
+
+        @Test
+        @DisplayName("Should write nothing when the queue is empty")
+        void shouldSkipEmptyQueue() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(16, Duration.ZERO);
+
+            // Act & Assert
+            assertThat(pipeline.writeBatch()).isZero();
+            assertThat(writes).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should count dropped events when the buffer is full")
+        void shouldDropWhenFull() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(2, Duration.ZERO);
+
+            // Act
+            pipeline.publish(denied(1L, 10L));
+            pipeline.publish(denied(2L, 20L));
+            pipeline.publish(denied(3L, 30L));
+
+            // Assert
+            assertThat(outcome("accepted")).isEqualTo(2);
+            assertThat(outcome("dropped")).isEqualTo(1);
+            assertThat(meterRegistry.get("security.audit.queue.size").gauge().value()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("De-duplication Tests")
+    class DeduplicationTests {
+
+        @Test
+        @DisplayName("Should write repeats once and summarize them when the window closes")
+        void shouldSuppressRepeats() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(16, Duration.ofSeconds(10));
+
+            // Act
+            pipeline.publish(denied(1L, 10L));
+            pipeline.publish(denied(1L, 10L));
+            pipeline.publish(denied(1L, 10L));
+            pipeline.writeBatch();
+            pipeline.flushDeduplication();
+            pipeline.writeBatch();
+
+            // Assert
+            assertThat(writes).hasSize(2);
+            assertThat(writes.get(0)).contains("\"resourceId\":10").doesNotContain("suppressed");
+            assertThat(writes.get(1)).contains("\"resourceId\":10", "\"suppressed\":2");
+            assertThat(outcome("suppressed")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should keep events of different users apart")
+        void shouldNotMergeDifferentActors() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(16, Duration.ofSeconds(10));
+
+            // Act
+            pipeline.publish(denied(1L, 10L));
+            pipeline.publish(denied(2L, 10L));
+            pipeline.flushDeduplication();
+            pipeline.writeBatch();
+
+            // Assert
+            assertThat(writes.get(0).split(System.lineSeparator())).hasSize(2);
+            assertThat(outcome("suppressed")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should keep denials of different resources apart")
+        void shouldNotMergeDifferentResources() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(16, Duration.ofSeconds(10));
+
+            // Act
+            pipeline.publish(denied(1L, 10L));
+            pipeline.publish(denied(1L, 11L));
+            pipeline.flushDeduplication();
+            pipeline.writeBatch();
+
+            // Assert
+            String[] lines = writes.get(0).split(System.lineSeparator());
+            assertThat(lines).hasSize(2);
+            assertThat(lines[0]).contains("\"resourceId\":10");
+            assertThat(lines[1]).contains("\"resourceId\":11");
+            assertThat(outcome("suppressed")).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not de-duplicate events without a user or IP")
+        void shouldWriteEventsWithoutActor() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(16, Duration.ofSeconds(10));
+            SecurityAuditEvent anonymous = SecurityAuditEvent.builder()
+                    .event(SecurityEventType.SUSPICIOUS_ACTIVITY)
+                    .reason("probe")
+                    .build();
+
+            // Act
+            pipeline.publish(anonymous);
+            pipeline.publish(anonymous);
+            pipeline.writeBatch();
+
+            // Assert
+            assertThat(writes.get(0).split(System.lineSeparator())).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle Tests")
+    class LifecycleTests {
+
+        @Test
+        @DisplayName("Should write pending events and summaries on stop")
+        void shouldDrainOnStop() {
+            // Arrange
+            SecurityAuditPipeline pipeline = pipeline(16, Duration.ofSeconds(10));
+            pipeline.start();
+
+            // Act
+            pipeline.publish(denied(1L, 10L));
+            pipeline.publish(denied(1L, 10L));
+            pipeline.stop();
+
+            // Assert
+            assertThat(pipeline.isRunning()).isFalse();
+            assertThat(String.join(System.lineSeparator(), writes))
+                    .contains("\"resourceId\":10", "\"suppressed\":1");
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -57,6 +58,12 @@ class CardioSetServiceTest {
     @Mock
     private BaseSetMapper baseSetMapper;
     
+    @Mock
+    private TrainingRollupService trainingRollupService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private CardioSetService cardioSetService;
     
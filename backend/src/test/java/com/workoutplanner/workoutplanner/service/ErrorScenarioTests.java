@@ -1,6 +1,7 @@
 package com.workoutplanner.workoutplanner.service;
 
 import com.workoutplanner.workoutplanner.dto.request.CreateWorkoutRequest;
+import com.workoutplanner.workoutplanner.dto.request.WorkoutFieldSelection;
 import com.workoutplanner.workoutplanner.entity.User;
 import com.workoutplanner.workoutplanner.entity.WorkoutSession;
 import com.workoutplanner.workoutplanner.exception.OptimisticLockConflictException;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
@@ -72,6 +74,12 @@ class ErrorScenarioTests {
     @Mock
     private Clock clock;
     
+    @Mock
+    private TrainingRollupService trainingRollupService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private WorkoutSessionService workoutSessionService;
     
@@ -134,15 +142,15 @@ class ErrorScenarioTests {
         @DisplayName("Should propagate transient database failure from repository")
         void shouldPropagateTransientDatabaseFailure() {
             // This test demonstrates that transient failures propagate correctly.
-            // Note: getWorkoutSessionById uses findWithUserBySessionId, not findById
+            // Note: getWorkoutSessionById uses findBySessionId, not findById
 
             // Arrange
-            when(workoutSessionRepository.findWithUserBySessionId(1L))
+            when(workoutSessionRepository.findBySessionId(eq(1L), anyCollection()))
                 .thenThrow(new RuntimeException("Transient database connection error"));
 
             // Act & Assert
             // Without retry logic (like Spring Retry @Retryable), the exception propagates
-            assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(1L))
+            assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(1L, WorkoutFieldSelection.all()))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("database connection");
         }
@@ -243,10 +251,10 @@ class ErrorScenarioTests {
         @DisplayName("Should throw clear exception when workout not found")
         void shouldThrowClearExceptionWhenWorkoutNotFound() {
             // Arrange
-            lenient().when(workoutSessionRepository.findById(999L)).thenReturn(Optional.empty());
+            when(workoutSessionRepository.findBySessionId(eq(999L), anyCollection())).thenReturn(Optional.empty());
             
             // Act & Assert
-            assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(999L))
+            assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(999L, WorkoutFieldSelection.all()))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Workout")
                 .hasMessageContaining("999")
@@ -283,11 +291,11 @@ class ErrorScenarioTests {
         @DisplayName("Should handle null return from repository gracefully")
         void shouldHandleNullReturnFromRepositoryGracefully() {
             // Arrange - Simulate repository returning empty Optional (not found)
-            // Service uses findWithUserBySessionId, not findById
-            when(workoutSessionRepository.findWithUserBySessionId(1L)).thenReturn(Optional.empty());
+            // Service uses findBySessionId, not findById
+            when(workoutSessionRepository.findBySessionId(eq(1L), anyCollection())).thenReturn(Optional.empty());
 
             // Act & Assert - Should throw ResourceNotFoundException (correct behavior)
-            assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(1L))
+            assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(1L, WorkoutFieldSelection.all()))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Workout session not found");
 
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,6 +51,12 @@ class FlexibilitySetServiceTest {
     @Mock
     private BaseSetMapper baseSetMapper;
     
+    @Mock
+    private TrainingRollupService trainingRollupService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private FlexibilitySetService flexibilitySetService;
     
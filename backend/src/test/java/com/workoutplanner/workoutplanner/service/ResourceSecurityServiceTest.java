@@ -0,0 +1,199 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.enums.UserRole;
+import com.workoutplanner.workoutplanner.repository.CardioSetRepository;
+import com.workoutplanner.workoutplanner.repository.FlexibilitySetRepository;
+import com.workoutplanner.workoutplanner.repository.StrengthSetRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutSessionRepository;
+import com.workoutplanner.workoutplanner.security.Auth0AuthenticationToken;
+import com.workoutplanner.workoutplanner.security.Auth0Principal;
+import com.workoutplanner.workoutplanner.security.SecurityEventLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ResourceSecurityService.
+ * Tests ownership resolution and per-request memoization of lookups and decisions.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResourceSecurityService Unit Tests")
+class ResourceSecurityServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final Long SESSION_ID = 10L;
+    private static final Long SET_ID = 100L;
+
+    @Mock
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Mock
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Mock
+    private StrengthSetRepository strengthSetRepository;
+
+    @Mock
+    private CardioSetRepository cardioSetRepository;
+
+    @Mock
+    private FlexibilitySetRepository flexibilitySetRepository;
+
+    @Mock
+    private SecurityEventLogger securityEventLogger;
+
+    @InjectMocks
+    private ResourceSecurityService resourceSecurityService;
+
+    @BeforeEach
+    void setUp() {
+        authenticate("read:workouts", "write:workouts");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("Ownership Tests")
+    class OwnershipTests {
+
+        @Test
+        @DisplayName("Should grant the owner of the set's workout")
+        void shouldGrantOwnerOfSet() {
+            when(strengthSetRepository.findSessionIdById(SET_ID)).thenReturn(Optional.of(SESSION_ID));
+            when(workoutSessionRepository.findUserIdBySessionId(SESSION_ID)).thenReturn(Optional.of(USER_ID));
+
+            assertThat(resourceSecurityService.canAccessSet(SET_ID)).isTrue();
+            verifyNoInteractions(cardioSetRepository, flexibilitySetRepository);
+        }
+
+        @Test
+        @DisplayName("Should deny and log access to another user's workout")
+        void shouldDenyOtherUsersWorkout() {
+            when(workoutSessionRepository.findUserIdBySessionId(SESSION_ID)).thenReturn(Optional.of(OTHER_USER_ID));
+
+            assertThat(resourceSecurityService.canAccessWorkout(SESSION_ID)).isFalse();
+            verify(securityEventLogger).logAuthorizationDenied(USER_ID, "WORKOUT", SESSION_ID, "READ");
+        }
+
+        @Test
+        @DisplayName("Should deny a missing workout exercise")
+        void shouldDenyMissingWorkoutExercise() {
+            when(workoutExerciseRepository.findSessionIdById(5L)).thenReturn(Optional.empty());
+
+            assertThat(resourceSecurityService.canAccessWorkoutExercise(5L)).isFalse();
+            verifyNoInteractions(workoutSessionRepository);
+        }
+
+        @Test
+        @DisplayName("Should grant admins without any lookup")
+        void shouldGrantAdmin() {
+            authenticate("read:workouts", "read:users");
+
+            assertThat(resourceSecurityService.canAccessStrengthSet(SET_ID)).isTrue();
+            verifyNoInteractions(strengthSetRepository, workoutSessionRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("User Tests")
+    class UserTests {
+
+        @Test
+        @DisplayName("Should grant access to the current user only")
+        void shouldGrantCurrentUser() {
+            assertThat(resourceSecurityService.canAccessUser(USER_ID)).isTrue();
+            assertThat(resourceSecurityService.canAccessUser(OTHER_USER_ID)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should grant admins access to any user")
+        void shouldGrantAdminAnyUser() {
+            authenticate("read:workouts", "read:users");
+
+            assertThat(resourceSecurityService.canAccessUser(OTHER_USER_ID)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should deny without authentication")
+        void shouldDenyUnauthenticated() {
+            SecurityContextHolder.clearContext();
+
+            assertThat(resourceSecurityService.canAccessUser(USER_ID)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Request Memoization Tests")
+    class MemoizationTests {
+
+        @Test
+        @DisplayName("Should share lookups between controller and service checks of one request")
+        void shouldMemoizeWithinRequest() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(strengthSetRepository.findSessionIdById(SET_ID)).thenReturn(Optional.of(SESSION_ID));
+            when(workoutSessionRepository.findUserIdBySessionId(SESSION_ID)).thenReturn(Optional.of(USER_ID));
+
+            // PUT /sets/{setId}: BaseSetController, then StrengthSetService.updateSet, then a workout check
+            assertThat(resourceSecurityService.canAccessSet(SET_ID)).isTrue();
+            assertThat(resourceSecurityService.canAccessStrengthSet(SET_ID)).isTrue();
+            assertThat(resourceSecurityService.canModifyWorkout(SESSION_ID)).isTrue();
+
+            verify(strengthSetRepository, times(1)).findSessionIdById(SET_ID);
+            verify(workoutSessionRepository, times(1)).findUserIdBySessionId(SESSION_ID);
+        }
+
+        @Test
+        @DisplayName("Should log a denied workout once per request")
+        void shouldMemoizeDenial() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(workoutSessionRepository.findUserIdBySessionId(SESSION_ID)).thenReturn(Optional.of(OTHER_USER_ID));
+
+            assertThat(resourceSecurityService.canAccessWorkout(SESSION_ID)).isFalse();
+            assertThat(resourceSecurityService.canAccessWorkout(SESSION_ID)).isFalse();
+
+            verify(workoutSessionRepository, times(1)).findUserIdBySessionId(SESSION_ID);
+            verify(securityEventLogger, times(1)).logAuthorizationDenied(USER_ID, "WORKOUT", SESSION_ID, "READ");
+        }
+
+        @Test
+        @DisplayName("Should look up every time outside of a request")
+        void shouldNotMemoizeOutsideRequest() {
+            when(workoutSessionRepository.findUserIdBySessionId(SESSION_ID)).thenReturn(Optional.of(USER_ID));
+
+            resourceSecurityService.canAccessWorkout(SESSION_ID);
+            resourceSecurityService.canAccessWorkout(SESSION_ID);
+
+            verify(workoutSessionRepository, times(2)).findUserIdBySessionId(SESSION_ID);
+        }
+    }
+
+    private static void authenticate(String... authorities) {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("auth0|123").build();
+        SecurityContextHolder.getContext().setAuthentication(new Auth0AuthenticationToken(
+                new Auth0Principal(USER_ID, "auth0|123", "user@example.com", "user", "Test", "User", UserRole.USER),
+                jwt, AuthorityUtils.createAuthorityList(authorities)));
+    }
+}
@@ -7,6 +7,9 @@ import com.workoutplanner.workoutplanner.entity.StrengthSet;
 import com.workoutplanner.workoutplanner.entity.User;
 import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
 import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.ChangeType;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.event.SetChangedEvent;
 import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
 import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
 import com.workoutplanner.workoutplanner.mapper.BaseSetMapper;
@@ -22,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,6 +54,12 @@ class StrengthSetServiceTest {
     @Mock
     private BaseSetMapper baseSetMapper;
     
+    @Mock
+    private TrainingRollupService trainingRollupService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private StrengthSetService strengthSetService;
     
@@ -109,6 +119,10 @@ class StrengthSetServiceTest {
             assertThat(result.getSetId()).isEqualTo(1L);
             verify(workoutExerciseRepository).findById(1L);
             verify(strengthSetRepository).save(any(StrengthSet.class));
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof SetChangedEvent changed
+                    && changed.sessionId().equals(1L)
+                    && changed.setType() == ExerciseType.STRENGTH
+                    && changed.changeType() == ChangeType.CREATED));
         }
         
         @Test
@@ -280,6 +294,7 @@ class StrengthSetServiceTest {
             
             // Assert
             verify(strengthSetRepository).save(argThat(set -> !set.isActive()));
+            verify(trainingRollupService).recordChange(testWorkoutExercise);
         }
         
         @Test
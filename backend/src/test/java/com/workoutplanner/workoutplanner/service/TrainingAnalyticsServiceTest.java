@@ -0,0 +1,150 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.dto.response.PersonalRecordResponse;
+import com.workoutplanner.workoutplanner.dto.response.TonnageResponse;
+import com.workoutplanner.workoutplanner.enums.AnalyticsPeriod;
+import com.workoutplanner.workoutplanner.enums.TargetMuscleGroup;
+import com.workoutplanner.workoutplanner.repository.TrainingAnalyticsRepository;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TrainingAnalyticsService.
+ * Tests per-user caching and version-based invalidation of analytics results.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrainingAnalyticsService Unit Tests")
+class TrainingAnalyticsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private TrainingAnalyticsRepository trainingAnalyticsRepository;
+
+    private TrainingAnalyticsService trainingAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        trainingAnalyticsService = new TrainingAnalyticsService(trainingAnalyticsRepository,
+                new ConcurrentMapCacheManager(TrainingAnalyticsService.CACHE_NAME));
+        TestDataBuilder.setupSecurityContext(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("Caching Tests")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should compute tonnage once and serve repeated requests from cache")
+        void shouldCacheTonnage() {
+            // Arrange
+            List<TonnageResponse> tonnage = List.of(new TonnageResponse(
+                    FROM, TargetMuscleGroup.CHEST, 3L, 30L, new BigDecimal("2400.00")));
+            when(trainingAnalyticsRepository.findTonnageByMuscleGroup(1L, AnalyticsPeriod.WEEK, FROM, TO))
+                    .thenReturn(tonnage);
+
+            // Act
+            List<TonnageResponse> first = trainingAnalyticsService.getMyTonnage(AnalyticsPeriod.WEEK, FROM, TO);
+            List<TonnageResponse> second = trainingAnalyticsService.getMyTonnage(AnalyticsPeriod.WEEK, FROM, TO);
+
+            // Assert
+            assertThat(first).isEqualTo(tonnage);
+            assertThat(second).isSameAs(first);
+            verify(trainingAnalyticsRepository, times(1))
+                    .findTonnageByMuscleGroup(1L, AnalyticsPeriod.WEEK, FROM, TO);
+        }
+
+        @Test
+        @DisplayName("Should cache different arguments separately")
+        void shouldCacheDifferentArgumentsSeparately() {
+            // Arrange
+            when(trainingAnalyticsRepository.findTonnageByMuscleGroup(eq(1L), any(), eq(FROM), eq(TO)))
+                    .thenReturn(List.of());
+
+            // Act
+            trainingAnalyticsService.getMyTonnage(AnalyticsPeriod.WEEK, FROM, TO);
+            trainingAnalyticsService.getMyTonnage(AnalyticsPeriod.MONTH, FROM, TO);
+
+            // Assert
+            verify(trainingAnalyticsRepository).findTonnageByMuscleGroup(1L, AnalyticsPeriod.WEEK, FROM, TO);
+            verify(trainingAnalyticsRepository).findTonnageByMuscleGroup(1L, AnalyticsPeriod.MONTH, FROM, TO);
+        }
+
+        @Test
+        @DisplayName("Should not share cached results between users")
+        void shouldNotShareResultsBetweenUsers() {
+            // Arrange
+            when(trainingAnalyticsRepository.findPersonalRecords(anyLong())).thenReturn(List.<PersonalRecordResponse>of());
+
+            // Act
+            trainingAnalyticsService.getMyPersonalRecords();
+            TestDataBuilder.setupSecurityContext(2L);
+            trainingAnalyticsService.getMyPersonalRecords();
+
+            // Assert
+            verify(trainingAnalyticsRepository).findPersonalRecords(1L);
+            verify(trainingAnalyticsRepository).findPersonalRecords(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should recompute and change data version once the stored version changes")
+        void shouldRecomputeAfterVersionChange() {
+            // Arrange
+            when(trainingAnalyticsRepository.findDataVersion(1L)).thenReturn(5L);
+            when(trainingAnalyticsRepository.findPersonalRecords(1L)).thenReturn(List.of());
+            trainingAnalyticsService.getMyPersonalRecords();
+            String versionBefore = trainingAnalyticsService.getMyDataVersion();
+
+            // Act - another instance refreshed the user's rollups
+            when(trainingAnalyticsRepository.findDataVersion(1L)).thenReturn(6L);
+            trainingAnalyticsService.getMyPersonalRecords();
+
+            // Assert
+            assertThat(versionBefore).isEqualTo("1-5");
+            assertThat(trainingAnalyticsService.getMyDataVersion()).isEqualTo("1-6");
+            verify(trainingAnalyticsRepository, times(2)).findPersonalRecords(1L);
+        }
+
+        @Test
+        @DisplayName("Should keep cached results while the stored version is unchanged")
+        void shouldKeepCacheForUnchangedVersion() {
+            // Arrange
+            when(trainingAnalyticsRepository.findDataVersion(1L)).thenReturn(5L);
+            when(trainingAnalyticsRepository.findPersonalRecords(1L)).thenReturn(List.of());
+            trainingAnalyticsService.getMyPersonalRecords();
+
+            // Act
+            trainingAnalyticsService.getMyPersonalRecords();
+
+            // Assert
+            verify(trainingAnalyticsRepository, times(1)).findPersonalRecords(1L);
+        }
+    }
+}
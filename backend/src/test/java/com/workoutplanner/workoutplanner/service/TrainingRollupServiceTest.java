@@ -0,0 +1,166 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.repository.DailyTrainingRollupRepository;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TrainingRollupService.
+ * Tests training day resolution and per-transaction batching of rollup refreshes.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrainingRollupService Unit Tests")
+class TrainingRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private DailyTrainingRollupRepository dailyTrainingRollupRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TrainingRollupService trainingRollupService;
+
+    private WorkoutSession testWorkout;
+
+    @BeforeEach
+    void setUp() {
+        trainingRollupService = new TrainingRollupService(dailyTrainingRollupRepository, entityManager,
+                transactionManager, Duration.ofHours(48));
+
+        User testUser = TestDataBuilder.createNewUser();
+        testUser.setUserId(1L);
+        testWorkout = TestDataBuilder.createNewWorkoutSession(testUser);
+        testWorkout.setStartedAt(DAY.atTime(18, 0));
+    }
+
+    @Nested
+    @DisplayName("trainingDateOf() Tests")
+    class TrainingDateTests {
+
+        @Test
+        @DisplayName("Should prefer start time, then scheduled date, then creation time")
+        void shouldResolveTrainingDate() {
+            testWorkout.setScheduledDate(DAY.plusDays(1));
+            testWorkout.setCreatedAt(DAY.plusDays(2).atStartOfDay());
+            assertThat(TrainingRollupService.trainingDateOf(testWorkout)).isEqualTo(DAY);
+
+            testWorkout.setStartedAt(null);
+            assertThat(TrainingRollupService.trainingDateOf(testWorkout)).isEqualTo(DAY.plusDays(1));
+
+            testWorkout.setScheduledDate(null);
+            assertThat(TrainingRollupService.trainingDateOf(testWorkout)).isEqualTo(DAY.plusDays(2));
+        }
+    }
+
+    @Nested
+    @DisplayName("recordChange() Tests")
+    class RecordChangeTests {
+
+        @Test
+        @DisplayName("Should refresh immediately when no transaction is active")
+        void shouldRefreshImmediatelyWithoutTransaction() {
+            // Act
+            trainingRollupService.recordChange(testWorkout);
+
+            // Assert
+            verify(dailyTrainingRollupRepository).refreshDays(1L, Set.of(DAY));
+        }
+
+        @Test
+        @DisplayName("Should refresh all touched days once, after flushing, before commit")
+        void shouldBatchRefreshUntilBeforeCommit() {
+            TransactionSynchronizationManager.initSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            try {
+                // Act
+                trainingRollupService.recordChange(testWorkout);
+                trainingRollupService.recordChange(1L, List.of(DAY, DAY.minusDays(1)));
+
+                // Assert
+                verifyNoInteractions(dailyTrainingRollupRepository);
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                assertThat(synchronizations).hasSize(1);
+
+                synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+                InOrder inOrder = inOrder(entityManager, dailyTrainingRollupRepository);
+                inOrder.verify(entityManager).flush();
+                inOrder.verify(dailyTrainingRollupRepository).refreshDays(1L, new TreeSet<>(Set.of(DAY.minusDays(1), DAY)));
+                verify(dailyTrainingRollupRepository, times(1)).refreshDays(anyLong(), anyCollection());
+            } finally {
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                TransactionSynchronizationManager.setActualTransactionActive(false);
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @Test
+        @DisplayName("Should ignore sessions without an owner")
+        void shouldIgnoreSessionWithoutUser() {
+            testWorkout.setUser(null);
+
+            trainingRollupService.recordChange(testWorkout);
+
+            verifyNoInteractions(dailyTrainingRollupRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile() Tests")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Should rebuild each user's candidate days and continue after a failure")
+        void shouldReconcileEachUser() {
+            // Arrange
+            SortedSet<LocalDate> days = new TreeSet<>(Set.of(DAY));
+            when(dailyTrainingRollupRepository.findDaysToReconcile(any(LocalDateTime.class), any(LocalDate.class)))
+                    .thenReturn(Map.of(1L, days, 2L, days));
+            when(dailyTrainingRollupRepository.refreshDays(anyLong(), anyCollection())).thenAnswer(invocation -> {
+                if (invocation.<Long>getArgument(0) == 1L) {
+                    throw new IllegalStateException("boom");
+                }
+                return 1;
+            });
+
+            // Act
+            trainingRollupService.reconcile();
+
+            // Assert
+            verify(dailyTrainingRollupRepository).refreshDays(1L, days);
+            verify(dailyTrainingRollupRepository).refreshDays(2L, days);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.workoutplanner.workoutplanner.service;
+
+import com.workoutplanner.workoutplanner.dto.response.SetResponse;
+import com.workoutplanner.workoutplanner.dto.response.UserResponse;
+import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
+import com.workoutplanner.workoutplanner.entity.Exercise;
+import com.workoutplanner.workoutplanner.entity.User;
+import com.workoutplanner.workoutplanner.entity.WorkoutExercise;
+import com.workoutplanner.workoutplanner.entity.WorkoutSession;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import com.workoutplanner.workoutplanner.mapper.BaseSetMapper;
+import com.workoutplanner.workoutplanner.mapper.ExerciseMapper;
+import com.workoutplanner.workoutplanner.mapper.UserMapper;
+import com.workoutplanner.workoutplanner.mapper.WorkoutMapper;
+import com.workoutplanner.workoutplanner.repository.CardioSetRepository;
+import com.workoutplanner.workoutplanner.repository.ExerciseRepository;
+import com.workoutplanner.workoutplanner.repository.FlexibilitySetRepository;
+import com.workoutplanner.workoutplanner.repository.StrengthSetRepository;
+import com.workoutplanner.workoutplanner.repository.UserRepository;
+import com.workoutplanner.workoutplanner.repository.WorkoutExerciseRepository;
+import com.workoutplanner.workoutplanner.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WorkoutGraphService.
+ * Tests that each batch is one repository call and that results are grouped by parent.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkoutGraphService Unit Tests")
+class WorkoutGraphServiceTest {
+
+    @Mock
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Mock
+    private StrengthSetRepository strengthSetRepository;
+
+    @Mock
+    private CardioSetRepository cardioSetRepository;
+
+    @Mock
+    private FlexibilitySetRepository flexibilitySetRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private WorkoutGraphService workoutGraphService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        workoutGraphService = new WorkoutGraphService(workoutExerciseRepository, strengthSetRepository,
+                cardioSetRepository, flexibilitySetRepository, exerciseRepository, userRepository,
+                Mappers.getMapper(WorkoutMapper.class), Mappers.getMapper(BaseSetMapper.class),
+                Mappers.getMapper(ExerciseMapper.class), Mappers.getMapper(UserMapper.class));
+        testUser = TestDataBuilder.createPersistedUser();
+    }
+
+    private WorkoutExercise workoutExercise(Long workoutExerciseId, Long sessionId, Exercise exercise) {
+        WorkoutSession workoutSession = TestDataBuilder.createDefaultWorkoutSession(testUser);
+        workoutSession.setSessionId(sessionId);
+        WorkoutExercise workoutExercise = TestDataBuilder.createWorkoutExercise(workoutSession, exercise);
+        workoutExercise.setWorkoutExerciseId(workoutExerciseId);
+        return workoutExercise;
+    }
+
+    @Test
+    @DisplayName("Should group the exercises of several workouts from one query")
+    void shouldGroupWorkoutExercisesBySession() {
+        // Arrange
+        Exercise exercise = TestDataBuilder.createStrengthExercise();
+        when(workoutExerciseRepository.findBySessionIdIn(anyCollection())).thenReturn(List.of(
+                workoutExercise(10L, 1L, exercise), workoutExercise(11L, 1L, exercise), workoutExercise(20L, 2L, exercise)));
+
+        // Act
+        Map<Long, List<WorkoutExerciseResponse>> result =
+                workoutGraphService.getWorkoutExercisesBySessionIds(Set.of(1L, 2L, 3L));
+
+        // Assert
+        assertThat(result.get(1L)).extracting(WorkoutExerciseResponse::getWorkoutExerciseId).containsExactly(10L, 11L);
+        assertThat(result.get(2L)).extracting(WorkoutExerciseResponse::getExerciseName).containsExactly("Bench Press");
+        assertThat(result).doesNotContainKey(3L);
+        verify(workoutExerciseRepository, times(1)).findBySessionIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should query sets once per exercise type present")
+    void shouldLoadSetsPerPresentType() {
+        // Arrange
+        WorkoutExercise strength = workoutExercise(10L, 1L, TestDataBuilder.createStrengthExercise());
+        WorkoutExercise otherStrength = workoutExercise(11L, 2L, TestDataBuilder.createStrengthExercise());
+        WorkoutExercise cardio = workoutExercise(20L, 1L, TestDataBuilder.createCardioExercise());
+        Map<Long, ExerciseType> exerciseTypes = new LinkedHashMap<>();
+        exerciseTypes.put(10L, ExerciseType.STRENGTH);
+        exerciseTypes.put(11L, ExerciseType.STRENGTH);
+        exerciseTypes.put(20L, ExerciseType.CARDIO);
+        when(strengthSetRepository.findByWorkoutExerciseIdIn(List.of(10L, 11L))).thenReturn(List.of(
+                TestDataBuilder.createStrengthSet(strength), TestDataBuilder.createStrengthSet(otherStrength)));
+        when(cardioSetRepository.findByWorkoutExerciseIdIn(List.of(20L)))
+                .thenReturn(List.of(TestDataBuilder.createCardioSet(cardio)));
+
+        // Act
+        Map<Long, List<SetResponse>> result = workoutGraphService.getSetsByWorkoutExerciseIds(exerciseTypes);
+
+        // Assert
+        assertThat(result.get(10L)).extracting(SetResponse::getReps).containsExactly(10);
+        assertThat(result.get(11L)).hasSize(1);
+        assertThat(result.get(20L)).extracting(SetResponse::getDistanceUnit).containsExactly("km");
+        verifyNoInteractions(flexibilitySetRepository);
+    }
+
+    @Test
+    @DisplayName("Should split large batches into statements of at most 1000 IDs")
+    void shouldChunkLargeBatches() {
+        // Arrange
+        Set<Long> userIds = LongStream.rangeClosed(1, 2500).boxed().collect(Collectors.toSet());
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(userRepository.findByUserIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return chunk.contains(testUser.getUserId()) ? List.of(testUser) : List.of();
+        });
+
+        // Act
+        Map<Long, UserResponse> result = workoutGraphService.getUsersByIds(userIds);
+
+        // Assert
+        assertThat(chunkSizes).containsExactly(1000, 1000, 500);
+        assertThat(result).containsOnlyKeys(testUser.getUserId());
+    }
+
+    @Test
+    @DisplayName("Should index users by ID and leave out unknown ones")
+    void shouldIndexUsersById() {
+        // Arrange
+        when(userRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(testUser));
+
+        // Act
+        Map<Long, UserResponse> result = workoutGraphService.getUsersByIds(Set.of(1L, 99L));
+
+        // Assert
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L).getUsername()).isEqualTo(testUser.getUsername());
+    }
+}
@@ -5,7 +5,9 @@ import com.workoutplanner.workoutplanner.dto.response.PagedResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutExerciseResponse;
 import com.workoutplanner.workoutplanner.dto.response.WorkoutResponse;
 import com.workoutplanner.workoutplanner.entity.*;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
 import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import com.workoutplanner.workoutplanner.event.WorkoutStatusChangedEvent;
 import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
 import com.workoutplanner.workoutplanner.exception.OptimisticLockConflictException;
 import com.workoutplanner.workoutplanner.exception.ResourceNotFoundException;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +33,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,6 +82,12 @@ class WorkoutSessionServiceTest {
     @Mock
     private Clock clock;
     
+    @Mock
+    private TrainingRollupService trainingRollupService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private WorkoutSessionService workoutSessionService;
     
@@ -228,35 +238,95 @@ class WorkoutSessionServiceTest {
         WorkoutResponse expectedResponse = new WorkoutResponse();
         expectedResponse.setSessionId(1L);
         
-        when(workoutSessionRepository.findWithUserBySessionId(1L))
+        WorkoutFieldSelection selection = WorkoutFieldSelection.all();
+        
+        when(workoutSessionRepository.findBySessionId(1L, List.of("user")))
             .thenReturn(Optional.of(testWorkoutSession));
-        when(workoutMapper.toWorkoutResponse(testWorkoutSession)).thenReturn(expectedResponse);
+        when(workoutMapper.toWorkoutResponse(testWorkoutSession, selection)).thenReturn(expectedResponse);
         
         // Act
-        WorkoutResponse result = workoutSessionService.getWorkoutSessionById(1L);
+        WorkoutResponse result = workoutSessionService.getWorkoutSessionById(1L, selection);
         
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getSessionId()).isEqualTo(1L);
         
-        verify(workoutSessionRepository).findWithUserBySessionId(1L);
-        verify(workoutMapper).toWorkoutResponse(testWorkoutSession);
+        verify(workoutSessionRepository).findBySessionId(1L, List.of("user"));
+        verify(workoutMapper).toWorkoutResponse(testWorkoutSession, selection);
     }
     
     @Test
     @DisplayName("Should throw ResourceNotFoundException when workout not found")
     void shouldThrowExceptionWhenWorkoutNotFound() {
         // Arrange
-        when(workoutSessionRepository.findWithUserBySessionId(999L))
+        when(workoutSessionRepository.findBySessionId(eq(999L), anyCollection()))
             .thenReturn(Optional.empty());
         
         // Act & Assert
-        assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(999L))
+        assertThatThrownBy(() -> workoutSessionService.getWorkoutSessionById(999L, WorkoutFieldSelection.all()))
             .isInstanceOf(ResourceNotFoundException.class)
             .hasMessageContaining("Workout session")
             .hasMessageContaining("999");
     }
     
+    @Test
+    @DisplayName("Should fetch only the selected associations and no sets")
+    void shouldFetchOnlySelectedAssociations() {
+        // Arrange
+        WorkoutFieldSelection selection = WorkoutFieldSelection.parse("name,status", "");
+        WorkoutResponse expectedResponse = new WorkoutResponse();
+        when(workoutSessionRepository.findBySessionId(1L, List.of())).thenReturn(Optional.of(testWorkoutSession));
+        when(workoutMapper.toWorkoutResponse(testWorkoutSession, selection)).thenReturn(expectedResponse);
+
+        // Act
+        WorkoutResponse result = workoutSessionService.getWorkoutSessionById(1L, selection);
+
+        // Assert
+        assertThat(result).isSameAs(expectedResponse);
+        verify(workoutSessionRepository).findBySessionId(1L, List.of());
+        verifyNoInteractions(workoutExerciseRepository);
+    }
+
+    @Test
+    @DisplayName("Should load sets only for the exercise types in the workout")
+    void shouldLoadSetsOnlyForPresentExerciseTypes() {
+        // Arrange
+        WorkoutFieldSelection selection = WorkoutFieldSelection.parse(null, "sets");
+        WorkoutExercise workoutExercise = TestDataBuilder.createWorkoutExercise(testWorkoutSession, testExercise);
+        testWorkoutSession.setWorkoutExercises(new ArrayList<>(List.of(workoutExercise)));
+        when(workoutSessionRepository.findBySessionId(1L, List.of("user", "workoutExercises.exercise")))
+            .thenReturn(Optional.of(testWorkoutSession));
+        when(workoutExerciseRepository.findStrengthExercisesWithSets(1L, ExerciseType.STRENGTH))
+            .thenReturn(List.of(workoutExercise));
+        when(workoutMapper.toWorkoutResponse(testWorkoutSession, selection)).thenReturn(new WorkoutResponse());
+
+        // Act
+        workoutSessionService.getWorkoutSessionById(1L, selection);
+
+        // Assert
+        verify(workoutExerciseRepository).findStrengthExercisesWithSets(1L, ExerciseType.STRENGTH);
+        verify(workoutExerciseRepository, never()).findCardioExercisesWithSets(anyLong(), any());
+        verify(workoutExerciseRepository, never()).findFlexibilityExercisesWithSets(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should fetch the current user's workouts with the selected fields only")
+    void shouldGetMyWorkoutsWithSelectedFields() {
+        // Arrange
+        WorkoutFieldSelection selection = WorkoutFieldSelection.ofFields(List.of("name", "userFullName", "exercises"));
+        WorkoutResponse expectedResponse = new WorkoutResponse();
+        PageRequest pageable = PageRequest.of(0, 20);
+        when(workoutSessionRepository.findByUserId(1L, List.of("user"), pageable)).thenReturn(List.of(testWorkoutSession));
+        when(workoutMapper.toWorkoutResponse(testWorkoutSession, selection)).thenReturn(expectedResponse);
+
+        // Act
+        List<WorkoutResponse> result = workoutSessionService.getMyWorkouts(selection, pageable);
+
+        // Assert
+        assertThat(result).containsExactly(expectedResponse);
+        verifyNoInteractions(workoutExerciseRepository);
+    }
+
     @Test
     @DisplayName("Should get workouts by user ID successfully")
     void shouldGetWorkoutsByUserIdSuccessfully() {
@@ -383,6 +453,8 @@ class WorkoutSessionServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(WorkoutStatus.IN_PROGRESS);
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof WorkoutStatusChangedEvent changed
+                && changed.status() == WorkoutStatus.IN_PROGRESS));
     }
     
     @Test
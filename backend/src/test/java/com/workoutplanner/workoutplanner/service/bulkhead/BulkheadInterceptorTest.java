@@ -0,0 +1,212 @@
+package com.workoutplanner.workoutplanner.service.bulkhead;
+
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import com.workoutplanner.workoutplanner.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for BulkheadInterceptor.
+ * Tests partition selection, isolation between partitions and permit release.
+ */
+@DisplayName("BulkheadInterceptor Unit Tests")
+class BulkheadInterceptorTest {
+
+    private static final String GRAPHQL_PATH = "/api/v1/graphql";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final Map<BulkheadPartition, PartitionBulkhead> bulkheads = new EnumMap<>(BulkheadPartition.class);
+
+    private BulkheadInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        List<PartitionBulkhead> all = new ArrayList<>();
+        for (BulkheadPartition partition : BulkheadPartition.values()) {
+            PartitionBulkhead bulkhead = new PartitionBulkhead(partition, 1, 0, Duration.ofMillis(10));
+            bulkheads.put(partition, bulkhead);
+            all.add(bulkhead);
+        }
+        interceptor = new BulkheadInterceptor(all, Map.of(GRAPHQL_PATH, BulkheadPartition.READS), meterRegistry);
+    }
+
+    @SuppressWarnings("unused")
+    static class Endpoints {
+
+        public void plain() {
+        }
+
+        @Bulkhead(BulkheadPartition.ADMIN)
+        public void admin() {
+        }
+
+        @Bulkhead(BulkheadPartition.IMPORTS)
+        public void importWorkouts() {
+        }
+    }
+
+    @SuppressWarnings("unused")
+    @Bulkhead(BulkheadPartition.ANALYTICS)
+    static class AnalyticsEndpoints {
+
+        public void trend() {
+        }
+
+        @Bulkhead(BulkheadPartition.ADMIN)
+        public void export() {
+        }
+    }
+
+    private static HandlerMethod handler(Object bean, String method) throws NoSuchMethodException {
+        return new HandlerMethod(bean, bean.getClass().getMethod(method));
+    }
+
+    private static MockHttpServletRequest request(String method) {
+        return new MockHttpServletRequest(method, "/api/v1/test");
+    }
+
+    private double calls(BulkheadPartition partition, String outcome) {
+        return meterRegistry.get("bulkhead.calls")
+                .tag("partition", partition.getKey())
+                .tag("outcome", outcome)
+                .counter().count();
+    }
+
+    @Nested
+    @DisplayName("Partition Selection Tests")
+    class PartitionSelectionTests {
+
+        @Test
+        @DisplayName("Should derive the partition from the HTTP method without an annotation")
+        void shouldDeriveFromHttpMethod() throws Exception {
+            HandlerMethod plain = handler(new Endpoints(), "plain");
+
+            assertThat(BulkheadInterceptor.partitionOf(plain, request("GET"))).isEqualTo(BulkheadPartition.READS);
+            assertThat(BulkheadInterceptor.partitionOf(plain, request("POST"))).isEqualTo(BulkheadPartition.WRITES);
+            assertThat(BulkheadInterceptor.partitionOf(plain, request("DELETE"))).isEqualTo(BulkheadPartition.WRITES);
+        }
+
+        @Test
+        @DisplayName("Should prefer the method annotation over the class annotation")
+        void shouldPreferMethodAnnotation() throws Exception {
+            assertThat(BulkheadInterceptor.partitionOf(handler(new AnalyticsEndpoints(), "trend"), request("GET")))
+                    .isEqualTo(BulkheadPartition.ANALYTICS);
+            assertThat(BulkheadInterceptor.partitionOf(handler(new AnalyticsEndpoints(), "export"), request("GET")))
+                    .isEqualTo(BulkheadPartition.ADMIN);
+            assertThat(BulkheadInterceptor.partitionOf(handler(new Endpoints(), "admin"), request("POST")))
+                    .isEqualTo(BulkheadPartition.ADMIN);
+        }
+
+        @Test
+        @DisplayName("Should admit GraphQL requests to the reads partition by path")
+        void shouldAdmitGraphQlByPath() throws Exception {
+            // Arrange
+            HandlerFunction<ServerResponse> graphQl = request -> ServerResponse.ok().build();
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", GRAPHQL_PATH);
+
+            // Act
+            boolean admitted = interceptor.preHandle(request, response, graphQl);
+
+            // Assert
+            assertThat(admitted).isTrue();
+            assertThat(bulkheads.get(BulkheadPartition.READS).getActive()).isEqualTo(1);
+            assertThat(calls(BulkheadPartition.READS, "permitted")).isEqualTo(1);
+            assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest("POST", GRAPHQL_PATH),
+                    response, graphQl))
+                    .isInstanceOf(ServiceOverloadedException.class);
+
+            interceptor.afterConcurrentHandlingStarted(request, response, graphQl);
+            assertThat(bulkheads.get(BulkheadPartition.READS).getActive()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not admit other router-function requests")
+        void shouldIgnoreUnmappedRoutes() throws Exception {
+            // Arrange
+            HandlerFunction<ServerResponse> other = request -> ServerResponse.ok().build();
+
+            // Act
+            boolean admitted = interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/other"), response, other);
+
+            // Assert
+            assertThat(admitted).isTrue();
+            assertThat(bulkheads.values()).allSatisfy(bulkhead -> assertThat(bulkhead.getActive()).isZero());
+        }
+    }
+
+    @Nested
+    @DisplayName("Isolation Tests")
+    class IsolationTests {
+
+        @Test
+        @DisplayName("Should keep writes admitted while the admin partition is full")
+        void shouldIsolatePartitions() throws Exception {
+            // Arrange
+            HandlerMethod admin = handler(new Endpoints(), "admin");
+            interceptor.preHandle(request("GET"), response, admin);
+
+            // Act & Assert
+            assertThatThrownBy(() -> interceptor.preHandle(request("GET"), response, admin))
+                    .isInstanceOf(ServiceOverloadedException.class);
+            assertThat(interceptor.preHandle(request("POST"), response, handler(new Endpoints(), "plain"))).isTrue();
+            assertThat(calls(BulkheadPartition.ADMIN, "rejected")).isEqualTo(1);
+            assertThat(calls(BulkheadPartition.WRITES, "permitted")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should keep admin requests admitted while imports fill their partition")
+        void shouldIsolateImportsFromAdmin() throws Exception {
+            // Arrange
+            HandlerMethod importWorkouts = handler(new Endpoints(), "importWorkouts");
+            interceptor.preHandle(request("POST"), response, importWorkouts);
+
+            // Act & Assert
+            assertThatThrownBy(() -> interceptor.preHandle(request("POST"), response, importWorkouts))
+                    .isInstanceOf(ServiceOverloadedException.class);
+            assertThat(interceptor.preHandle(request("GET"), response, handler(new Endpoints(), "admin"))).isTrue();
+            assertThat(calls(BulkheadPartition.IMPORTS, "rejected")).isEqualTo(1);
+            assertThat(calls(BulkheadPartition.ADMIN, "permitted")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should release the permit on completion and when the request goes asynchronous")
+        void shouldReleasePermit() throws Exception {
+            // Arrange
+            HandlerMethod plain = handler(new Endpoints(), "plain");
+            MockHttpServletRequest completed = request("GET");
+            MockHttpServletRequest streaming = request("GET");
+
+            // Act & Assert
+            interceptor.preHandle(completed, response, plain);
+            interceptor.afterCompletion(completed, response, plain, null);
+            interceptor.afterCompletion(completed, response, plain, null);
+            assertThat(bulkheads.get(BulkheadPartition.READS).getActive()).isZero();
+
+            interceptor.preHandle(streaming, response, plain);
+            interceptor.afterConcurrentHandlingStarted(streaming, response, plain);
+            assertThat(bulkheads.get(BulkheadPartition.READS).getActive()).isZero();
+
+            streaming.setDispatcherType(DispatcherType.ASYNC);
+            assertThat(interceptor.preHandle(streaming, response, plain)).isTrue();
+            assertThat(bulkheads.get(BulkheadPartition.READS).getActive()).isZero();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.workoutplanner.workoutplanner.service.bulkhead;
+
+import com.workoutplanner.workoutplanner.enums.BulkheadPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PartitionBulkhead.
+ * Tests the concurrency limit, the wait queue and its timeout.
+ */
+@DisplayName("PartitionBulkhead Unit Tests")
+class PartitionBulkheadTest {
+
+    @Test
+    @DisplayName("Should reject immediately when the partition and its queue are full")
+    void shouldRejectWhenQueueFull() {
+        // Arrange
+        PartitionBulkhead bulkhead = new PartitionBulkhead(BulkheadPartition.ADMIN, 2, 0, Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isTrue();
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getSaturation()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should reject a queued request after the maximum wait")
+    void shouldTimeOutQueuedRequest() {
+        // Arrange
+        PartitionBulkhead bulkhead = new PartitionBulkhead(BulkheadPartition.READS, 1, 1, Duration.ofMillis(20));
+        bulkhead.tryAcquire();
+
+        // Act & Assert
+        assertThat(bulkhead.tryAcquire()).isFalse();
+        assertThat(bulkhead.getQueued()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should admit a queued request once a permit is released")
+    void shouldAdmitQueuedRequestOnRelease() throws Exception {
+        // Arrange
+        PartitionBulkhead bulkhead = new PartitionBulkhead(BulkheadPartition.WRITES, 1, 1, Duration.ofSeconds(5));
+        bulkhead.tryAcquire();
+
+        // Act
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        while (bulkhead.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        bulkhead.release();
+
+        // Assert
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.getActive()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid limits")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new PartitionBulkhead(BulkheadPartition.READS, 0, 1, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.workoutplanner.workoutplanner.exception.BusinessLogicException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CsvImportRecordReader.
+ */
+@DisplayName("CsvImportRecordReader Unit Tests")
+class CsvImportRecordReaderTest {
+
+    private static final String HEADER = "sessionKey,sessionName,startedAt,exerciseId,exerciseOrder,setNumber,reps,weight,notes\n";
+
+    private CsvImportRecordReader reader(String content) {
+        return new CsvImportRecordReader(new StringReader(content));
+    }
+
+    @Nested
+    @DisplayName("Record parsing")
+    class RecordParsingTests {
+
+        @Test
+        @DisplayName("Should map fields to header columns and blank values to null")
+        void shouldMapFieldsToHeaderColumns() throws IOException {
+            CsvImportRecordReader reader = reader(HEADER + "s1,Push Day,2024-01-05T10:00,1,1,1,10,80.5,\n");
+
+            ImportRecord record = reader.next();
+
+            assertThat(record.isMalformed()).isFalse();
+            assertThat(record.lineNumber()).isEqualTo(2);
+            assertThat(record.values())
+                    .containsEntry("sessionKey", "s1")
+                    .containsEntry("weight", "80.5")
+                    .containsEntry("notes", null);
+            assertThat(reader.next()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should handle quoted fields with commas, escaped quotes and line breaks")
+        void shouldHandleQuotedFields() throws IOException {
+            CsvImportRecordReader reader = reader(HEADER
+                    + "s1,\"Legs, heavy\",2024-01-05,1,1,1,5,100,\"felt \"\"great\"\"\nnew PR\"\r\n"
+                    + "s1,Legs,2024-01-05,1,1,2,5,100,\n");
+
+            ImportRecord first = reader.next();
+            ImportRecord second = reader.next();
+
+            assertThat(first.values())
+                    .containsEntry("sessionName", "Legs, heavy")
+                    .containsEntry("notes", "felt \"great\"\nnew PR");
+            assertThat(second.lineNumber()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should skip blank lines")
+        void shouldSkipBlankLines() throws IOException {
+            CsvImportRecordReader reader = reader(HEADER + "\n\ns1,Push,2024-01-05,1,1,1,10,80,\n");
+
+            ImportRecord record = reader.next();
+
+            assertThat(record.lineNumber()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should report column count mismatch as malformed record and continue")
+        void shouldReportColumnCountMismatch() throws IOException {
+            CsvImportRecordReader reader = reader(HEADER + "s1,Push\ns1,Push,2024-01-05,1,1,1,10,80,\n");
+
+            ImportRecord malformed = reader.next();
+            ImportRecord valid = reader.next();
+
+            assertThat(malformed.isMalformed()).isTrue();
+            assertThat(malformed.parseError()).contains("Expected 9 columns but found 2");
+            assertThat(valid.isMalformed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should reject records longer than the maximum length")
+        void shouldRejectOversizedRecords() throws IOException {
+            String longNotes = "x".repeat(ImportRecordReader.MAX_RECORD_LENGTH);
+            CsvImportRecordReader reader = reader(HEADER + "s1,Push,2024-01-05,1,1,1,10,80," + longNotes + "\n"
+                    + "s1,Push,2024-01-05,1,1,2,10,80,\n");
+
+            ImportRecord oversized = reader.next();
+            ImportRecord next = reader.next();
+
+            assertThat(oversized.isMalformed()).isTrue();
+            assertThat(next.lineNumber()).isEqualTo(3);
+            assertThat(next.values()).containsEntry("setNumber", "2");
+        }
+    }
+
+    @Nested
+    @DisplayName("Header validation")
+    class HeaderValidationTests {
+
+        @Test
+        @DisplayName("Should reject unknown columns")
+        void shouldRejectUnknownColumns() {
+            CsvImportRecordReader reader = reader("sessionKey,sessionName,startedAt,exerciseId,exerciseOrder,setNumber,weigth\n");
+
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(BusinessLogicException.class)
+                    .hasMessageContaining("Unknown CSV column 'weigth'");
+        }
+
+        @Test
+        @DisplayName("Should reject header missing required columns")
+        void shouldRejectMissingRequiredColumns() {
+            CsvImportRecordReader reader = reader("sessionKey,sessionName,startedAt,exerciseId,setNumber\n");
+
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(BusinessLogicException.class)
+                    .hasMessageContaining("exerciseOrder");
+        }
+
+        @Test
+        @DisplayName("Should reject empty file")
+        void shouldRejectEmptyFile() {
+            assertThatThrownBy(() -> reader("").next())
+                    .isInstanceOf(BusinessLogicException.class)
+                    .hasMessageContaining("empty");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.workoutplanner.workoutplanner.service.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workoutplanner.workoutplanner.enums.ExerciseType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WorkoutImportRowValidator and NdjsonImportRecordReader.
+ */
+@DisplayName("WorkoutImportRowValidator Unit Tests")
+class WorkoutImportRowValidatorTest {
+
+    private static final long STRENGTH_EXERCISE = 1L;
+    private static final long CARDIO_EXERCISE = 2L;
+    private static final long FLEXIBILITY_EXERCISE = 3L;
+
+    private WorkoutImportRowValidator validator;
+    private List<String> errors;
+
+    @BeforeEach
+    void setUp() {
+        validator = new WorkoutImportRowValidator(Map.of(
+                STRENGTH_EXERCISE, ExerciseType.STRENGTH,
+                CARDIO_EXERCISE, ExerciseType.CARDIO,
+                FLEXIBILITY_EXERCISE, ExerciseType.FLEXIBILITY),
+                LocalDateTime.of(2025, 1, 1, 0, 0));
+        errors = new ArrayList<>();
+    }
+
+    private Map<String, String> baseValues(long exerciseId) {
+        Map<String, String> values = new HashMap<>();
+        values.put(ImportColumns.SESSION_KEY, "2024-03-01-push");
+        values.put(ImportColumns.SESSION_NAME, "Push Day");
+        values.put(ImportColumns.STARTED_AT, "2024-03-01T18:00:00");
+        values.put(ImportColumns.EXERCISE_ID, Long.toString(exerciseId));
+        values.put(ImportColumns.EXERCISE_ORDER, "1");
+        values.put(ImportColumns.SET_NUMBER, "1");
+        return values;
+    }
+
+    @Nested
+    @DisplayName("Valid rows")
+    class ValidRowTests {
+
+        @Test
+        @DisplayName("Should convert strength row and default completed to true")
+        void shouldConvertStrengthRow() {
+            Map<String, String> values = baseValues(STRENGTH_EXERCISE);
+            values.put(ImportColumns.REPS, "8");
+            values.put(ImportColumns.WEIGHT, "102.5");
+
+            WorkoutImportRow row = validator.validate(new ImportRecord(7, values, null), errors);
+
+            assertThat(errors).isEmpty();
+            assertThat(row.lineNumber()).isEqualTo(7);
+            assertThat(row.exerciseType()).isEqualTo(ExerciseType.STRENGTH);
+            assertThat(row.reps()).isEqualTo(8);
+            assertThat(row.weight()).isEqualByComparingTo(new BigDecimal("102.5"));
+            assertThat(row.completed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should accept date-only startedAt and optional cardio distance")
+        void shouldConvertCardioRowWithDateOnly() {
+            Map<String, String> values = baseValues(CARDIO_EXERCISE);
+            values.put(ImportColumns.STARTED_AT, "2024-03-01");
+            values.put(ImportColumns.DURATION_IN_SECONDS, "1800");
+
+            WorkoutImportRow row = validator.validate(new ImportRecord(2, values, null), errors);
+
+            assertThat(errors).isEmpty();
+            assertThat(row.startedAt()).isEqualTo(LocalDateTime.of(2024, 3, 1, 0, 0));
+            assertThat(row.distance()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalid rows")
+    class InvalidRowTests {
+
+        @Test
+        @DisplayName("Should report every violation in the row")
+        void shouldReportAllViolations() {
+            Map<String, String> values = baseValues(FLEXIBILITY_EXERCISE);
+            values.put(ImportColumns.SET_NUMBER, "51");
+            values.put(ImportColumns.DURATION_IN_SECONDS, "abc");
+            values.put(ImportColumns.INTENSITY, "11");
+
+            WorkoutImportRow row = validator.validate(new ImportRecord(3, values, null), errors);
+
+            assertThat(row).isNull();
+            assertThat(errors).containsExactlyInAnyOrder(
+                    "setNumber must be between 1 and 50",
+                    "durationInSeconds must be a whole number",
+                    "stretchType is required",
+                    "intensity must be between 1 and 10");
+        }
+
+        @Test
+        @DisplayName("Should reject unknown exercise")
+        void shouldRejectUnknownExercise() {
+            WorkoutImportRow row = validator.validate(new ImportRecord(2, baseValues(99L), null), errors);
+
+            assertThat(row).isNull();
+            assertThat(errors).containsExactly("exerciseId 99 does not exist");
+        }
+
+        @Test
+        @DisplayName("Should reject sessions in the future or completed before start")
+        void shouldRejectInvalidDates() {
+            Map<String, String> values = baseValues(CARDIO_EXERCISE);
+            values.put(ImportColumns.STARTED_AT, "2030-01-01T10:00");
+            values.put(ImportColumns.COMPLETED_AT, "2029-12-31T10:00");
+            values.put(ImportColumns.DURATION_IN_SECONDS, "60");
+
+            validator.validate(new ImportRecord(2, values, null), errors);
+
+            assertThat(errors).containsExactlyInAnyOrder(
+                    "startedAt cannot be in the future",
+                    "completedAt cannot be before startedAt");
+        }
+
+        @Test
+        @DisplayName("Should reject strength weight that does not fit the column")
+        void shouldRejectOutOfRangeWeight() {
+            Map<String, String> values = baseValues(STRENGTH_EXERCISE);
+            values.put(ImportColumns.REPS, "1");
+            values.put(ImportColumns.WEIGHT, "1000");
+
+            validator.validate(new ImportRecord(2, values, null), errors);
+
+            assertThat(errors).containsExactly("weight must be positive and at most 999.99");
+        }
+
+        @Test
+        @DisplayName("Should pass through parse errors of malformed records")
+        void shouldReportMalformedRecord() {
+            WorkoutImportRow row = validator.validate(ImportRecord.malformed(5, "Unterminated quoted field"), errors);
+
+            assertThat(row).isNull();
+            assertThat(errors).containsExactly("Unterminated quoted field");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON input")
+    class NdjsonInputTests {
+
+        @Test
+        @DisplayName("Should read objects line by line and report invalid JSON per line")
+        void shouldReadNdjson() throws IOException {
+            String content = """
+                    {"sessionKey":"s1","sessionName":"Run","startedAt":"2024-03-01","exerciseId":2,"exerciseOrder":1,"setNumber":1,"durationInSeconds":1200,"distance":5.2}
+                    {"sessionKey":
+                    
+                    [1,2]
+                    """;
+            NdjsonImportRecordReader reader = new NdjsonImportRecordReader(new StringReader(content), new ObjectMapper());
+
+            ImportRecord valid = reader.next();
+            ImportRecord invalidJson = reader.next();
+            ImportRecord notObject = reader.next();
+
+            WorkoutImportRow row = validator.validate(valid, errors);
+            assertThat(errors).isEmpty();
+            assertThat(row.distance()).isEqualByComparingTo(new BigDecimal("5.2"));
+            assertThat(invalidJson.lineNumber()).isEqualTo(2);
+            assertThat(invalidJson.parseError()).startsWith("Invalid JSON");
+            assertThat(notObject.lineNumber()).isEqualTo(4);
+            assertThat(notObject.parseError()).isEqualTo("Expected a JSON object");
+            assertThat(reader.next()).isNull();
+        }
+    }
+}
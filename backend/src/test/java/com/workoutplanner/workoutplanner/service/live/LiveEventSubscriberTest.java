@@ -0,0 +1,147 @@
+package com.workoutplanner.workoutplanner.service.live;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for LiveEventSubscriber.
+ * Tests ordering, overflow coalescing and shutdown of the per-connection buffer.
+ */
+@DisplayName("LiveEventSubscriber Unit Tests")
+class LiveEventSubscriberTest {
+
+    private final List<String> sent = new ArrayList<>();
+    private final Queue<Runnable> pendingTasks = new ArrayDeque<>();
+    private final AtomicInteger closeCount = new AtomicInteger();
+    private boolean completed;
+    private boolean failing;
+
+    private LiveEventSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        LiveEventSink sink = new LiveEventSink() {
+            @Override
+            public void send(LiveEvent event) throws IOException {
+                if (failing) {
+                    throw new IOException("Broken pipe");
+                }
+                sent.add(event.isHeartbeat() ? "heartbeat" : event.name());
+            }
+
+            @Override
+            public void complete() {
+                completed = true;
+            }
+        };
+        subscriber = new LiveEventSubscriber(sink, pendingTasks::add, 3,
+                () -> new LiveEvent(99, "resync", null), closed -> closeCount.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("Should deliver events in order with a single drain task")
+    void shouldDeliverInOrder() {
+        subscriber.offer(event(1, "a"));
+        subscriber.offer(event(2, "b"));
+        subscriber.offer(event(3, "c"));
+
+        assertThat(pendingTasks).hasSize(1);
+        runPendingTasks();
+
+        assertThat(sent).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("Should coalesce buffered events into one resync on overflow")
+    void shouldCoalesceOnOverflow() {
+        for (int i = 1; i <= 10; i++) {
+            subscriber.offer(event(i, "e" + i));
+        }
+
+        runPendingTasks();
+        subscriber.offer(event(11, "after"));
+        runPendingTasks();
+
+        assertThat(sent).containsExactly("resync", "after");
+    }
+
+    @Test
+    @DisplayName("Should complete after sending what is already buffered")
+    void shouldCompleteAfterDrain() {
+        subscriber.offer(event(1, "status-changed"));
+        subscriber.completeAfterDrain();
+
+        runPendingTasks();
+
+        assertThat(sent).containsExactly("status-changed");
+        assertThat(completed).isTrue();
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(subscriber.offer(event(2, "late"))).isFalse();
+        assertThat(closeCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should close when the client has gone away")
+    void shouldCloseOnSendFailure() {
+        failing = true;
+        subscriber.offer(event(1, "a"));
+
+        runPendingTasks();
+
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(closeCount).hasValue(1);
+        assertThat(completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only send heartbeats when idle and retry after executor rejection")
+    void shouldHeartbeatWhenIdle() {
+        LiveEventSubscriber rejecting = new LiveEventSubscriber(new LiveEventSink() {
+            @Override
+            public void send(LiveEvent event) {
+                sent.add(event.isHeartbeat() ? "heartbeat" : event.name());
+            }
+
+            @Override
+            public void complete() {
+            }
+        }, task -> {
+            if (pendingTasks.isEmpty() && sent.isEmpty() && closeCount.getAndIncrement() == 0) {
+                throw new RejectedExecutionException("saturated");
+            }
+            pendingTasks.add(task);
+        }, 3, () -> new LiveEvent(99, "resync", null), closed -> { });
+
+        rejecting.offer(event(1, "a"));
+        assertThat(pendingTasks).isEmpty();
+
+        rejecting.heartbeat();
+        runPendingTasks();
+        rejecting.heartbeat();
+        runPendingTasks();
+
+        assertThat(sent).containsExactly("a", "heartbeat");
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static LiveEvent event(long id, String name) {
+        return new LiveEvent(id, name, null);
+    }
+}
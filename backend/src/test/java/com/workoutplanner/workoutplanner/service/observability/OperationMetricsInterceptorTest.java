@@ -0,0 +1,99 @@
+package com.workoutplanner.workoutplanner.service.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for OperationMetricsInterceptor.
+ * Tests timer tags per layer, operation and outcome.
+ */
+@DisplayName("OperationMetricsInterceptor Unit Tests")
+class OperationMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SampleService service;
+
+    @Instrumented(Instrumented.SERVICE)
+    public static class SampleService {
+
+        public String load(long id) {
+            if (id < 0) {
+                throw new IllegalArgumentException("negative id");
+            }
+            return "workout-" + id;
+        }
+
+        @Instrumented(Instrumented.MAPPING)
+        public String map(String value) {
+            return value.toUpperCase();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ProxyFactory proxyFactory = new ProxyFactory(new SampleService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new OperationMetricsInterceptor(() -> meterRegistry,
+                new Duration[]{Duration.ofMillis(10), Duration.ofMillis(100)}, new double[]{0.99}, Duration.ofSeconds(1)));
+        service = (SampleService) proxyFactory.getProxy();
+    }
+
+    private Timer timer(String layer, String operation, String outcome) {
+        return meterRegistry.get("app.operation")
+                .tag("layer", layer)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("Should time successful operations with the class layer")
+    void shouldTimeSuccessfulOperations() {
+        // Act
+        service.load(1);
+        service.load(2);
+
+        // Assert
+        Timer timer = timer(Instrumented.SERVICE, "SampleService.load", "success");
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.getId().getTag("exception")).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("Should time failed operations with the exception type and rethrow")
+    void shouldTimeFailedOperations() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.load(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(timer(Instrumented.SERVICE, "SampleService.load", "error").getId().getTag("exception"))
+                .isEqualTo("IllegalArgumentException");
+    }
+
+    @Test
+    @DisplayName("Should prefer the method layer over the class layer")
+    void shouldPreferMethodLayer() {
+        // Act
+        service.map("squat");
+
+        // Assert
+        assertThat(timer(Instrumented.MAPPING, "SampleService.map", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not time methods inherited from Object")
+    void shouldSkipObjectMethods() {
+        // Act
+        service.toString();
+
+        // Assert
+        assertThat(meterRegistry.find("app.operation").timers()).isEmpty();
+    }
+}
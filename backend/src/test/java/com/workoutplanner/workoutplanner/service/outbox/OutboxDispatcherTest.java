@@ -0,0 +1,127 @@
+package com.workoutplanner.workoutplanner.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workoutplanner.workoutplanner.enums.WorkoutStatus;
+import com.workoutplanner.workoutplanner.event.DomainEvent;
+import com.workoutplanner.workoutplanner.event.WorkoutStatusChangedEvent;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository;
+import com.workoutplanner.workoutplanner.repository.OutboxEventRepository.PendingOutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxDispatcher.
+ * Tests delivery to consumers, retry with backoff and giving up on poison events.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher Unit Tests")
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<DomainEvent> consumed = new ArrayList<>();
+    private boolean consumerFailing;
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        DomainEventConsumer<WorkoutStatusChangedEvent> consumer = new DomainEventConsumer<>() {
+            @Override
+            public Class<WorkoutStatusChangedEvent> eventType() {
+                return WorkoutStatusChangedEvent.class;
+            }
+
+            @Override
+            public void consume(WorkoutStatusChangedEvent event) {
+                if (consumerFailing) {
+                    throw new IllegalStateException("consumer down");
+                }
+                consumed.add(event);
+            }
+        };
+        outboxDispatcher = new OutboxDispatcher(outboxEventRepository, new DomainEventConsumerRegistry(List.of(consumer)),
+                objectMapper, meterRegistry, transactionManager, 100, 10, 3, Duration.ofSeconds(10), Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("Should deliver claimed events and mark them processed")
+    void shouldDeliverAndMarkProcessed() throws Exception {
+        // Arrange
+        WorkoutStatusChangedEvent event = new WorkoutStatusChangedEvent(1L, 2L, WorkoutStatus.PLANNED,
+                WorkoutStatus.IN_PROGRESS, Instant.parse("2024-03-01T18:00:00Z"));
+        when(outboxEventRepository.claimPending(any(LocalDateTime.class), eq(100)))
+                .thenReturn(List.of(pending(7L, objectMapper.writeValueAsString(event), 0)));
+
+        // Act
+        int claimed = outboxDispatcher.dispatchBatch();
+
+        // Assert
+        assertThat(claimed).isEqualTo(1);
+        assertThat(consumed).containsExactly(event);
+        verify(outboxEventRepository).markProcessed(eq(List.of(7L)), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("outbox.events.dispatched").tag("outcome", "success").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should schedule a retry with backoff when a consumer fails")
+    void shouldRetryFailedEvent() throws Exception {
+        // Arrange
+        consumerFailing = true;
+        String payload = objectMapper.writeValueAsString(new WorkoutStatusChangedEvent(1L, 2L,
+                WorkoutStatus.IN_PROGRESS, WorkoutStatus.COMPLETED, Instant.now()));
+        when(outboxEventRepository.claimPending(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(pending(7L, payload, 1)));
+
+        // Act
+        outboxDispatcher.dispatchBatch();
+
+        // Assert
+        verify(outboxEventRepository).markRetry(eq(7L), eq(2), argThat(availableAt ->
+                availableAt.isAfter(LocalDateTime.now().plusSeconds(15))), contains("consumer down"));
+        verify(outboxEventRepository).markProcessed(eq(List.of()), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should give up on an event after the maximum attempts without blocking the batch")
+    void shouldGiveUpAfterMaxAttempts() {
+        // Arrange
+        when(outboxEventRepository.claimPending(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(pending(7L, "{not json", 2)));
+
+        // Act
+        outboxDispatcher.dispatchBatch();
+
+        // Assert
+        verify(outboxEventRepository).markFailed(eq(7L), eq(3), any(LocalDateTime.class), contains("Unreadable"));
+        verify(outboxEventRepository, never()).markRetry(anyLong(), anyInt(), any(), any());
+    }
+
+    private static PendingOutboxEvent pending(long id, String payload, int attempts) {
+        return new PendingOutboxEvent(id, "WorkoutStatusChangedEvent", payload, LocalDateTime.now().minusSeconds(2),
+                attempts);
+    }
+}
@@ -0,0 +1,166 @@
+package com.workoutplanner.workoutplanner.service.profiling;
+
+import com.workoutplanner.workoutplanner.exception.ResourceConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for FlightRecorderService, recording into a temporary dump directory.
+ */
+@DisplayName("FlightRecorderService Unit Tests")
+class FlightRecorderServiceTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecorderService service;
+
+    private FlightRecorderService service(boolean continuous, int maxFiles, Duration cooldown) throws Exception {
+        service = new FlightRecorderService(dumpDirectory, Duration.ofMinutes(1), maxFiles, continuous,
+                Duration.ofMinutes(1), DataSize.ofMegabytes(16), Duration.ofMillis(100), Duration.ofSeconds(2), cooldown);
+        service.startContinuousRecording();
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.closeRecordings();
+        }
+    }
+
+    @Nested
+    @DisplayName("On-demand recordings")
+    class OnDemandRecordings {
+
+        @Test
+        @DisplayName("Should write a stopped recording to the dump directory")
+        void shouldWriteStoppedRecording() throws Exception {
+            // Arrange
+            FlightRecorderService recorder = service(false, 20, Duration.ofMinutes(10));
+            recorder.start("investigation", "default", Duration.ofMinutes(5));
+
+            // Act
+            FlightRecorderService.RecordingInfo stopped = recorder.stop("investigation");
+
+            // Assert
+            assertThat(stopped.file()).isEqualTo(dumpDirectory.resolve("investigation.jfr").toString());
+            assertThat(Files.size(dumpDirectory.resolve("investigation.jfr"))).isPositive();
+            assertThat(recorder.recordings()).isEmpty();
+            assertThat(recorder.dump("investigation")).isEqualTo(dumpDirectory.resolve("investigation.jfr"));
+        }
+
+        @Test
+        @DisplayName("Should record statements only while an on-demand recording runs")
+        void shouldEnableQueryEventsOnDemand() throws Exception {
+            // Arrange
+            FlightRecorderService recorder = service(true, 20, Duration.ofMinutes(10));
+            assertThat(QueryEvent.isRecording()).isFalse();
+
+            // Act
+            recorder.start("investigation", "default", null);
+            boolean recordingWhileStarted = QueryEvent.isRecording();
+            recorder.stop("investigation");
+
+            // Assert
+            assertThat(recordingWhileStarted).isTrue();
+            assertThat(QueryEvent.isRecording()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should cap the duration at the configured maximum")
+        void shouldCapDuration() throws Exception {
+            // Act
+            FlightRecorderService.RecordingInfo started =
+                    service(false, 20, Duration.ofMinutes(10)).start("long", "profile", Duration.ofHours(2));
+
+            // Assert
+            assertThat(started.maxDuration()).isEqualTo(Duration.ofMinutes(1));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid names, unknown settings and duplicates")
+        void shouldRejectInvalidRequests() throws Exception {
+            // Arrange
+            FlightRecorderService recorder = service(false, 20, Duration.ofMinutes(10));
+            recorder.start("busy", "default", null);
+
+            // Act & Assert
+            assertThatThrownBy(() -> recorder.start("../etc", "default", null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> recorder.start(FlightRecorderService.CONTINUOUS, "default", null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> recorder.start("other", "no-such-settings", null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> recorder.start("busy", "default", null))
+                    .isInstanceOf(ResourceConflictException.class);
+            assertThat(recorder.dump("../busy.jfr")).isNull();
+            assertThat(recorder.stop("unknown")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Continuous recording")
+    class ContinuousRecording {
+
+        @Test
+        @DisplayName("Should dump the continuous recording on demand")
+        void shouldDumpContinuousRecording() throws Exception {
+            // Act
+            Path file = service(true, 20, Duration.ofMinutes(10)).dump(FlightRecorderService.CONTINUOUS);
+
+            // Assert
+            assertThat(file.getParent()).isEqualTo(dumpDirectory);
+            assertThat(file.getFileName().toString()).startsWith("continuous-").endsWith(".jfr");
+            assertThat(Files.size(file)).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should dump once per cooldown on SLO breaches")
+        void shouldDumpOncePerCooldown() throws Exception {
+            // Arrange
+            FlightRecorderService recorder = service(true, 20, Duration.ofMinutes(10));
+
+            // Act
+            recorder.onRequestCompleted("GET /api/v1/workouts/my", Duration.ofMillis(100).toNanos());
+            recorder.dumpOnSloBreach();
+            assertThat(recorder.files()).isEmpty();
+
+            recorder.onRequestCompleted("GET /api/v1/workouts/my", Duration.ofSeconds(3).toNanos());
+            recorder.onRequestCompleted("GET /api/v1/workouts/my", Duration.ofSeconds(4).toNanos());
+            recorder.dumpOnSloBreach();
+            recorder.onRequestCompleted("GET /api/v1/workouts/my", Duration.ofSeconds(5).toNanos());
+            recorder.dumpOnSloBreach();
+
+            // Assert
+            assertThat(recorder.files()).singleElement()
+                    .satisfies(file -> assertThat(file.name()).startsWith("slo-breach-"));
+        }
+
+        @Test
+        @DisplayName("Should keep only the newest files")
+        void shouldPruneOldFiles() throws Exception {
+            // Arrange
+            FlightRecorderService recorder = service(true, 2, Duration.ZERO);
+
+            // Act
+            for (int i = 0; i < 4; i++) {
+                recorder.dump(FlightRecorderService.CONTINUOUS);
+                Thread.sleep(5);
+            }
+
+            // Assert
+            assertThat(recorder.files()).hasSize(2);
+        }
+    }
+}
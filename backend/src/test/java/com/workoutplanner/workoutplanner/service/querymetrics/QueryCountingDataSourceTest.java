@@ -0,0 +1,117 @@
+package com.workoutplanner.workoutplanner.service.querymetrics;
+
+import com.workoutplanner.workoutplanner.service.profiling.QueryEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for QueryCountingDataSource against an in-memory H2 database.
+ */
+@DisplayName("QueryCountingDataSource Unit Tests")
+class QueryCountingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(new QueryCountingDataSource(h2));
+        jdbcTemplate.execute("CREATE TABLE exercise (id INT PRIMARY KEY, name VARCHAR(50))");
+        jdbcTemplate.update("INSERT INTO exercise VALUES (1, 'Squat'), (2, 'Bench'), (3, 'Row')");
+    }
+
+    @Test
+    @DisplayName("Should count statements, fetched rows and statement shapes inside a scope")
+    void shouldCollectInsideScope() {
+        // Act
+        RequestQueryStatistics statistics;
+        try (RequestQueryStatistics.Scope scope = RequestQueryStatistics.open()) {
+            List<String> names = jdbcTemplate.queryForList("SELECT name FROM exercise ORDER BY id", String.class);
+            for (int id = 1; id <= 3; id++) {
+                jdbcTemplate.queryForObject("SELECT name FROM exercise\n  WHERE id = ?", String.class, id);
+            }
+            jdbcTemplate.update("UPDATE exercise SET name = ? WHERE id = ?", "Front Squat", 1);
+            statistics = scope.statistics();
+            assertThat(names).hasSize(3);
+        }
+
+        // Assert
+        assertThat(statistics.getStatements()).isEqualTo(5);
+        assertThat(statistics.getRows()).isEqualTo(6);
+        assertThat(statistics.getDatabaseTimeNanos()).isPositive();
+        assertThat(statistics.getShapes()).containsExactly(
+                entry("SELECT name FROM exercise ORDER BY id", 1),
+                entry("SELECT name FROM exercise WHERE id = ?", 3),
+                entry("UPDATE exercise SET name = ? WHERE id = ?", 1));
+    }
+
+    @Test
+    @DisplayName("Should not collect outside of a scope")
+    void shouldIgnoreOutsideScope() {
+        // Arrange
+        RequestQueryStatistics statistics;
+        try (RequestQueryStatistics.Scope scope = RequestQueryStatistics.open()) {
+            statistics = scope.statistics();
+        }
+
+        // Act
+        jdbcTemplate.queryForList("SELECT name FROM exercise", String.class);
+
+        // Assert
+        assertThat(statistics.getStatements()).isZero();
+        assertThat(RequestQueryStatistics.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should restore the outer scope when an inner scope closes")
+    void shouldRestoreOuterScope() {
+        try (RequestQueryStatistics.Scope outer = RequestQueryStatistics.open()) {
+            try (RequestQueryStatistics.Scope inner = RequestQueryStatistics.open()) {
+                jdbcTemplate.queryForList("SELECT name FROM exercise", String.class);
+                assertThat(inner.statistics().getStatements()).isEqualTo(1);
+            }
+            jdbcTemplate.queryForList("SELECT name FROM exercise", String.class);
+
+            assertThat(outer.statistics().getStatements()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should emit statements as flight recorder events while a recording is running")
+    void shouldEmitQueryEvents(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path file = directory.resolve("queries.jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(QueryEvent.NAME);
+            recording.start();
+
+            // Act
+            jdbcTemplate.queryForObject("SELECT name FROM exercise WHERE id = ?", String.class, 2);
+
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        // Assert
+        assertThat(events)
+                .filteredOn(event -> QueryEvent.NAME.equals(event.getEventType().getName()))
+                .extracting(event -> event.getString("sql"))
+                .contains("SELECT name FROM exercise WHERE id = ?");
+    }
+}
@@ -0,0 +1,92 @@
+package com.workoutplanner.workoutplanner.service.querymetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for RequestQueryMetrics.
+ */
+@DisplayName("RequestQueryMetrics Unit Tests")
+class RequestQueryMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestQueryMetrics queryMetrics = new RequestQueryMetrics(meterRegistry, 2, Duration.ofSeconds(1));
+
+    @SuppressWarnings("unused")
+    static class WorkoutEndpoints {
+
+        public void getWorkout() {
+        }
+    }
+
+    private static RequestQueryStatistics statistics(int statements) {
+        RequestQueryStatistics statistics;
+        try (RequestQueryStatistics.Scope scope = RequestQueryStatistics.open()) {
+            statistics = scope.statistics();
+        }
+        for (int i = 0; i < statements; i++) {
+            statistics.recordStatement("select * from workout_sessions where session_id = ?", 1_000_000);
+            statistics.recordRow();
+        }
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("Should record statements, rows and database time per controller method")
+    void shouldRecordPerHandler() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/workouts/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new WorkoutEndpoints(), WorkoutEndpoints.class.getMethod("getWorkout")));
+
+        // Act
+        queryMetrics.record(request, statistics(3));
+
+        // Assert
+        String handler = "WorkoutEndpoints#getWorkout";
+        assertThat(meterRegistry.get("db.statements.per.request").tag("handler", handler).summary().totalAmount())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("db.rows.per.request").tag("handler", handler).summary().totalAmount())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("db.time.per.request").tag("handler", handler).timer().totalTime(
+                TimeUnit.MILLISECONDS)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should record router-function requests such as GraphQL per path pattern")
+    void shouldRecordPerRoute() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/graphql");
+        HandlerFunction<ServerResponse> graphQl = serverRequest -> ServerResponse.ok().build();
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, graphQl);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/graphql");
+
+        // Act
+        queryMetrics.record(request, statistics(2));
+
+        // Assert
+        assertThat(meterRegistry.get("db.statements.per.request").tag("handler", "/api/v1/graphql").summary()
+                .totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip requests that did not reach a controller method")
+    void shouldSkipWithoutHandler() {
+        // Act
+        queryMetrics.record(new MockHttpServletRequest("GET", "/unknown"), statistics(1));
+
+        // Assert
+        assertThat(meterRegistry.find("db.statements.per.request").meters()).isEmpty();
+    }
+}
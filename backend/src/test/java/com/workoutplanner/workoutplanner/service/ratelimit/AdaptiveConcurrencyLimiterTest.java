@@ -0,0 +1,119 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ * Tests admission against the limit and how the limit follows request latency.
+ */
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long HEALTHY_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 2, 100, 0.2, 1.5, 600);
+    }
+
+    /**
+     * Runs {@code rounds} rounds that each fill the current limit and complete all requests with {@code rtt}.
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, int rounds, long rtt) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rtt);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Admission Tests")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Should reject requests beyond the limit until a permit is released")
+        void shouldRejectBeyondLimit() {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(3);
+
+            // Act & Assert
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isTrue();
+            assertThat(limiter.tryAcquire()).isFalse();
+            assertThat(limiter.getInFlight()).isEqualTo(3);
+
+            limiter.release(HEALTHY_RTT);
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject limits outside of 1 <= min <= max")
+        void shouldRejectInvalidBounds() {
+            assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(10, 0, 10, 0.2, 1.5, 600))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(10, 20, 10, 0.2, 1.5, 600))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptation Tests")
+    class AdaptationTests {
+
+        @Test
+        @DisplayName("Should grow the limit while latency stays healthy")
+        void shouldGrowWhileHealthy() {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+            // Act
+            saturate(limiter, 20, HEALTHY_RTT);
+
+            // Assert
+            assertThat(limiter.getLimit()).isGreaterThan(10);
+        }
+
+        @Test
+        @DisplayName("Should shrink the limit when latency rises and not below the minimum")
+        void shouldShrinkWhenLatencyRises() {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(20);
+            saturate(limiter, 5, HEALTHY_RTT);
+            int healthyLimit = limiter.getLimit();
+
+            // Act
+            saturate(limiter, 30, SLOW_RTT);
+
+            // Assert
+            assertThat(limiter.getLimit()).isLessThan(healthyLimit).isGreaterThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should not grow the limit while it is mostly unused")
+        void shouldNotGrowWhenUnused() {
+            // Arrange
+            AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+            // Act
+            for (int i = 0; i < 100; i++) {
+                limiter.tryAcquire();
+                limiter.release(HEALTHY_RTT);
+            }
+
+            // Assert
+            assertThat(limiter.getLimit()).isEqualTo(10);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import com.workoutplanner.workoutplanner.exception.RateLimitExceededException;
+import com.workoutplanner.workoutplanner.exception.ServiceOverloadedException;
+import com.workoutplanner.workoutplanner.service.RateLimitSecurityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CostWeightedRateLimitInterceptor.
+ * Tests cost-weighted budgets per caller and load shedding by the concurrency limit.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CostWeightedRateLimitInterceptor Unit Tests")
+class CostWeightedRateLimitInterceptorTest {
+
+    private static final long CAPACITY = 30;
+    private static final String GRAPHQL_PATH = "/api/v1/graphql";
+
+    @Mock
+    private RateLimitSecurityService securityService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private CostWeightedRateLimitInterceptor interceptor;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(2, 1, 2, 0.2, 1.5, 600);
+        interceptor = new CostWeightedRateLimitInterceptor(
+                securityService, limiter, Map.of(GRAPHQL_PATH, 10), CAPACITY, Duration.ofMinutes(1), 1000,
+                meterRegistry);
+    }
+
+    @SuppressWarnings("unused")
+    static class Endpoints {
+
+        @RateLimitCost(20)
+        public void expensive() {
+        }
+
+        @RateLimitCost(1)
+        public void cheap() {
+        }
+
+        public void unweighted() {
+        }
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(method));
+    }
+
+    private void authenticateAs(String username) {
+        when(securityService.isAuthenticated()).thenReturn(true);
+        when(securityService.getUsername()).thenReturn(username);
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("rate.limit.cost.requests").tag("outcome", outcome).counter().count();
+    }
+
+    private void complete(MockHttpServletRequest request, HandlerMethod handler) {
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    @Nested
+    @DisplayName("Cost Budget Tests")
+    class CostBudgetTests {
+
+        @Test
+        @DisplayName("Should charge the declared cost against the caller's budget")
+        void shouldChargeDeclaredCost() throws Exception {
+            // Arrange
+            authenticateAs("alice");
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            // Act
+            assertThat(interceptor.preHandle(request, response, handler("expensive"))).isTrue();
+            complete(request, handler("expensive"));
+            for (int i = 0; i < 10; i++) {
+                assertThat(interceptor.preHandle(request, response, handler("cheap"))).isTrue();
+                complete(request, handler("cheap"));
+            }
+
+            // Assert
+            assertThatThrownBy(() -> interceptor.preHandle(request, response, handler("cheap")))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .satisfies(ex -> assertThat(((RateLimitExceededException) ex).getRetryAfterSeconds()).isPositive());
+            assertThat(outcome("allowed")).isEqualTo(11);
+            assertThat(outcome("throttled")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should keep separate budgets per caller")
+        void shouldKeepBudgetsPerCaller() throws Exception {
+            // Arrange
+            when(securityService.isAuthenticated()).thenReturn(true);
+            when(securityService.getUsername()).thenReturn("alice", "bob");
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            // Act & Assert
+            assertThat(interceptor.preHandle(request, response, handler("expensive"))).isTrue();
+            complete(request, handler("expensive"));
+            assertThat(interceptor.preHandle(request, response, handler("expensive"))).isTrue();
+            complete(request, handler("expensive"));
+        }
+
+        @Test
+        @DisplayName("Should charge GraphQL requests their configured cost once and hold a permit until completion")
+        void shouldChargeGraphQlRequests() throws Exception {
+            // Arrange
+            authenticateAs("alice");
+            HandlerFunction<ServerResponse> graphQl = request -> ServerResponse.ok().build();
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", GRAPHQL_PATH);
+
+            // Act
+            assertThat(interceptor.preHandle(request, response, graphQl)).isTrue();
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+            request.setDispatcherType(DispatcherType.ASYNC);
+            assertThat(interceptor.preHandle(request, response, graphQl)).isTrue();
+            interceptor.afterCompletion(request, response, graphQl, null);
+            for (int i = 0; i < 2; i++) {
+                MockHttpServletRequest next = new MockHttpServletRequest("POST", GRAPHQL_PATH);
+                assertThat(interceptor.preHandle(next, response, graphQl)).isTrue();
+                interceptor.afterCompletion(next, response, graphQl, null);
+            }
+
+            // Assert
+            assertThat(limiter.getInFlight()).isZero();
+            assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest("POST", GRAPHQL_PATH),
+                    response, graphQl))
+                    .isInstanceOf(RateLimitExceededException.class);
+            assertThat(outcome("allowed")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should leave endpoints without a cost untouched")
+        void shouldIgnoreUnweightedEndpoints() throws Exception {
+            // Arrange
+            MockHttpServletRequest request = new MockHttpServletRequest();
+
+            // Act
+            for (int i = 0; i < 100; i++) {
+                assertThat(interceptor.preHandle(request, response, handler("unweighted"))).isTrue();
+            }
+
+            // Assert
+            verifyNoInteractions(securityService);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Load Shedding Tests")
+    class LoadSheddingTests {
+
+        @Test
+        @DisplayName("Should shed requests beyond the concurrency limit and admit again after completion")
+        void shouldShedBeyondConcurrencyLimit() throws Exception {
+            // Arrange
+            when(securityService.isAuthenticated()).thenReturn(false);
+            MockHttpServletRequest first = new MockHttpServletRequest();
+            MockHttpServletRequest second = new MockHttpServletRequest();
+            interceptor.preHandle(first, response, handler("cheap"));
+            interceptor.preHandle(second, response, handler("cheap"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("cheap")))
+                    .isInstanceOf(ServiceOverloadedException.class);
+            assertThat(outcome("shed")).isEqualTo(1);
+
+            complete(first, handler("cheap"));
+            complete(first, handler("cheap"));
+            assertThat(limiter.getInFlight()).isEqualTo(1);
+            assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handler("cheap"))).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should refund the cost of shed requests")
+        void shouldRefundShedRequests() throws Exception {
+            // Arrange - both permits held, so every further request is shed
+            authenticateAs("alice");
+            interceptor.preHandle(new MockHttpServletRequest(), response, handler("cheap"));
+            interceptor.preHandle(new MockHttpServletRequest(), response, handler("cheap"));
+
+            // Act - shed retries would exhaust the budget if they were charged
+            for (int i = 0; i < 5; i++) {
+                assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("expensive")))
+                        .isInstanceOf(ServiceOverloadedException.class);
+            }
+
+            // Assert
+            assertThat(outcome("shed")).isEqualTo(5);
+            assertThat(outcome("throttled")).isZero();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import com.giffing.bucket4j.spring.boot.starter.config.cache.ProxyManagerWrapper;
+import com.giffing.bucket4j.spring.boot.starter.context.metrics.MetricBucketListener;
+import com.workoutplanner.workoutplanner.config.AbstractIntegrationTest;
+import com.workoutplanner.workoutplanner.entity.RateLimitBucket;
+import com.workoutplanner.workoutplanner.repository.RateLimitBucketRepository;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.jdbc.BucketTableSettings;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.distributed.jdbc.SQLProxyConfiguration;
+import io.github.bucket4j.postgresql.PostgreSQLSelectForUpdateBasedProxyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for NearCachedBucketResolver over the PostgreSQL bucket store.
+ *
+ * Each resolver stands for one application instance; all of them share the
+ * {@code rate_limit_buckets} table of the Testcontainers database.
+ */
+@DisplayName("NearCachedBucketResolver Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Bucket4j manages its own transactions
+class NearCachedBucketResolverIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String CACHE_NAME = "rate-limit-buckets";
+    private static final String CLIENT_IP = "203.0.113.7";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RateLimitBucketRepository rateLimitBucketRepository;
+
+    private RateLimitBucketRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets");
+        retention = new RateLimitBucketRetention(rateLimitBucketRepository, Duration.ofDays(1));
+    }
+
+    private NearCachedBucketResolver instance(double localShare) {
+        SQLProxyConfiguration<String> configuration = SQLProxyConfiguration.builder()
+                .withPrimaryKeyMapper(PrimaryKeyMapper.STRING)
+                .withTableSettings(BucketTableSettings.customSettings(
+                        RateLimitBucket.TABLE_NAME, RateLimitBucket.ID_COLUMN, RateLimitBucket.STATE_COLUMN))
+                .build(dataSource);
+        return new NearCachedBucketResolver(new PostgreSQLSelectForUpdateBasedProxyManager<>(configuration),
+                retention, localShare, Duration.ofHours(1), 1000, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    private static BucketConfiguration perHour(long capacity) {
+        return BucketConfiguration.builder()
+                .addLimit(limit -> limit.capacity(capacity).refillIntervally(capacity, Duration.ofHours(1)))
+                .build();
+    }
+
+    private static int consume(NearCachedBucketResolver resolver, BucketConfiguration configuration, int attempts) {
+        ProxyManagerWrapper buckets = resolver.resolve(CACHE_NAME);
+        MetricBucketListener listener = new MetricBucketListener(CACHE_NAME, List.of(), List.of(), List.of());
+        int consumed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (buckets.tryConsumeAndReturnRemaining(CLIENT_IP, 1, false, configuration, listener, 1L,
+                    TokensInheritanceStrategy.RESET).getRateLimitResult().isConsumed()) {
+                consumed++;
+            }
+        }
+        return consumed;
+    }
+
+    @Test
+    @DisplayName("Should enforce one limit across instances")
+    void shouldShareLimitAcrossInstances() {
+        // Arrange
+        BucketConfiguration configuration = perHour(10);
+        NearCachedBucketResolver first = instance(0);
+        NearCachedBucketResolver second = instance(0);
+
+        // Act
+        int consumed = consume(first, configuration, 6) + consume(second, configuration, 6)
+                + consume(first, configuration, 6);
+
+        // Assert
+        assertThat(consumed).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM rate_limit_buckets WHERE id = ?", Integer.class, CACHE_NAME + ":" + CLIENT_IP))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a new instance once the shared bucket is empty")
+    void shouldPersistExhaustedBucket() {
+        // Arrange
+        BucketConfiguration configuration = perHour(5);
+        assertThat(consume(instance(0), configuration, 5)).isEqualTo(5);
+
+        // Act & Assert
+        assertThat(consume(instance(0), configuration, 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should bound local over-admission by the local share per instance")
+    void shouldBoundLocalConsumption() {
+        // Arrange
+        BucketConfiguration configuration = perHour(100);
+        NearCachedBucketResolver first = instance(0.2);
+        NearCachedBucketResolver second = instance(0.2);
+
+        // Act
+        int consumed = 0;
+        for (int round = 0; round < 10; round++) {
+            consumed += consume(first, configuration, 10) + consume(second, configuration, 10);
+        }
+
+        // Assert
+        assertThat(consumed).isBetween(100, 100 + 2 * 20);
+    }
+
+    @Test
+    @DisplayName("Should delete buckets unused for longer than the retention and keep used ones")
+    void shouldDeleteUnusedBuckets() {
+        // Arrange
+        BucketConfiguration configuration = perHour(10);
+        NearCachedBucketResolver resolver = instance(0);
+        consume(resolver, configuration, 1);
+        retention.flushTouched();
+        jdbcTemplate.update("INSERT INTO rate_limit_buckets (id, state, last_touched_at) "
+                + "VALUES ('rate-limit-buckets:198.51.100.1', NULL, LOCALTIMESTAMP - INTERVAL '2 days')");
+        jdbcTemplate.update("UPDATE rate_limit_buckets SET last_touched_at = LOCALTIMESTAMP - INTERVAL '2 days' "
+                + "WHERE id = ?", CACHE_NAME + ":" + CLIENT_IP);
+
+        // Act - the used bucket is touched again before the cleanup
+        consume(resolver, configuration, 1);
+        retention.flushTouched();
+        retention.cleanup();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM rate_limit_buckets", String.class))
+                .containsExactly(CACHE_NAME + ":" + CLIENT_IP);
+    }
+}
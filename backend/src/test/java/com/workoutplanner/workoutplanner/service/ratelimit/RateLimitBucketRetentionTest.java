@@ -0,0 +1,74 @@
+package com.workoutplanner.workoutplanner.service.ratelimit;
+
+import com.workoutplanner.workoutplanner.repository.RateLimitBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RateLimitBucketRetention.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitBucketRetention Unit Tests")
+class RateLimitBucketRetentionTest {
+
+    @Mock
+    private RateLimitBucketRepository rateLimitBucketRepository;
+
+    private RateLimitBucketRetention retention;
+
+    @BeforeEach
+    void setUp() {
+        retention = new RateLimitBucketRetention(rateLimitBucketRepository, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Should write each touched bucket once, in batches")
+    void shouldFlushTouchedBucketsInBatches() {
+        // Arrange
+        for (int i = 0; i < 1500; i++) {
+            retention.touch("rate-limit-buckets:" + i);
+        }
+        retention.touch("rate-limit-buckets:0");
+        List<String> written = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            Collection<String> batch = invocation.getArgument(0);
+            written.addAll(batch);
+            batchSizes.add(batch.size());
+            return null;
+        }).when(rateLimitBucketRepository).touch(anyCollection());
+
+        // Act
+        retention.flushTouched();
+        retention.flushTouched();
+
+        // Assert
+        assertThat(written).hasSize(1500).doesNotHaveDuplicates();
+        assertThat(batchSizes).startsWith(1000, 500);
+    }
+
+    @Test
+    @DisplayName("Should delete in batches until a batch comes back short")
+    void shouldDeleteInBatches() {
+        // Arrange
+        when(rateLimitBucketRepository.deleteUntouchedFor(Duration.ofDays(1), 10_000)).thenReturn(10_000, 3);
+
+        // Act
+        retention.cleanup();
+
+        // Assert
+        verify(rateLimitBucketRepository, times(2)).deleteUntouchedFor(Duration.ofDays(1), 10_000);
+    }
+}
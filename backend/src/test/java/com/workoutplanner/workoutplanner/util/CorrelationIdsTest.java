@@ -0,0 +1,99 @@
+package com.workoutplanner.workoutplanner.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for CorrelationIds.
+ */
+@DisplayName("CorrelationIds Unit Tests")
+class CorrelationIdsTest {
+
+    @Nested
+    @DisplayName("next")
+    class Next {
+
+        @Test
+        @DisplayName("Should generate unique version 7 UUIDs")
+        void shouldGenerateUniqueVersion7Uuids() {
+            // Act
+            Set<String> ids = new HashSet<>();
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(CorrelationIds.next());
+            }
+
+            // Assert
+            assertThat(ids).hasSize(10_000);
+            UUID uuid = UUID.fromString(ids.iterator().next());
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should order ids by creation time")
+        void shouldOrderByCreationTime() throws InterruptedException {
+            // Arrange
+            String first = CorrelationIds.next();
+            Thread.sleep(2);
+
+            // Act
+            String second = CorrelationIds.next();
+
+            // Assert
+            assertThat(second).isGreaterThan(first);
+            assertThat(UUID.fromString(first).getMostSignificantBits() >>> 16)
+                    .isCloseTo(System.currentTimeMillis(), within(1_000L));
+        }
+    }
+
+    @Nested
+    @DisplayName("isAcceptable")
+    class IsAcceptable {
+
+        @Test
+        @DisplayName("Should accept typical request ids")
+        void shouldAcceptTypicalIds() {
+            assertThat(CorrelationIds.isAcceptable("3f2b8c1e-7a4d-4e0b-9c55-2d1f6a8e9b70")).isTrue();
+            assertThat(CorrelationIds.isAcceptable("req_42.retry:1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject empty, oversized and unsafe ids")
+        void shouldRejectUnsafeIds() {
+            assertThat(CorrelationIds.isAcceptable(null)).isFalse();
+            assertThat(CorrelationIds.isAcceptable("")).isFalse();
+            assertThat(CorrelationIds.isAcceptable("a".repeat(CorrelationIds.MAX_INCOMING_LENGTH + 1))).isFalse();
+            assertThat(CorrelationIds.isAcceptable("abc\r\nX-Injected: 1")).isFalse();
+            assertThat(CorrelationIds.isAcceptable("abc def")).isFalse();
+            assertThat(CorrelationIds.isAcceptable("Root=1-67891233-abcdef012345678912345678")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("apiVersion")
+    class ApiVersion {
+
+        @Test
+        @DisplayName("Should extract the version segment of API paths")
+        void shouldExtractVersion() {
+            assertThat(CorrelationIds.apiVersion("/api/v1/workouts/42")).isEqualTo("v1");
+            assertThat(CorrelationIds.apiVersion("/api/v2")).isEqualTo("v2");
+        }
+
+        @Test
+        @DisplayName("Should return null for other paths")
+        void shouldReturnNullForOtherPaths() {
+            assertThat(CorrelationIds.apiVersion(null)).isNull();
+            assertThat(CorrelationIds.apiVersion("/api/")).isNull();
+            assertThat(CorrelationIds.apiVersion("/api/workouts")).isNull();
+            assertThat(CorrelationIds.apiVersion("/internal/actuator/health")).isNull();
+        }
+    }
+}